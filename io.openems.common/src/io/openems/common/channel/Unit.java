@@ -233,6 +233,11 @@ public enum Unit {
 	 */
 	MILLISECONDS("ms", SECONDS, -3),
 
+	/**
+	 * Unit of Time [us].
+	 */
+	MICROSECONDS("us", SECONDS, -6),
+
 	/**
 	 * Unit of Time.
 	 */
@@ -361,7 +366,7 @@ public enum Unit {
 				MILLIHERTZ, MILLIVOLT, MICROVOLT, PERCENT, VOLT, VOLT_AMPERE, VOLT_AMPERE_REACTIVE, WATT, KILOWATT,
 				MILLIWATT, WATT_HOURS, OHM, KILOOHM, SECONDS, AMPERE_HOURS, HOUR, CUMULATED_SECONDS, KILOAMPERE_HOURS,
 				KILOVOLT_AMPERE, KILOVOLT_AMPERE_REACTIVE, KILOVOLT_AMPERE_REACTIVE_HOURS, KILOWATT_HOURS, MICROOHM,
-				MILLIAMPERE_HOURS, MILLIOHM, MILLISECONDS, MINUTE, THOUSANDTH, VOLT_AMPERE_HOURS,
+				MILLIAMPERE_HOURS, MILLIOHM, MILLISECONDS, MICROSECONDS, MINUTE, THOUSANDTH, VOLT_AMPERE_HOURS,
 				VOLT_AMPERE_REACTIVE_HOURS, WATT_HOURS_BY_WATT_PEAK, CUMULATED_WATT_HOURS, BAR -> //
 			value + " " + this.symbol;
 
@@ -116,6 +116,23 @@ public abstract class AbstractWorker {
 	 */
 	protected abstract int getCycleTime();
 
+	/**
+	 * Gets the time to wait before the next execution of forever() in [ms]. Only
+	 * called if {@link #getCycleTime()} is positive.
+	 *
+	 * <p>
+	 * By default this is the remaining cycleTime since the start of the previous
+	 * execution, i.e. after an overrun the next execution starts immediately.
+	 * Override to implement a different scheduling policy.
+	 *
+	 * @param cycleTime  the cycleTime in [ms]
+	 * @param cycleStart the start of the previous execution in epoch [ms]
+	 * @return the time to wait in [ms]; zero or negative for no wait
+	 */
+	protected long getWaitTime(int cycleTime, long cycleStart) {
+		return cycleTime - (System.currentTimeMillis() - cycleStart);
+	}
+
 	/**
 	 * Allows the next execution of the forever() method.
 	 */
@@ -138,7 +155,7 @@ public abstract class AbstractWorker {
 						// no wait
 					} else if (cycleTime > 0) {
 						// wait remaining cycleTime
-						var sleep = cycleTime - (System.currentTimeMillis() - cycleStart);
+						var sleep = AbstractWorker.this.getWaitTime(cycleTime, cycleStart);
 						if (sleep > 0) {
 							AbstractWorker.this.cycleMutex.awaitOrTimeout(sleep, TimeUnit.MILLISECONDS);
 						}
@@ -1,7 +1,8 @@
 package io.openems.edge.bridge.modbus;
 
 import java.net.InetAddress;
-import java.net.UnknownHostException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -9,9 +10,9 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
-import org.osgi.service.event.EventHandler;
-import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.ghgande.j2mod.modbus.io.ModbusTCPTransaction;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
@@ -20,10 +21,12 @@ import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.utils.InetAddressUtils;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
+import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.event.CycleEventListener;
 
 /**
  * Provides a service for connecting to, querying and writing to a Modbus/TCP
@@ -35,16 +38,15 @@ import io.openems.edge.common.event.EdgeEventConstants;
 		immediate = true, //
 		configurationPolicy = ConfigurationPolicy.REQUIRE //
 )
-@EventTopics({ //
-		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
-		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
-})
 public class BridgeModbusTcpImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler {
+		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, CycleEventListener {
+
+	private final Logger log = LoggerFactory.getLogger(BridgeModbusTcpImpl.class);
 
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
 	private int port;
+	private int maxTransactionsInFlight = 1;
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -55,23 +57,57 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	}
 
 	@Activate
-	private void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
+	private void activate(ComponentContext context, ConfigTcp config) throws OpenemsException {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasksMaxGap(),
+				config.adaptiveReadMaxInterval());
 		this.applyConfig(config);
 	}
 
 	@Modified
-	private void modified(ComponentContext context, ConfigTcp config) throws UnknownHostException {
+	private void modified(ComponentContext context, ConfigTcp config) throws OpenemsException {
 		super.modified(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasksMaxGap(),
+				config.adaptiveReadMaxInterval());
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
 
-	private void applyConfig(ConfigTcp config) {
+	private synchronized void applyConfig(ConfigTcp config) throws OpenemsException {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.maxTransactionsInFlight = Math.max(1, config.maxTransactionsInFlight());
+		var connections = Math.max(1, config.connections());
+		if (this._pipelinedTransport != null) {
+			this._pipelinedTransport.close();
+			this._pipelinedTransport = null;
+		}
+		if (this._connectionPool != null) {
+			this._connectionPool.close();
+			this._connectionPool = null;
+		}
+		if (connections > 1) {
+			if (this.maxTransactionsInFlight > 1) {
+				this.logWarn(this.log, "Pipelining is disabled: 'Max. Transactions in flight' ["
+						+ this.maxTransactionsInFlight + "] is ignored with [" + connections + "] connections");
+			}
+			var addresses = new ArrayList<InetAddress>();
+			addresses.add(this.getIpAddress());
+			for (var ip : config.additionalIps()) {
+				var address = InetAddressUtils.parseOrNull(ip);
+				if (address != null) {
+					addresses.add(address);
+				}
+			}
+			var unitIdConnections = TcpConnectionPool.parseUnitIdConnections(config.unitIdConnections(),
+					connections);
+			if (addresses.size() > 1 && unitIdConnections.isEmpty()) {
+				this.logWarn(this.log, "Additional IP-Addresses are only used by Unit-IDs that are mapped to a "
+						+ "connection; configure 'Unit-ID to Connection'");
+			}
+			this._connectionPool = new TcpConnectionPool(addresses, this.port, connections, unitIdConnections,
+					AbstractModbusBridge.DEFAULT_TIMEOUT, AbstractModbusBridge.DEFAULT_RETRIES);
+		}
 	}
 
 	@Override
@@ -86,10 +122,63 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 			this._connection.close();
 			this._connection = null;
 		}
+		var pipelinedTransport = this._pipelinedTransport;
+		if (pipelinedTransport != null) {
+			// keep the instance to remember a fallback to sequential mode
+			pipelinedTransport.close();
+		}
+		var connectionPool = this._connectionPool;
+		if (connectionPool != null) {
+			connectionPool.close();
+		}
+	}
+
+	@Override
+	public void closeModbusConnection(int unitId) {
+		var connectionPool = this._connectionPool;
+		if (connectionPool != null) {
+			connectionPool.close(unitId);
+			return;
+		}
+		// With pipelining keep the other transactions in flight: the transport fails
+		// only the affected Transaction-ID and closes itself on framing or I/O errors
+		if (this._pipelinedTransport == null) {
+			this.closeModbusConnection();
+		}
+	}
+
+	@Override
+	protected int getMaxTasksInFlight() {
+		var connectionPool = this._connectionPool;
+		if (connectionPool != null) {
+			return connectionPool.size();
+		}
+		var pipelinedTransport = this._pipelinedTransport;
+		if (pipelinedTransport != null) {
+			return pipelinedTransport.getMaxInFlight();
+		}
+		return this.maxTransactionsInFlight;
+	}
+
+	@Override
+	protected int getConnectionIndex(Task task) {
+		var connectionPool = this._connectionPool;
+		if (connectionPool != null && task.getParent() instanceof AbstractOpenemsModbusComponent parent
+				&& parent.getUnitId() != null) {
+			return connectionPool.getConnectionIndex(parent.getUnitId());
+		}
+		return -1;
 	}
 
 	@Override
 	public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
+		var connectionPool = this._connectionPool;
+		if (connectionPool != null) {
+			return new PooledTcpTransaction(connectionPool);
+		}
+		if (this.maxTransactionsInFlight > 1) {
+			return new PipelinedTcpTransaction(this.getPipelinedTransport());
+		}
 		var connection = this.getModbusConnection();
 		var transaction = new ModbusTCPTransaction(connection);
 		transaction.setRetries(AbstractModbusBridge.DEFAULT_RETRIES);
@@ -98,6 +187,8 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 
 	private TCPMasterConnection _connection = null;
 
+	private volatile TcpConnectionPool _connectionPool = null;
+
 	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
 		if (this._connection == null) {
 			/*
@@ -119,6 +210,26 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return this._connection;
 	}
 
+	private volatile PipelinedTcpTransport _pipelinedTransport = null;
+
+	private synchronized PipelinedTcpTransport getPipelinedTransport() {
+		if (this._pipelinedTransport == null) {
+			this._pipelinedTransport = new PipelinedTcpTransport(new InetSocketAddress(this.getIpAddress(), this.port),
+					this.maxTransactionsInFlight, AbstractModbusBridge.DEFAULT_TIMEOUT);
+		}
+		return this._pipelinedTransport;
+	}
+
+	@Override
+	public String debugLog() {
+		var result = super.debugLog();
+		var connectionPool = this._connectionPool;
+		if (result != null && connectionPool != null) {
+			result += "|" + connectionPool.debugLog();
+		}
+		return result;
+	}
+
 	@Override
 	public InetAddress getIpAddress() {
 		return this.ipAddress;
@@ -51,5 +51,11 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Coalesce Read-Tasks with max. gap", description = "Merges adjacent read requests of a device into fewer requests, if at most this number of unused registers lies between them. '-1' disables coalescing.")
+	int coalesceReadTasksMaxGap() default -1;
+
+	@AttributeDefinition(name = "Adaptive reads: max. interval [Cycles]", description = "Reads LOW priority registers whose values do not change less often - at most every this number of Cycles. '1' reads them round-robin.")
+	int adaptiveReadMaxInterval() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
@@ -27,11 +27,29 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Port", description = "The port of the Modbus/TCP device.")
 	int port() default Modbus.DEFAULT_PORT;
 
+	@AttributeDefinition(name = "Max. Transactions in flight", description = "Number of requests that may be outstanding at the same time. '1' disables pipelining; only increase if the device supports multiple concurrent Modbus/TCP transactions.")
+	int maxTransactionsInFlight() default 1;
+
+	@AttributeDefinition(name = "Connections", description = "Number of parallel TCP connections, e.g. to a gateway with multiple independent devices. Requests to different connections are executed in parallel. If more than '1', 'Max. Transactions in flight' is ignored.")
+	int connections() default 1;
+
+	@AttributeDefinition(name = "Additional IP-Addresses", description = "Further IP addresses of the same logical bridge. Connections are assigned round-robin to the IP-Address and these addresses. Devices behind these addresses must be pinned via 'Unit-ID to Connection'.")
+	String[] additionalIps() default {};
+
+	@AttributeDefinition(name = "Unit-ID to Connection", description = "Pins Unit-IDs to connections in the form 'Unit-ID:Connection', e.g. '3:1'. Other Unit-IDs use the connections to the primary IP-Address.")
+	String[] unitIdConnections() default {};
+
 	@AttributeDefinition(name = "Log-Verbosity", description = "The log verbosity.")
 	LogVerbosity logVerbosity() default LogVerbosity.NONE;
 
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Coalesce Read-Tasks with max. gap", description = "Merges adjacent read requests of a device into fewer requests, if at most this number of unused registers lies between them. '-1' disables coalescing.")
+	int coalesceReadTasksMaxGap() default -1;
+
+	@AttributeDefinition(name = "Adaptive reads: max. interval [Cycles]", description = "Reads LOW priority registers whose values do not change less often - at most every this number of Cycles. '1' reads them round-robin.")
+	int adaptiveReadMaxInterval() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
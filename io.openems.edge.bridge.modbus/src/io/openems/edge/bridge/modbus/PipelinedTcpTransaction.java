@@ -0,0 +1,27 @@
+package io.openems.edge.bridge.modbus;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+
+/**
+ * A {@link ModbusTransaction} that is executed on a shared
+ * {@link PipelinedTcpTransport}.
+ *
+ * <p>
+ * Retries are handled by the caller (see AbstractTask), so
+ * {@link #setRetries(int)} has no effect.
+ */
+public class PipelinedTcpTransaction extends ModbusTransaction {
+
+	private final PipelinedTcpTransport transport;
+
+	public PipelinedTcpTransaction(PipelinedTcpTransport transport) {
+		this.transport = transport;
+	}
+
+	@Override
+	public void execute() throws ModbusException {
+		this.response = this.transport.execute(this.getRequest());
+	}
+
+}
@@ -0,0 +1,311 @@
+package io.openems.edge.bridge.modbus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+/**
+ * A Modbus/TCP transport that allows multiple outstanding transactions on one
+ * connection.
+ *
+ * <p>
+ * Requests are written to the shared connection as soon as a transaction slot
+ * is available. A reader thread receives the responses and matches them to
+ * their requests by the MBAP Transaction-ID, so they may arrive in any order.
+ *
+ * <p>
+ * Devices that do not support multiple outstanding transactions usually either
+ * answer with an unexpected Transaction-ID or do not answer at all. In both
+ * cases the transport falls back to sequential mode, i.e. only one transaction
+ * in flight, for the rest of its lifetime.
+ *
+ * <p>
+ * A timeout fails only the affected transaction; the connection is kept for the
+ * other transactions in flight. The connection is closed on framing or I/O
+ * errors, and if more transactions than may be in flight time out in a row
+ * without any response.
+ */
+public class PipelinedTcpTransport {
+
+	private static final int MBAP_HEADER_LENGTH = 6;
+	private static final int MAX_PDU_LENGTH = 254;
+
+	private final Logger log = LoggerFactory.getLogger(PipelinedTcpTransport.class);
+
+	private final InetSocketAddress address;
+	private final int maxInFlight;
+	private final int timeout;
+	private final Semaphore slots;
+	private final AtomicInteger nextTransactionId = new AtomicInteger();
+	private final AtomicInteger consecutiveTimeouts = new AtomicInteger();
+
+	/**
+	 * Transaction-ID -> Future for the raw response frame.
+	 */
+	private final Map<Integer, CompletableFuture<byte[]>> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * Transaction-IDs that timed out; a late response for them is ignored.
+	 */
+	private final Set<Integer> timedOut = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean sequential = false;
+	private SocketChannel channel = null;
+
+	/**
+	 * Builds a {@link PipelinedTcpTransport}. The connection is opened lazily.
+	 *
+	 * @param address     the address of the Modbus/TCP device
+	 * @param maxInFlight the maximum number of outstanding transactions
+	 * @param timeout     the timeout for connecting and for each response in [ms]
+	 */
+	public PipelinedTcpTransport(InetSocketAddress address, int maxInFlight, int timeout) {
+		this.address = address;
+		this.maxInFlight = Math.max(1, maxInFlight);
+		this.timeout = timeout;
+		this.slots = new Semaphore(this.maxInFlight, true);
+	}
+
+	/**
+	 * Gets the number of transactions that may currently be in flight; '1' after
+	 * falling back to sequential mode.
+	 *
+	 * @return the number of transactions
+	 */
+	public int getMaxInFlight() {
+		return this.sequential ? 1 : this.maxInFlight;
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and waits for its {@link ModbusResponse}.
+	 *
+	 * <p>
+	 * This method is thread-safe; calls from multiple threads are pipelined on the
+	 * connection.
+	 *
+	 * @param request the {@link ModbusRequest}
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on error
+	 */
+	public ModbusResponse execute(ModbusRequest request) throws ModbusException {
+		// In sequential mode one transaction occupies all slots
+		final var permits = this.sequential ? this.maxInFlight : 1;
+		try {
+			if (!this.slots.tryAcquire(permits, this.timeout, TimeUnit.MILLISECONDS)) {
+				throw new ModbusIOException("No free transaction slot within [" + this.timeout + "ms]");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ModbusIOException("Interrupted while waiting for a transaction slot");
+		}
+		try {
+			return this.send(request);
+		} finally {
+			this.slots.release(permits);
+		}
+	}
+
+	private ModbusResponse send(ModbusRequest request) throws ModbusException {
+		final var transactionId = this.nextTransactionId.getAndIncrement() & 0xFFFF;
+		request.setTransactionID(transactionId);
+		var future = new CompletableFuture<byte[]>();
+		this.pending.put(transactionId, future);
+		try {
+			this.write(request);
+			return parseResponse(future.get(this.timeout, TimeUnit.MILLISECONDS));
+
+		} catch (TimeoutException e) {
+			this.timedOut.add(transactionId);
+			var inFlight = this.pending.size();
+			if (inFlight > 1) {
+				this.fallbackToSequential("No response while [" + inFlight + "] transactions were in flight");
+			}
+			if (this.consecutiveTimeouts.incrementAndGet() > this.maxInFlight) {
+				this.log.warn("No response from [" + this.address + "] for [" + this.consecutiveTimeouts.get()
+						+ "] transactions. Closing connection.");
+				this.close();
+			}
+			throw new ModbusIOException("No response for Transaction-ID [" + transactionId + "] within ["
+					+ this.timeout + "ms]");
+
+		} catch (ExecutionException e) {
+			throw new ModbusIOException(
+					"Transaction-ID [" + transactionId + "] failed: " + e.getCause().getMessage());
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ModbusIOException("Interrupted while waiting for Transaction-ID [" + transactionId + "]");
+
+		} finally {
+			this.pending.remove(transactionId);
+		}
+	}
+
+	private synchronized void write(ModbusRequest request) throws ModbusIOException {
+		try {
+			var bytes = new ByteArrayOutputStream(MBAP_HEADER_LENGTH + MAX_PDU_LENGTH);
+			request.writeTo(new DataOutputStream(bytes));
+			var buffer = ByteBuffer.wrap(bytes.toByteArray());
+			var channel = this.getChannel();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} catch (IOException e) {
+			this.close();
+			throw new ModbusIOException("Writing request to [" + this.address + "] failed: " + e.getMessage());
+		}
+	}
+
+	private synchronized SocketChannel getChannel() throws IOException {
+		if (this.channel != null && this.channel.isOpen()) {
+			return this.channel;
+		}
+		var channel = SocketChannel.open();
+		try {
+			channel.socket().connect(this.address, this.timeout);
+			channel.socket().setTcpNoDelay(true);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		this.channel = channel;
+		var reader = new Thread(() -> this.read(channel), "Modbus/TCP Reader [" + this.address + "]");
+		reader.setDaemon(true);
+		reader.start();
+		return channel;
+	}
+
+	/**
+	 * Reads responses from the given channel until it is closed. Runs in its own
+	 * Thread.
+	 *
+	 * @param channel the {@link SocketChannel}
+	 */
+	private void read(SocketChannel channel) {
+		var header = ByteBuffer.allocate(MBAP_HEADER_LENGTH);
+		try {
+			while (channel.isOpen()) {
+				header.clear();
+				readFully(channel, header);
+				var transactionId = header.getShort(0) & 0xFFFF;
+				var length = header.getShort(4) & 0xFFFF;
+				if (length < 2 || length > MAX_PDU_LENGTH + 1) {
+					throw new IOException("Invalid MBAP length [" + length + "]");
+				}
+				var frame = ByteBuffer.allocate(MBAP_HEADER_LENGTH + length);
+				frame.put(header.flip());
+				readFully(channel, frame);
+				this.consecutiveTimeouts.set(0);
+
+				var future = this.pending.get(transactionId);
+				if (future != null) {
+					future.complete(frame.array());
+				} else if (!this.timedOut.remove(transactionId)) {
+					// Response to an unknown transaction
+					this.fallbackToSequential("Unexpected Transaction-ID [" + transactionId + "]");
+				}
+			}
+		} catch (IOException e) {
+			if (channel.isOpen()) {
+				this.log.warn("Reading from [" + this.address + "] failed: " + e.getMessage());
+			}
+		} finally {
+			this.close(channel);
+		}
+	}
+
+	private static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new EOFException("Connection closed by device");
+			}
+		}
+	}
+
+	/**
+	 * Parses a raw response frame including the MBAP header.
+	 *
+	 * @param frame the frame
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on error
+	 */
+	protected static ModbusResponse parseResponse(byte[] frame) throws ModbusException {
+		var functionCode = frame[MBAP_HEADER_LENGTH + 1] & 0xFF;
+		if ((functionCode & 0x80) != 0) {
+			throw new ModbusSlaveException(frame[MBAP_HEADER_LENGTH + 2] & 0xFF);
+		}
+		var response = ModbusResponse.createModbusResponse(functionCode);
+		try {
+			response.readFrom(new DataInputStream(new ByteArrayInputStream(frame)));
+		} catch (IOException e) {
+			throw new ModbusIOException("Unable to parse response: " + e.getMessage());
+		}
+		return response;
+	}
+
+	private void fallbackToSequential(String reason) {
+		if (this.sequential || this.maxInFlight == 1) {
+			return;
+		}
+		this.sequential = true;
+		this.log.warn("Device at [" + this.address + "] does not support pipelining. " + reason
+				+ ". Falling back to sequential mode.");
+	}
+
+	/**
+	 * Closes the connection; all outstanding transactions fail. The next
+	 * {@link #execute(ModbusRequest)} reconnects.
+	 */
+	public void close() {
+		final SocketChannel channel;
+		synchronized (this) {
+			channel = this.channel;
+		}
+		if (channel != null) {
+			this.close(channel);
+		}
+	}
+
+	private void close(SocketChannel channel) {
+		synchronized (this) {
+			if (this.channel != channel) {
+				// already closed
+				return;
+			}
+			this.channel = null;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			this.log.warn("Closing connection to [" + this.address + "] failed: " + e.getMessage());
+		}
+		this.timedOut.clear();
+		this.consecutiveTimeouts.set(0);
+		var exception = new IOException("Connection closed");
+		this.pending.values().forEach(f -> f.completeExceptionally(exception));
+	}
+}
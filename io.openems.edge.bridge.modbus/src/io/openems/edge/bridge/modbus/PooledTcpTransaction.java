@@ -0,0 +1,26 @@
+package io.openems.edge.bridge.modbus;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+
+/**
+ * A {@link ModbusTransaction} that is executed on the connection of its
+ * Unit-ID in a shared {@link TcpConnectionPool}.
+ *
+ * <p>
+ * Retries are handled by the pool, so {@link #setRetries(int)} has no effect.
+ */
+public class PooledTcpTransaction extends ModbusTransaction {
+
+	private final TcpConnectionPool pool;
+
+	public PooledTcpTransaction(TcpConnectionPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public void execute() throws ModbusException {
+		this.response = this.pool.execute(this.getRequest());
+	}
+
+}
@@ -0,0 +1,265 @@
+package io.openems.edge.bridge.modbus;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.io.ModbusTCPTransaction;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
+
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * A pool of Modbus/TCP connections, e.g. to a gateway that fronts multiple
+ * independent serial devices.
+ *
+ * <p>
+ * Every Unit-ID is assigned to exactly one connection: either explicitly via
+ * the Unit-ID mapping or by 'Unit-ID modulo number of connections'. Requests to
+ * the same connection are executed sequentially; requests to different
+ * connections in parallel.
+ *
+ * <p>
+ * Connections are assigned round-robin to the given IP addresses. A Unit-ID
+ * alone does not tell which address a device is reachable at, so Unit-IDs
+ * without explicit mapping only use the connections to the first (primary)
+ * address; devices behind additional addresses have to be mapped explicitly.
+ */
+public class TcpConnectionPool {
+
+	private static class Connection {
+
+		private final int index;
+		private final InetAddress address;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final AtomicLong requests = new AtomicLong();
+		private final AtomicLong errors = new AtomicLong();
+		private final AtomicLong durationNanos = new AtomicLong();
+
+		/** Guarded by {@link #lock}. */
+		private TCPMasterConnection connection = null;
+
+		private Connection(int index, InetAddress address) {
+			this.index = index;
+			this.address = address;
+		}
+
+		private TCPMasterConnection getConnection(int port, int timeout) throws ModbusIOException {
+			if (this.connection == null) {
+				this.connection = new TCPMasterConnection(this.address);
+				this.connection.setPort(port);
+			}
+			if (!this.connection.isConnected()) {
+				try {
+					this.connection.connect();
+				} catch (Exception e) {
+					throw new ModbusIOException(
+							"Connection [" + this.index + "] to [" + this.address + "] failed: " + e.getMessage());
+				}
+				this.connection.getModbusTransport().setTimeout(timeout);
+			}
+			return this.connection;
+		}
+
+		private void close() {
+			this.lock.lock();
+			try {
+				if (this.connection != null) {
+					this.connection.close();
+					this.connection = null;
+				}
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		@Override
+		public String toString() {
+			var requests = this.requests.get();
+			var avg = requests == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(this.durationNanos.get() / requests);
+			return "Conn" + this.index + ":" + requests + "req/" + this.errors.get() + "err/" + avg + "ms";
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(TcpConnectionPool.class);
+
+	private final int port;
+	private final int timeout;
+	private final int retries;
+	private final int numberOfAddresses;
+	private final Connection[] connections;
+	private final Map<Integer, Integer> unitIdConnections;
+	private final Set<Integer> warnedUnitIds = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Builds a {@link TcpConnectionPool}. Connections are opened lazily.
+	 *
+	 * @param addresses         the IP addresses; at least one
+	 * @param port              the port
+	 * @param size              the number of connections
+	 * @param unitIdConnections explicit Unit-ID to connection index mapping
+	 * @param timeout           the timeout for each response in [ms]
+	 * @param retries           the number of retries of a transaction
+	 */
+	public TcpConnectionPool(List<InetAddress> addresses, int port, int size,
+			Map<Integer, Integer> unitIdConnections, int timeout, int retries) {
+		this.port = port;
+		this.timeout = timeout;
+		this.retries = retries;
+		this.numberOfAddresses = addresses.size();
+		this.connections = IntStream.range(0, Math.max(1, size)) //
+				.mapToObj(i -> new Connection(i, addresses.get(i % addresses.size()))) //
+				.toArray(Connection[]::new);
+		this.unitIdConnections = Map.copyOf(unitIdConnections);
+	}
+
+	/**
+	 * Parses a Unit-ID to connection index mapping in the form
+	 * 'Unit-ID:Connection', e.g. "3:1".
+	 *
+	 * @param entries the configuration entries
+	 * @param size    the number of connections
+	 * @return a map of Unit-ID to connection index
+	 * @throws OpenemsException on parse error or invalid connection index
+	 */
+	public static Map<Integer, Integer> parseUnitIdConnections(String[] entries, int size) throws OpenemsException {
+		var result = new HashMap<Integer, Integer>();
+		for (var entry : entries) {
+			if (entry == null || entry.isBlank()) {
+				continue;
+			}
+			var parts = entry.split(":");
+			try {
+				if (parts.length != 2) {
+					throw new NumberFormatException();
+				}
+				var unitId = Integer.parseInt(parts[0].trim());
+				var connection = Integer.parseInt(parts[1].trim());
+				if (connection < 0 || connection >= size) {
+					throw new OpenemsException("Connection index [" + connection + "] for Unit-ID [" + unitId
+							+ "] is out of range [0.." + (size - 1) + "]");
+				}
+				result.put(unitId, connection);
+			} catch (NumberFormatException e) {
+				throw new OpenemsException(
+						"Unable to parse Unit-ID mapping [" + entry + "]. Expected 'Unit-ID:Connection'");
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of connections.
+	 *
+	 * @return the number of connections
+	 */
+	public int size() {
+		return this.connections.length;
+	}
+
+	/**
+	 * Gets the index of the connection for the given Unit-ID.
+	 *
+	 * <p>
+	 * Unit-IDs without explicit mapping are distributed among the connections to
+	 * the primary address.
+	 *
+	 * @param unitId the Unit-ID
+	 * @return the connection index
+	 */
+	public int getConnectionIndex(int unitId) {
+		var index = this.unitIdConnections.get(unitId);
+		if (index != null) {
+			return index;
+		}
+		if (this.numberOfAddresses == 1) {
+			return Math.floorMod(unitId, this.connections.length);
+		}
+		if (this.warnedUnitIds.add(unitId)) {
+			this.log.warn("Unit-ID [" + unitId + "] is not mapped to a connection; using the primary address ["
+					+ this.connections[0].address + "]. Map it if the device is behind an additional address.");
+		}
+		// Connections to the primary address are 0, n, 2n,... for n addresses
+		var primaryConnections = (this.connections.length + this.numberOfAddresses - 1) / this.numberOfAddresses;
+		return Math.floorMod(unitId, primaryConnections) * this.numberOfAddresses;
+	}
+
+	/**
+	 * Executes a {@link ModbusRequest} on the connection of its Unit-ID.
+	 *
+	 * <p>
+	 * This method is thread-safe; requests on different connections are executed
+	 * in parallel.
+	 *
+	 * @param request the {@link ModbusRequest}
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on error
+	 */
+	public ModbusResponse execute(ModbusRequest request) throws ModbusException {
+		var connection = this.connections[this.getConnectionIndex(request.getUnitID())];
+		connection.lock.lock();
+		var start = System.nanoTime();
+		try {
+			var transaction = new ModbusTCPTransaction(connection.getConnection(this.port, this.timeout));
+			transaction.setRetries(this.retries);
+			transaction.setRequest(request);
+			transaction.execute();
+			return transaction.getResponse();
+
+		} catch (ModbusException e) {
+			connection.errors.incrementAndGet();
+			throw e;
+
+		} finally {
+			connection.requests.incrementAndGet();
+			connection.durationNanos.addAndGet(System.nanoTime() - start);
+			connection.lock.unlock();
+		}
+	}
+
+	/**
+	 * Closes the connection of the given Unit-ID.
+	 *
+	 * @param unitId the Unit-ID
+	 */
+	public void close(int unitId) {
+		this.connections[this.getConnectionIndex(unitId)].close();
+	}
+
+	/**
+	 * Closes all connections.
+	 */
+	public void close() {
+		for (var connection : this.connections) {
+			connection.close();
+		}
+	}
+
+	/**
+	 * Gets per-connection statistics: number of requests, number of errors and
+	 * average duration of a request.
+	 *
+	 * @return the statistics as String
+	 */
+	public String debugLog() {
+		return Stream.of(this.connections) //
+				.map(Connection::toString) //
+				.collect(Collectors.joining("|"));
+	}
+}
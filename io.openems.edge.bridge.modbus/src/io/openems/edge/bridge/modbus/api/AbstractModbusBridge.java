@@ -1,23 +1,30 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.ComponentContext;
-import org.osgi.service.event.Event;
-import org.osgi.service.event.EventHandler;
 
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.event.CycleEvent;
+import io.openems.edge.common.event.CycleEventListener;
 
 /**
  * Abstract service for connecting to, querying and writing to a Modbus device.
  */
-public abstract class AbstractModbusBridge extends AbstractOpenemsComponent implements BridgeModbus, EventHandler {
+public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
+		implements BridgeModbus, CycleEventListener {
+
+	private static final Set<CycleEvent> CYCLE_EVENTS = EnumSet.of(//
+			CycleEvent.BEFORE_PROCESS_IMAGE, //
+			CycleEvent.EXECUTE_WRITE);
 
 	/**
 	 * Default Modbus timeout in [ms].
@@ -48,7 +55,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 			// Set ChannelId.CYCLE_DELAY
 			cycleDelay -> this._setCycleDelay(cycleDelay),
 			// LogVerbosity
-			this.logVerbosity //
+			this.logVerbosity, //
+			// Max number of Tasks in flight
+			() -> this.getMaxTasksInFlight(), //
+			// Connection of a Task
+			task -> this.getConnectionIndex(task) //
 	);
 
 	protected AbstractModbusBridge(io.openems.edge.common.channel.ChannelId[] firstInitialChannelIds,
@@ -63,9 +74,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	}
 
 	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
-			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int coalesceReadTasksMaxGap,
+			int adaptiveReadMaxInterval) {
 		super.activate(context, id, alias, enabled);
-		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors);
+		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors, coalesceReadTasksMaxGap,
+				adaptiveReadMaxInterval);
 		if (enabled) {
 			this.worker.activate(id);
 		}
@@ -85,9 +98,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	}
 
 	protected void modified(ComponentContext context, String id, String alias, boolean enabled,
-			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int coalesceReadTasksMaxGap,
+			int adaptiveReadMaxInterval) {
 		super.modified(context, id, alias, enabled);
-		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors);
+		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors, coalesceReadTasksMaxGap,
+				adaptiveReadMaxInterval);
 		if (enabled) {
 			this.worker.modified(id);
 		} else {
@@ -95,9 +110,12 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		}
 	}
 
-	private void applyConfig(LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+	private void applyConfig(LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors,
+			int coalesceReadTasksMaxGap, int adaptiveReadMaxInterval) {
 		this.logVerbosity.set(logVerbosity);
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		this.worker.setCoalesceReadTasksMaxGap(coalesceReadTasksMaxGap);
+		this.worker.setAdaptiveReadMaxInterval(adaptiveReadMaxInterval);
 	}
 
 	/**
@@ -123,17 +141,20 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	}
 
 	@Override
-	public void handleEvent(Event event) {
+	public Set<CycleEvent> getCycleEvents() {
+		return CYCLE_EVENTS;
+	}
+
+	@Override
+	public void onCycleEvent(CycleEvent event) {
 		if (!this.isEnabled()) {
 			return;
 		}
-		switch (event.getTopic()) {
-		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
-			this.worker.onBeforeProcessImage();
-			break;
-		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
-			this.worker.onExecuteWrite();
-			break;
+		switch (event) {
+		case BEFORE_PROCESS_IMAGE -> this.worker.onBeforeProcessImage();
+		case EXECUTE_WRITE -> this.worker.onExecuteWrite();
+		default -> {
+		}
 		}
 	}
 
@@ -161,6 +182,49 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	public abstract void closeModbusConnection();
 
+	/**
+	 * Closes the Modbus connection that is used for the given Unit-ID.
+	 *
+	 * <p>
+	 * Defaults to {@link #closeModbusConnection()}; bridges with multiple
+	 * connections close only the affected one, pipelining bridges keep the
+	 * connection for the other transactions in flight.
+	 *
+	 * @param unitId the Unit-ID
+	 */
+	public void closeModbusConnection(int unitId) {
+		this.closeModbusConnection();
+	}
+
+	/**
+	 * Gets the number of ReadTasks that may be executed concurrently, i.e. the
+	 * number of Modbus transactions the connection supports in flight.
+	 *
+	 * <p>
+	 * Defaults to '1', i.e. strictly sequential execution. If this returns more
+	 * than '1', {@link #getNewModbusTransaction()} has to be thread-safe.
+	 *
+	 * @return the max number of Tasks in flight
+	 */
+	protected int getMaxTasksInFlight() {
+		return 1;
+	}
+
+	/**
+	 * Gets the index of the connection that executes the given {@link Task}.
+	 * Concurrently executed ReadTasks are taken from different connections.
+	 *
+	 * <p>
+	 * Defaults to '-1', i.e. all Tasks share one connection that supports
+	 * multiple transactions in flight.
+	 *
+	 * @param task the {@link Task}
+	 * @return the connection index; negative for no restriction
+	 */
+	protected int getConnectionIndex(Task task) {
+		return -1;
+	}
+
 	/**
 	 * Gets the configured {@link LogVerbosity}.
 	 * 
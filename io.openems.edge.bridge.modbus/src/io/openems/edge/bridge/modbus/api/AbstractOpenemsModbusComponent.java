@@ -292,6 +292,7 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 			Channel<?> channel = AbstractOpenemsModbusComponent.this.channel(channelId);
 			channel.setMetaInfo(channelMetaInfo);
 			this.channelMaps.put(channel, converter);
+			this.element.addPersistencePriority(channel.channelDoc().getPersistencePriority());
 			return this;
 		}
 
@@ -0,0 +1,287 @@
+package io.openems.edge.bridge.modbus.api;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersResponse;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Coalesces the Read-Tasks of a {@link ModbusProtocol} into fewer requests.
+ *
+ * <p>
+ * {@link FC3ReadRegistersTask}s and {@link FC4ReadInputRegistersTask}s of one
+ * Component with the same function code and {@link Priority} are merged, if
+ * <ul>
+ * <li>their register ranges do not overlap,
+ * <li>the gap between them is at most {@link #getMaxGap()} registers; gaps are
+ * filled with {@link DummyRegisterElement}s and
+ * <li>the merged request does not exceed {@value #MAX_REGISTERS} registers.
+ * </ul>
+ *
+ * <p>
+ * The original Tasks stay untouched in the {@link ModbusProtocol}. If a device
+ * rejects a merged request with an 'Illegal Data Address' exception, the range
+ * is remembered and not merged again.
+ */
+public class ProtocolOptimizer {
+
+	/** Max number of registers of one FC3/FC4 request. */
+	public static final int MAX_REGISTERS = 125;
+
+	/** Value for {@link #setMaxGap(int)} that disables coalescing. */
+	public static final int DISABLED = -1;
+
+	private static record Range(String componentId, Class<?> taskClass, int startAddress, int length) {
+	}
+
+	private static record Group(Class<?> taskClass, Priority priority) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ProtocolOptimizer.class);
+
+	/** Ranges that were rejected by the device. */
+	private final Set<Range> rejectedRanges = ConcurrentHashMap.newKeySet();
+
+	private volatile int maxGap = DISABLED;
+
+	/** Incremented on every change that affects the result of optimize(). */
+	private volatile int modificationCount = 0;
+
+	/**
+	 * Sets the max number of unused registers between two merged Tasks.
+	 *
+	 * @param maxGap the max gap; {@link #DISABLED} to disable coalescing
+	 */
+	public synchronized void setMaxGap(int maxGap) {
+		var value = Math.max(DISABLED, maxGap);
+		if (value != this.maxGap) {
+			this.maxGap = value;
+			this.modificationCount++;
+		}
+	}
+
+	/**
+	 * Gets the max number of unused registers between two merged Tasks.
+	 *
+	 * @return the max gap; {@link #DISABLED} if coalescing is disabled
+	 */
+	public int getMaxGap() {
+		return this.maxGap;
+	}
+
+	/**
+	 * Gets the modification count, i.e. a number that changes whenever the result
+	 * of {@link #optimize(String, List)} might change.
+	 *
+	 * @return the modification count
+	 */
+	public int getModificationCount() {
+		return this.modificationCount;
+	}
+
+	/**
+	 * Optimizes the Tasks of one Component.
+	 *
+	 * @param componentId the Component-ID
+	 * @param tasks       the {@link Task}s of the {@link ModbusProtocol}
+	 * @return the optimized list of {@link Task}s; the input list if coalescing is
+	 *         disabled
+	 */
+	public List<Task> optimize(String componentId, List<Task> tasks) {
+		final var maxGap = this.maxGap;
+		if (maxGap == DISABLED) {
+			return tasks;
+		}
+
+		var result = new ArrayList<Task>(tasks.size());
+		var groups = new LinkedHashMap<Group, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (isMergeable(task)) {
+				var t = (AbstractReadRegistersTask<?, ?>) task;
+				groups.computeIfAbsent(new Group(t.getClass(), t.getPriority()), k -> new ArrayList<>()) //
+						.add(t);
+			} else {
+				result.add(task);
+			}
+		}
+		for (var group : groups.values()) {
+			this.merge(componentId, group, maxGap, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Only exact {@link FC3ReadRegistersTask}s and
+	 * {@link FC4ReadInputRegistersTask}s are merged; subclasses might change the
+	 * behaviour.
+	 *
+	 * @param task the {@link Task}
+	 * @return true if the Task can be merged
+	 */
+	private static boolean isMergeable(Task task) {
+		return task.getClass() == FC3ReadRegistersTask.class || task.getClass() == FC4ReadInputRegistersTask.class;
+	}
+
+	private void merge(String componentId, List<AbstractReadRegistersTask<?, ?>> tasks, int maxGap,
+			List<Task> result) {
+		tasks.sort(Comparator.comparingInt(Task::getStartAddress));
+		var pending = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+		var start = 0;
+		var end = 0; // exclusive
+		for (var task : tasks) {
+			var taskEnd = task.getStartAddress() + task.getLength();
+			if (!pending.isEmpty()) {
+				var gap = task.getStartAddress() - end;
+				var range = new Range(componentId, task.getClass(), start, taskEnd - start);
+				if (gap >= 0 && gap <= maxGap && range.length() <= MAX_REGISTERS
+						&& !this.rejectedRanges.contains(range)) {
+					pending.add(task);
+					end = taskEnd;
+					continue;
+				}
+				this.flush(componentId, pending, result);
+				pending.clear();
+			}
+			pending.add(task);
+			start = task.getStartAddress();
+			end = taskEnd;
+		}
+		this.flush(componentId, pending, result);
+	}
+
+	private void flush(String componentId, List<AbstractReadRegistersTask<?, ?>> tasks, List<Task> result) {
+		if (tasks.isEmpty()) {
+			return;
+		}
+		var first = tasks.get(0);
+		if (tasks.size() == 1) {
+			result.add(first);
+			return;
+		}
+
+		// Collect Elements; fill gaps
+		var elements = new ArrayList<ModbusElement>();
+		var address = first.getStartAddress();
+		for (var task : tasks) {
+			if (task.getStartAddress() > address) {
+				elements.add(new DummyRegisterElement(address, task.getStartAddress() - 1));
+			}
+			for (var element : task.getElements()) {
+				elements.add(element);
+			}
+			address = task.getStartAddress() + task.getLength();
+		}
+
+		var range = new Range(componentId, first.getClass(), first.getStartAddress(),
+				address - first.getStartAddress());
+		Runnable onIllegalAddress = () -> this.reject(range);
+		var elementsArray = elements.toArray(ModbusElement[]::new);
+		final AbstractReadRegistersTask<?, ?> merged;
+		if (first instanceof FC3ReadRegistersTask) {
+			merged = new MergedFC3ReadRegistersTask(onIllegalAddress, first.getStartAddress(), first.getPriority(),
+					elementsArray);
+		} else {
+			merged = new MergedFC4ReadInputRegistersTask(onIllegalAddress, first.getStartAddress(),
+					first.getPriority(), elementsArray);
+		}
+		merged.setParent(first.getParent());
+
+		// The AbstractTask constructor assigned the Elements to the merged Task; they
+		// still belong to their original Tasks
+		for (var task : tasks) {
+			for (var element : task.getElements()) {
+				element.setModbusTask(task);
+			}
+		}
+		result.add(merged);
+	}
+
+	private void reject(Range range) {
+		if (this.rejectedRanges.add(range)) {
+			this.log.info("Device of [" + range.componentId() + "] rejected merged " + range.taskClass().getSimpleName()
+					+ " [ref=" + range.startAddress() + ";length=" + range.length() + "]. "
+					+ "Reading the original ranges separately.");
+			synchronized (this) {
+				this.modificationCount++;
+			}
+		}
+	}
+
+	private static boolean isIllegalAddress(Exception e) {
+		return e instanceof ModbusSlaveException s && s.isType(Modbus.ILLEGAL_ADDRESS_EXCEPTION);
+	}
+
+	/**
+	 * A {@link FC3ReadRegistersTask} that consists of multiple merged Tasks.
+	 */
+	private static class MergedFC3ReadRegistersTask extends FC3ReadRegistersTask {
+
+		private final Runnable onIllegalAddress;
+
+		public MergedFC3ReadRegistersTask(Runnable onIllegalAddress, int startAddress, Priority priority,
+				ModbusElement... elements) {
+			super(startAddress, priority, elements);
+			this.onIllegalAddress = onIllegalAddress;
+		}
+
+		@Override
+		protected ReadMultipleRegistersResponse executeRequest(AbstractModbusBridge bridge,
+				ReadMultipleRegistersRequest request) throws Exception {
+			try {
+				return super.executeRequest(bridge, request);
+			} catch (Exception e) {
+				if (isIllegalAddress(e)) {
+					this.onIllegalAddress.run();
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * A {@link FC4ReadInputRegistersTask} that consists of multiple merged Tasks.
+	 */
+	private static class MergedFC4ReadInputRegistersTask extends FC4ReadInputRegistersTask {
+
+		private final Runnable onIllegalAddress;
+
+		public MergedFC4ReadInputRegistersTask(Runnable onIllegalAddress, int startAddress, Priority priority,
+				ModbusElement... elements) {
+			super(startAddress, priority, elements);
+			this.onIllegalAddress = onIllegalAddress;
+		}
+
+		@Override
+		protected ReadInputRegistersResponse executeRequest(AbstractModbusBridge bridge,
+				ReadInputRegistersRequest request) throws Exception {
+			try {
+				return super.executeRequest(bridge, request);
+			} catch (Exception e) {
+				if (isIllegalAddress(e)) {
+					this.onIllegalAddress.run();
+				}
+				throw e;
+			}
+		}
+	}
+}
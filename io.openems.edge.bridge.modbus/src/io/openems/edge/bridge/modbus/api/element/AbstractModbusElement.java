@@ -2,6 +2,7 @@ package io.openems.edge.bridge.modbus.api.element;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
@@ -38,6 +39,12 @@ public abstract non-sealed class AbstractModbusElement<SELF extends AbstractModb
 	/** Counts for how many cycles no valid value was read. */
 	private int invalidValueCounter = 0;
 
+	/** The last read value; used to detect changes. */
+	private T lastInputValue = null;
+
+	/** Counts how often the read value changed. */
+	private volatile int inputValueChangeCount = 0;
+
 	public static enum FillElementsPriority {
 		DEFAULT, HIGH
 	}
@@ -111,6 +118,15 @@ public abstract non-sealed class AbstractModbusElement<SELF extends AbstractModb
 		} else {
 			value = null;
 		}
+		this.setTypedInputValue(value);
+	}
+
+	/**
+	 * Set the input/read value that was already converted to the OpenEMS type.
+	 * 
+	 * @param value the typed value; possibly null
+	 */
+	protected final void setTypedInputValue(T value) {
 		// Log debug message
 		if (this.isDebug) {
 			this.log.info("Element [" + this + "] set value to [" + value + "].");
@@ -119,6 +135,11 @@ public abstract non-sealed class AbstractModbusElement<SELF extends AbstractModb
 		if (value != null) {
 			this.invalidValueCounter = 0;
 		}
+		// Count changes
+		if (this.isCountInputValueChanges() && !Objects.deepEquals(value, this.lastInputValue)) {
+			this.lastInputValue = value;
+			this.inputValueChangeCount++;
+		}
 		// Call Callbacks
 		for (Consumer<T> callback : this.onUpdateCallbacks) {
 			callback.accept(value);
@@ -207,6 +228,11 @@ public abstract non-sealed class AbstractModbusElement<SELF extends AbstractModb
 		}
 	}
 
+	@Override
+	public final int getInputValueChangeCount() {
+		return this.inputValueChangeCount;
+	}
+
 	/*
 	 * Enable Debug mode for this Element. Activates verbose logging.
 	 */
@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.element;
 
+import java.nio.ByteBuffer;
+
 import com.ghgande.j2mod.modbus.procimg.Register;
 
 import io.openems.common.types.OpenemsType;
@@ -24,6 +26,11 @@ public abstract class AbstractMultipleWordsElement<SELF extends AbstractModbusEl
 		return this.commonRegistersToValue(registers, this.wordOrder);
 	}
 
+	@Override
+	protected T bytesToValue(ByteBuffer registers, int offset) {
+		return this.commonBytesToValue(registers, offset, this.wordOrder);
+	}
+
 	@Override
 	protected Register[] valueToRaw(T value) {
 		return this.valueToRaw(value, this.wordOrder);
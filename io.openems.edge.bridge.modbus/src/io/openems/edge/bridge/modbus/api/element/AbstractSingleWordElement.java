@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.element;
 
+import java.nio.ByteBuffer;
+
 import com.ghgande.j2mod.modbus.procimg.Register;
 
 import io.openems.common.types.OpenemsType;
@@ -23,6 +25,11 @@ public abstract class AbstractSingleWordElement<SELF extends ModbusRegisterEleme
 		return this.commonRegistersToValue(registers, WordOrder.MSWLSW /* makes no difference for SingleWord */);
 	}
 
+	@Override
+	protected T bytesToValue(ByteBuffer registers, int offset) {
+		return this.commonBytesToValue(registers, offset, WordOrder.MSWLSW /* makes no difference for SingleWord */);
+	}
+
 	@Override
 	protected Register[] valueToRaw(T value) {
 		return this.valueToRaw(value, WordOrder.MSWLSW /* makes no difference for SingleWord */);
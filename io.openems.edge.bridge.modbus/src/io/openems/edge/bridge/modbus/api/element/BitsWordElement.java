@@ -113,6 +113,7 @@ public class BitsWordElement extends AbstractSingleWordElement<BitsWordElement,
 
 		// Add Modbus Address and Bit-Index to Channel Source
 		channel.setMetaInfo(channelMetaInfoBit);
+		this.addPersistencePriority(channel.channelDoc().getPersistencePriority());
 
 		// Handle Writes to Bit-Channels
 		if (channel instanceof WriteChannel<?>) {
@@ -205,8 +206,16 @@ public class BitsWordElement extends AbstractSingleWordElement<BitsWordElement,
 		// convert Register to int
 		var buff = ByteBuffer.allocate(2);
 		buff.put(registers[0].toBytes());
-		var value = Short.toUnsignedInt(buff.getShort(0));
+		return this.toValue(Short.toUnsignedInt(buff.getShort(0)));
+	}
+
+	@Override
+	protected Boolean[] bytesToValue(ByteBuffer registers, int offset) {
+		// Registers are always BIG_ENDIAN
+		return this.toValue(Short.toUnsignedInt(registers.getShort(offset)));
+	}
 
+	private Boolean[] toValue(int value) {
 		var result = new Boolean[16];
 		for (var bitIndex = 0; bitIndex < 16; bitIndex++) {
 			// Get Wrapper
@@ -30,6 +30,11 @@ public class DummyRegisterElement extends AbstractMultipleWordsElement<DummyRegi
 		return new Register[length];
 	}
 
+	@Override
+	protected Void bytesToValue(ByteBuffer registers, int offset) {
+		return null;
+	}
+
 	@Override
 	protected Void byteBufferToValue(ByteBuffer buff) {
 		return null;
@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api.element;
 
+import io.openems.common.channel.PersistencePriority;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.task.AbstractTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
@@ -18,6 +19,15 @@ public abstract sealed class ModbusElement permits AbstractModbusElement {
 	/** The Task - set via {@link #setModbusTask(Task)}. */
 	private Task task = null;
 
+	/**
+	 * The highest {@link PersistencePriority} of the Channels this Element is
+	 * mapped to.
+	 */
+	private volatile PersistencePriority persistencePriority = PersistencePriority.VERY_LOW;
+
+	/** Count changes of the read value? See {@link #getInputValueChangeCount()}. */
+	private volatile boolean countInputValueChanges = false;
+
 	public ModbusElement(int startAddress, int length) {
 		this.startAddress = startAddress;
 		this.length = length;
@@ -38,6 +48,30 @@ public abstract sealed class ModbusElement permits AbstractModbusElement {
 	 */
 	public abstract void invalidate(AbstractModbusBridge bridge);
 
+	/**
+	 * Gets the number of times the read value of this Element changed while
+	 * {@link #setCountInputValueChanges(boolean)} was enabled.
+	 *
+	 * @return the change count
+	 */
+	public abstract int getInputValueChangeCount();
+
+	/**
+	 * Enables or disables counting the changes of the read value.
+	 *
+	 * <p>
+	 * This is disabled by default to avoid comparing every read value.
+	 *
+	 * @param countInputValueChanges true to enable
+	 */
+	public final void setCountInputValueChanges(boolean countInputValueChanges) {
+		this.countInputValueChanges = countInputValueChanges;
+	}
+
+	protected final boolean isCountInputValueChanges() {
+		return this.countInputValueChanges;
+	}
+
 	/**
 	 * Set the {@link Task}, where this Element belongs to.
 	 *
@@ -54,4 +88,26 @@ public abstract sealed class ModbusElement permits AbstractModbusElement {
 		return this.task;
 	}
 
+	/**
+	 * Registers the {@link PersistencePriority} of a Channel this Element is mapped
+	 * to. The highest registered priority is kept.
+	 *
+	 * @param persistencePriority the {@link PersistencePriority} of the Channel
+	 */
+	public final void addPersistencePriority(PersistencePriority persistencePriority) {
+		if (persistencePriority.isAtLeast(this.persistencePriority)) {
+			this.persistencePriority = persistencePriority;
+		}
+	}
+
+	/**
+	 * Gets the highest {@link PersistencePriority} of the Channels this Element is
+	 * mapped to.
+	 *
+	 * @return the {@link PersistencePriority}; VERY_LOW if not mapped
+	 */
+	public final PersistencePriority getPersistencePriority() {
+		return this.persistencePriority;
+	}
+
 }
@@ -21,6 +21,9 @@ public abstract class ModbusRegisterElement<SELF extends AbstractModbusElement<S
 	/** ByteOrder of the input registers. */
 	private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
 
+	/** Reusable buffer for {@link #commonBytesToValue(ByteBuffer, int, WordOrder)}. */
+	private ByteBuffer decodeBuffer = null;
+
 	protected ModbusRegisterElement(OpenemsType type, int startAddress, int length) {
 		super(type, startAddress, length);
 	}
@@ -73,6 +76,49 @@ public abstract class ModbusRegisterElement<SELF extends AbstractModbusElement<S
 		return result;
 	}
 
+	/**
+	 * Set the input/read value from a buffer that holds the registers of a
+	 * response in Modbus byte order (big-endian), e.g. as prepared by
+	 * {@link io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask}.
+	 * 
+	 * <p>
+	 * In contrast to {@link #setInputValue(Object)} this does not require
+	 * {@link Register} objects.
+	 * 
+	 * @param registers the buffer; position and limit are not modified
+	 * @param offset    the byte offset of the first register of this element
+	 */
+	public final void setInputValue(ByteBuffer registers, int offset) {
+		if (offset < 0 || offset + this.length * 2 > registers.limit()) {
+			throw new IllegalArgumentException("Registers length does not match. " //
+					+ "Expected [" + this.length + "] " //
+					+ "at byte offset [" + offset + "] " //
+					+ "Got [" + registers.limit() / 2 + "] " //
+					+ "for " + this.toString());
+		}
+		this.setTypedInputValue(this.bytesToValue(registers, offset));
+	}
+
+	/**
+	 * Converts the registers at the given byte offset to the expected type.
+	 * 
+	 * <p>
+	 * The default implementation creates {@link Register} objects and delegates to
+	 * {@link #registersToValue(Register[])}; subclasses should decode directly from
+	 * the buffer.
+	 * 
+	 * @param registers the buffer in Modbus byte order (big-endian)
+	 * @param offset    the byte offset; guaranteed to hold `this.length` registers
+	 * @return the typed/converted value
+	 */
+	protected T bytesToValue(ByteBuffer registers, int offset) {
+		var result = new Register[this.length];
+		for (var i = 0; i < this.length; i++) {
+			result[i] = new SimpleRegister(registers.get(offset + i * 2), registers.get(offset + i * 2 + 1));
+		}
+		return this.registersToValue(result);
+	}
+
 	@Override
 	protected final T rawToValue(Register[] registers) {
 		if (registers.length != this.length) {
@@ -117,4 +163,32 @@ public abstract class ModbusRegisterElement<SELF extends AbstractModbusElement<S
 		buff.rewind();
 		return this.byteBufferToValue(buff);
 	}
+
+	protected final T commonBytesToValue(ByteBuffer registers, int offset, WordOrder wordOrder) {
+		// Reuse buffer; Elements are never decoded concurrently
+		var buff = this.decodeBuffer;
+		if (buff == null) {
+			buff = this.decodeBuffer = this.buildByteBuffer();
+		}
+		buff.clear();
+		buff.order(this.getByteOrder());
+		switch (wordOrder) {
+
+		case LSWMSW -> {
+			// Most significant word, least significant word
+			for (int i = this.length - 1; i >= 0; i--) {
+				buff.put(registers.get(offset + i * 2)).put(registers.get(offset + i * 2 + 1));
+			}
+		}
+
+		case MSWLSW -> {
+			// Least significant word, most significant word
+			for (int i = 0; i < this.length * 2; i++) {
+				buff.put(registers.get(offset + i));
+			}
+		}
+		}
+		buff.rewind();
+		return this.byteBufferToValue(buff);
+	}
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package io.openems.edge.bridge.modbus.api.task;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 
 import com.ghgande.j2mod.modbus.msg.ModbusRequest;
 import com.ghgande.j2mod.modbus.msg.ModbusResponse;
@@ -22,11 +22,32 @@ public abstract class AbstractReadRegistersTask<//
 		super(name, responseClazz, ModbusRegisterElement.class, startAddress, priority, elements);
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	protected final void handleResponse(ModbusRegisterElement element, int position, Register[] response)
 			throws OpenemsException {
-		element.setInputValue(Arrays.copyOfRange(response, position, position + element.length));
+		element.setInputValue(toByteBuffer(response), position * 2);
+	}
+
+	@Override
+	protected final ResponseHandler<ModbusRegisterElement> createResponseHandler(Register[] response) {
+		// Build the buffer once; all Elements of the response decode from it
+		var buffer = toByteBuffer(response);
+		return (element, position) -> element.setInputValue(buffer, position * 2);
+	}
+
+	/**
+	 * Copies the values of the {@link Register}s into a {@link ByteBuffer}; the
+	 * {@link ModbusRegisterElement}s then decode directly from it by offset.
+	 * 
+	 * @param response the response {@link Register}s
+	 * @return the {@link ByteBuffer}
+	 */
+	private static ByteBuffer toByteBuffer(Register[] response) {
+		var buffer = ByteBuffer.allocate(response.length * 2);
+		for (var register : response) {
+			buffer.putShort(register.toShort());
+		}
+		return buffer.flip();
 	}
 
 	@Override
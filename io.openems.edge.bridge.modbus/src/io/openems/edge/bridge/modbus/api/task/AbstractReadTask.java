@@ -88,9 +88,10 @@ public abstract class AbstractReadTask<//
 	 */
 	private void fillElements(T[] response) throws OpenemsException {
 		var errors = new ArrayList<String>();
+		var handler = this.createResponseHandler(response);
 
-		this.fillElements(FillElementsPriority.HIGH, errors, response);
-		this.fillElements(FillElementsPriority.DEFAULT, errors, response);
+		this.fillElements(FillElementsPriority.HIGH, errors, handler);
+		this.fillElements(FillElementsPriority.DEFAULT, errors, handler);
 
 		if (!errors.isEmpty()) {
 			throw new OpenemsException(String.join(", ", errors));
@@ -98,7 +99,7 @@ public abstract class AbstractReadTask<//
 	}
 
 	@SuppressWarnings("unchecked")
-	private void fillElements(FillElementsPriority priority, List<String> errors, T[] response) {
+	private void fillElements(FillElementsPriority priority, List<String> errors, ResponseHandler<ELEMENT> handler) {
 		var position = 0;
 
 		for (var element : this.elements) {
@@ -108,7 +109,7 @@ public abstract class AbstractReadTask<//
 			if (thisPriority == priority) {
 				if (this.elementClazz.isInstance(element)) {
 					try {
-						this.handleResponse((ELEMENT) element, position, response);
+						handler.handle((ELEMENT) element, position);
 					} catch (OpenemsException e) {
 						errors.add("Unable to fill Modbus Element. " //
 								+ element.toString() + " Error: " + e.getMessage());
@@ -129,6 +130,39 @@ public abstract class AbstractReadTask<//
 		return this.priority;
 	}
 
+	/**
+	 * Handles the response for one {@link ModbusElement} at a position.
+	 *
+	 * @param <ELEMENT> the type of the {@link ModbusElement}
+	 */
+	@FunctionalInterface
+	protected static interface ResponseHandler<ELEMENT> {
+
+		/**
+		 * Handle the Response for the Element, e.g. set the internal value.
+		 *
+		 * @param element  the {@link ModbusElement}
+		 * @param position the current position
+		 * @throws OpenemsException on error
+		 */
+		public void handle(ELEMENT element, int position) throws OpenemsException;
+	}
+
+	/**
+	 * Creates the {@link ResponseHandler} that fills all Elements of one response.
+	 *
+	 * <p>
+	 * Called once per response; override to convert the response values once for
+	 * all Elements. Defaults to
+	 * {@link #handleResponse(AbstractModbusElement, int, Object[])}.
+	 *
+	 * @param response the converted {@link ModbusResponse} values
+	 * @return the {@link ResponseHandler}
+	 */
+	protected ResponseHandler<ELEMENT> createResponseHandler(T[] response) {
+		return (element, position) -> this.handleResponse(element, position, response);
+	}
+
 	/**
 	 * Handle a Response, e.g. set the internal value.
 	 * 
@@ -118,7 +118,7 @@ public abstract non-sealed class AbstractTask<//
 
 		} catch (Exception e) {
 			// Second try; with new connection
-			bridge.closeModbusConnection();
+			bridge.closeModbusConnection(unitId);
 			return this.logRequest(TryExecute.SECOND_TRY, bridge, logVerbosity, request,
 					() -> sendRequest(bridge, unitId, this.responseClazz, request));
 		}
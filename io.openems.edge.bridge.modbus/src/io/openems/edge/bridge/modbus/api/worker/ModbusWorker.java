@@ -1,8 +1,18 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
@@ -10,6 +20,7 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
@@ -28,17 +39,27 @@ import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event). For this it uses a
  * {@link CycleTasksManager} that internally uses a {@link TasksSupplierImpl}
  * that supplies the tasks for one Cycle ({@link CycleTasks}).
+ *
+ * <p>
+ * If the connection supports multiple transactions in flight, consecutive
+ * Read-Tasks are executed concurrently; the timing of the Cycle is still
+ * controlled by the {@link CycleTasksManager}.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
 	// Callbacks
 	private final Function<Task, ExecuteState> execute;
 	private final Consumer<ModbusElement[]> invalidate;
+	private final IntSupplier maxTasksInFlight;
+	private final ToIntFunction<Task> connectionIndex;
 
 	private final DefectiveComponents defectiveComponents;
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
+	/** Executes concurrent ReadTasks; created on first use. */
+	private ExecutorService executor = null;
+
 	/**
 	 * Constructor for {@link ModbusWorker}.
 	 * 
@@ -53,12 +74,21 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
 	 *                                   channel
 	 * @param logVerbosity               the configured {@link LogVerbosity}
+	 * @param maxTasksInFlight           the number of {@link ReadTask}s that may
+	 *                                   be executed concurrently
+	 * @param connectionIndex            the index of the connection that executes
+	 *                                   a {@link Task}; concurrent Tasks are
+	 *                                   taken from different connections. A
+	 *                                   negative value means no restriction.
 	 */
 	public ModbusWorker(Function<Task, ExecuteState> execute, Consumer<ModbusElement[]> invalidate,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
-			AtomicReference<LogVerbosity> logVerbosity) {
+			AtomicReference<LogVerbosity> logVerbosity, IntSupplier maxTasksInFlight,
+			ToIntFunction<Task> connectionIndex) {
 		this.execute = execute;
 		this.invalidate = invalidate;
+		this.maxTasksInFlight = maxTasksInFlight;
+		this.connectionIndex = connectionIndex;
 
 		this.defectiveComponents = new DefectiveComponents(logVerbosity);
 		this.tasksSupplier = new TasksSupplierImpl();
@@ -66,12 +96,73 @@ public class ModbusWorker extends AbstractImmediateWorker {
 				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity);
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		synchronized (this) {
+			if (this.executor != null) {
+				this.executor.shutdownNow();
+				this.executor = null;
+			}
+		}
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
+		var maxTasksInFlight = this.maxTasksInFlight.getAsInt();
+		if (maxTasksInFlight > 1 && task instanceof ReadTask) {
+			// At most one Task per connection
+			var busyConnections = new HashSet<Integer>();
+			busyConnections.add(this.connectionIndex.applyAsInt(task));
+			var furtherTasks = this.cycleTasksManager.pollReadTasks(maxTasksInFlight - 1, t -> {
+				var index = this.connectionIndex.applyAsInt(t);
+				return index < 0 || busyConnections.add(index);
+			});
+			if (!furtherTasks.isEmpty()) {
+				this.executeConcurrently(task, furtherTasks);
+				return;
+			}
+		}
+
 		// execute the task
-		var result = this.execute.apply(task);
+		this.handleResult(task, this.execute.apply(task));
+	}
+
+	/**
+	 * Executes the given {@link ReadTask}s concurrently and waits for all of them.
+	 *
+	 * @param task         the first task; executed in the current Thread
+	 * @param furtherTasks further tasks; executed on the executor
+	 */
+	private void executeConcurrently(Task task, List<ReadTask> furtherTasks) {
+		var executor = this.getExecutor();
+		var futures = new ArrayList<CompletableFuture<ExecuteState>>(furtherTasks.size());
+		for (var furtherTask : furtherTasks) {
+			futures.add(CompletableFuture.supplyAsync(() -> this.execute.apply(furtherTask), executor));
+		}
+		this.handleResult(task, this.execute.apply(task));
+		for (var i = 0; i < futures.size(); i++) {
+			var result = futures.get(i) //
+					.exceptionally(e -> ExecuteState.ERROR) //
+					.join();
+			this.handleResult(furtherTasks.get(i), result);
+		}
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (this.executor == null) {
+			this.executor = Executors.newCachedThreadPool(//
+					new ThreadFactoryBuilder().setNameFormat("Modbus-Pipeline-%d").setDaemon(true).build());
+		}
+		return this.executor;
+	}
+
+	private void handleResult(Task task, ExecuteState result) {
+		if (task instanceof ReadTask readTask) {
+			this.tasksSupplier.onExecuted(readTask, result);
+		}
 
 		switch (result) {
 		case OK -> {
@@ -139,6 +230,26 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.defectiveComponents.remove(sourceId); // Cleanup
 	}
 
+	/**
+	 * Sets the max number of unused registers between two Read-Tasks that are
+	 * coalesced into one request.
+	 *
+	 * @param maxGap the max gap; -1 to disable
+	 */
+	public void setCoalesceReadTasksMaxGap(int maxGap) {
+		this.tasksSupplier.setCoalesceReadTasksMaxGap(maxGap);
+	}
+
+	/**
+	 * Sets the max polling interval of LOW priority Read-Tasks whose values do not
+	 * change.
+	 *
+	 * @param maxInterval the max interval in Cycles; 1 to disable
+	 */
+	public void setAdaptiveReadMaxInterval(int maxInterval) {
+		this.tasksSupplier.setAdaptiveReadMaxInterval(maxInterval);
+	}
+
 	/**
 	 * Retry Modbus communication to given Component-ID.
 	 * 
@@ -0,0 +1,216 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.IdentityHashMap;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Schedules the LOW {@link Priority} {@link ReadTask}s of a {@link CyclePlan}
+ * based on how often their values actually change.
+ *
+ * <p>
+ * At most one LOW priority Task is read per Cycle - the one that waited longest
+ * for its polling interval. Every Task starts with an interval of one Cycle,
+ * i.e. plain round-robin. The waiting time of a Task restarts once it was
+ * selected, even if it is not executed - e.g. because its Component is
+ * defective - so that it cannot starve the other Tasks.
+ *
+ * <p>
+ * The result of a read is evaluated once the Task was actually executed - see
+ * {@link #onExecuted(ReadTask, ExecuteState)}. If a successful read did not
+ * change any value, the interval of the Task is doubled up to
+ * {@link #getMaxInterval()} Cycles; on the next change it is reset to one
+ * Cycle. Tasks with an Element that is mapped to a Channel with at least
+ * {@link PersistencePriority#HIGH} (e.g. StateChannels) never cool down.
+ *
+ * <p>
+ * This way slowly changing registers like serial numbers, energy counters and
+ * temperatures stop competing with the other Tasks on saturated buses.
+ */
+public class AdaptiveReadScheduler {
+
+	/** Value for {@link #setMaxInterval(int)} that disables adaptive reads. */
+	public static final int DISABLED = 1;
+
+	private static class State {
+
+		private final boolean isHot;
+		private int interval = 1;
+		private long lastReadCycle = Long.MIN_VALUE / 2;
+		private int changeCount = 0;
+		private boolean isPending = false;
+
+		private State(ReadTask task) {
+			var isHot = false;
+			for (var element : task.getElements()) {
+				if (element.getPersistencePriority().isAtLeast(PersistencePriority.HIGH)) {
+					isHot = true;
+					break;
+				}
+			}
+			this.isHot = isHot;
+		}
+	}
+
+	private volatile int maxInterval = DISABLED;
+
+	private CyclePlan plan = null;
+	private State[] states = new State[0];
+	private IdentityHashMap<ReadTask, State> statesByTask = new IdentityHashMap<>();
+	private long cycle = 0;
+
+	/**
+	 * Sets the max polling interval of a LOW priority Task.
+	 *
+	 * @param maxInterval the max interval in Cycles; {@link #DISABLED} to disable
+	 *                    adaptive reads
+	 */
+	public synchronized void setMaxInterval(int maxInterval) {
+		this.maxInterval = Math.max(DISABLED, maxInterval);
+		if (!this.isEnabled() && this.plan != null) {
+			// Stop counting changes; the plan is adopted again once re-enabled
+			setCountInputValueChanges(this.plan, false);
+			this.plan = null;
+			this.states = new State[0];
+			this.statesByTask = new IdentityHashMap<>();
+		}
+	}
+
+	/**
+	 * Gets the max polling interval of a LOW priority Task.
+	 *
+	 * @return the max interval in Cycles; {@link #DISABLED} if adaptive reads are
+	 *         disabled
+	 */
+	public int getMaxInterval() {
+		return this.maxInterval;
+	}
+
+	/**
+	 * Is adaptive scheduling enabled?.
+	 *
+	 * @return true if enabled
+	 */
+	public boolean isEnabled() {
+		return this.maxInterval > DISABLED;
+	}
+
+	/**
+	 * Gets the index of the LOW priority Task for the next Cycle.
+	 *
+	 * <p>
+	 * Call this method exactly once per Cycle.
+	 *
+	 * @param plan the current {@link CyclePlan}
+	 * @return the index into {@link CyclePlan#lowReads}; -1 if no Task is due
+	 */
+	public synchronized int next(CyclePlan plan) {
+		this.cycle++;
+		if (plan != this.plan) {
+			this.updatePlan(plan);
+		}
+
+		// Find the Task that waited longest for its interval
+		var result = -1;
+		var maxAge = 0L;
+		for (var i = 0; i < this.states.length; i++) {
+			var state = this.states[i];
+			var age = this.cycle - state.lastReadCycle;
+			if (age >= state.interval && age > maxAge) {
+				result = i;
+				maxAge = age;
+			}
+		}
+		if (result == -1) {
+			return -1;
+		}
+
+		var state = this.states[result];
+		state.lastReadCycle = this.cycle;
+		state.changeCount = getChangeCount(plan.lowReads[result]);
+		state.isPending = true;
+		return result;
+	}
+
+	/**
+	 * Evaluates the result of a {@link ReadTask} after it was executed.
+	 *
+	 * <p>
+	 * Only a Task that was returned by {@link #next(CyclePlan)} and not yet
+	 * evaluated is considered; calls for other Tasks are ignored.
+	 *
+	 * @param task   the executed {@link ReadTask}
+	 * @param result the {@link ExecuteState}
+	 */
+	public synchronized void onExecuted(ReadTask task, ExecuteState result) {
+		var state = this.statesByTask.get(task);
+		if (state == null || !state.isPending) {
+			return;
+		}
+		state.isPending = false;
+		if (result != ExecuteState.OK) {
+			// Nothing was read; keep the interval
+			return;
+		}
+		if (state.isHot || getChangeCount(task) != state.changeCount) {
+			state.interval = 1;
+		} else {
+			state.interval = Math.min(state.interval * 2, this.maxInterval);
+		}
+	}
+
+	/**
+	 * Gets the current polling interval of a Task.
+	 *
+	 * @param task the {@link ReadTask}
+	 * @return the interval in Cycles; 1 if the Task is unknown
+	 */
+	public synchronized int getInterval(ReadTask task) {
+		var state = this.statesByTask.get(task);
+		return state != null ? state.interval : 1;
+	}
+
+	/**
+	 * Adopts a new {@link CyclePlan}; keeps the state of Tasks that are still
+	 * part of the plan.
+	 *
+	 * @param plan the new {@link CyclePlan}
+	 */
+	private void updatePlan(CyclePlan plan) {
+		var previous = this.statesByTask;
+		var states = new State[plan.lowReads.length];
+		var statesByTask = new IdentityHashMap<ReadTask, State>();
+		for (var i = 0; i < states.length; i++) {
+			var task = plan.lowReads[i];
+			var state = previous.get(task);
+			states[i] = state != null ? state : new State(task);
+			statesByTask.put(task, states[i]);
+		}
+		if (this.plan != null) {
+			setCountInputValueChanges(this.plan, false);
+		}
+		setCountInputValueChanges(plan, true);
+		this.plan = plan;
+		this.states = states;
+		this.statesByTask = statesByTask;
+	}
+
+	private static void setCountInputValueChanges(CyclePlan plan, boolean value) {
+		for (var task : plan.lowReads) {
+			for (var element : task.getElements()) {
+				element.setCountInputValueChanges(value);
+			}
+		}
+	}
+
+	private static int getChangeCount(ReadTask task) {
+		var result = 0;
+		for (var element : task.getElements()) {
+			result += element.getInputValueChangeCount();
+		}
+		return result;
+	}
+}
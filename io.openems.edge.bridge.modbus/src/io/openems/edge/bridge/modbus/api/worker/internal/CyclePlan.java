@@ -0,0 +1,140 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.openems.edge.bridge.modbus.api.ProtocolOptimizer;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.WriteTask;
+import io.openems.edge.common.taskmanager.Priority;
+import io.openems.edge.common.taskmanager.TasksManager;
+
+/**
+ * Immutable, precomputed plan of the {@link Task}s of all Components of a
+ * Modbus-Bridge.
+ *
+ * <p>
+ * A {@link CyclePlan} is compiled by {@link TasksSupplierImpl} only when a
+ * protocol or the list of Tasks of a protocol changes; it is then used to build
+ * the {@link CycleTasks} of every Cycle without filtering or sorting.
+ *
+ * <p>
+ * The Tasks of each Component are passed through the {@link ProtocolOptimizer}
+ * at compile time, i.e. the plan contains the coalesced Read-Tasks.
+ */
+public final class CyclePlan {
+
+	/**
+	 * The {@link Task}s of one Component.
+	 */
+	public static final class Source {
+
+		protected final String id;
+		protected final TasksManager<Task> tasksManager;
+		protected final int modificationCount;
+		/** The optimized {@link Task}s. */
+		protected final List<Task> tasks;
+		/** HIGH priority {@link ReadTask}s. */
+		protected final ReadTask[] highReads;
+		/** All {@link WriteTask}s. */
+		protected final WriteTask[] writes;
+
+		private Source(String id, TasksManager<Task> tasksManager, ProtocolOptimizer optimizer) {
+			this.id = id;
+			this.tasksManager = tasksManager;
+			// Read the count before the Tasks, so that a concurrent change results in a
+			// recompile on next Cycle
+			this.modificationCount = tasksManager.getModificationCount();
+			this.tasks = optimizer.optimize(id, tasksManager.getTasks());
+			var highReads = new ArrayList<ReadTask>();
+			var writes = new ArrayList<WriteTask>();
+			for (var task : this.tasks) {
+				if (task instanceof WriteTask t) {
+					writes.add(t);
+				} else if (task instanceof ReadTask t && t.getPriority() == Priority.HIGH) {
+					highReads.add(t);
+				}
+			}
+			this.highReads = highReads.toArray(ReadTask[]::new);
+			this.writes = writes.toArray(WriteTask[]::new);
+		}
+
+		/**
+		 * Has the list of Tasks changed since this {@link Source} was compiled?.
+		 *
+		 * @return true if changed
+		 */
+		protected boolean isOutdated() {
+			return this.tasksManager.getModificationCount() != this.modificationCount;
+		}
+	}
+
+	protected static final CyclePlan EMPTY = new CyclePlan(Map.of(), new ProtocolOptimizer());
+
+	private final ProtocolOptimizer optimizer;
+	private final int optimizerModificationCount;
+
+	protected final Source[] sources;
+
+	/**
+	 * LOW priority {@link ReadTask}s of all Components in round-robin order.
+	 */
+	protected final ReadTask[] lowReads;
+
+	/**
+	 * Index into {@link #sources} for each entry in {@link #lowReads}.
+	 */
+	protected final int[] lowReadSources;
+
+	protected final int totalNumberOfTasks;
+
+	/**
+	 * Compiles a {@link CyclePlan}.
+	 *
+	 * @param tasksManagers Source-ID -&gt; TasksManager
+	 * @param optimizer     the {@link ProtocolOptimizer}
+	 */
+	protected CyclePlan(Map<String, TasksManager<Task>> tasksManagers, ProtocolOptimizer optimizer) {
+		this.optimizer = optimizer;
+		this.optimizerModificationCount = optimizer.getModificationCount();
+		this.sources = new Source[tasksManagers.size()];
+		var lowReads = new ArrayList<ReadTask>();
+		var lowReadSources = new ArrayList<Integer>();
+		var totalNumberOfTasks = 0;
+		var i = 0;
+		for (var entry : tasksManagers.entrySet()) {
+			var source = new Source(entry.getKey(), entry.getValue(), optimizer);
+			for (var task : source.tasks) {
+				if (task instanceof ReadTask t && t.getPriority() == Priority.LOW) {
+					lowReads.add(t);
+					lowReadSources.add(i);
+				}
+			}
+			totalNumberOfTasks += source.tasks.size();
+			this.sources[i++] = source;
+		}
+		this.lowReads = lowReads.toArray(ReadTask[]::new);
+		this.lowReadSources = lowReadSources.stream().mapToInt(Integer::intValue).toArray();
+		this.totalNumberOfTasks = totalNumberOfTasks;
+	}
+
+	/**
+	 * Has the list of Tasks of any Component or the {@link ProtocolOptimizer}
+	 * changed since this {@link CyclePlan} was compiled?.
+	 *
+	 * @return true if outdated
+	 */
+	protected boolean isOutdated() {
+		if (this.optimizer.getModificationCount() != this.optimizerModificationCount) {
+			return true;
+		}
+		for (var source : this.sources) {
+			if (source.isOutdated()) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,12 +1,16 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
@@ -193,6 +197,41 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Gets further {@link ReadTask}s while in a read state, without changing the
+	 * State. This is called by {@link ModbusWorker} after
+	 * {@link #getNextTask()} returned a {@link ReadTask}, to execute multiple
+	 * ReadTasks concurrently on connections that support it.
+	 * 
+	 * <p>
+	 * {@link ReadTask}s that are not accepted by the filter stay in the queue in
+	 * their original order.
+	 * 
+	 * @param max    the max number of {@link ReadTask}s
+	 * @param filter accepts a {@link ReadTask}; called at most once per Task
+	 * @return a list of {@link ReadTask}s; possibly empty
+	 */
+	public List<ReadTask> pollReadTasks(int max, Predicate<ReadTask> filter) {
+		if (this.cycleTasks == null) {
+			return List.of();
+		}
+		return switch (this.state) {
+		case READ_BEFORE_WRITE, READ_AFTER_WRITE -> {
+			var result = new ArrayList<ReadTask>(max);
+			var iterator = this.cycleTasks.reads().iterator();
+			while (result.size() < max && iterator.hasNext()) {
+				var task = iterator.next();
+				if (filter.test(task)) {
+					iterator.remove();
+					result.add(task);
+				}
+			}
+			yield result;
+		}
+		case INITIAL_WAIT, WAIT_FOR_WRITE, WRITE, WAIT_BEFORE_READ, FINISHED -> List.of();
+		};
+	}
+
 	/**
 	 * Waiting in INITIAL_WAIT or WAIT_BEFORE_READ finished.
 	 */
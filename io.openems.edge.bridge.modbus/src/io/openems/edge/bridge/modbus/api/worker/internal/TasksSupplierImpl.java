@@ -1,34 +1,55 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.ProtocolOptimizer;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
-import io.openems.edge.common.taskmanager.Priority;
 import io.openems.edge.common.taskmanager.TasksManager;
-import io.openems.edge.common.type.Tuple;
 
 /**
  * Supplies Tasks.
+ *
+ * <p>
+ * The Tasks of all protocols are compiled into an immutable {@link CyclePlan}
+ * whenever a protocol is added or removed or the Tasks of a protocol change.
+ * {@link #getCycleTasks(DefectiveComponents)} only reads the current plan and
+ * does not need to lock.
+ *
+ * <p>
+ * Read-Tasks are coalesced by a {@link ProtocolOptimizer} when the plan is
+ * compiled; see {@link #setCoalesceReadTasksMaxGap(int)}.
+ *
+ * <p>
+ * LOW priority Read-Tasks are either read round-robin or - if enabled via
+ * {@link #setAdaptiveReadMaxInterval(int)} - scheduled by an
+ * {@link AdaptiveReadScheduler}.
  */
 public class TasksSupplierImpl implements TasksSupplier {
 
 	/**
 	 * Source-ID -> TasksManager for {@link Task}s.
 	 */
-	private final Map<String, TasksManager<Task>> taskManagers = new HashMap<>();
+	private final Map<String, TasksManager<Task>> taskManagers = new LinkedHashMap<>();
 
 	/**
-	 * Queue of LOW priority {@link ReadTask}s.
+	 * Round-robin cursor over the LOW priority {@link ReadTask}s of the
+	 * {@link CyclePlan}.
 	 */
-	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
+	private final AtomicInteger nextLowPriorityTask = new AtomicInteger();
+
+	private final ProtocolOptimizer optimizer = new ProtocolOptimizer();
+
+	private final AdaptiveReadScheduler scheduler = new AdaptiveReadScheduler();
+
+	private volatile CyclePlan plan = CyclePlan.EMPTY;
 
 	/**
 	 * Adds the protocol.
@@ -38,6 +59,7 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	public synchronized void addProtocol(String sourceId, ModbusProtocol protocol) {
 		this.taskManagers.put(sourceId, protocol.getTaskManager());
+		this.compilePlan();
 	}
 
 	/**
@@ -47,84 +69,131 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	public synchronized void removeProtocol(String sourceId) {
 		this.taskManagers.remove(sourceId);
+		this.compilePlan();
+	}
+
+	/**
+	 * Sets the max number of unused registers between two Read-Tasks that are
+	 * coalesced into one request.
+	 *
+	 * @param maxGap the max gap; {@link ProtocolOptimizer#DISABLED} to disable
+	 */
+	public synchronized void setCoalesceReadTasksMaxGap(int maxGap) {
+		this.optimizer.setMaxGap(maxGap);
+		this.compilePlan();
+	}
+
+	/**
+	 * Sets the max polling interval of LOW priority Read-Tasks whose values do not
+	 * change.
+	 *
+	 * @param maxInterval the max interval in Cycles;
+	 *                    {@link AdaptiveReadScheduler#DISABLED} to read LOW
+	 *                    priority Tasks round-robin
+	 */
+	public void setAdaptiveReadMaxInterval(int maxInterval) {
+		this.scheduler.setMaxInterval(maxInterval);
+	}
+
+	/**
+	 * Called after a {@link ReadTask} was executed.
+	 *
+	 * @param task   the {@link ReadTask}
+	 * @param result the {@link ExecuteState}
+	 */
+	public void onExecuted(ReadTask task, ExecuteState result) {
+		if (this.scheduler.isEnabled()) {
+			this.scheduler.onExecuted(task, result);
+		}
 	}
 
 	@Override
-	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
-		Map<String, LinkedList<Task>> tasks = new HashMap<>();
+	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
+		var plan = this.getPlan();
+		var reads = new LinkedList<ReadTask>();
+		var writes = new LinkedList<WriteTask>();
+
 		// One Low Priority ReadTask
-		{
-			var t = this.getOneLowPriorityReadTask();
-			if (t != null) {
-				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
-						.add(t.b());
+		ReadTask lowRead = null;
+		var lowReadSource = -1;
+		if (plan.lowReads.length > 0) {
+			var index = this.scheduler.isEnabled() //
+					? this.scheduler.next(plan) //
+					: Math.floorMod(this.nextLowPriorityTask.getAndIncrement(), plan.lowReads.length);
+			if (index >= 0) {
+				lowRead = plan.lowReads[index];
+				lowReadSource = plan.lowReadSources[index];
 			}
 		}
+
 		// All High Priority ReadTasks + all WriteTasks
-		this.taskManagers.forEach((id, taskManager) -> {
-			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
-					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
-					.forEach(list::add);
-		});
-		// Filter out defective components
-		tasks.forEach((id, componentTasks) -> {
-			var isDue = defectiveComponents.isDueForNextTry(id);
+		for (var i = 0; i < plan.sources.length; i++) {
+			var source = plan.sources[i];
+			var sourceLowRead = i == lowReadSource ? lowRead : null;
+			var isDue = defectiveComponents.isDueForNextTry(source.id);
 			if (isDue == null) {
 				// Component is not defective -> keep all tasks
+				if (sourceLowRead != null) {
+					// LOW priority to the beginning
+					reads.addFirst(sourceLowRead);
+				}
+				for (var task : source.highReads) {
+					reads.add(task);
+				}
+				for (var task : source.writes) {
+					writes.add(task);
+				}
+
 			} else if (isDue) {
 				// Component is due for next try -> keep only one random Task
-				Collections.shuffle(componentTasks);
-				while (componentTasks.size() > 1) {
-					componentTasks.pop();
-				}
+				addOneRandomTask(reads, writes, sourceLowRead, source);
+
 			} else {
 				// Component is defective and not due -> drop all tasks
-				componentTasks.clear();
 			}
-		});
-		return new CycleTasks(//
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
-						// Sort HIGH priority to the end
-						.sorted((a, b) -> b.getPriority().compareTo(a.getPriority())) //
-						.collect(Collectors.toCollection(LinkedList::new)),
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(WriteTask.class::isInstance).map(WriteTask.class::cast) //
-						.collect(Collectors.toCollection(LinkedList::new)));
+		}
+		return new CycleTasks(reads, writes);
+	}
+
+	private static void addOneRandomTask(LinkedList<ReadTask> reads, LinkedList<WriteTask> writes, ReadTask lowRead,
+			CyclePlan.Source source) {
+		var offset = lowRead != null ? 1 : 0;
+		var count = offset + source.highReads.length + source.writes.length;
+		if (count == 0) {
+			return;
+		}
+		var index = ThreadLocalRandom.current().nextInt(count);
+		if (index < offset) {
+			reads.addFirst(lowRead);
+		} else if (index < offset + source.highReads.length) {
+			reads.add(source.highReads[index - offset]);
+		} else {
+			writes.add(source.writes[index - offset - source.highReads.length]);
+		}
 	}
 
 	/**
-	 * Get one LOW priority task.
+	 * Gets the current {@link CyclePlan}; recompiles it if the Tasks of any
+	 * protocol changed in the meantime.
 	 *
-	 * @return the next task; null if there is no available task
+	 * @return the {@link CyclePlan}
 	 */
-	private synchronized Tuple<String, ReadTask> getOneLowPriorityReadTask() {
-		var refilledBefore = false;
-		while (true) {
-			var task = this.nextLowPriorityTasks.poll();
-			if (task != null) {
-				return task;
-			}
-			if (refilledBefore) {
-				// queue had been refilled before, but still cannot find a matching task -> quit
-				return null;
-			}
-			// refill the queue
-			this.taskManagers.forEach((id, taskManager) -> {
-				taskManager.getTasks(Priority.LOW).stream() //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
-						.map(t -> new Tuple<String, ReadTask>(id, t)) //
-						.forEach(this.nextLowPriorityTasks::add);
-			});
-			refilledBefore = true;
+	private CyclePlan getPlan() {
+		var plan = this.plan;
+		if (plan.isOutdated()) {
+			plan = this.compilePlan();
 		}
+		return plan;
+	}
+
+	private synchronized CyclePlan compilePlan() {
+		var plan = new CyclePlan(this.taskManagers, this.optimizer);
+		this.plan = plan;
+		return plan;
 	}
 
 	@Override
-	public synchronized int getTotalNumberOfTasks() {
-		return this.taskManagers.values().stream() //
-				.mapToInt(m -> m.countTasks()) //
-				.sum();
+	public int getTotalNumberOfTasks() {
+		return this.getPlan().totalNumberOfTasks;
 	}
 }
@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.sunspec;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -17,8 +18,11 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.BridgeModbusSerial;
+import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
 import io.openems.edge.bridge.modbus.api.ElementToChannelConverter;
 import io.openems.edge.bridge.modbus.api.ElementToChannelScaleFactorConverter;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
@@ -26,12 +30,14 @@ import io.openems.edge.bridge.modbus.api.ModbusUtils;
 import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.StringWordElement;
 import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
 import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
 import io.openems.edge.bridge.modbus.api.task.AbstractTask;
 import io.openems.edge.bridge.modbus.api.task.FC16WriteRegistersTask;
 import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.sunspec.SunSpecDiscoveryCache.Block;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.taskmanager.Priority;
 
@@ -45,6 +51,19 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 	 */
 	private static final int MAXIMUM_TASK_LENGTH = 126;
 
+	/**
+	 * Address of the first Block-ID, i.e. the first Common block.
+	 */
+	private static final int FIRST_BLOCK_ADDRESS = 40_002;
+
+	/**
+	 * Address and length of the Serial Number ('SN') of the first Common block.
+	 */
+	private static final int SERIAL_NUMBER_ADDRESS = 40_052;
+	private static final int SERIAL_NUMBER_LENGTH = 16;
+
+	private static final int END_OF_MAP = 0xFFFF;
+
 	private final Logger log = LoggerFactory.getLogger(AbstractOpenemsSunSpecComponent.class);
 
 	// The active SunSpec-Models and their reading-priority
@@ -98,7 +117,7 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 			}
 
 			try {
-				this.readNextBlock(40_002, expectedBlocks).thenRun(() -> {
+				this.readBlocks(expectedBlocks).thenRun(() -> {
 					this.isSunSpecInitializationCompleted = true;
 					this.onSunSpecInitializationCompleted();
 				});
@@ -140,21 +159,91 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 		return result;
 	}
 
+	/**
+	 * Reads the SunSpec blocks.
+	 *
+	 * <p>
+	 * If a {@link SunSpecDiscoveryCache} is available, the Serial Number of the
+	 * first Common block is read first to validate the cached blocks. If reading
+	 * the Serial Number fails, the blocks are discovered without cache.
+	 *
+	 * @param remainingBlocks the remaining blocks expected to read
+	 * @return a future that completes once reading the blocks finished
+	 * @throws OpenemsException on error
+	 */
+	private CompletableFuture<Void> readBlocks(Set<Integer> remainingBlocks) throws OpenemsException {
+		final var cache = this.getDiscoveryCache();
+		if (cache.isEmpty()) {
+			return this.readBlocks(cache, null, remainingBlocks);
+		}
+
+		final var finished = new CompletableFuture<Void>();
+		ModbusUtils.readELementOnce(this.modbusProtocol,
+				new StringWordElement(SERIAL_NUMBER_ADDRESS, SERIAL_NUMBER_LENGTH), false) //
+				.thenAccept(serialNumber -> {
+					try {
+						this.readBlocks(serialNumber == null ? Optional.empty() : cache, serialNumber,
+								remainingBlocks) //
+								.thenRun(() -> finished.complete(null));
+					} catch (OpenemsException e) {
+						this.logWarn(this.log, "Error while reading SunSpec blocks: " + e.getMessage());
+						e.printStackTrace();
+						finished.complete(null); // announce finish immediately to not get stuck
+					}
+				});
+		return finished;
+	}
+
+	/**
+	 * Reads the SunSpec blocks; from the {@link SunSpecDiscoveryCache} if
+	 * available and the Serial Number matches, otherwise block by block.
+	 *
+	 * @param cache           the {@link SunSpecDiscoveryCache}
+	 * @param serialNumber    the Serial Number of the device; null if cache is
+	 *                        empty
+	 * @param remainingBlocks the remaining blocks expected to read
+	 * @return a future that completes once reading the blocks finished
+	 * @throws OpenemsException on error
+	 */
+	protected CompletableFuture<Void> readBlocks(Optional<SunSpecDiscoveryCache> cache, String serialNumber,
+			Set<Integer> remainingBlocks) throws OpenemsException {
+		final var blocks = new ArrayList<Block>();
+		var nextBlockStartAddress = FIRST_BLOCK_ADDRESS;
+
+		var cachedBlocks = this.readDiscoveryCache(cache, serialNumber);
+		if (!cachedBlocks.isEmpty()) {
+			this.logInfo(this.log, "Using cached SunSpec-Models from [" + cache.get().getFile() + "]");
+			for (var block : cachedBlocks) {
+				blocks.add(block);
+				if (!this.handleBlock(block.startAddress(), block.blockId(), remainingBlocks)) {
+					return CompletableFuture.completedFuture(null);
+				}
+				nextBlockStartAddress = block.startAddress() + 2 + block.length();
+			}
+		}
+
+		// Cache is not available or incomplete
+		return this.readNextBlock(nextBlockStartAddress, remainingBlocks, blocks) //
+				.thenRun(() -> this.writeDiscoveryCache(cache, serialNumber, blocks));
+	}
+
 	/**
 	 * Reads the next SunSpec block.
 	 *
 	 * @param startAddress    the startAddress
 	 * @param remainingBlocks the remaining blocks expected to read
+	 * @param blocks          collects the read {@link Block}s
 	 * @return a future that completes once reading the block finished
 	 * @throws OpenemsException on error
 	 */
-	private CompletableFuture<Void> readNextBlock(int startAddress, Set<Integer> remainingBlocks)
+	private CompletableFuture<Void> readNextBlock(int startAddress, Set<Integer> remainingBlocks, List<Block> blocks)
 			throws OpenemsException {
 		final var finished = new CompletableFuture<Void>();
 
 		// Finish if all expected Blocks have been read
 		if (remainingBlocks.isEmpty()) {
 			finished.complete(null);
+			return finished;
 		}
 
 		/*
@@ -168,55 +257,20 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 		this.readElementsOnceTyped(new UnsignedWordElement(startAddress), new UnsignedWordElement(startAddress + 1))
 				.thenAccept(values -> {
 					int blockId = values.get(0);
+					int length = values.get(1);
+					blocks.add(new Block(blockId, startAddress, length));
 
-					// END_OF_MAP
-					if (blockId == 0xFFFF) {
-						finished.complete(null);
-						return;
-					}
-
-					// Handle SunSpec Block
-					if (blockId == 1 /* SunSpecModel.S_1 */) {
-						this.commonBlockCounter++;
-					}
-
-					if (this.commonBlockCounter != this.readFromCommonBlockNo) {
-						// ignore all SunSpec blocks before 'startFromCommonBlockNo' was passed
-
-					} else {
-
-						// Should this Block be considered?
-						var activeEntry = this.getActiveModelForId(blockId);
-						if (activeEntry != null) {
-							var sunSpecModel = activeEntry.getKey();
-							var priority = activeEntry.getValue();
-							try {
-								this.addBlock(startAddress, sunSpecModel, priority);
-								remainingBlocks.remove(activeEntry.getKey().getBlockId());
-							} catch (OpenemsException e) {
-								this.logWarn(this.log, "Error while adding SunSpec-Model [" + blockId
-										+ "] starting at [" + startAddress + "]: " + e.getMessage());
-								e.printStackTrace();
-							}
-
-						} else {
-							// This block is not considered, because the Model is not active
-							this.logInfo(this.log,
-									"Ignoring SunSpec-Model [" + blockId + "] starting at [" + startAddress + "]");
-						}
-					}
-
-					// Stop reading if all expectedBlocks have been read
-					if (remainingBlocks.isEmpty()) {
+					if (!this.handleBlock(startAddress, blockId, remainingBlocks)) {
 						finished.complete(null);
 						return;
 					}
 
 					// Read next block recursively
-					var nextBlockStartAddress = startAddress + 2 + values.get(1);
+					var nextBlockStartAddress = startAddress + 2 + length;
 					try {
 
-						final var readNextBlockFuture = this.readNextBlock(nextBlockStartAddress, remainingBlocks);
+						final var readNextBlockFuture = this.readNextBlock(nextBlockStartAddress, remainingBlocks,
+								blocks);
 						// Announce finished when next block (recursively) is finished
 						readNextBlockFuture.thenRun(() -> {
 							finished.complete(null);
@@ -232,6 +286,122 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 		return finished;
 	}
 
+	/**
+	 * Handles a SunSpec block, i.e. adds it to the {@link ModbusProtocol} if its
+	 * Model is active.
+	 *
+	 * @param startAddress    the startAddress
+	 * @param blockId         the SunSpec Block-ID
+	 * @param remainingBlocks the remaining blocks expected to read
+	 * @return true if the next block should be read
+	 */
+	private boolean handleBlock(int startAddress, int blockId, Set<Integer> remainingBlocks) {
+		if (blockId == END_OF_MAP) {
+			return false;
+		}
+
+		// Handle SunSpec Block
+		if (blockId == 1 /* SunSpecModel.S_1 */) {
+			this.commonBlockCounter++;
+		}
+
+		if (this.commonBlockCounter != this.readFromCommonBlockNo) {
+			// ignore all SunSpec blocks before 'startFromCommonBlockNo' was passed
+
+		} else {
+
+			// Should this Block be considered?
+			var activeEntry = this.getActiveModelForId(blockId);
+			if (activeEntry != null) {
+				var sunSpecModel = activeEntry.getKey();
+				var priority = activeEntry.getValue();
+				try {
+					this.addBlock(startAddress, sunSpecModel, priority);
+					remainingBlocks.remove(activeEntry.getKey().getBlockId());
+				} catch (OpenemsException e) {
+					this.logWarn(this.log, "Error while adding SunSpec-Model [" + blockId + "] starting at ["
+							+ startAddress + "]: " + e.getMessage());
+					e.printStackTrace();
+				}
+
+			} else {
+				// This block is not considered, because the Model is not active
+				this.logInfo(this.log, "Ignoring SunSpec-Model [" + blockId + "] starting at [" + startAddress + "]");
+			}
+		}
+
+		// Stop reading if all expectedBlocks have been read
+		return !remainingBlocks.isEmpty();
+	}
+
+	/**
+	 * Gets the {@link SunSpecDiscoveryCache} for this device.
+	 *
+	 * @return the {@link SunSpecDiscoveryCache}; empty if the device can not be
+	 *         identified
+	 */
+	private Optional<SunSpecDiscoveryCache> getDiscoveryCache() {
+		var bridge = this.getBridgeModbus();
+		if (bridge instanceof BridgeModbusTcp tcp && tcp.getIpAddress() != null) {
+			return SunSpecDiscoveryCache.of(tcp.getIpAddress().getHostAddress(), this.getUnitId(),
+					this.readFromCommonBlockNo);
+		}
+		if (bridge instanceof BridgeModbusSerial serial && serial.getPortName() != null) {
+			return SunSpecDiscoveryCache.of(serial.getPortName(), this.getUnitId(), this.readFromCommonBlockNo);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Reads the cached {@link Block}s.
+	 *
+	 * @param cache        the {@link SunSpecDiscoveryCache}
+	 * @param serialNumber the actual Serial Number of the device
+	 * @return the cached {@link Block}s; empty if not available or the Serial
+	 *         Number does not match
+	 */
+	private List<Block> readDiscoveryCache(Optional<SunSpecDiscoveryCache> cache, String serialNumber) {
+		if (cache.isEmpty()) {
+			return List.of();
+		}
+		try {
+			var entry = cache.get().read();
+			if (entry.isEmpty()) {
+				return List.of();
+			}
+			if (!entry.get().serialNumber().equals(serialNumber)) {
+				this.logInfo(this.log, "Serial Number changed from [" + entry.get().serialNumber() + "] to ["
+						+ serialNumber + "]. Ignoring cached SunSpec-Models");
+				return List.of();
+			}
+			return entry.get().blocks();
+
+		} catch (IOException | OpenemsNamedException e) {
+			this.logWarn(this.log,
+					"Unable to read cached SunSpec-Models from [" + cache.get().getFile() + "]: " + e.getMessage());
+			return List.of();
+		}
+	}
+
+	/**
+	 * Writes the {@link Block}s to the {@link SunSpecDiscoveryCache}.
+	 *
+	 * @param cache        the {@link SunSpecDiscoveryCache}
+	 * @param serialNumber the Serial Number of the device
+	 * @param blocks       the {@link Block}s
+	 */
+	private void writeDiscoveryCache(Optional<SunSpecDiscoveryCache> cache, String serialNumber, List<Block> blocks) {
+		if (cache.isEmpty() || blocks.isEmpty()) {
+			return;
+		}
+		try {
+			cache.get().write(new SunSpecDiscoveryCache.Entry(serialNumber, List.copyOf(blocks)));
+		} catch (IOException e) {
+			this.logWarn(this.log,
+					"Unable to write cached SunSpec-Models to [" + cache.get().getFile() + "]: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * Gets the Model and its reading priority; or null if the Model is not
 	 * 'active', i.e. not used by this implementation.
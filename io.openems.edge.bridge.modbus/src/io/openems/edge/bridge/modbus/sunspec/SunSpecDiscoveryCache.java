@@ -0,0 +1,141 @@
+package io.openems.edge.bridge.modbus.sunspec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.OpenemsConstants;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Persists the SunSpec model map of a device, i.e. the Block-IDs, their start
+ * addresses and lengths, as discovered by
+ * {@link AbstractOpenemsSunSpecComponent}.
+ *
+ * <p>
+ * Every device has its own file, identified by the address of the Modbus
+ * bridge (IP or serial port), the Unit-ID and the number of the Common block
+ * the component reads from. The serial number of the first
+ * SunSpec Common block is stored together with the model map; a cached model
+ * map is only valid if the serial number of the device still matches.
+ */
+public class SunSpecDiscoveryCache {
+
+	/**
+	 * A SunSpec block as walked during discovery.
+	 *
+	 * @param blockId      the SunSpec Block-ID; 0xFFFF for END_OF_MAP
+	 * @param startAddress the start address of the Block-ID register
+	 * @param length       the length of the block, not including Block-ID and
+	 *                     Length registers
+	 */
+	public static record Block(int blockId, int startAddress, int length) {
+	}
+
+	/**
+	 * The cached model map of one device.
+	 *
+	 * @param serialNumber the serial number of the device
+	 * @param blocks       the {@link Block}s in the order of the SunSpec map
+	 */
+	public static record Entry(String serialNumber, List<Block> blocks) {
+	}
+
+	private static final String DIRECTORY = "sunspec";
+
+	private final Path file;
+
+	public SunSpecDiscoveryCache(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Builds a {@link SunSpecDiscoveryCache} for a device in the OpenEMS Data
+	 * Directory.
+	 *
+	 * @param bridgeAddress         the address of the Modbus bridge, e.g. the IP
+	 *                              address
+	 * @param unitId                the Unit-ID of the device
+	 * @param readFromCommonBlockNo the number of the Common block the component
+	 *                              reads from
+	 * @return the {@link SunSpecDiscoveryCache}; empty if no OpenEMS Data
+	 *         Directory is configured
+	 */
+	public static Optional<SunSpecDiscoveryCache> of(String bridgeAddress, int unitId, int readFromCommonBlockNo) {
+		var dataDir = OpenemsConstants.getOpenemsDataDir();
+		if (dataDir.isBlank()) {
+			return Optional.empty();
+		}
+		var fileName = (bridgeAddress + "_" + unitId + "_" + readFromCommonBlockNo) //
+				.replaceAll("[^a-zA-Z0-9._-]", "_") + ".json";
+		return Optional.of(new SunSpecDiscoveryCache(Paths.get(dataDir, DIRECTORY, fileName)));
+	}
+
+	/**
+	 * Gets the file of this cache.
+	 *
+	 * @return the {@link Path}
+	 */
+	public Path getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Reads the cached model map.
+	 *
+	 * @return the {@link Entry}; empty if no model map was cached yet
+	 * @throws IOException           on error while reading the file
+	 * @throws OpenemsNamedException on invalid file content
+	 */
+	public Optional<Entry> read() throws IOException, OpenemsNamedException {
+		if (!Files.exists(this.file)) {
+			return Optional.empty();
+		}
+		var json = JsonUtils.parseToJsonObject(Files.readString(this.file, StandardCharsets.UTF_8));
+		var serialNumber = JsonUtils.getAsString(json, "serialNumber");
+		var blocks = new ArrayList<Block>();
+		for (JsonElement b : JsonUtils.getAsJsonArray(json, "blocks")) {
+			var block = JsonUtils.getAsJsonArray(b);
+			blocks.add(new Block(//
+					JsonUtils.getAsInt(block, 0), //
+					JsonUtils.getAsInt(block, 1), //
+					JsonUtils.getAsInt(block, 2)));
+		}
+		return Optional.of(new Entry(serialNumber, blocks));
+	}
+
+	/**
+	 * Writes the model map. The file is replaced atomically.
+	 *
+	 * @param entry the {@link Entry}
+	 * @throws IOException on error
+	 */
+	public void write(Entry entry) throws IOException {
+		var blocks = JsonUtils.buildJsonArray();
+		for (var block : entry.blocks()) {
+			blocks.add(JsonUtils.buildJsonArray() //
+					.add(block.blockId()) //
+					.add(block.startAddress()) //
+					.add(block.length()) //
+					.build());
+		}
+		var json = JsonUtils.buildJsonObject() //
+				.addProperty("serialNumber", entry.serialNumber()) //
+				.add("blocks", blocks.build()) //
+				.build();
+
+		Files.createDirectories(this.file.toAbsolutePath().getParent());
+		var tmp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+		Files.writeString(tmp, JsonUtils.prettyToString(json), StandardCharsets.UTF_8);
+		Files.move(tmp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+}
@@ -13,6 +13,8 @@ import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.ProtocolOptimizer;
+import io.openems.edge.bridge.modbus.api.worker.internal.AdaptiveReadScheduler;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.OpenemsComponent;
 
@@ -31,7 +33,8 @@ public class DummyModbusBridge extends AbstractModbusBridge implements BridgeMod
 		for (Channel<?> channel : this.channels()) {
 			channel.nextProcessImage();
 		}
-		super.activate(null, id, "", true, LogVerbosity.NONE, 2);
+		super.activate(null, id, "", true, LogVerbosity.NONE, 2, ProtocolOptimizer.DISABLED,
+				AdaptiveReadScheduler.DISABLED);
 	}
 
 	/**
@@ -0,0 +1,324 @@
+package io.openems.edge.bridge.modbus;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import com.ghgande.j2mod.modbus.io.ModbusTCPTransaction;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
+import com.ghgande.j2mod.modbus.procimg.SimpleProcessImage;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+import com.ghgande.j2mod.modbus.slave.ModbusSlaveFactory;
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.FloatDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.SignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.SignedWordElement;
+import io.openems.edge.bridge.modbus.api.element.StringWordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
+import io.openems.edge.bridge.modbus.sunspec.DefaultSunSpecModel;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+import io.openems.edge.common.test.TestUtils;
+
+/**
+ * This little application measures the performance of the Modbus-Bridge
+ * against an in-process j2mod Modbus/TCP slave.
+ *
+ * <p>
+ * It uses three protocols with a realistic structure:
+ * <ul>
+ * <li>"sunspec-inverter": SunSpec Models 1, 103, 120, 121, 122 and 123
+ * <li>"meter": 60 float values of a three-phase meter in one request
+ * <li>"hybrid-inverter": many mixed word, doubleword and string registers in
+ * multiple requests
+ * </ul>
+ *
+ * <p>
+ * For every protocol it measures
+ * <ul>
+ * <li>Cycle-Plan build time, i.e. adding the protocol to a
+ * {@link TasksSupplierImpl}
+ * <li>decode time and allocated bytes per Element
+ * <li>executed Read-Tasks per second and allocated bytes per Task
+ * </ul>
+ *
+ * <p>
+ * Results are printed as JSON; if a file name is given as first argument, they
+ * are also written to that file, e.g. to track them over releases.
+ */
+public class ModbusBridgeBenchmarkApp {
+
+	private static final int UNIT_ID = 1;
+
+	private static final int PLAN_WARMUP = 2_000;
+	private static final int PLAN_ITERATIONS = 10_000;
+	private static final int DECODE_WARMUP = 200;
+	private static final int DECODE_ITERATIONS = 2_000;
+	private static final int EXECUTE_WARMUP = 200;
+	private static final int EXECUTE_ITERATIONS = 2_000;
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = //
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private static record Protocol(String name, Supplier<List<Task>> factory) {
+	}
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args; optional file name for the JSON result
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		var protocols = List.of(//
+				new Protocol("sunspec-inverter", ModbusBridgeBenchmarkApp::sunSpecInverter), //
+				new Protocol("meter", ModbusBridgeBenchmarkApp::meter), //
+				new Protocol("hybrid-inverter", ModbusBridgeBenchmarkApp::hybridInverter));
+
+		// Start Modbus/TCP slave with all registers used by the protocols
+		var random = new Random(0);
+		var image = new SimpleProcessImage(UNIT_ID);
+		for (var protocol : protocols) {
+			for (var task : protocol.factory().get()) {
+				for (var address = task.getStartAddress(); address < task.getStartAddress()
+						+ task.getLength(); address++) {
+					image.addRegister(address, new SimpleRegister(random.nextInt(0x10000)));
+				}
+			}
+		}
+		var port = TestUtils.findRandomOpenPortOnAllLocalInterfaces();
+		var slave = ModbusSlaveFactory.createTCPSlave(port, 1);
+		slave.addProcessImage(UNIT_ID, image);
+		slave.open();
+
+		var connection = new TCPMasterConnection(InetAddress.getLoopbackAddress());
+		connection.setPort(port);
+		var bridge = new DummyModbusBridge("modbus0") {
+
+			@Override
+			public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
+				try {
+					if (!connection.isConnected()) {
+						connection.connect();
+					}
+				} catch (Exception e) {
+					throw new OpenemsException("Unable to connect: " + e.getMessage());
+				}
+				return new ModbusTCPTransaction(connection);
+			}
+
+			@Override
+			public void closeModbusConnection() {
+				connection.close();
+			}
+
+			private void shutdown() {
+				this.deactivate();
+			}
+		};
+
+		try {
+			var results = JsonUtils.buildJsonObject() //
+					.addProperty("timestamp", Instant.now().toString()) //
+					.addProperty("java", System.getProperty("java.version"));
+			for (var protocol : protocols) {
+				var component = new DummyModbusComponent(protocol.name(), bridge, UNIT_ID,
+						new io.openems.edge.common.channel.ChannelId[0]);
+				var tasks = protocol.factory().get();
+				for (var task : tasks) {
+					component.getModbusProtocol().addTask(task);
+				}
+				results.add(protocol.name(), JsonUtils.buildJsonObject() //
+						.addProperty("tasks", tasks.size()) //
+						.addProperty("registers", tasks.stream().mapToInt(Task::getLength).sum()) //
+						.add("cyclePlan", measureCyclePlan(component)) //
+						.add("decode", measureDecode(tasks)) //
+						.add("execute", measureExecute(bridge, tasks)) //
+						.build());
+			}
+
+			var json = JsonUtils.prettyToString(results.build());
+			System.out.println(json);
+			if (args.length > 0) {
+				Files.writeString(Paths.get(args[0]), json, StandardCharsets.UTF_8);
+			}
+
+		} finally {
+			bridge.shutdown();
+			ModbusSlaveFactory.close(slave);
+		}
+	}
+
+	private static JsonObject measureCyclePlan(DummyModbusComponent component) throws OpenemsException {
+		var protocol = component.getModbusProtocol();
+		for (var i = 0; i < PLAN_WARMUP; i++) {
+			new TasksSupplierImpl().addProtocol(component.id(), protocol);
+		}
+		var start = System.nanoTime();
+		for (var i = 0; i < PLAN_ITERATIONS; i++) {
+			new TasksSupplierImpl().addProtocol(component.id(), protocol);
+		}
+		var nanos = System.nanoTime() - start;
+		return JsonUtils.buildJsonObject() //
+				.addProperty("nsPerBuild", (double) nanos / PLAN_ITERATIONS) //
+				.build();
+	}
+
+	private static JsonObject measureDecode(List<Task> tasks) {
+		// Prepare one buffer per Task with random data
+		var random = new Random(0);
+		var buffers = new ByteBuffer[tasks.size()];
+		var elements = 0;
+		for (var i = 0; i < tasks.size(); i++) {
+			var bytes = new byte[tasks.get(i).getLength() * 2];
+			random.nextBytes(bytes);
+			buffers[i] = ByteBuffer.wrap(bytes);
+			elements += tasks.get(i).getElements().length;
+		}
+
+		decode(tasks, buffers, DECODE_WARMUP);
+		var allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+		var start = System.nanoTime();
+		decode(tasks, buffers, DECODE_ITERATIONS);
+		var nanos = System.nanoTime() - start;
+		allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocated;
+
+		var decodes = (double) elements * DECODE_ITERATIONS;
+		return JsonUtils.buildJsonObject() //
+				.addProperty("elements", elements) //
+				.addProperty("nsPerElement", nanos / decodes) //
+				.addProperty("bytesPerElement", allocated / decodes) //
+				.build();
+	}
+
+	private static void decode(List<Task> tasks, ByteBuffer[] buffers, int iterations) {
+		for (var i = 0; i < iterations; i++) {
+			for (var t = 0; t < tasks.size(); t++) {
+				var task = tasks.get(t);
+				for (var element : task.getElements()) {
+					if (element instanceof ModbusRegisterElement<?, ?> e) {
+						e.setInputValue(buffers[t], (element.startAddress - task.getStartAddress()) * 2);
+					}
+				}
+			}
+		}
+	}
+
+	private static JsonObject measureExecute(DummyModbusBridge bridge, List<Task> tasks) {
+		execute(bridge, tasks, EXECUTE_WARMUP);
+		var allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+		var start = System.nanoTime();
+		var errors = execute(bridge, tasks, EXECUTE_ITERATIONS);
+		var nanos = System.nanoTime() - start;
+		allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocated;
+
+		var executions = (double) tasks.size() * EXECUTE_ITERATIONS;
+		return JsonUtils.buildJsonObject() //
+				.addProperty("tasksPerSecond", executions / nanos * 1_000_000_000) //
+				.addProperty("bytesPerTask", allocated / executions) //
+				.addProperty("errors", errors) //
+				.build();
+	}
+
+	private static int execute(DummyModbusBridge bridge, List<Task> tasks, int iterations) {
+		var errors = 0;
+		for (var i = 0; i < iterations; i++) {
+			for (var task : tasks) {
+				if (task.execute(bridge) != Task.ExecuteState.OK) {
+					errors++;
+				}
+			}
+		}
+		return errors;
+	}
+
+	private static List<Task> sunSpecInverter() {
+		var elements = new ArrayList<ModbusElement>();
+		var address = 40_002;
+		for (var model : List.of(DefaultSunSpecModel.S_1, DefaultSunSpecModel.S_103, DefaultSunSpecModel.S_120,
+				DefaultSunSpecModel.S_121, DefaultSunSpecModel.S_122, DefaultSunSpecModel.S_123)) {
+			elements.add(new DummyRegisterElement(address, address + 1)); // Block-ID and Length
+			address += 2;
+			for (var point : model.points()) {
+				var element = point.get().generateModbusElement(address);
+				elements.add(element);
+				address += element.length;
+			}
+		}
+		return toTasks(elements);
+	}
+
+	private static List<Task> meter() {
+		var elements = new ArrayList<ModbusElement>();
+		for (var i = 0; i < 60; i++) {
+			elements.add(new FloatDoublewordElement(19_000 + i * 2));
+		}
+		return toTasks(elements);
+	}
+
+	private static List<Task> hybridInverter() {
+		var elements = new ArrayList<ModbusElement>();
+		var address = 35_000;
+		elements.add(new StringWordElement(address, 8));
+		address += 8;
+		for (var i = 0; i < 100; i++) {
+			ModbusElement element = switch (i % 4) {
+			case 0 -> new UnsignedWordElement(address);
+			case 1 -> new SignedWordElement(address);
+			case 2 -> new UnsignedDoublewordElement(address);
+			default -> new SignedDoublewordElement(address);
+			};
+			elements.add(element);
+			address += element.length;
+		}
+		return toTasks(elements);
+	}
+
+	/**
+	 * Splits contiguous Elements into {@link FC3ReadRegistersTask}s of at most 125
+	 * registers.
+	 *
+	 * @param elements the Elements
+	 * @return a list of {@link Task}s
+	 */
+	private static List<Task> toTasks(List<ModbusElement> elements) {
+		var result = new ArrayList<Task>();
+		var current = new ArrayList<ModbusElement>();
+		var length = 0;
+		for (var element : elements) {
+			if (length + element.length > 125) {
+				result.add(new FC3ReadRegistersTask(current.get(0).startAddress, Priority.HIGH,
+						current.toArray(ModbusElement[]::new)));
+				current.clear();
+				length = 0;
+			}
+			current.add(element);
+			length += element.length;
+		}
+		if (!current.isEmpty()) {
+			result.add(new FC3ReadRegistersTask(current.get(0).startAddress, Priority.HIGH,
+					current.toArray(ModbusElement[]::new)));
+		}
+		return result;
+	}
+
+}
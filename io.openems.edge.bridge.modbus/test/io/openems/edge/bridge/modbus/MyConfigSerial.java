@@ -20,6 +20,8 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private int delayAfterTx;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int coalesceReadTasksMaxGap = -1;
+		private int adaptiveReadMaxInterval = 1;
 
 		private Builder() {
 		}
@@ -79,6 +81,16 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setCoalesceReadTasksMaxGap(int coalesceReadTasksMaxGap) {
+			this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
+			return this;
+		}
+
+		public Builder setAdaptiveReadMaxInterval(int adaptiveReadMaxInterval) {
+			this.adaptiveReadMaxInterval = adaptiveReadMaxInterval;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -150,4 +162,14 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int coalesceReadTasksMaxGap() {
+		return this.builder.coalesceReadTasksMaxGap;
+	}
+
+	@Override
+	public int adaptiveReadMaxInterval() {
+		return this.builder.adaptiveReadMaxInterval;
+	}
+
 }
\ No newline at end of file
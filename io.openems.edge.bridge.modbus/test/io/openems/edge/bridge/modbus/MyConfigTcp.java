@@ -10,8 +10,14 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private String id;
 		private String ip;
 		private int port;
+		private int maxTransactionsInFlight = 1;
+		private int connections = 1;
+		private String[] additionalIps = {};
+		private String[] unitIdConnections = {};
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int coalesceReadTasksMaxGap = -1;
+		private int adaptiveReadMaxInterval = 1;
 
 		private Builder() {
 		}
@@ -31,6 +37,26 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setMaxTransactionsInFlight(int maxTransactionsInFlight) {
+			this.maxTransactionsInFlight = maxTransactionsInFlight;
+			return this;
+		}
+
+		public Builder setConnections(int connections) {
+			this.connections = connections;
+			return this;
+		}
+
+		public Builder setAdditionalIps(String... additionalIps) {
+			this.additionalIps = additionalIps;
+			return this;
+		}
+
+		public Builder setUnitIdConnections(String... unitIdConnections) {
+			this.unitIdConnections = unitIdConnections;
+			return this;
+		}
+
 		public Builder setLogVerbosity(LogVerbosity logVerbosity) {
 			this.logVerbosity = logVerbosity;
 			return this;
@@ -41,6 +67,16 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setCoalesceReadTasksMaxGap(int coalesceReadTasksMaxGap) {
+			this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
+			return this;
+		}
+
+		public Builder setAdaptiveReadMaxInterval(int adaptiveReadMaxInterval) {
+			this.adaptiveReadMaxInterval = adaptiveReadMaxInterval;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -72,6 +108,26 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.port;
 	}
 
+	@Override
+	public int maxTransactionsInFlight() {
+		return this.builder.maxTransactionsInFlight;
+	}
+
+	@Override
+	public int connections() {
+		return this.builder.connections;
+	}
+
+	@Override
+	public String[] additionalIps() {
+		return this.builder.additionalIps;
+	}
+
+	@Override
+	public String[] unitIdConnections() {
+		return this.builder.unitIdConnections;
+	}
+
 	@Override
 	public LogVerbosity logVerbosity() {
 		return this.builder.logVerbosity;
@@ -82,4 +138,14 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int coalesceReadTasksMaxGap() {
+		return this.builder.coalesceReadTasksMaxGap;
+	}
+
+	@Override
+	public int adaptiveReadMaxInterval() {
+		return this.builder.adaptiveReadMaxInterval;
+	}
+
 }
\ No newline at end of file
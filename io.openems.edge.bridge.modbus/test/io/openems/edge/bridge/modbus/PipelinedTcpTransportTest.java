@@ -0,0 +1,200 @@
+package io.openems.edge.bridge.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+
+public class PipelinedTcpTransportTest {
+
+	private static final int TIMEOUT = 1000;
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private static record Request(int transactionId, int unitId, int reference) {
+	}
+
+	/**
+	 * Simulates a device that reads the given number of FC3 requests and answers
+	 * them in reverse order. The single register value is the requested reference.
+	 *
+	 * @param server             the {@link ServerSocket}
+	 * @param requests           the number of requests to collect before answering
+	 * @param wrongTransactionId answer with an unknown Transaction-ID
+	 * @return a future that completes when the device is done
+	 */
+	private CompletableFuture<Void> startDevice(ServerSocket server, int requests, boolean wrongTransactionId) {
+		return CompletableFuture.runAsync(() -> {
+			try (var socket = server.accept()) {
+				var in = new DataInputStream(socket.getInputStream());
+				var out = new DataOutputStream(socket.getOutputStream());
+				var received = new ArrayList<Request>();
+				for (var i = 0; i < requests; i++) {
+					var transactionId = in.readUnsignedShort();
+					in.readUnsignedShort(); // protocol
+					in.readUnsignedShort(); // length
+					var unitId = in.readUnsignedByte();
+					in.readUnsignedByte(); // function code
+					var reference = in.readUnsignedShort();
+					in.readUnsignedShort(); // word count
+					received.add(new Request(transactionId, unitId, reference));
+				}
+				for (var i = received.size() - 1; i >= 0; i--) {
+					var request = received.get(i);
+					out.writeShort(request.transactionId() + (wrongTransactionId ? 1000 : 0));
+					out.writeShort(0); // protocol
+					out.writeShort(5); // length
+					out.writeByte(request.unitId());
+					out.writeByte(3); // function code
+					out.writeByte(2); // byte count
+					out.writeShort(request.reference());
+				}
+				out.flush();
+				// wait for client to close
+				while (in.read() >= 0) {
+				}
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}, this.executor);
+	}
+
+	/**
+	 * Simulates a device that answers FC3 requests immediately, except requests
+	 * for the given reference.
+	 *
+	 * @param server           the {@link ServerSocket}
+	 * @param requests         the number of requests to read
+	 * @param ignoredReference the reference that is never answered
+	 * @return a future that completes when the device is done
+	 */
+	private CompletableFuture<Void> startSelectiveDevice(ServerSocket server, int requests, int ignoredReference) {
+		return CompletableFuture.runAsync(() -> {
+			try (var socket = server.accept()) {
+				var in = new DataInputStream(socket.getInputStream());
+				var out = new DataOutputStream(socket.getOutputStream());
+				for (var i = 0; i < requests; i++) {
+					var transactionId = in.readUnsignedShort();
+					in.readUnsignedShort(); // protocol
+					in.readUnsignedShort(); // length
+					var unitId = in.readUnsignedByte();
+					in.readUnsignedByte(); // function code
+					var reference = in.readUnsignedShort();
+					in.readUnsignedShort(); // word count
+					if (reference == ignoredReference) {
+						continue;
+					}
+					out.writeShort(transactionId);
+					out.writeShort(0); // protocol
+					out.writeShort(5); // length
+					out.writeByte(unitId);
+					out.writeByte(3); // function code
+					out.writeByte(2); // byte count
+					out.writeShort(reference);
+					out.flush();
+				}
+				// wait for client to close
+				while (in.read() >= 0) {
+				}
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}, this.executor);
+	}
+
+	private CompletableFuture<Integer> readRegister(PipelinedTcpTransport sut, int reference) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				var request = new ReadMultipleRegistersRequest(reference, 1);
+				request.setUnitID(1);
+				var response = (ReadMultipleRegistersResponse) sut.execute(request);
+				return response.getRegisterValue(0);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}, this.executor);
+	}
+
+	@After
+	public void after() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	public void testOutOfOrderResponses() throws Exception {
+		try (var server = new ServerSocket(0)) {
+			var device = this.startDevice(server, 3, false);
+			var sut = new PipelinedTcpTransport(new InetSocketAddress("127.0.0.1", server.getLocalPort()), 3,
+					TIMEOUT);
+
+			var r0 = this.readRegister(sut, 100);
+			var r1 = this.readRegister(sut, 200);
+			var r2 = this.readRegister(sut, 300);
+
+			assertEquals(100, r0.join().intValue());
+			assertEquals(200, r1.join().intValue());
+			assertEquals(300, r2.join().intValue());
+			assertEquals(3, sut.getMaxInFlight());
+
+			sut.close();
+			device.join();
+		}
+	}
+
+	@Test
+	public void testFallbackToSequential() throws Exception {
+		try (var server = new ServerSocket(0)) {
+			var device = this.startDevice(server, 2, true);
+			var sut = new PipelinedTcpTransport(new InetSocketAddress("127.0.0.1", server.getLocalPort()), 2,
+					TIMEOUT);
+
+			// Responses can not be matched -> both requests time out
+			var r0 = this.readRegister(sut, 100);
+			var r1 = this.readRegister(sut, 200);
+			CompletableFuture.allOf(r0, r1).handle((r, e) -> null).join();
+			assertTrue(r0.isCompletedExceptionally());
+			assertTrue(r1.isCompletedExceptionally());
+			assertEquals(1, sut.getMaxInFlight());
+
+			sut.close();
+			device.join();
+		}
+	}
+
+	@Test
+	public void testTimeoutFailsOnlyAffectedTransaction() throws Exception {
+		try (var server = new ServerSocket(0)) {
+			// The device accepts only one connection: a reconnect would not be answered
+			var device = this.startSelectiveDevice(server, 3, 666);
+			var sut = new PipelinedTcpTransport(new InetSocketAddress("127.0.0.1", server.getLocalPort()), 2,
+					TIMEOUT);
+
+			var r0 = this.readRegister(sut, 666);
+			var r1 = this.readRegister(sut, 100);
+			assertEquals(100, r1.join().intValue());
+			r0.handle((r, e) -> null).join();
+			assertTrue(r0.isCompletedExceptionally());
+
+			// Connection is still open
+			assertEquals(200, this.readRegister(sut, 200).join().intValue());
+
+			sut.close();
+			device.join();
+		}
+	}
+
+}
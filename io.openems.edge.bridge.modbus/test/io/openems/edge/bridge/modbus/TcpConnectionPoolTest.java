@@ -0,0 +1,87 @@
+package io.openems.edge.bridge.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+import com.ghgande.j2mod.modbus.procimg.SimpleProcessImage;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+import com.ghgande.j2mod.modbus.slave.ModbusSlaveFactory;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.common.test.TestUtils;
+
+public class TcpConnectionPoolTest {
+
+	private static final int TIMEOUT = 1000;
+
+	@Test
+	public void testParseUnitIdConnections() throws OpenemsException {
+		assertEquals(Map.of(3, 1, 7, 0),
+				TcpConnectionPool.parseUnitIdConnections(new String[] { "3:1", " 7 : 0", "" }, 2));
+		assertThrows(OpenemsException.class, //
+				() -> TcpConnectionPool.parseUnitIdConnections(new String[] { "3" }, 2));
+		assertThrows(OpenemsException.class, //
+				() -> TcpConnectionPool.parseUnitIdConnections(new String[] { "3:x" }, 2));
+		assertThrows(OpenemsException.class, //
+				() -> TcpConnectionPool.parseUnitIdConnections(new String[] { "3:2" }, 2));
+	}
+
+	@Test
+	public void testGetConnectionIndex() throws Exception {
+		var sut = new TcpConnectionPool(List.of(InetAddress.getLoopbackAddress()), 502, 3, Map.of(5, 0), TIMEOUT, 0);
+		assertEquals(3, sut.size());
+		assertEquals(1, sut.getConnectionIndex(1));
+		assertEquals(2, sut.getConnectionIndex(2));
+		assertEquals(0, sut.getConnectionIndex(3));
+		assertEquals(0, sut.getConnectionIndex(5)); // pinned
+	}
+
+	@Test
+	public void testGetConnectionIndexWithAdditionalAddresses() throws Exception {
+		var primary = InetAddress.getByName("192.168.1.10");
+		var additional = InetAddress.getByName("192.168.1.11");
+		// Connections 0, 2 and 4 to primary; 1 and 3 to additional address
+		var sut = new TcpConnectionPool(List.of(primary, additional), 502, 5, Map.of(7, 3), TIMEOUT, 0);
+		assertEquals(0, sut.getConnectionIndex(0));
+		assertEquals(2, sut.getConnectionIndex(1));
+		assertEquals(4, sut.getConnectionIndex(2));
+		assertEquals(0, sut.getConnectionIndex(3));
+		assertEquals(3, sut.getConnectionIndex(7)); // pinned
+	}
+
+	@Test
+	public void testExecute() throws Exception {
+		var port = TestUtils.findRandomOpenPortOnAllLocalInterfaces();
+		var slave = ModbusSlaveFactory.createTCPSlave(port, 2);
+		try {
+			for (var unitId = 1; unitId <= 2; unitId++) {
+				var processImage = new SimpleProcessImage(unitId);
+				processImage.addRegister(100, new SimpleRegister(unitId * 10));
+				slave.addProcessImage(unitId, processImage);
+			}
+			slave.open();
+
+			var sut = new TcpConnectionPool(List.of(InetAddress.getLoopbackAddress()), port, 2, Map.of(), TIMEOUT, 0);
+			for (var unitId = 1; unitId <= 2; unitId++) {
+				var request = new ReadMultipleRegistersRequest(100, 1);
+				request.setUnitID(unitId);
+				var response = (ReadMultipleRegistersResponse) sut.execute(request);
+				assertEquals(unitId * 10, response.getRegisterValue(0));
+			}
+			assertTrue(sut.debugLog().matches("Conn0:1req/0err/\\d+ms\\|Conn1:1req/0err/\\d+ms"));
+			sut.close();
+
+		} finally {
+			ModbusSlaveFactory.close(slave);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package io.openems.edge.bridge.modbus.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC16WriteRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ProtocolOptimizerTest {
+
+	private static final String COMPONENT_ID = "device0";
+
+	private static FC3ReadRegistersTask fc3(int startAddress, Priority priority, int length) {
+		var elements = new UnsignedWordElement[length];
+		for (var i = 0; i < length; i++) {
+			elements[i] = new UnsignedWordElement(startAddress + i);
+		}
+		return new FC3ReadRegistersTask(startAddress, priority, elements);
+	}
+
+	@Test
+	public void testDisabled() {
+		var sut = new ProtocolOptimizer();
+		List<Task> tasks = List.of(fc3(0, Priority.HIGH, 2), fc3(2, Priority.HIGH, 2));
+		assertSame(tasks, sut.optimize(COMPONENT_ID, tasks));
+	}
+
+	@Test
+	public void testMerge() {
+		var sut = new ProtocolOptimizer();
+		sut.setMaxGap(2);
+
+		var t0 = fc3(11, Priority.HIGH, 2); // 11-12; gap 3
+		var t1 = fc3(0, Priority.HIGH, 2); // 0-1; unsorted
+		var t2 = fc3(4, Priority.HIGH, 4); // 4-7; gap 2
+		var t3 = fc3(20, Priority.HIGH, 1); // gap too large
+		var t4 = fc3(12, Priority.LOW, 2); // other priority
+		var t5 = new FC4ReadInputRegistersTask(2, Priority.HIGH, new UnsignedWordElement(2)); // other FC
+		var t6 = new FC16WriteRegistersTask(2, new UnsignedWordElement(2)); // write
+		var result = sut.optimize(COMPONENT_ID, List.of(t0, t1, t2, t3, t4, t5, t6));
+
+		assertEquals(6, result.size());
+		assertTrue(result.contains(t0)); // single Task is kept
+		assertTrue(result.contains(t3));
+		assertTrue(result.contains(t4));
+		assertTrue(result.contains(t5));
+		assertTrue(result.contains(t6));
+
+		var merged = (FC3ReadRegistersTask) result.stream() //
+				.filter(t -> t.getStartAddress() == 0) //
+				.findFirst().get();
+		assertEquals(8, merged.getLength());
+		assertEquals(Priority.HIGH, merged.getPriority());
+		assertEquals(7, merged.getElements().length);
+		assertTrue(merged.getElements()[2] instanceof DummyRegisterElement);
+
+		// Elements still belong to their original Tasks
+		assertSame(t1, t1.getElements()[0].getModbusTask());
+		assertSame(t2, t2.getElements()[0].getModbusTask());
+	}
+
+	@Test
+	public void testMaxRegisters() {
+		var sut = new ProtocolOptimizer();
+		sut.setMaxGap(0);
+
+		var t0 = fc3(0, Priority.HIGH, 100);
+		var t1 = fc3(100, Priority.HIGH, 25);
+		var t2 = fc3(125, Priority.HIGH, 1);
+		var result = sut.optimize(COMPONENT_ID, List.of(t0, t1, t2));
+
+		assertEquals(2, result.size());
+		assertEquals(ProtocolOptimizer.MAX_REGISTERS, result.get(0).getLength());
+		assertSame(t2, result.get(1));
+	}
+
+	@Test
+	public void testOverlap() {
+		var sut = new ProtocolOptimizer();
+		sut.setMaxGap(10);
+
+		var t0 = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedDoublewordElement(0));
+		var t1 = fc3(1, Priority.HIGH, 1);
+		var result = sut.optimize(COMPONENT_ID, List.of(t0, t1));
+
+		assertEquals(List.of(t0, t1), result);
+	}
+
+	@Test
+	public void testIllegalAddress() throws OpenemsException {
+		var bridge = new DummyModbusBridge("modbus0") {
+
+			@Override
+			public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
+				return new ModbusTransaction() {
+
+					@Override
+					public void execute() throws ModbusException {
+						throw new ModbusSlaveException(Modbus.ILLEGAL_ADDRESS_EXCEPTION);
+					}
+				};
+			}
+
+			@Override
+			public void closeModbusConnection() {
+			}
+		};
+		var component = new DummyModbusComponent(COMPONENT_ID, bridge, 1,
+				new io.openems.edge.common.channel.ChannelId[0]);
+		var sut = new ProtocolOptimizer();
+		sut.setMaxGap(0);
+
+		var t0 = fc3(0, Priority.HIGH, 2);
+		var t1 = fc3(2, Priority.HIGH, 2);
+		t0.setParent(component);
+		t1.setParent(component);
+		var result = sut.optimize(COMPONENT_ID, List.of(t0, t1));
+		assertEquals(1, result.size());
+
+		var modificationCount = sut.getModificationCount();
+		result.get(0).execute(bridge);
+		assertNotEquals(modificationCount, sut.getModificationCount());
+
+		// Rejected range is not merged again
+		result = sut.optimize(COMPONENT_ID, List.of(t0, t1));
+		assertEquals(List.of(t0, t1), result);
+	}
+}
@@ -6,6 +6,9 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Test;
 
 import com.ghgande.j2mod.modbus.procimg.Register;
@@ -29,6 +32,20 @@ public class StringWordElementTest {
 		assertEquals("OpenEMS", sut.channel.getNextValue().get());
 	}
 
+	@Test
+	public void testReadFromByteBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new StringWordElement(0, 4), STRING);
+		var registers = ByteBuffer.wrap("__OpenEMS\0".getBytes(StandardCharsets.US_ASCII));
+		sut.element.setInputValue(registers, 2);
+		assertEquals("OpenEMS", sut.channel.getNextValue().get());
+
+		// Decode buffer is reused
+		registers = ByteBuffer.wrap("__Edge\0\0\0\0".getBytes(StandardCharsets.US_ASCII));
+		sut.element.setInputValue(registers, 2);
+		assertEquals("Edge", sut.channel.getNextValue().get());
+	}
+
 	@Test
 	public void testReadBigEndianLswMsw() throws OpenemsException {
 		var sut = new ModbusTest.FC3ReadRegisters<>(//
@@ -6,6 +6,8 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 
 import com.ghgande.j2mod.modbus.procimg.Register;
@@ -64,6 +66,16 @@ public class UnsignedDoublewordElementTest {
 		assertEquals(0xCDAB_3412L, sut.channel.getNextValue().get());
 	}
 
+	@Test
+	public void testReadFromByteBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new UnsignedDoublewordElement(0).wordOrder(LSWMSW).byteOrder(LITTLE_ENDIAN), //
+				LONG);
+		var registers = ByteBuffer.wrap(new byte[] { 0x00, 0x00, (byte) 0xAB, (byte) 0xCD, 0x12, 0x34 });
+		sut.element.setInputValue(registers, 2);
+		assertEquals(0xCDAB_3412L, sut.channel.getNextValue().get());
+	}
+
 	@Test
 	public void testWriteBigEndianMswLsw() throws IllegalArgumentException, OpenemsNamedException {
 		var sut = new ModbusTest.FC16WriteRegisters<>(//
@@ -0,0 +1,148 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.ProtocolOptimizer;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class AdaptiveReadSchedulerTest {
+
+	private static void read(UnsignedWordElement element, int value) {
+		element.setInputValue(ByteBuffer.wrap(new byte[] { 0, (byte) value }), 0);
+	}
+
+	private static void read(AdaptiveReadScheduler sut, ReadTask task, UnsignedWordElement element, int value) {
+		read(element, value);
+		sut.onExecuted(task, ExecuteState.OK);
+	}
+
+	@Test
+	public void test() throws OpenemsException {
+		var e1 = new UnsignedWordElement(20);
+		var e2 = new UnsignedWordElement(30);
+		var t1 = new FC3ReadRegistersTask(20, Priority.LOW, e1);
+		var t2 = new FC3ReadRegistersTask(30, Priority.LOW, e2);
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(t1, t2);
+		var plan = new CyclePlan(Map.of(component.id(), protocol.getTaskManager()), new ProtocolOptimizer());
+
+		var sut = new AdaptiveReadScheduler();
+		sut.setMaxInterval(4);
+
+		// Values change -> round-robin
+		assertEquals(0, sut.next(plan));
+		read(sut, t1, e1, 1);
+		assertEquals(1, sut.next(plan));
+		read(sut, t2, e2, 5);
+
+		// Values do not change -> intervals grow up to 4 Cycles
+		assertEquals(0, sut.next(plan));
+		read(sut, t1, e1, 1);
+		assertEquals(1, sut.next(plan));
+		read(sut, t2, e2, 5);
+		assertEquals(2, sut.getInterval(t1));
+		assertEquals(0, sut.next(plan));
+		read(sut, t1, e1, 1);
+		assertEquals(1, sut.next(plan));
+		read(sut, t2, e2, 5);
+		assertEquals(4, sut.getInterval(t1));
+		assertEquals(-1, sut.next(plan));
+		assertEquals(4, sut.getInterval(t2));
+		assertEquals(-1, sut.next(plan));
+		assertEquals(0, sut.next(plan));
+		read(sut, t1, e1, 2);
+
+		// Value changed -> back to every Cycle
+		assertEquals(1, sut.next(plan));
+		assertEquals(1, sut.getInterval(t1));
+	}
+
+	@Test
+	public void testHot() throws OpenemsException {
+		var e1 = new UnsignedWordElement(20);
+		e1.addPersistencePriority(PersistencePriority.HIGH);
+		var t1 = new FC3ReadRegistersTask(20, Priority.LOW, e1);
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(t1);
+		var plan = new CyclePlan(Map.of(component.id(), protocol.getTaskManager()), new ProtocolOptimizer());
+
+		var sut = new AdaptiveReadScheduler();
+		sut.setMaxInterval(4);
+
+		for (var i = 0; i < 5; i++) {
+			assertEquals(0, sut.next(plan));
+			read(sut, t1, e1, 1);
+		}
+		assertEquals(1, sut.getInterval(t1));
+	}
+
+	@Test
+	public void testNotExecuted() throws OpenemsException {
+		var e1 = new UnsignedWordElement(20);
+		var t1 = new FC3ReadRegistersTask(20, Priority.LOW, e1);
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(t1);
+		var plan = new CyclePlan(Map.of(component.id(), protocol.getTaskManager()), new ProtocolOptimizer());
+
+		var sut = new AdaptiveReadScheduler();
+		sut.setMaxInterval(4);
+
+		assertEquals(0, sut.next(plan));
+		read(sut, t1, e1, 1);
+
+		// Task was not executed or not evaluated -> interval is kept
+		assertEquals(0, sut.next(plan));
+		assertEquals(0, sut.next(plan));
+		sut.onExecuted(t1, ExecuteState.NO_OP);
+		assertEquals(0, sut.next(plan));
+		sut.onExecuted(t1, ExecuteState.ERROR);
+		assertEquals(1, sut.getInterval(t1));
+
+		// Read without change -> interval grows
+		assertEquals(0, sut.next(plan));
+		read(sut, t1, e1, 1);
+		assertEquals(2, sut.getInterval(t1));
+	}
+
+	@Test
+	public void testCountInputValueChanges() throws OpenemsException {
+		var e1 = new UnsignedWordElement(20);
+		var t1 = new FC3ReadRegistersTask(20, Priority.LOW, e1);
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(t1);
+		var plan = new CyclePlan(Map.of(component.id(), protocol.getTaskManager()), new ProtocolOptimizer());
+
+		// Disabled by default
+		read(e1, 1);
+		read(e1, 2);
+		assertEquals(0, e1.getInputValueChangeCount());
+
+		var sut = new AdaptiveReadScheduler();
+		sut.setMaxInterval(4);
+		assertEquals(0, sut.next(plan));
+		read(sut, t1, e1, 3);
+		assertEquals(1, e1.getInputValueChangeCount());
+
+		// Disabling adaptive reads stops counting
+		sut.setMaxInterval(AdaptiveReadScheduler.DISABLED);
+		read(e1, 4);
+		assertEquals(1, e1.getInputValueChangeCount());
+	}
+
+}
@@ -3,6 +3,7 @@ package io.openems.edge.bridge.modbus.api.worker.internal;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -37,6 +38,44 @@ public class CycleTasksManagerTest {
 		WT_1 = new DummyWriteTask("WT_1", 90);
 	}
 
+	@Test
+	public void testPollReadTasks() throws OpenemsException, InterruptedException {
+		var cycle1 = CycleTasks.create() //
+				.reads(RT_L_1, RT_H_1, RT_H_2) //
+				.writes(WT_1) //
+				.build();
+		var tasksSupplier = new DummyTasksSupplier(cycle1);
+		var defectiveComponents = new DefectiveComponents();
+
+		var sut = new CycleTasksManager(tasksSupplier, defectiveComponents, CYCLE_TIME_IS_TOO_SHORT, CYCLE_DELAY);
+
+		// Not in a read state
+		assertEquals(List.of(), sut.pollReadTasks(2, t -> true));
+
+		sut.onBeforeProcessImage();
+		var task = sut.getNextTask();
+		assertTrue(task instanceof WaitTask.Delay);
+		task.execute(null);
+
+		task = sut.getNextTask();
+		assertEquals(RT_L_1, task);
+
+		// Skipped Tasks stay in the queue
+		assertEquals(List.of(RT_H_2), sut.pollReadTasks(2, t -> t != RT_H_1));
+
+		sut.onExecuteWrite();
+		task = sut.getNextTask();
+		assertEquals(WT_1, task);
+		task.execute(null);
+
+		task = sut.getNextTask();
+		assertTrue(task instanceof WaitTask.Delay);
+		task.execute(null);
+
+		task = sut.getNextTask();
+		assertEquals(RT_H_1, task);
+	}
+
 	@Test
 	public void testIdealConditions() throws OpenemsException, InterruptedException {
 		var cycle1 = CycleTasks.create() //
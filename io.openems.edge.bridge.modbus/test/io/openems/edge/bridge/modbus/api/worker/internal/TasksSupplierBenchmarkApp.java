@@ -0,0 +1,77 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
+import io.openems.edge.bridge.modbus.api.worker.DummyWriteTask;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * This little application measures the cost of
+ * {@link TasksSupplierImpl#getCycleTasks(DefectiveComponents)} for one
+ * Modbus-Bridge with many Components and Tasks.
+ *
+ * <p>
+ * One of the Components is marked as defective, so that the
+ * defective-component handling is part of the measurement.
+ */
+public class TasksSupplierBenchmarkApp {
+
+	private static final int COMPONENTS = 25;
+	private static final int HIGH_READS_PER_COMPONENT = 10;
+	private static final int LOW_READS_PER_COMPONENT = 10;
+	private static final int WRITES_PER_COMPONENT = 2;
+
+	private static final int WARMUP_CYCLES = 200_000;
+	private static final int CYCLES = 1_000_000;
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 * @throws OpenemsException on error
+	 */
+	public static void main(String[] args) throws OpenemsException {
+		var bridge = new DummyModbusBridge("modbus0");
+		var defectiveComponents = new DefectiveComponents();
+		var sut = new TasksSupplierImpl();
+		for (var c = 0; c < COMPONENTS; c++) {
+			var component = new DummyModbusComponent("device" + c, bridge, 1,
+					new io.openems.edge.common.channel.ChannelId[0]);
+			var protocol = component.getModbusProtocol();
+			for (var i = 0; i < HIGH_READS_PER_COMPONENT; i++) {
+				protocol.addTask(new DummyReadTask("RT_H_" + c + "_" + i, 0, Priority.HIGH));
+			}
+			for (var i = 0; i < LOW_READS_PER_COMPONENT; i++) {
+				protocol.addTask(new DummyReadTask("RT_L_" + c + "_" + i, 0, Priority.LOW));
+			}
+			for (var i = 0; i < WRITES_PER_COMPONENT; i++) {
+				protocol.addTask(new DummyWriteTask("WT_" + c + "_" + i, 0));
+			}
+			sut.addProtocol(component.id(), protocol);
+		}
+		defectiveComponents.add("device0");
+
+		run(sut, defectiveComponents, WARMUP_CYCLES);
+		var nanos = run(sut, defectiveComponents, CYCLES);
+
+		System.out.println("Components: " + COMPONENTS + ", Tasks: " + sut.getTotalNumberOfTasks());
+		System.out.println("getCycleTasks(): " + String.format("%.0f", (double) nanos / CYCLES) + " ns per Cycle");
+	}
+
+	private static long run(TasksSupplierImpl sut, DefectiveComponents defectiveComponents, int cycles) {
+		var count = 0L;
+		var start = System.nanoTime();
+		for (var i = 0; i < cycles; i++) {
+			var tasks = sut.getCycleTasks(defectiveComponents);
+			count += tasks.reads().size() + tasks.writes().size();
+		}
+		var nanos = System.nanoTime() - start;
+		if (count == 0) {
+			throw new IllegalStateException("No Tasks");
+		}
+		return nanos;
+	}
+
+}
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -12,6 +13,7 @@ import org.junit.Test;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.test.TimeLeapClock;
 import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
 import io.openems.edge.bridge.modbus.api.worker.DummyWriteTask;
 import io.openems.edge.common.taskmanager.Priority;
@@ -103,4 +105,67 @@ public class TasksSupplierImplTest {
 		assertTrue(tasks.writes().contains(WT_1));
 	}
 
+	@Test
+	public void testChangedProtocol() throws OpenemsException {
+		var clock = new TimeLeapClock();
+		var defectiveComponents = new DefectiveComponents(clock);
+		var sut = new TasksSupplierImpl();
+
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(RT_H_1);
+		sut.addProtocol(component.id(), protocol);
+		assertEquals(1, sut.getTotalNumberOfTasks());
+
+		// Tasks added after addProtocol() are considered in next Cycle
+		protocol.addTasks(RT_L_1, WT_1);
+		assertEquals(3, sut.getTotalNumberOfTasks());
+		var tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(RT_L_1, tasks.reads().get(0));
+		assertEquals(RT_H_1, tasks.reads().get(1));
+		assertEquals(WT_1, tasks.writes().get(0));
+
+		protocol.removeTask(RT_H_1);
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(1, tasks.reads().size());
+		assertEquals(RT_L_1, tasks.reads().get(0));
+
+		sut.removeProtocol(component.id());
+		assertEquals(0, sut.getTotalNumberOfTasks());
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(0, tasks.reads().size() + tasks.writes().size());
+	}
+
+	@Test
+	public void testAdaptiveReadsWithDefectiveComponent() throws OpenemsException {
+		var clock = new TimeLeapClock();
+		var defectiveComponents = new DefectiveComponents(clock);
+		var sut = new TasksSupplierImpl();
+		sut.setAdaptiveReadMaxInterval(4);
+
+		var defective = new DummyModbusComponent("defective0", "modbus0");
+		defective.getModbusProtocol().addTasks(RT_L_1);
+		sut.addProtocol(defective.id(), defective.getModbusProtocol());
+		defectiveComponents.add(defective.id());
+
+		var rtL3 = new DummyReadTask("RT_L_3", 40, Priority.LOW);
+		var healthy = new DummyModbusComponent("healthy0", "modbus0");
+		healthy.getModbusProtocol().addTasks(RT_L_2, rtL3);
+		sut.addProtocol(healthy.id(), healthy.getModbusProtocol());
+
+		// Tasks of the defective Component are not due; they must not starve the
+		// Tasks of the healthy Component
+		var reads = new HashSet<Object>();
+		for (var i = 0; i < 4; i++) {
+			var tasks = sut.getCycleTasks(defectiveComponents);
+			for (var task : tasks.reads()) {
+				sut.onExecuted(task, ExecuteState.OK);
+				reads.add(task);
+			}
+		}
+		assertFalse(reads.contains(RT_L_1));
+		assertTrue(reads.contains(RT_L_2));
+		assertTrue(reads.contains(rtL3));
+	}
+
 }
@@ -1,17 +1,58 @@
 package io.openems.edge.bridge.modbus.sunspec;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.element.StringWordElement;
+import io.openems.edge.bridge.modbus.sunspec.SunSpecDiscoveryCache.Block;
+import io.openems.edge.bridge.modbus.sunspec.SunSpecDiscoveryCache.Entry;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.taskmanager.Priority;
 
 public class AbstractOpenemsSunSpecComponentTest {
 
+	private static class MySunSpecComponent extends AbstractOpenemsSunSpecComponent {
+
+		public MySunSpecComponent() throws OpenemsException {
+			super(Map.of(//
+					DefaultSunSpecModel.S_1, Priority.LOW, //
+					DefaultSunSpecModel.S_103, Priority.HIGH), //
+					OpenemsComponent.ChannelId.values(), //
+					ModbusComponent.ChannelId.values());
+		}
+
+		@Override
+		protected void onSunSpecInitializationCompleted() {
+		}
+
+		private Set<Integer> getTaskStartAddresses() throws OpenemsException {
+			var result = new HashSet<Integer>();
+			for (var task : this.getModbusProtocol().getTaskManager().getTasks()) {
+				result.add(task.getStartAddress());
+			}
+			return result;
+		}
+	}
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testPreprocessModbusElements() throws OpenemsException {
 		var elements = new ArrayList<ModbusElement>();
@@ -29,4 +70,26 @@ public class AbstractOpenemsSunSpecComponentTest {
 		assertEquals(StringWordElement.class, sut.get(1).get(0).getClass()); // second task
 	}
 
+	@Test
+	public void testReadBlocksFromDiscoveryCache() throws OpenemsException, IOException {
+		var cache = new SunSpecDiscoveryCache(this.folder.getRoot().toPath().resolve("device.json"));
+		cache.write(new Entry("SN-123", List.of(//
+				new Block(1, 40_002, 66), //
+				new Block(103, 40_070, 50), //
+				new Block(0xFFFF, 40_122, 0))));
+
+		// Serial Number matches: blocks are added without reading the SunSpec map
+		var sut = new MySunSpecComponent();
+		var future = sut.readBlocks(Optional.of(cache), "SN-123", new HashSet<>(Set.of(1, 103)));
+		assertTrue(future.isDone());
+		assertTrue(sut.getTaskStartAddresses().containsAll(Set.of(40_004, 40_072)));
+		assertFalse(sut.getTaskStartAddresses().contains(40_002));
+
+		// Serial Number changed: the SunSpec map is read from the device
+		sut = new MySunSpecComponent();
+		future = sut.readBlocks(Optional.of(cache), "SN-456", new HashSet<>(Set.of(1, 103)));
+		assertFalse(future.isDone());
+		assertEquals(Set.of(40_002), sut.getTaskStartAddresses());
+	}
+
 }
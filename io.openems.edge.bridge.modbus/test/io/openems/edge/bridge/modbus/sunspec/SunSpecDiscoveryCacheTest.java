@@ -0,0 +1,57 @@
+package io.openems.edge.bridge.modbus.sunspec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.edge.bridge.modbus.sunspec.SunSpecDiscoveryCache.Block;
+import io.openems.edge.bridge.modbus.sunspec.SunSpecDiscoveryCache.Entry;
+
+public class SunSpecDiscoveryCacheTest {
+
+	private static final String OPENEMS_DATA_DIR = "openems.data.dir";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testWriteRead() throws IOException, OpenemsNamedException {
+		var sut = new SunSpecDiscoveryCache(this.folder.getRoot().toPath().resolve("sunspec").resolve("device.json"));
+		assertTrue(sut.read().isEmpty());
+
+		var entry = new Entry("SN-123", List.of(//
+				new Block(1, 40_002, 66), //
+				new Block(103, 40_070, 50), //
+				new Block(0xFFFF, 40_122, 0)));
+		sut.write(entry);
+		assertEquals(entry, sut.read().get());
+
+		// Overwrite
+		entry = new Entry("SN-456", List.of(new Block(1, 40_002, 66)));
+		sut.write(entry);
+		assertEquals(entry, sut.read().get());
+	}
+
+	@Test
+	public void testOf() {
+		System.setProperty(OPENEMS_DATA_DIR, this.folder.getRoot().toString());
+		try {
+			var first = SunSpecDiscoveryCache.of("192.168.1.10", 1, 1).get().getFile();
+			assertEquals("192.168.1.10_1_1.json", first.getFileName().toString());
+			assertNotEquals(first, SunSpecDiscoveryCache.of("192.168.1.10", 1, 2).get().getFile());
+			assertNotEquals(first, SunSpecDiscoveryCache.of("192.168.1.10", 2, 1).get().getFile());
+		} finally {
+			System.clearProperty(OPENEMS_DATA_DIR);
+		}
+		assertTrue(SunSpecDiscoveryCache.of("192.168.1.10", 1, 1).isEmpty());
+	}
+
+}
@@ -25,6 +25,12 @@ public class BooleanReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Boole
 		this(component, channelId, channelDoc, 0, null);
 	}
 
+	@Override
+	protected boolean isPrimitiveSlotSupported() {
+		// every value needs to pass the debounce logic
+		return this.debounceMode == null;
+	}
+
 	@SuppressWarnings("deprecation")
 	@Override
 	public void _setNextValue(Boolean value) {
@@ -1,5 +1,6 @@
 package io.openems.edge.common.channel;
 
+import io.openems.common.exceptions.InvalidValueException;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.internal.OpenemsTypeDoc;
@@ -11,4 +12,41 @@ public class DoubleReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Double
 		super(OpenemsType.DOUBLE, component, channelId, channelDoc);
 	}
 
+	/**
+	 * Updates the 'next value' of the Channel without creating a Value object.
+	 *
+	 * <p>
+	 * NaN and infinite values are set as UNDEFINED.
+	 *
+	 * @param value the 'next value'
+	 */
+	public void setNextValueDouble(double value) {
+		if (Double.isFinite(value)) {
+			this.setNextValueBits(Double.doubleToRawLongBits(value));
+		} else {
+			this.setNextValue(null);
+		}
+	}
+
+	/**
+	 * Gets the active value without creating a Value object.
+	 *
+	 * @return the value
+	 * @throws InvalidValueException if the value is undefined
+	 */
+	public double getAsDouble() throws InvalidValueException {
+		return Double.longBitsToDouble(this.getActiveBits());
+	}
+
+	/**
+	 * Gets the active value without creating a Value object; or the given
+	 * alternative if the value is undefined.
+	 *
+	 * @param alternative the alternative value
+	 * @return the value; or the alternative
+	 */
+	public double getAsDoubleOrElse(double alternative) {
+		return Double.longBitsToDouble(this.getActiveBitsOrElse(Double.doubleToRawLongBits(alternative)));
+	}
+
 }
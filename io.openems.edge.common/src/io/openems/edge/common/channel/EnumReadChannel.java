@@ -38,6 +38,12 @@ public class EnumReadChannel extends AbstractReadChannel<EnumDoc, Integer> {
 		this(component, channelId, channelDoc.initialValue(initialValue), 0);
 	}
 
+	@Override
+	protected boolean isPrimitiveSlotSupported() {
+		// every value needs to pass the debounce logic
+		return this.debounce == 0;
+	}
+
 	@SuppressWarnings("deprecation")
 	@Override
 	public void _setNextValue(Integer value) {
@@ -1,5 +1,6 @@
 package io.openems.edge.common.channel;
 
+import io.openems.common.exceptions.InvalidValueException;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.internal.OpenemsTypeDoc;
@@ -11,4 +12,34 @@ public class ShortReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Short>,
 		super(OpenemsType.SHORT, component, channelId, channelDoc);
 	}
 
+	/**
+	 * Updates the 'next value' of the Channel without creating a Value object.
+	 *
+	 * @param value the 'next value'
+	 */
+	public void setNextValueShort(short value) {
+		this.setNextValueBits(value);
+	}
+
+	/**
+	 * Gets the active value without creating a Value object.
+	 *
+	 * @return the value
+	 * @throws InvalidValueException if the value is undefined
+	 */
+	public short getAsShort() throws InvalidValueException {
+		return (short) this.getActiveBits();
+	}
+
+	/**
+	 * Gets the active value without creating a Value object; or the given
+	 * alternative if the value is undefined.
+	 *
+	 * @param alternative the alternative value
+	 * @return the value; or the alternative
+	 */
+	public short getAsShortOrElse(short alternative) {
+		return (short) this.getActiveBitsOrElse(alternative);
+	}
+
 }
@@ -1,7 +1,5 @@
 package io.openems.edge.common.channel.calculate;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.slf4j.Logger;
@@ -15,7 +13,9 @@ import io.openems.edge.common.channel.Channel;
 public class CalculateAverage {
 
 	private final Logger log = LoggerFactory.getLogger(CalculateAverage.class);
-	private final List<Double> values = new ArrayList<>();
+
+	private double sum = 0;
+	private int count = 0;
 
 	/**
 	 * Adds a Channel-Value.
@@ -26,7 +26,8 @@ public class CalculateAverage {
 		var value = channel.value().asOptional();
 		if (value.isPresent()) {
 			try {
-				this.values.add(value.get().doubleValue());
+				this.sum += value.get().doubleValue();
+				this.count++;
 			} catch (Exception e) {
 				this.log.error("Adding Channel [" + channel.address() + "] value [" + value + "] failed. "
 						+ e.getClass().getSimpleName() + ": " + e.getMessage());
@@ -41,14 +42,10 @@ public class CalculateAverage {
 	 * @return the average or null
 	 */
 	public Double calculate() throws NoSuchElementException {
-		if (this.values.isEmpty()) {
+		if (this.count == 0) {
 			return null;
 		}
-		return this.values //
-				.stream() //
-				.mapToDouble(value -> value) //
-				.average() //
-				.orElse(0.0);
+		return this.sum / this.count;
 	}
 
 	/**
@@ -1,7 +1,5 @@
 package io.openems.edge.common.channel.calculate;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Function;
 
@@ -9,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.IntegerReadChannel;
 
 /**
  * Helper class to sum up Integer-Channels.
@@ -19,7 +18,9 @@ public class CalculateIntegerSum {
 	public static final Function<Integer, Integer> DIVIDE_BY_THREE = value -> Math.round(value / 3f);
 
 	private final Logger log = LoggerFactory.getLogger(CalculateLongSum.class);
-	private final List<Integer> values = new ArrayList<>();
+
+	private int sum = 0;
+	private boolean isDefined = false;
 
 	/**
 	 * Adds a Channel-Value.
@@ -37,10 +38,19 @@ public class CalculateIntegerSum {
 	 * @param converter is applied to the channel value
 	 */
 	public void addValue(Channel<Integer> channel, Function<Integer, Integer> converter) {
+		if (converter == DIRECT_CONVERTER && channel instanceof IntegerReadChannel c) {
+			// Primitive path; avoids creating a Value object
+			if (c.isDefined()) {
+				this.sum += c.getAsIntOrElse(0);
+				this.isDefined = true;
+			}
+			return;
+		}
 		var value = channel.value().asOptional();
 		if (value.isPresent()) {
 			try {
-				this.values.add(converter.apply(value.get()));
+				this.sum += converter.apply(value.get());
+				this.isDefined = true;
 			} catch (Exception e) {
 				this.log.error("Adding Channel [" + channel.address() + "] value [" + value + "] failed. "
 						+ e.getClass().getSimpleName() + ": " + e.getMessage());
@@ -56,12 +66,9 @@ public class CalculateIntegerSum {
 	 * @throws NoSuchElementException on error
 	 */
 	public Integer calculate() throws NoSuchElementException {
-		if (this.values.isEmpty()) {
+		if (!this.isDefined) {
 			return null;
 		}
-		return this.values //
-				.stream() //
-				.mapToInt(value -> value) //
-				.sum(); //
+		return this.sum;
 	}
 }
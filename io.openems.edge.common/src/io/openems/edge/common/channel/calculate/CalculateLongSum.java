@@ -1,13 +1,12 @@
 package io.openems.edge.common.channel.calculate;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.LongReadChannel;
 
 /**
  * Helper class to sum up Long-Channels.
@@ -15,7 +14,9 @@ import io.openems.edge.common.channel.Channel;
 public class CalculateLongSum {
 
 	private final Logger log = LoggerFactory.getLogger(CalculateLongSum.class);
-	private final List<Long> values = new ArrayList<>();
+
+	private long sum = 0;
+	private boolean isDefined = false;
 
 	/**
 	 * Adds a Channel-Value.
@@ -23,10 +24,19 @@ public class CalculateLongSum {
 	 * @param channel the Channel
 	 */
 	public void addValue(Channel<Long> channel) {
+		if (channel instanceof LongReadChannel c) {
+			// Primitive path; avoids creating a Value object
+			if (c.isDefined()) {
+				this.sum += c.getAsLongOrElse(0);
+				this.isDefined = true;
+			}
+			return;
+		}
 		var value = channel.value().asOptional();
 		if (value.isPresent()) {
 			try {
-				this.values.add(value.get());
+				this.sum += value.get();
+				this.isDefined = true;
 			} catch (Exception e) {
 				this.log.error("Adding Channel [" + channel.address() + "] value [" + value + "] failed. "
 						+ e.getClass().getSimpleName() + ": " + e.getMessage());
@@ -42,12 +52,9 @@ public class CalculateLongSum {
 	 * @throws NoSuchElementException on error
 	 */
 	public Long calculate() throws NoSuchElementException {
-		if (this.values.isEmpty()) {
+		if (!this.isDefined) {
 			return null;
 		}
-		return this.values //
-				.stream() //
-				.mapToLong(value -> value) //
-				.sum(); //
+		return this.sum;
 	}
 }
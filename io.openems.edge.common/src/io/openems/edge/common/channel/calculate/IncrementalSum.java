@@ -0,0 +1,153 @@
+package io.openems.edge.common.channel.calculate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.internal.AbstractReadChannel;
+import io.openems.edge.common.channel.internal.AbstractReadChannel.OnChangeBits;
+
+/**
+ * Helper class to keep the sum of Integer- or Long-Channels up-to-date.
+ *
+ * <p>
+ * Unlike {@link CalculateIntegerSum} and {@link CalculateLongSum}, which are
+ * rebuilt and fed with all Channel values on every Cycle, this class
+ * subscribes once to its source Channels (see
+ * {@link AbstractReadChannel#onChangeBits(OnChangeBits)}) and keeps a running
+ * total that is only updated when a source value changes. Reading the sum is
+ * then independent of the number of sources.
+ *
+ * <p>
+ * Like the other helpers, the sum is undefined (null) if no source value is
+ * defined.
+ */
+public class IncrementalSum {
+
+	public static final LongUnaryOperator DIRECT_CONVERTER = value -> value;
+	public static final LongUnaryOperator DIVIDE_BY_THREE = value -> Math.round(value / 3f);
+
+	private final List<Source> sources = new ArrayList<>();
+
+	private long sum = 0;
+	private int definedCount = 0;
+
+	private class Source implements OnChangeBits {
+
+		private final AbstractReadChannel<?, ?> channel;
+		private final LongUnaryOperator converter;
+
+		private long contribution = 0;
+		private boolean isDefined = false;
+
+		private Source(AbstractReadChannel<?, ?> channel, LongUnaryOperator converter) {
+			this.channel = channel;
+			this.converter = converter;
+		}
+
+		@Override
+		public void accept(boolean wasDefined, long oldBits, boolean isDefined, long newBits) {
+			synchronized (IncrementalSum.this) {
+				this.update(isDefined, newBits);
+			}
+		}
+
+		private void update(boolean isDefined, long bits) {
+			if (this.isDefined) {
+				IncrementalSum.this.sum -= this.contribution;
+				IncrementalSum.this.definedCount--;
+			}
+			this.isDefined = isDefined;
+			this.contribution = isDefined ? this.converter.applyAsLong(bits) : 0;
+			if (isDefined) {
+				IncrementalSum.this.sum += this.contribution;
+				IncrementalSum.this.definedCount++;
+			}
+		}
+	}
+
+	/**
+	 * Adds a source Channel.
+	 *
+	 * @param channel the {@link IntegerReadChannel}
+	 */
+	public void addChannel(IntegerReadChannel channel) {
+		this.addChannel(channel, DIRECT_CONVERTER);
+	}
+
+	/**
+	 * Adds a source Channel.
+	 *
+	 * @param channel   the {@link IntegerReadChannel}
+	 * @param converter is applied to each value of the channel
+	 */
+	public synchronized void addChannel(IntegerReadChannel channel, LongUnaryOperator converter) {
+		var source = new Source(channel, converter);
+		source.update(channel.isDefined(), channel.getAsIntOrElse(0));
+		this.subscribe(source);
+	}
+
+	/**
+	 * Adds a source Channel.
+	 *
+	 * @param channel the {@link LongReadChannel}
+	 */
+	public synchronized void addChannel(LongReadChannel channel) {
+		var source = new Source(channel, DIRECT_CONVERTER);
+		source.update(channel.isDefined(), channel.getAsLongOrElse(0));
+		this.subscribe(source);
+	}
+
+	private void subscribe(Source source) {
+		this.sources.add(source);
+		source.channel.onChangeBits(source);
+	}
+
+	/**
+	 * Unsubscribes from all source Channels and resets the sum.
+	 */
+	public synchronized void clear() {
+		for (var source : this.sources) {
+			source.channel.removeOnChangeBitsCallback(source);
+		}
+		this.sources.clear();
+		this.sum = 0;
+		this.definedCount = 0;
+	}
+
+	/**
+	 * Is the sum defined, i.e. is at least one source value defined?.
+	 *
+	 * @return true if defined
+	 */
+	public synchronized boolean isDefined() {
+		return this.definedCount > 0;
+	}
+
+	/**
+	 * Gets the sum as Integer.
+	 *
+	 * @return the sum or null
+	 */
+	public synchronized Integer calculateInteger() {
+		if (this.definedCount == 0) {
+			return null;
+		}
+		return (int) this.sum;
+	}
+
+	/**
+	 * Gets the sum as Long.
+	 *
+	 * @return the sum or null
+	 */
+	public synchronized Long calculateLong() {
+		if (this.definedCount == 0) {
+			return null;
+		}
+		return this.sum;
+	}
+
+}
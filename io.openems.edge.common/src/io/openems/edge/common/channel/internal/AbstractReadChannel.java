@@ -12,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.common.channel.Unit;
+import io.openems.common.exceptions.InvalidValueException;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.function.ThrowingConsumer;
 import io.openems.common.types.ChannelAddress;
@@ -19,9 +20,31 @@ import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.ChannelId;
 import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.channel.value.PastValues;
+import io.openems.edge.common.channel.value.RingBufferPastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
+/**
+ * Base class for all Channels.
+ *
+ * <p>
+ * Besides the {@link Value} objects, the 'next' and 'active' values of numeric
+ * and boolean Channels can be held in primitive slots (raw bits plus a
+ * timestamp in epoch-milliseconds). Values set via the primitive setters of the
+ * typed Channels (e.g. {@link io.openems.edge.common.channel.IntegerReadChannel#setNextValueInt(int)})
+ * or via {@link #setNextValue(Object)} with a matching boxed type are stored in
+ * the slots; {@link Value} objects are only created once a legacy API like
+ * {@link #value()} or {@link #getNextValue()} asks for them.
+ *
+ * <p>
+ * Raw bits are: 1 or 0 for BOOLEAN, the value itself for SHORT, INTEGER and
+ * LONG, and {@link Double#doubleToRawLongBits(double)} for FLOAT and DOUBLE.
+ * STRING Channels always use {@link Value} objects.
+ *
+ * @param <D> the type of the Doc
+ * @param <T> the type of the Channel
+ */
 public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implements Channel<T> {
 
 	private final Logger log = LoggerFactory.getLogger(AbstractReadChannel.class);
@@ -34,23 +57,46 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	private final List<OnChangeBits> onChangeBitsCallbacks = new CopyOnWriteArrayList<>();
+	private final PastValues<T> pastValues;
+
+	/**
+	 * Guards the primitive slots, {@link #nextSwitched} and the creation of
+	 * {@link Value} objects from the primitive slots.
+	 */
+	private final Object slotLock = new Object();
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
-	 * {@link #nextProcessImage()}. Never null.
+	 * {@link #nextProcessImage()}. If null, the 'next' value is held in the
+	 * primitive slot {@link #nextBits} and {@link #nextTimestamp}; it is then
+	 * always defined.
 	 */
 	private volatile Value<T> nextValue = new Value<>(this, null);
+	private long nextBits = 0;
+	private long nextTimestamp = 0;
+
 	/**
-	 * The 'active' value of the Channel. Never null.
+	 * True if the 'next' value was already copied to 'active', i.e. no new value
+	 * was set since the last {@link #nextProcessImage()}.
+	 */
+	private boolean nextSwitched = false;
+
+	/**
+	 * The 'active' value of the Channel. If null, the 'active' value is held in
+	 * the primitive slot {@link #activeBits} and {@link #activeTimestamp}; it is
+	 * then always defined.
 	 */
 	private volatile Value<T> activeValue = new Value<>(this, null);
+	private long activeBits = 0;
+	private long activeTimestamp = 0;
 
 	protected AbstractReadChannel(OpenemsType type, OpenemsComponent parent, ChannelId channelId, D channelDoc) {
 		this.type = type;
 		this.parent = parent;
 		this.channelId = channelId;
 		this.channelDoc = channelDoc;
+		this.pastValues = new RingBufferPastValues<>(this, type);
 
 		// validate Type
 		if (!this.validateType(channelDoc.getType(), type)) {
@@ -82,9 +128,28 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		});
 	}
 
+	/**
+	 * Callback for changes of the 'active' value in raw bits; see
+	 * {@link AbstractReadChannel#onChangeBits(OnChangeBits)}.
+	 */
+	@FunctionalInterface
+	public interface OnChangeBits {
+
+		/**
+		 * Called when the 'active' value changed.
+		 *
+		 * @param wasDefined true if the old value was defined
+		 * @param oldBits    the raw bits of the old value; 0 if undefined
+		 * @param isDefined  true if the new value is defined
+		 * @param newBits    the raw bits of the new value; 0 if undefined
+		 */
+		public void accept(boolean wasDefined, long oldBits, boolean isDefined, long newBits);
+	}
+
 	@Override
 	public void deactivate() {
 		this.onChangeCallbacks.clear();
+		this.onChangeBitsCallbacks.clear();
 		this.onSetNextValueCallbacks.clear();
 		this.onUpdateCallbacks.clear();
 		if (this.onSetNextWriteCallbacks != null) {
@@ -109,23 +174,81 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 	@Override
 	public void nextProcessImage() {
-		var oldValue = this.activeValue;
-		var newValue = this.nextValue;
+		final boolean isNewValue;
+		Value<T> oldValue = null;
+		Value<T> newValue = null;
+		long bits = 0;
+		long timestamp = 0;
+		final var notifyBits = !this.onChangeBitsCallbacks.isEmpty();
+		var wasDefined = false;
+		var oldBits = 0L;
+		var isDefined = false;
+		var newBits = 0L;
+
+		synchronized (this.slotLock) {
+			isNewValue = !this.nextSwitched;
+			if (!isNewValue && this.onUpdateCallbacks.isEmpty()) {
+				// Fast path: no new value was set and nobody needs to be notified. The value
+				// is already the latest entry in 'pastValues'.
+				return;
+			}
+
+			if (notifyBits) {
+				wasDefined = this.isActiveDefinedLocked();
+				oldBits = this.getActiveBitsLocked();
+			}
+
+			if (this.nextValue == null && this.onUpdateCallbacks.isEmpty() && this.onChangeCallbacks.isEmpty()) {
+				// Primitive path: copy 'next' slot to 'active' slot without creating a Value
+				bits = this.activeBits = this.nextBits;
+				timestamp = this.activeTimestamp = this.nextTimestamp;
+				this.activeValue = null;
+
+			} else {
+				oldValue = this.getActiveValue();
+				newValue = this.getNextValue();
+				// Copy 'next' value to 'active' value
+				this.activeValue = newValue;
+			}
+			this.nextSwitched = true;
+
+			if (notifyBits) {
+				isDefined = this.isActiveDefinedLocked();
+				newBits = this.getActiveBitsLocked();
+			}
+		}
+
 		try {
+			// If value has changed -> call 'onChangeBits' callbacks
+			if (notifyBits && (wasDefined != isDefined || oldBits != newBits)) {
+				for (var callback : this.onChangeBitsCallbacks) {
+					callback.accept(wasDefined, oldBits, isDefined, newBits);
+				}
+			}
 
-			// Copy 'next' value to 'active' value
-			this.activeValue = newValue;
+			if (newValue == null) {
+				// Primitive path -> only append to 'pastValues'
+				this.appendPastValue(timestamp, bits);
+				return;
+			}
 
 			// Always -> call 'onUpdate' callbacks
-			this.onUpdateCallbacks.forEach(callback -> callback.accept(newValue));
+			if (!this.onUpdateCallbacks.isEmpty()) {
+				final var value = newValue;
+				this.onUpdateCallbacks.forEach(callback -> callback.accept(value));
+			}
 
 			// If value has changed -> call 'onChange' callbacks
-			if (!Objects.equals(oldValue.get(), newValue.get())) {
-				this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, newValue));
+			if (!this.onChangeCallbacks.isEmpty() && !Objects.equals(oldValue.get(), newValue.get())) {
+				final var oldV = oldValue;
+				final var newV = newValue;
+				this.onChangeCallbacks.forEach(callback -> callback.accept(oldV, newV));
 			}
 
 			// Additionally append to 'pastValues'
-			this.appendPastValue(newValue);
+			if (isNewValue) {
+				this.pastValues.append(newValue);
+			}
 
 		} catch (RuntimeException e) {
 			var component = this.parent != null ? this.parent.id() : "";
@@ -135,17 +258,12 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		}
 	}
 
-	/**
-	 * Appends a value to `pastValues` and deletes entries that are elder than
-	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
-	 * 
-	 * @param value a new {@link Value}
-	 */
-	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
+	private void appendPastValue(long timestamp, long bits) {
+		switch (this.type) {
+		case BOOLEAN, SHORT, INTEGER, LONG -> this.pastValues.appendLong(timestamp, bits);
+		case FLOAT, DOUBLE -> this.pastValues.appendDouble(timestamp, Double.longBitsToDouble(bits));
+		case STRING -> throw new IllegalArgumentException("STRING has no primitive representation");
+		}
 	}
 
 	@Override
@@ -171,7 +289,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	@Override
 	@Deprecated
 	public void _setNextValue(T value) {
-		if (this.channelDoc.getUnit().isCumulated() && this.activeValue.isDefined() && value == null) {
+		if (this.channelDoc.getUnit().isCumulated() && this.isDefined() && value == null) {
 			// Channel has CUMULATED Unit, currently holds a valid value and next value is
 			// 'null' -> ignore change to make sure the value is 'steadily increasing'.
 			if (this.channelDoc.isDebug()) {
@@ -181,20 +299,191 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 			return;
 		}
 
-		this.nextValue = new Value<>(this, value);
+		var nextValue = new Value<>(this, value);
+		synchronized (this.slotLock) {
+			this.nextValue = nextValue;
+			this.nextSwitched = false;
+		}
 		if (this.channelDoc.isDebug()) {
-			this.log.info("Next value for [" + this.address() + "]: " + this.nextValue.asString());
+			this.log.info("Next value for [" + this.address() + "]: " + nextValue.asString());
+		}
+		this.onSetNextValueCallbacks.forEach(callback -> callback.accept(nextValue));
+	}
+
+	/**
+	 * Updates the 'next value' of Channel.
+	 *
+	 * <p>
+	 * If the value already has the Java type of the Channel (or a narrower
+	 * numeric type), it is stored in the primitive slot without creating a
+	 * {@link Value}. Everything else is converted via
+	 * {@link Channel#setNextValue(Object)}.
+	 *
+	 * @param value the 'next value'
+	 */
+	@Override
+	public void setNextValue(Object value) {
+		var isPrimitive = switch (this.type) {
+		case BOOLEAN -> value instanceof Boolean;
+		case SHORT -> value instanceof Short;
+		case INTEGER -> value instanceof Integer || value instanceof Short;
+		case LONG -> value instanceof Long || value instanceof Integer || value instanceof Short;
+		case FLOAT -> value instanceof Float f && Float.isFinite(f);
+		case DOUBLE -> value instanceof Double d && Double.isFinite(d) || value instanceof Float f && Float.isFinite(f);
+		case STRING -> false;
+		};
+		if (isPrimitive) {
+			this.setNextValueBits(this.toBits(value));
+		} else {
+			Channel.super.setNextValue(value);
+		}
+	}
+
+	/**
+	 * Sets the next value from its raw bits without creating a {@link Value}.
+	 * Internal method for the primitive setters of the typed Channels.
+	 *
+	 * <p>
+	 * If onSetNextValue callbacks are registered, debug mode is activated or the
+	 * primitive slot is not supported (see {@link #isPrimitiveSlotSupported()}),
+	 * the value is set via {@link #_setNextValue(Object)}, because those require a
+	 * {@link Value}.
+	 *
+	 * @param bits the raw bits of a defined value
+	 */
+	protected final void setNextValueBits(long bits) {
+		if (!this.onSetNextValueCallbacks.isEmpty() || this.channelDoc.isDebug() || !this.isPrimitiveSlotSupported()) {
+			this._setNextValue(this.fromBits(bits));
+			return;
+		}
+		var timestamp = System.currentTimeMillis();
+		synchronized (this.slotLock) {
+			this.nextValue = null;
+			this.nextBits = bits;
+			this.nextTimestamp = timestamp;
+			this.nextSwitched = false;
+		}
+	}
+
+	/**
+	 * Is setting the next value via the primitive slot supported?. Channels that
+	 * override {@link #_setNextValue(Object)}, e.g. to debounce values, need to
+	 * return false here, so that every value passes their implementation.
+	 *
+	 * @return true if supported
+	 */
+	protected boolean isPrimitiveSlotSupported() {
+		return this.type != OpenemsType.STRING;
+	}
+
+	/**
+	 * Gets the raw bits of the active value without creating a {@link Value}.
+	 *
+	 * @return the raw bits
+	 * @throws InvalidValueException if the value is undefined
+	 */
+	protected final long getActiveBits() throws InvalidValueException {
+		this.assertReadable();
+		synchronized (this.slotLock) {
+			var activeValue = this.activeValue;
+			if (activeValue == null) {
+				return this.activeBits;
+			}
+			var value = activeValue.get();
+			if (value != null) {
+				return this.toBits(value);
+			}
 		}
-		this.onSetNextValueCallbacks.forEach(callback -> callback.accept(this.nextValue));
+		throw new InvalidValueException("Value for Channel [" + this.address() + "] is invalid.");
+	}
+
+	/**
+	 * Gets the raw bits of the active value without creating a {@link Value}; or
+	 * the given alternative if the value is undefined.
+	 *
+	 * @param alternative the raw bits of the alternative value
+	 * @return the raw bits
+	 */
+	protected final long getActiveBitsOrElse(long alternative) {
+		this.assertReadable();
+		synchronized (this.slotLock) {
+			var activeValue = this.activeValue;
+			if (activeValue == null) {
+				return this.activeBits;
+			}
+			var value = activeValue.get();
+			if (value != null) {
+				return this.toBits(value);
+			}
+		}
+		return alternative;
+	}
+
+	/**
+	 * Is the active value defined?. Same as {@code value().isDefined()} but
+	 * without creating a {@link Value}.
+	 *
+	 * @return true if the value is defined; false if it is UNDEFINED
+	 */
+	public boolean isDefined() {
+		var activeValue = this.activeValue;
+		return activeValue == null || activeValue.isDefined();
 	}
 
 	@Override
 	public Value<T> getNextValue() {
-		return this.nextValue;
+		var nextValue = this.nextValue;
+		if (nextValue != null) {
+			return nextValue;
+		}
+		synchronized (this.slotLock) {
+			if (this.nextValue == null) {
+				this.nextValue = new Value<>(this, this.fromBits(this.nextBits), this.nextTimestamp);
+			}
+			return this.nextValue;
+		}
 	}
 
 	@Override
 	public Value<T> value() throws IllegalArgumentException {
+		this.assertReadable();
+		return this.getActiveValue();
+	}
+
+	/**
+	 * Gets the 'active' value, creating the {@link Value} from the primitive slot
+	 * if required.
+	 *
+	 * @return the active value, never null
+	 */
+	private Value<T> getActiveValue() {
+		var activeValue = this.activeValue;
+		if (activeValue != null) {
+			return activeValue;
+		}
+		synchronized (this.slotLock) {
+			if (this.activeValue == null) {
+				this.activeValue = new Value<>(this, this.fromBits(this.activeBits), this.activeTimestamp);
+			}
+			return this.activeValue;
+		}
+	}
+
+	private boolean isActiveDefinedLocked() {
+		var activeValue = this.activeValue;
+		return activeValue == null || activeValue.isDefined();
+	}
+
+	private long getActiveBitsLocked() {
+		var activeValue = this.activeValue;
+		if (activeValue == null) {
+			return this.activeBits;
+		}
+		var value = activeValue.get();
+		return value == null ? 0L : this.toBits(value);
+	}
+
+	private void assertReadable() throws IllegalArgumentException {
 		switch (this.channelDoc.getAccessMode()) {
 		case WRITE_ONLY:
 			throw new IllegalArgumentException("Channel [" + this.channelId.id() + "] is WRITE_ONLY.");
@@ -202,7 +491,28 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		case READ_WRITE:
 			break;
 		}
-		return this.activeValue;
+	}
+
+	private long toBits(Object value) {
+		return switch (this.type) {
+		case BOOLEAN -> ((Boolean) value) ? 1L : 0L;
+		case SHORT, INTEGER, LONG -> ((Number) value).longValue();
+		case FLOAT, DOUBLE -> Double.doubleToRawLongBits(((Number) value).doubleValue());
+		case STRING -> throw new IllegalArgumentException("STRING has no primitive representation");
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private T fromBits(long bits) {
+		return (T) switch (this.type) {
+		case BOOLEAN -> Boolean.valueOf(bits != 0);
+		case SHORT -> Short.valueOf((short) bits);
+		case INTEGER -> Integer.valueOf((int) bits);
+		case LONG -> Long.valueOf(bits);
+		case FLOAT -> Float.valueOf((float) Double.longBitsToDouble(bits));
+		case DOUBLE -> Double.valueOf(Double.longBitsToDouble(bits));
+		case STRING -> throw new IllegalArgumentException("STRING has no primitive representation");
+		};
 	}
 
 	@Override
@@ -210,7 +520,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		return "Channel [" //
 				+ "ID=" + this.channelId.id() + ", " //
 				+ "type=" + this.type + ", " //
-				+ "activeValue=" + this.activeValue.asString() + ", "//
+				+ "activeValue=" + this.getActiveValue().asString() + ", "//
 				+ "access=" + this.channelDoc.getAccessMode() //
 				+ "]";
 	}
@@ -248,6 +558,36 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		this.onChangeCallbacks.remove(callback);
 	}
 
+	/**
+	 * Adds a Callback that is called on every change of the 'active' value with
+	 * the raw bits of the old and the new value.
+	 *
+	 * <p>
+	 * Unlike {@link #onChange(BiConsumer)} this does not require {@link Value}
+	 * objects, i.e. the Channel keeps switching its process image via the
+	 * primitive slots.
+	 *
+	 * @param callback the {@link OnChangeBits} callback
+	 * @return the same callback for convenience
+	 * @throws IllegalArgumentException for STRING Channels
+	 */
+	public OnChangeBits onChangeBits(OnChangeBits callback) throws IllegalArgumentException {
+		if (this.type == OpenemsType.STRING) {
+			throw new IllegalArgumentException("STRING has no primitive representation");
+		}
+		this.onChangeBitsCallbacks.add(callback);
+		return callback;
+	}
+
+	/**
+	 * Removes an {@link OnChangeBits} callback.
+	 *
+	 * @param callback the callback
+	 */
+	public void removeOnChangeBitsCallback(OnChangeBits callback) {
+		this.onChangeBitsCallbacks.remove(callback);
+	}
+
 	/*
 	 * This is to help WriteChannels implement the WriteChannel interface.
 	 * 'onSetNextWriteCallbacks' is not final by purpose, because it might be called
@@ -305,6 +645,11 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 */
 	@Override
 	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
+		return this.pastValues.asTreeMap();
+	}
+
+	@Override
+	public PastValues<T> pastValues() {
 		return this.pastValues;
 	}
 
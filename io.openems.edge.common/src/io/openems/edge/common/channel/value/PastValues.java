@@ -0,0 +1,184 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TreeMap;
+
+import io.openems.edge.common.channel.Channel;
+
+/**
+ * Holds the history of {@link Value}s of a {@link Channel} for
+ * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+ *
+ * <p>
+ * Entries are addressed by a logical index from 0 (oldest) to
+ * {@link #size()} - 1 (latest). Timestamps are epoch-milliseconds (see
+ * {@link Value#getTimestampMillis()}); {@link LocalDateTime}s are interpreted in
+ * the system default time-zone (see {@link #toMillis(LocalDateTime)}).
+ *
+ * <p>
+ * Use the primitive getters ({@link #getAsLong(int)},
+ * {@link #getAsDouble(int)}) together with {@link #rangeStart(long)} and
+ * {@link #rangeEnd(long)} to aggregate past values without allocating objects.
+ *
+ * @param <T> the type of the Channel
+ */
+public interface PastValues<T> {
+
+	/**
+	 * Appends a {@link Value}. Entries that are older than
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES} relative to the new {@link Value} are
+	 * removed.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public void append(Value<T> value);
+
+	/**
+	 * Appends an integer value without creating a {@link Value} object. Booleans
+	 * are expected as 1 or 0.
+	 *
+	 * @param timestamp the timestamp in epoch-milliseconds
+	 * @param value     the value
+	 * @see #append(Value)
+	 */
+	public void appendLong(long timestamp, long value);
+
+	/**
+	 * Appends a floating point value without creating a {@link Value} object.
+	 *
+	 * @param timestamp the timestamp in epoch-milliseconds
+	 * @param value     the value
+	 * @see #append(Value)
+	 */
+	public void appendDouble(long timestamp, double value);
+
+	/**
+	 * Gets the number of entries.
+	 *
+	 * @return the number of entries
+	 */
+	public int size();
+
+	/**
+	 * Gets the timestamp of the entry at the given index.
+	 *
+	 * @param index the index
+	 * @return the timestamp in epoch-milliseconds
+	 */
+	public long getTimestamp(int index);
+
+	/**
+	 * Is the value at the given index defined, i.e. not null?.
+	 *
+	 * @param index the index
+	 * @return true if the value is defined
+	 */
+	public boolean isDefined(int index);
+
+	/**
+	 * Gets the value at the given index as long. Booleans are converted to 1 or 0.
+	 * Only valid if {@link #isDefined(int)}.
+	 *
+	 * @param index the index
+	 * @return the value
+	 * @throws IllegalArgumentException if the type is not convertible
+	 */
+	public long getAsLong(int index) throws IllegalArgumentException;
+
+	/**
+	 * Gets the value at the given index as double. Booleans are converted to 1 or
+	 * 0. Only valid if {@link #isDefined(int)}.
+	 *
+	 * @param index the index
+	 * @return the value
+	 * @throws IllegalArgumentException if the type is not convertible
+	 */
+	public double getAsDouble(int index) throws IllegalArgumentException;
+
+	/**
+	 * Gets the boxed value at the given index.
+	 *
+	 * @param index the index
+	 * @return the value; possibly null
+	 */
+	public T get(int index);
+
+	/**
+	 * Gets the index of the latest entry with a timestamp less than or equal to
+	 * the given timestamp.
+	 *
+	 * @param timestamp the timestamp in epoch-milliseconds
+	 * @return the index; -1 if there is no such entry
+	 */
+	public int floorIndex(long timestamp);
+
+	/**
+	 * Gets the index of the oldest entry with a timestamp greater than or equal to
+	 * the given timestamp.
+	 *
+	 * @param timestamp the timestamp in epoch-milliseconds
+	 * @return the index; {@link #size()} if there is no such entry
+	 */
+	public int ceilingIndex(long timestamp);
+
+	/**
+	 * Gets the past values as a {@link TreeMap}. This creates {@link Value}
+	 * objects and should be avoided in performance-critical code.
+	 *
+	 * @return a map of recording time and historic value at that time
+	 */
+	public TreeMap<LocalDateTime, Value<T>> asTreeMap();
+
+	/**
+	 * Gets the first index of an aggregation period starting at 'from'.
+	 *
+	 * <p>
+	 * This is the latest entry before or at 'from', to make sure a value is
+	 * available even for Channels whose value has not changed within the period.
+	 *
+	 * @param from the start timestamp in epoch-milliseconds
+	 * @return the index
+	 */
+	public default int rangeStart(long from) {
+		var index = this.floorIndex(from);
+		if (index != -1) {
+			return index;
+		}
+		return this.ceilingIndex(from);
+	}
+
+	/**
+	 * Gets the exclusive last index of an aggregation period ending before 'to'.
+	 *
+	 * @param to the end timestamp in epoch-milliseconds (exclusive)
+	 * @return the index
+	 */
+	public default int rangeEnd(long to) {
+		return this.ceilingIndex(to);
+	}
+
+	/**
+	 * Converts a {@link LocalDateTime} to the epoch-milliseconds representation
+	 * used by {@link PastValues}.
+	 *
+	 * @param timestamp the {@link LocalDateTime}
+	 * @return the epoch-milliseconds
+	 */
+	public static long toMillis(LocalDateTime timestamp) {
+		return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * Converts epoch-milliseconds used by {@link PastValues} to a
+	 * {@link LocalDateTime}.
+	 *
+	 * @param timestamp the epoch-milliseconds
+	 * @return the {@link LocalDateTime}
+	 */
+	public static LocalDateTime toLocalDateTime(long timestamp) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+	}
+
+}
@@ -0,0 +1,330 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAmount;
+import java.util.Arrays;
+import java.util.TreeMap;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+
+/**
+ * A {@link PastValues} implementation on top of primitive, growable ring
+ * buffers.
+ *
+ * <p>
+ * Depending on the {@link OpenemsType} values are stored in a long column
+ * (BOOLEAN, SHORT, INTEGER, LONG), a double column (FLOAT, DOUBLE) or an object
+ * column (STRING). Undefined values are marked in a bitmap. Appending a value
+ * does not allocate, unless the capacity needs to grow. Use
+ * {@link #appendLong(long, long)} and {@link #appendDouble(long, double)} to
+ * avoid creating a {@link Value} in the first place.
+ *
+ * <p>
+ * Timestamps are expected to be monotonic. If a value is appended with a
+ * timestamp that is older than the latest entry (e.g. because the system clock
+ * was set back), the history is cleared.
+ *
+ * @param <T> the type of the Channel
+ */
+public class RingBufferPastValues<T> implements PastValues<T> {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final Channel<T> channel;
+	private final OpenemsType type;
+	private final long maxAge;
+
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private long[] longs = null;
+	private double[] doubles = null;
+	private Object[] objects = null;
+	private long[] undefined = new long[bitmapLength(INITIAL_CAPACITY)];
+
+	/** Physical index of the oldest entry. */
+	private int head = 0;
+	private int size = 0;
+
+	/** Cache for {@link #asTreeMap()}. */
+	private TreeMap<LocalDateTime, Value<T>> treeMap = null;
+
+	public RingBufferPastValues(Channel<T> channel, OpenemsType type) {
+		this(channel, type, Channel.MAX_AGE_OF_PAST_VALUES);
+	}
+
+	public RingBufferPastValues(Channel<T> channel, OpenemsType type, TemporalAmount maxAge) {
+		this.channel = channel;
+		this.type = type;
+		this.maxAge = Duration.from(maxAge).toMillis();
+		switch (type) {
+		case BOOLEAN, SHORT, INTEGER, LONG -> this.longs = new long[INITIAL_CAPACITY];
+		case FLOAT, DOUBLE -> this.doubles = new double[INITIAL_CAPACITY];
+		case STRING -> this.objects = new Object[INITIAL_CAPACITY];
+		}
+	}
+
+	@Override
+	public void append(Value<T> value) {
+		var v = value.get();
+		var index = this.prepareAppend(value.getTimestampMillis());
+		this.setUndefined(index, v == null);
+		if (v != null) {
+			switch (this.type) {
+			case BOOLEAN -> this.longs[index] = ((Boolean) v) ? 1L : 0L;
+			case SHORT, INTEGER, LONG -> this.longs[index] = ((Number) v).longValue();
+			case FLOAT, DOUBLE -> this.doubles[index] = ((Number) v).doubleValue();
+			case STRING -> this.objects[index] = v;
+			}
+		} else if (this.objects != null) {
+			this.objects[index] = null;
+		}
+		this.size++;
+	}
+
+	@Override
+	public void appendLong(long timestamp, long value) {
+		if (this.longs == null) {
+			throw new IllegalArgumentException("Unable to append LONG to " + this.type);
+		}
+		var index = this.prepareAppend(timestamp);
+		this.setUndefined(index, false);
+		this.longs[index] = value;
+		this.size++;
+	}
+
+	@Override
+	public void appendDouble(long timestamp, double value) {
+		if (this.doubles == null) {
+			throw new IllegalArgumentException("Unable to append DOUBLE to " + this.type);
+		}
+		var index = this.prepareAppend(timestamp);
+		this.setUndefined(index, false);
+		this.doubles[index] = value;
+		this.size++;
+	}
+
+	/**
+	 * Makes room for a new entry at the given timestamp and sets the timestamp.
+	 * The caller is responsible for setting the value and increasing the size.
+	 *
+	 * @param timestamp the timestamp in epoch-milliseconds
+	 * @return the physical index of the new entry
+	 */
+	private int prepareAppend(long timestamp) {
+		if (this.size > 0) {
+			var latest = this.getTimestamp(this.size - 1);
+			if (timestamp < latest) {
+				// Clock was set back
+				this.clear();
+			} else if (timestamp == latest) {
+				// Replace latest entry
+				this.size--;
+			}
+		}
+
+		// Remove entries older than 'maxAge'
+		final var compareTime = timestamp - this.maxAge;
+		while (this.size > 0 && this.timestamps[this.head] < compareTime) {
+			if (this.objects != null) {
+				this.objects[this.head] = null;
+			}
+			this.head = (this.head + 1) % this.timestamps.length;
+			this.size--;
+		}
+
+		if (this.size == this.timestamps.length) {
+			this.grow();
+		}
+
+		var index = (this.head + this.size) % this.timestamps.length;
+		this.timestamps[index] = timestamp;
+		this.treeMap = null;
+		return index;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public long getTimestamp(int index) {
+		return this.timestamps[this.physical(index)];
+	}
+
+	@Override
+	public boolean isDefined(int index) {
+		var physical = this.physical(index);
+		return (this.undefined[physical / Long.SIZE] & (1L << (physical % Long.SIZE))) == 0;
+	}
+
+	@Override
+	public long getAsLong(int index) throws IllegalArgumentException {
+		var physical = this.physical(index);
+		return switch (this.type) {
+		case BOOLEAN, SHORT, INTEGER, LONG -> this.longs[physical];
+		case FLOAT, DOUBLE -> Math.round(this.doubles[physical]);
+		case STRING -> throw new IllegalArgumentException("Unable to convert STRING to LONG");
+		};
+	}
+
+	@Override
+	public double getAsDouble(int index) throws IllegalArgumentException {
+		var physical = this.physical(index);
+		return switch (this.type) {
+		case BOOLEAN, SHORT, INTEGER, LONG -> this.longs[physical];
+		case FLOAT, DOUBLE -> this.doubles[physical];
+		case STRING -> throw new IllegalArgumentException("Unable to convert STRING to DOUBLE");
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (!this.isDefined(index)) {
+			return null;
+		}
+		var physical = this.physical(index);
+		final Object result;
+		switch (this.type) {
+		case BOOLEAN:
+			result = Boolean.valueOf(this.longs[physical] != 0);
+			break;
+		case SHORT:
+			result = Short.valueOf((short) this.longs[physical]);
+			break;
+		case INTEGER:
+			result = Integer.valueOf((int) this.longs[physical]);
+			break;
+		case LONG:
+			result = Long.valueOf(this.longs[physical]);
+			break;
+		case FLOAT:
+			result = Float.valueOf((float) this.doubles[physical]);
+			break;
+		case DOUBLE:
+			result = Double.valueOf(this.doubles[physical]);
+			break;
+		case STRING:
+		default:
+			result = this.objects[physical];
+			break;
+		}
+		return (T) result;
+	}
+
+	@Override
+	public int floorIndex(long timestamp) {
+		// binary search for the last entry <= timestamp
+		int low = 0;
+		int high = this.size - 1;
+		int result = -1;
+		while (low <= high) {
+			var mid = (low + high) >>> 1;
+			if (this.getTimestamp(mid) <= timestamp) {
+				result = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public int ceilingIndex(long timestamp) {
+		// binary search for the first entry >= timestamp
+		int low = 0;
+		int high = this.size - 1;
+		int result = this.size;
+		while (low <= high) {
+			var mid = (low + high) >>> 1;
+			if (this.getTimestamp(mid) >= timestamp) {
+				result = mid;
+				high = mid - 1;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public TreeMap<LocalDateTime, Value<T>> asTreeMap() {
+		var result = this.treeMap;
+		if (result == null) {
+			result = new TreeMap<>();
+			for (var i = 0; i < this.size; i++) {
+				var timestamp = this.getTimestamp(i);
+				result.put(PastValues.toLocalDateTime(timestamp), new Value<>(this.channel, this.get(i), timestamp));
+			}
+			this.treeMap = result;
+		}
+		return result;
+	}
+
+	private int physical(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+		}
+		return (this.head + index) % this.timestamps.length;
+	}
+
+	private void setUndefined(int physical, boolean undefined) {
+		var mask = 1L << (physical % Long.SIZE);
+		if (undefined) {
+			this.undefined[physical / Long.SIZE] |= mask;
+		} else {
+			this.undefined[physical / Long.SIZE] &= ~mask;
+		}
+	}
+
+	private static int bitmapLength(int capacity) {
+		return (capacity + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	private void clear() {
+		if (this.objects != null) {
+			Arrays.fill(this.objects, null);
+		}
+		this.head = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Doubles the capacity and moves all entries to the beginning of the arrays.
+	 */
+	private void grow() {
+		var oldCapacity = this.timestamps.length;
+		var newCapacity = oldCapacity * 2;
+		var timestamps = new long[newCapacity];
+		var longs = this.longs != null ? new long[newCapacity] : null;
+		var doubles = this.doubles != null ? new double[newCapacity] : null;
+		var objects = this.objects != null ? new Object[newCapacity] : null;
+		var undefined = new long[bitmapLength(newCapacity)];
+		for (var i = 0; i < this.size; i++) {
+			var physical = (this.head + i) % oldCapacity;
+			timestamps[i] = this.timestamps[physical];
+			if (longs != null) {
+				longs[i] = this.longs[physical];
+			}
+			if (doubles != null) {
+				doubles[i] = this.doubles[physical];
+			}
+			if (objects != null) {
+				objects[i] = this.objects[physical];
+			}
+			if ((this.undefined[physical / Long.SIZE] & (1L << (physical % Long.SIZE))) != 0) {
+				undefined[i / Long.SIZE] |= 1L << (i % Long.SIZE);
+			}
+		}
+		this.timestamps = timestamps;
+		this.longs = longs;
+		this.doubles = doubles;
+		this.objects = objects;
+		this.undefined = undefined;
+		this.head = 0;
+	}
+
+}
@@ -43,12 +43,20 @@ public class Value<T> {
 
 	private final Channel<T> parent;
 	private final T value;
-	private final LocalDateTime timestamp;
+	private final long timestamp;
 
 	public Value(Channel<T> parent, T value) {
+		this(parent, value, System.currentTimeMillis());
+	}
+
+	public Value(Channel<T> parent, T value, LocalDateTime timestamp) {
+		this(parent, value, PastValues.toMillis(timestamp));
+	}
+
+	public Value(Channel<T> parent, T value, long timestamp) {
 		this.parent = parent;
 		this.value = value;
-		this.timestamp = LocalDateTime.now();
+		this.timestamp = timestamp;
 	}
 
 	/**
@@ -227,6 +235,15 @@ public class Value<T> {
 	 * @return the timestamp
 	 */
 	public LocalDateTime getTimestamp() {
+		return PastValues.toLocalDateTime(this.timestamp);
+	}
+
+	/**
+	 * Gets the timestamp when the value was created in epoch-milliseconds.
+	 *
+	 * @return the timestamp
+	 */
+	public long getTimestampMillis() {
 		return this.timestamp;
 	}
 }
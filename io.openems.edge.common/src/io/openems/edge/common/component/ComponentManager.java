@@ -248,6 +248,19 @@ public interface ComponentManager extends OpenemsComponent, JsonApi, ClockProvid
 	 */
 	public <T extends OpenemsComponent> T getPossiblyDisabledComponent(String componentId) throws OpenemsNamedException;
 
+	/**
+	 * Gets the generation of the set of OpenEMS-Components.
+	 *
+	 * <p>
+	 * The value changes whenever a Component is added, removed or reconfigured.
+	 * Callers may use it to cache data that is derived from the results of
+	 * {@link #getEnabledComponents()} and similar methods and to rebuild it only
+	 * if the generation changed.
+	 *
+	 * @return the generation
+	 */
+	public long getComponentsGeneration();
+
 	/**
 	 * Gets a Channel by its Channel-Address.
 	 *
@@ -27,6 +27,49 @@ public interface Cycle extends OpenemsComponent {
 		 */
 		MEASURED_CYCLE_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Duration of switching the process image of all Channels in [us].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PROCESS_IMAGE_SWITCH_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)),
+		/**
+		 * Number of Cycles that overran their deadline since activation.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * <li>Only available in deadline mode
+		 * </ul>
+		 */
+		CYCLE_OVERRUNS(Doc.of(OpenemsType.LONG)),
+		/**
+		 * Number of times low-priority work was skipped or deferred because the
+		 * Cycle deadline was at risk, since activation.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * <li>Only available in deadline mode
+		 * </ul>
+		 */
+		SKIPPED_LOW_PRIORITY_WORK(Doc.of(OpenemsType.LONG)),
+		/**
+		 * Delay of the actual start of the Cycle compared to its scheduled start in
+		 * [us].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * <li>Only available in deadline mode
+		 * </ul>
+		 */
+		CYCLE_JITTER(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)),
 		/**
 		 * A configured Controller is not executed because it is disabled.
 		 *
@@ -88,6 +131,119 @@ public interface Cycle extends OpenemsComponent {
 		this.getMeasuredCycleTimeChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#PROCESS_IMAGE_SWITCH_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getProcessImageSwitchDurationChannel() {
+		return this.channel(ChannelId.PROCESS_IMAGE_SWITCH_DURATION);
+	}
+
+	/**
+	 * Gets the Process Image Switch Duration in [us]. See
+	 * {@link ChannelId#PROCESS_IMAGE_SWITCH_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getProcessImageSwitchDuration() {
+		return this.getProcessImageSwitchDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROCESS_IMAGE_SWITCH_DURATION} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProcessImageSwitchDuration(long value) {
+		this.getProcessImageSwitchDurationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CYCLE_OVERRUNS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCycleOverrunsChannel() {
+		return this.channel(ChannelId.CYCLE_OVERRUNS);
+	}
+
+	/**
+	 * Gets the number of Cycle Overruns. See {@link ChannelId#CYCLE_OVERRUNS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getCycleOverruns() {
+		return this.getCycleOverrunsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CYCLE_OVERRUNS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCycleOverruns(long value) {
+		this.getCycleOverrunsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SKIPPED_LOW_PRIORITY_WORK}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getSkippedLowPriorityWorkChannel() {
+		return this.channel(ChannelId.SKIPPED_LOW_PRIORITY_WORK);
+	}
+
+	/**
+	 * Gets the number of skipped Low-Priority Work items. See {@link ChannelId#SKIPPED_LOW_PRIORITY_WORK}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getSkippedLowPriorityWork() {
+		return this.getSkippedLowPriorityWorkChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SKIPPED_LOW_PRIORITY_WORK}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSkippedLowPriorityWork(long value) {
+		this.getSkippedLowPriorityWorkChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CYCLE_JITTER}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCycleJitterChannel() {
+		return this.channel(ChannelId.CYCLE_JITTER);
+	}
+
+	/**
+	 * Gets the Cycle Jitter in [us]. See {@link ChannelId#CYCLE_JITTER}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getCycleJitter() {
+		return this.getCycleJitterChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CYCLE_JITTER}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCycleJitter(long value) {
+		this.getCycleJitterChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#IGNORE_DISABLED_CONTROLLER}.
 	 *
@@ -117,6 +273,21 @@ public interface Cycle extends OpenemsComponent {
 		this.getIgnoreDisabledControllerChannel().setNextValue(value);
 	}
 
+	/**
+	 * Asks whether low-priority work - e.g. debug logging or collecting aggregated
+	 * data - may be executed in the current Cycle.
+	 *
+	 * <p>
+	 * Returns false if the Cycle deadline is at risk. The caller is then expected
+	 * to skip its work or to defer it to a later Cycle; this is counted in
+	 * {@link ChannelId#SKIPPED_LOW_PRIORITY_WORK}.
+	 *
+	 * @return true if the work may be executed
+	 */
+	public default boolean allowLowPriorityWork() {
+		return true;
+	}
+
 	/**
 	 * Gets the duration of one global OpenEMS Cycle in [ms].
 	 *
@@ -0,0 +1,49 @@
+package io.openems.edge.common.event;
+
+/**
+ * The events of the Core.Cycle in the order of their execution. Each event
+ * corresponds to one EventAdmin topic in {@link EdgeEventConstants}.
+ *
+ * <p>
+ * See {@link CycleEventListener}.
+ */
+public enum CycleEvent {
+	BEFORE_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE), //
+	AFTER_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE), //
+	BEFORE_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS), //
+	AFTER_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS), //
+	BEFORE_WRITE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE), //
+	EXECUTE_WRITE(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE), //
+	AFTER_WRITE(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+
+	private final String topic;
+
+	private CycleEvent(String topic) {
+		this.topic = topic;
+	}
+
+	/**
+	 * Gets the EventAdmin topic.
+	 *
+	 * @return the topic
+	 */
+	public String getTopic() {
+		return this.topic;
+	}
+
+	/**
+	 * Gets the {@link CycleEvent} for an EventAdmin topic.
+	 *
+	 * @param topic the topic
+	 * @return the {@link CycleEvent}; null if the topic is not a Cycle topic
+	 */
+	public static CycleEvent fromTopic(String topic) {
+		for (var event : values()) {
+			if (event.topic.equals(topic)) {
+				return event;
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,113 @@
+package io.openems.edge.common.event;
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches {@link CycleEvent}s to {@link CycleEventListener}s.
+ *
+ * <p>
+ * The listeners are held in one precomputed array per {@link CycleEvent}, which
+ * is replaced on every (rare) registration change. Dispatching an event only
+ * iterates the current array: it is lock-free and does not allocate.
+ */
+public class CycleEventBus {
+
+	private static final CycleEventListener[] NO_LISTENERS = {};
+
+	private final Logger log = LoggerFactory.getLogger(CycleEventBus.class);
+
+	/** Listeners per {@link CycleEvent#ordinal()}; copy-on-write. */
+	private volatile CycleEventListener[][] listeners;
+
+	public CycleEventBus() {
+		var listeners = new CycleEventListener[CycleEvent.values().length][];
+		Arrays.fill(listeners, NO_LISTENERS);
+		this.listeners = listeners;
+	}
+
+	/**
+	 * Adds a {@link CycleEventListener} for all its
+	 * {@link CycleEventListener#getCycleEvents()}.
+	 *
+	 * @param listener the {@link CycleEventListener}
+	 */
+	public synchronized void addListener(CycleEventListener listener) {
+		var events = listener.getCycleEvents();
+		if (events == null || events.isEmpty()) {
+			return;
+		}
+		var listeners = this.listeners.clone();
+		for (var event : events) {
+			var current = listeners[event.ordinal()];
+			var updated = Arrays.copyOf(current, current.length + 1);
+			updated[current.length] = listener;
+			listeners[event.ordinal()] = updated;
+		}
+		this.listeners = listeners;
+	}
+
+	/**
+	 * Removes a {@link CycleEventListener}.
+	 *
+	 * @param listener the {@link CycleEventListener}
+	 */
+	public synchronized void removeListener(CycleEventListener listener) {
+		var listeners = this.listeners.clone();
+		for (var i = 0; i < listeners.length; i++) {
+			listeners[i] = Arrays.stream(listeners[i]) //
+					.filter(l -> l != listener) //
+					.toArray(CycleEventListener[]::new);
+		}
+		this.listeners = listeners;
+	}
+
+	/**
+	 * Gets the number of {@link CycleEventListener}s for a {@link CycleEvent}.
+	 *
+	 * @param event the {@link CycleEvent}
+	 * @return the number of listeners
+	 */
+	public int getListenerCount(CycleEvent event) {
+		return this.listeners[event.ordinal()].length;
+	}
+
+	/**
+	 * Dispatches a {@link CycleEvent} synchronously to all its listeners.
+	 *
+	 * <p>
+	 * Like EventAdmin, an Exception in one listener is logged and does not stop
+	 * the dispatching to the other listeners.
+	 *
+	 * @param event      the {@link CycleEvent}
+	 * @param onDuration callback for the duration of each listener call in [ns];
+	 *                   null to skip measuring
+	 */
+	public void dispatch(CycleEvent event, ObjLongConsumer<CycleEventListener> onDuration) {
+		for (var listener : this.listeners[event.ordinal()]) {
+			var start = onDuration != null ? System.nanoTime() : 0L;
+			try {
+				listener.onCycleEvent(event);
+			} catch (RuntimeException e) {
+				this.log.warn("Error in CycleEventListener [" + listener + "] on [" + event + "]. "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			}
+			if (onDuration != null) {
+				onDuration.accept(listener, System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Dispatches a {@link CycleEvent} synchronously to all its listeners.
+	 *
+	 * @param event the {@link CycleEvent}
+	 */
+	public void dispatch(CycleEvent event) {
+		this.dispatch(event, null);
+	}
+
+}
@@ -0,0 +1,49 @@
+package io.openems.edge.common.event;
+
+import java.util.Set;
+
+/**
+ * A listener for {@link CycleEvent}s.
+ *
+ * <p>
+ * Components that implement this interface and register it as OSGi service are
+ * called directly by the Core.Cycle, without dispatching via EventAdmin. This
+ * avoids topic matching and the allocation of an Event object per handler and
+ * event. Implementations must not additionally register as EventHandler for the
+ * same topics.
+ *
+ * <pre>
+ * &#64;Component(...)
+ * public class MyComponentImpl extends AbstractOpenemsComponent implements MyComponent, CycleEventListener {
+ *
+ * 	&#64;Override
+ * 	public Set&lt;CycleEvent&gt; getCycleEvents() {
+ * 		return EnumSet.of(CycleEvent.BEFORE_PROCESS_IMAGE);
+ * 	}
+ *
+ * 	&#64;Override
+ * 	public void onCycleEvent(CycleEvent event) {
+ * 		...
+ * 	}
+ * }
+ * </pre>
+ */
+public interface CycleEventListener {
+
+	/**
+	 * Gets the {@link CycleEvent}s this listener subscribes to. Evaluated once on
+	 * registration.
+	 *
+	 * @return a Set of {@link CycleEvent}s
+	 */
+	public Set<CycleEvent> getCycleEvents();
+
+	/**
+	 * Called synchronously by the Core.Cycle for every subscribed
+	 * {@link CycleEvent}.
+	 *
+	 * @param event the {@link CycleEvent}
+	 */
+	public void onCycleEvent(CycleEvent event);
+
+}
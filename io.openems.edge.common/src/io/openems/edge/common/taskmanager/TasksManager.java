@@ -20,6 +20,11 @@ public class TasksManager<T extends ManagedTask> {
 
 	private int nextTaskIndex = 0;
 
+	/**
+	 * Incremented on every change of the list of Tasks.
+	 */
+	private volatile int modificationCount = 0;
+
 	@SafeVarargs
 	public TasksManager(T... tasks) {
 		this.addTasks(tasks);
@@ -55,6 +60,7 @@ public class TasksManager<T extends ManagedTask> {
 	 */
 	public synchronized void addTask(T task) {
 		this.tasks.add(task);
+		this.modificationCount++;
 	}
 
 	/**
@@ -63,7 +69,9 @@ public class TasksManager<T extends ManagedTask> {
 	 * @param task the Task
 	 */
 	public synchronized void removeTask(T task) {
-		this.tasks.remove(task);
+		if (this.tasks.remove(task)) {
+			this.modificationCount++;
+		}
 	}
 
 	/**
@@ -71,6 +79,7 @@ public class TasksManager<T extends ManagedTask> {
 	 */
 	public synchronized void clearAll() {
 		this.tasks.clear();
+		this.modificationCount++;
 	}
 
 	/**
@@ -82,6 +91,16 @@ public class TasksManager<T extends ManagedTask> {
 		return this.tasks.size();
 	}
 
+	/**
+	 * Gets the modification count, i.e. a number that changes whenever a Task is
+	 * added or removed. Allows users to cache data derived from the list of Tasks.
+	 *
+	 * @return the modification count
+	 */
+	public int getModificationCount() {
+		return this.modificationCount;
+	}
+
 	/**
 	 * Gets all Tasks.
 	 *
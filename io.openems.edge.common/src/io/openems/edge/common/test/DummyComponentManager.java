@@ -42,6 +42,7 @@ public class DummyComponentManager implements ComponentManager {
 
 	private final List<OpenemsComponent> components = new ArrayList<>();
 	private final Clock clock;
+	private long componentsGeneration = 0;
 	private JsonObject edgeConfigJson;
 
 	private ConfigurationAdmin configurationAdmin = null;
@@ -114,10 +115,16 @@ public class DummyComponentManager implements ComponentManager {
 	public DummyComponentManager addComponent(OpenemsComponent component) {
 		if (component != this) {
 			this.components.add(component);
+			this.componentsGeneration++;
 		}
 		return this;
 	}
 
+	@Override
+	public long getComponentsGeneration() {
+		return this.componentsGeneration;
+	}
+
 	/**
 	 * Sets a {@link EdgeConfig} json.
 	 *
@@ -0,0 +1,73 @@
+package io.openems.edge.common.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.InvalidValueException;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+
+public class IntegerReadChannelTest {
+
+	private static IntegerReadChannel createChannel() {
+		return new DummySum().<IntegerReadChannel>channel(Sum.ChannelId.GRID_ACTIVE_POWER);
+	}
+
+	@Test
+	public void testPrimitivePath() throws InvalidValueException {
+		var sut = createChannel();
+		sut.nextProcessImage();
+		assertFalse(sut.isDefined());
+		assertEquals(7, sut.getAsIntOrElse(7));
+		assertThrows(InvalidValueException.class, () -> sut.getAsInt());
+
+		sut.setNextValueInt(5);
+		assertEquals(Integer.valueOf(5), sut.getNextValue().get());
+		assertNull(sut.value().get());
+
+		sut.nextProcessImage();
+		assertTrue(sut.isDefined());
+		assertEquals(5, sut.getAsInt());
+		assertEquals(Integer.valueOf(5), sut.value().get());
+		assertEquals(5, sut.pastValues().getAsLong(sut.pastValues().size() - 1));
+
+		// Boxed value of matching type uses the primitive slot as well
+		sut.setNextValue(Integer.valueOf(6));
+		sut.nextProcessImage();
+		assertEquals(6, sut.getAsInt());
+		assertEquals(Integer.valueOf(6), sut.value().get());
+
+		// Conversion still works
+		sut.setNextValue("8");
+		sut.nextProcessImage();
+		assertEquals(8, sut.getAsInt());
+
+		sut.setNextValue(null);
+		sut.nextProcessImage();
+		assertFalse(sut.isDefined());
+		assertEquals(-1, sut.getAsIntOrElse(-1));
+	}
+
+	@Test
+	public void testCallbacks() {
+		var sut = createChannel();
+		var onSetNextValue = new AtomicInteger();
+		var onChange = new AtomicInteger();
+		sut.onSetNextValue(value -> onSetNextValue.set(value.get()));
+		sut.onChange((oldValue, newValue) -> onChange.set(newValue.get()));
+
+		sut.setNextValueInt(10);
+		assertEquals(10, onSetNextValue.get());
+		sut.nextProcessImage();
+		assertEquals(10, onChange.get());
+		assertEquals(10, sut.getAsIntOrElse(0));
+	}
+
+}
@@ -0,0 +1,90 @@
+package io.openems.edge.common.channel.calculate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
+
+public class IncrementalSumTest {
+
+	private enum TestChannelId implements ChannelId {
+		INTEGER_0(Doc.of(OpenemsType.INTEGER)), //
+		INTEGER_1(Doc.of(OpenemsType.INTEGER)), //
+		LONG_0(Doc.of(OpenemsType.LONG));
+
+		private final Doc doc;
+
+		TestChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	@Test
+	public void testInteger() {
+		IntegerReadChannel c0 = TestChannelId.INTEGER_0.doc().createChannelInstance(null, TestChannelId.INTEGER_0);
+		IntegerReadChannel c1 = TestChannelId.INTEGER_1.doc().createChannelInstance(null, TestChannelId.INTEGER_1);
+		c0.setNextValueInt(100);
+		c0.nextProcessImage();
+
+		var sut = new IncrementalSum();
+		sut.addChannel(c0);
+		sut.addChannel(c1, IncrementalSum.DIVIDE_BY_THREE);
+		assertEquals(Integer.valueOf(100), sut.calculateInteger());
+
+		// Change of a source value is applied without re-adding the Channels
+		c1.setNextValueInt(30);
+		c1.nextProcessImage();
+		assertEquals(Integer.valueOf(110), sut.calculateInteger());
+
+		// Boxed path also notifies changes
+		c0.setNextValue("50");
+		c0.nextProcessImage();
+		assertEquals(Integer.valueOf(60), sut.calculateInteger());
+
+		// Undefined values do not contribute
+		c0.setNextValue(null);
+		c0.nextProcessImage();
+		assertEquals(Integer.valueOf(10), sut.calculateInteger());
+		c1.setNextValue(null);
+		c1.nextProcessImage();
+		assertFalse(sut.isDefined());
+		assertNull(sut.calculateInteger());
+
+		// Cleared sums are no longer updated
+		sut.clear();
+		c0.setNextValueInt(1);
+		c0.nextProcessImage();
+		assertNull(sut.calculateInteger());
+	}
+
+	@Test
+	public void testLong() {
+		LongReadChannel c0 = TestChannelId.LONG_0.doc().createChannelInstance(null, TestChannelId.LONG_0);
+
+		var sut = new IncrementalSum();
+		sut.addChannel(c0);
+		assertNull(sut.calculateLong());
+
+		c0.setNextValueLong(5_000_000_000L);
+		c0.nextProcessImage();
+		assertEquals(Long.valueOf(5_000_000_000L), sut.calculateLong());
+
+		// Unchanged value
+		c0.setNextValueLong(5_000_000_000L);
+		c0.nextProcessImage();
+		assertEquals(Long.valueOf(5_000_000_000L), sut.calculateLong());
+	}
+
+}
@@ -0,0 +1,77 @@
+package io.openems.edge.common.channel.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+
+public class RingBufferPastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+	@Test
+	public void testAppendAndEvict() {
+		final Channel<Integer> channel = new DummySum().channel(Sum.ChannelId.GRID_ACTIVE_POWER);
+		var sut = new RingBufferPastValues<>(channel, OpenemsType.INTEGER, Duration.ofSeconds(10));
+
+		for (var i = 0; i < 100; i++) {
+			sut.append(new Value<>(channel, i % 7 == 0 ? null : i, START.plusSeconds(i)));
+		}
+
+		// Entries older than 10 seconds are evicted
+		assertEquals(11, sut.size());
+		assertEquals(PastValues.toMillis(START.plusSeconds(89)), sut.getTimestamp(0));
+		assertEquals(89, sut.getAsLong(0));
+		assertEquals(99.0, sut.getAsDouble(10), 0.001);
+
+		// 91 = 7 * 13 -> undefined
+		var index = sut.floorIndex(PastValues.toMillis(START.plusSeconds(91)));
+		assertEquals(2, index);
+		assertFalse(sut.isDefined(index));
+		assertNull(sut.get(index));
+		assertTrue(sut.isDefined(index + 1));
+		assertEquals(Integer.valueOf(92), sut.get(index + 1));
+
+		// Range queries
+		var from = PastValues.toMillis(START.plusSeconds(90).plusNanos(500_000_000));
+		assertEquals(1, sut.floorIndex(from));
+		assertEquals(2, sut.ceilingIndex(from));
+		assertEquals(1, sut.rangeStart(from));
+		assertEquals(-1, sut.floorIndex(PastValues.toMillis(START)));
+		assertEquals(0, sut.rangeStart(PastValues.toMillis(START)));
+		assertEquals(11, sut.rangeEnd(PastValues.toMillis(START.plusSeconds(100))));
+
+		// Legacy view
+		var treeMap = sut.asTreeMap();
+		assertEquals(11, treeMap.size());
+		assertEquals(Integer.valueOf(99), treeMap.lastEntry().getValue().get());
+		assertEquals(START.plusSeconds(99), treeMap.lastKey());
+	}
+
+	@Test
+	public void testSameTimestampAndClockSetBack() {
+		final Channel<Integer> channel = new DummySum().channel(Sum.ChannelId.GRID_ACTIVE_POWER);
+		var sut = new RingBufferPastValues<>(channel, OpenemsType.INTEGER, Duration.ofSeconds(10));
+
+		sut.append(new Value<>(channel, 1, START));
+		sut.append(new Value<>(channel, 2, START));
+		assertEquals(1, sut.size());
+		assertEquals(2, sut.getAsLong(0));
+
+		sut.append(new Value<>(channel, 3, START.plusSeconds(1)));
+		sut.append(new Value<>(channel, 4, START.minusSeconds(1)));
+		assertEquals(1, sut.size());
+		assertEquals(4, sut.getAsLong(0));
+	}
+
+}
@@ -0,0 +1,129 @@
+package io.openems.edge.common.event;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventHandler;
+
+import io.openems.common.event.EventBuilder;
+
+/**
+ * This little application compares the dispatch cost per handler of the
+ * {@link CycleEventBus} with the EventAdmin path used via
+ * {@link EventBuilder#send(EventAdmin, String)}.
+ *
+ * <p>
+ * The EventAdmin is simulated by a minimal implementation with a precomputed
+ * topic-to-handler lookup, i.e. the results are a lower bound for the cost of
+ * a real EventAdmin, which additionally evaluates filters, permissions and
+ * handler timeouts.
+ */
+public class CycleEventBusBenchmarkApp {
+
+	private static final int HANDLERS = 50;
+	private static final int WARMUP_CYCLES = 200_000;
+	private static final int CYCLES = 1_000_000;
+
+	private static long counter = 0;
+
+	private static class MyEventHandler implements EventHandler {
+		@Override
+		public void handleEvent(Event event) {
+			switch (event.getTopic()) {
+			case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
+				counter++;
+				break;
+			}
+		}
+	}
+
+	private static class MyListener implements CycleEventListener {
+		@Override
+		public Set<CycleEvent> getCycleEvents() {
+			return EnumSet.allOf(CycleEvent.class);
+		}
+
+		@Override
+		public void onCycleEvent(CycleEvent event) {
+			switch (event) {
+			case BEFORE_PROCESS_IMAGE, EXECUTE_WRITE -> counter++;
+			default -> {
+			}
+			}
+		}
+	}
+
+	private static class MyEventAdmin implements EventAdmin {
+		private final Map<String, EventHandler[]> handlers = new HashMap<>();
+
+		@Override
+		public void postEvent(Event event) {
+			this.sendEvent(event);
+		}
+
+		@Override
+		public void sendEvent(Event event) {
+			var handlers = this.handlers.get(event.getTopic());
+			if (handlers == null) {
+				return;
+			}
+			for (var handler : handlers) {
+				handler.handleEvent(event);
+			}
+		}
+	}
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 */
+	public static void main(String[] args) {
+		var eventAdmin = new MyEventAdmin();
+		var bus = new CycleEventBus();
+		var eventHandlers = new EventHandler[HANDLERS];
+		for (var i = 0; i < HANDLERS; i++) {
+			eventHandlers[i] = new MyEventHandler();
+			bus.addListener(new MyListener());
+		}
+		for (var event : CycleEvent.values()) {
+			eventAdmin.handlers.put(event.getTopic(), eventHandlers);
+		}
+
+		runEventAdmin(eventAdmin, WARMUP_CYCLES);
+		runCycleEventBus(bus, WARMUP_CYCLES);
+
+		var eventAdminNanos = runEventAdmin(eventAdmin, CYCLES);
+		var busNanos = runCycleEventBus(bus, CYCLES);
+
+		var calls = (double) CYCLES * CycleEvent.values().length * HANDLERS;
+		System.out.println("EventAdmin:    " + String.format("%.2f", eventAdminNanos / calls) + " ns per handler");
+		System.out.println("CycleEventBus: " + String.format("%.2f", busNanos / calls) + " ns per handler");
+		System.out.println("(" + counter + " calls)");
+	}
+
+	private static long runEventAdmin(EventAdmin eventAdmin, int cycles) {
+		var start = System.nanoTime();
+		for (var i = 0; i < cycles; i++) {
+			for (var event : CycleEvent.values()) {
+				EventBuilder.send(eventAdmin, event.getTopic());
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static long runCycleEventBus(CycleEventBus bus, int cycles) {
+		var start = System.nanoTime();
+		for (var i = 0; i < cycles; i++) {
+			for (var event : CycleEvent.values()) {
+				bus.dispatch(event);
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+}
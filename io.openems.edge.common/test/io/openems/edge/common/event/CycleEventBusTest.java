@@ -0,0 +1,79 @@
+package io.openems.edge.common.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CycleEventBusTest {
+
+	private static class MyListener implements CycleEventListener {
+
+		private final String name;
+		private final Set<CycleEvent> events;
+		private final List<String> calls;
+
+		public MyListener(String name, List<String> calls, CycleEvent... events) {
+			this.name = name;
+			this.calls = calls;
+			this.events = EnumSet.of(events[0], events);
+		}
+
+		@Override
+		public Set<CycleEvent> getCycleEvents() {
+			return this.events;
+		}
+
+		@Override
+		public void onCycleEvent(CycleEvent event) {
+			this.calls.add(this.name + ":" + event.name());
+			if (this.name.equals("fail")) {
+				throw new IllegalStateException("fail");
+			}
+		}
+	}
+
+	@Test
+	public void testDispatch() {
+		var calls = new ArrayList<String>();
+		var sut = new CycleEventBus();
+		var l0 = new MyListener("l0", calls, CycleEvent.BEFORE_PROCESS_IMAGE, CycleEvent.EXECUTE_WRITE);
+		var fail = new MyListener("fail", calls, CycleEvent.EXECUTE_WRITE);
+		var l1 = new MyListener("l1", calls, CycleEvent.EXECUTE_WRITE);
+		sut.addListener(l0);
+		sut.addListener(fail);
+		sut.addListener(l1);
+		assertEquals(1, sut.getListenerCount(CycleEvent.BEFORE_PROCESS_IMAGE));
+		assertEquals(3, sut.getListenerCount(CycleEvent.EXECUTE_WRITE));
+		assertEquals(0, sut.getListenerCount(CycleEvent.AFTER_WRITE));
+
+		sut.dispatch(CycleEvent.BEFORE_PROCESS_IMAGE);
+		assertEquals(List.of("l0:BEFORE_PROCESS_IMAGE"), calls);
+
+		// Exception in one listener does not stop the others
+		calls.clear();
+		var durations = new ArrayList<CycleEventListener>();
+		sut.dispatch(CycleEvent.EXECUTE_WRITE, (listener, nanos) -> durations.add(listener));
+		assertEquals(List.of("l0:EXECUTE_WRITE", "fail:EXECUTE_WRITE", "l1:EXECUTE_WRITE"), calls);
+		assertEquals(List.of(l0, fail, l1), durations);
+
+		calls.clear();
+		sut.removeListener(fail);
+		sut.dispatch(CycleEvent.EXECUTE_WRITE);
+		assertEquals(List.of("l0:EXECUTE_WRITE", "l1:EXECUTE_WRITE"), calls);
+	}
+
+	@Test
+	public void testFromTopic() {
+		for (var event : CycleEvent.values()) {
+			assertEquals(event, CycleEvent.fromTopic(event.getTopic()));
+		}
+		assertNull(CycleEvent.fromTopic(EdgeEventConstants.TOPIC_CONFIG_UPDATE));
+	}
+
+}
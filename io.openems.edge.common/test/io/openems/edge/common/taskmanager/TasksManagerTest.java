@@ -1,6 +1,7 @@
 package io.openems.edge.common.taskmanager;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import org.junit.Test;
 
@@ -33,4 +34,21 @@ public class TasksManagerTest {
 
 	}
 
+	@Test
+	public void testModificationCount() {
+		ManagedTask l1 = new Task(Priority.LOW);
+		var m = new TasksManager<>();
+		var count = m.getModificationCount();
+
+		m.addTask(l1);
+		assertNotEquals(count, m.getModificationCount());
+
+		count = m.getModificationCount();
+		m.removeTask(new Task(Priority.HIGH)); // unknown Task
+		assertEquals(count, m.getModificationCount());
+
+		m.removeTask(l1);
+		assertNotEquals(count, m.getModificationCount());
+	}
+
 }
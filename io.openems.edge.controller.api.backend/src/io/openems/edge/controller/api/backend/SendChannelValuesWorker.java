@@ -1,25 +1,17 @@
 package io.openems.edge.controller.api.backend;
 
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
-
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
-import java.util.stream.Collector;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,8 +29,8 @@ import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
-import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -171,8 +163,14 @@ public class SendChannelValuesWorker {
 		if (timestamp.equals(this.lastSendAggregatedDataTimestamp)) {
 			return null;
 		}
+		if (!this.parent.cycle.allowLowPriorityWork()) {
+			// Cycle deadline is at risk: defer to a later Cycle
+			return null;
+		}
 		this.lastSendAggregatedDataTimestamp = timestamp;
 		final var timestampMillis = timestamp.toEpochMilli();
+		final var startMillis = PastValues.toMillis(startTime);
+		final var endMillis = PastValues.toMillis(endTime);
 
 		final var sendAllChannels = this.sendValuesOfAllChannelsAggregated.getAndSet(false);
 
@@ -186,25 +184,21 @@ public class SendChannelValuesWorker {
 								.isAtLeast(this.parent.config.aggregationPriority()))
 				.forEach(channel -> {
 					try {
-						// This is the highest timestamp before `startTime`. If existing it is used for
-						// the tailMap to make sure we get a Value even for Channels where the value has
-						// not changed within the last 5 minutes.
-						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(startTime))
-								.orElse(startTime);
-
-						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
-								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime)) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
-								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
-										channel.getType()));
-
+						// Starts at the highest timestamp before `startTime`. If existing it is used to
+						// make sure we get a Value even for Channels where the value has not changed
+						// within the last 5 minutes.
+						final var pastValues = channel.pastValues();
+						final var from = pastValues.rangeStart(startMillis);
+						final var to = pastValues.rangeEnd(endMillis);
+
+						final JsonElement value;
 						// TODO aggregation should be modifiable in Doc e. g. not every EnumDoc may want
 						// this behaviour
 						if (channel.channelDoc() instanceof EnumDoc) {
-							value = aggregateEnumChannel(channel, channelStartTime, endTime);
+							value = aggregateEnumChannel(pastValues, from, to);
+						} else {
+							value = aggregate(channel.channelDoc().getUnit().isCumulated(), channel.getType(),
+									pastValues, from, to);
 						}
 
 						if (!sendAllChannels && value.isJsonNull()) {
@@ -220,110 +214,98 @@ public class SendChannelValuesWorker {
 	}
 
 	// TODO aggregation should be moved to doc
-	protected static JsonElement aggregateEnumChannel(//
-			Channel<?> channel, //
-			LocalDateTime channelStartTime, //
-			LocalDateTime endTime //
-	) {
-		final var doc = channel.channelDoc();
-		if (!(doc instanceof EnumDoc)) {
-			return JsonNull.INSTANCE;
-		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
-				.collect(groupingBy(Function.identity(), counting()));
-
-		final var values = numberOfValuesPerOption.entrySet().stream() //
-				.sorted((o1, o2) -> Long.compare(o2.getValue(), o1.getValue())) //
-				.toList();
-
-		final var maxValues = new ArrayList<Integer>();
-		var maxCount = -1L;
-		for (var entry : values) {
-			if (entry.getValue() < maxCount) {
-				break;
-			}
-			if (entry.getValue() == maxCount) {
-				maxValues.add(entry.getKey());
+	/**
+	 * Aggregates the values of an {@link EnumDoc} Channel: the value with the most
+	 * appearances within the range wins; on a tie the latest value is used.
+	 *
+	 * @param pastValues the {@link PastValues}
+	 * @param from       the first index (inclusive)
+	 * @param to         the last index (exclusive)
+	 * @return the aggregated value or {@link JsonNull}
+	 */
+	protected static JsonElement aggregateEnumChannel(PastValues<?> pastValues, int from, int to) {
+		final var numberOfValuesPerOption = new HashMap<Long, Integer>();
+		var maxCount = 0;
+		for (var i = from; i < to; i++) {
+			if (!pastValues.isDefined(i)) {
 				continue;
 			}
-			maxCount = entry.getValue();
-			maxValues.clear();
-			maxValues.add(entry.getKey());
+			var count = numberOfValuesPerOption.merge(pastValues.getAsLong(i), 1, Integer::sum);
+			maxCount = Math.max(maxCount, count);
+		}
+		if (maxCount == 0) {
+			return JsonNull.INSTANCE;
 		}
 
-		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
-			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
-					return new JsonPrimitive(optionValue);
-				}
+		// pick latest value with most appearances
+		for (var i = to - 1; i >= from; i--) {
+			if (!pastValues.isDefined(i)) {
+				continue;
+			}
+			final var entryValue = pastValues.getAsLong(i);
+			final var count = numberOfValuesPerOption.get(entryValue);
+			if (count != null && count == maxCount) {
+				return new JsonPrimitive((int) entryValue);
 			}
 		}
 		return JsonNull.INSTANCE;
 	}
 
-	protected static Collector<Object, ?, JsonElement> aggregateCollector(//
-			final boolean isCumulated, //
-			final OpenemsType type //
-	) {
-		return Collector.of(ArrayList::new, //
-				(a, b) -> a.add(b), //
-				(a, b) -> {
-					b.addAll(a);
-					return b;
-				}, //
-				t -> aggregate(isCumulated, type, t) //
-		);
-	}
-
-	protected static JsonElement aggregate(boolean isCumulated, OpenemsType type, Collection<Object> values)
-			throws IllegalArgumentException {
+	/**
+	 * Aggregates the values within the given range of {@link PastValues} without
+	 * creating intermediate objects.
+	 *
+	 * @param isCumulated true for cumulated Channels; the maximum is used then
+	 * @param type        the {@link OpenemsType}
+	 * @param pastValues  the {@link PastValues}
+	 * @param from        the first index (inclusive)
+	 * @param to          the last index (exclusive)
+	 * @return the aggregated value or {@link JsonNull}
+	 */
+	protected static JsonElement aggregate(boolean isCumulated, OpenemsType type, PastValues<?> pastValues, int from,
+			int to) {
 		switch (type) {
 		case DOUBLE, FLOAT -> {
-			final var stream = values.stream() //
-					.mapToDouble(item -> TypeUtils.getAsType(OpenemsType.DOUBLE, item));
-			if (isCumulated) {
-				final var maxOpt = stream.max();
-				if (maxOpt.isPresent()) {
-					return new JsonPrimitive(maxOpt.getAsDouble());
-				}
-			} else {
-				final var avgOpt = stream.average();
-				if (avgOpt.isPresent()) {
-					return new JsonPrimitive(avgOpt.getAsDouble());
+			var count = 0;
+			var sum = 0d;
+			var max = Double.NEGATIVE_INFINITY;
+			for (var i = from; i < to; i++) {
+				if (!pastValues.isDefined(i)) {
+					continue;
 				}
+				final var value = pastValues.getAsDouble(i);
+				sum += value;
+				max = Math.max(max, value);
+				count++;
+			}
+			if (count > 0) {
+				return new JsonPrimitive(isCumulated ? max : sum / count);
 			}
 		}
 		// round averages to their type
 		case BOOLEAN, LONG, INTEGER, SHORT -> {
-			final var stream = values.stream() //
-					.mapToLong(item -> TypeUtils.getAsType(OpenemsType.LONG, item));
-			if (isCumulated) {
-				final var maxOpt = stream.max();
-				if (maxOpt.isPresent()) {
-					return new JsonPrimitive(maxOpt.getAsLong());
-				}
-			} else {
-				final var avgOpt = stream.average();
-				if (avgOpt.isPresent()) {
-					return new JsonPrimitive(Math.round(avgOpt.getAsDouble()));
+			var count = 0;
+			var sum = 0L;
+			var max = Long.MIN_VALUE;
+			for (var i = from; i < to; i++) {
+				if (!pastValues.isDefined(i)) {
+					continue;
 				}
+				final var value = pastValues.getAsLong(i);
+				sum += value;
+				max = Math.max(max, value);
+				count++;
+			}
+			if (count > 0) {
+				return new JsonPrimitive(isCumulated ? max : Math.round((double) sum / count));
 			}
 		}
 		case STRING -> {
 			// return first string for now
-			for (var item : values) {
-				return new JsonPrimitive(TypeUtils.<String>getAsType(type, item));
+			for (var i = from; i < to; i++) {
+				if (pastValues.isDefined(i)) {
+					return new JsonPrimitive(TypeUtils.<String>getAsType(type, pastValues.get(i)));
+				}
 			}
 		}
 		}
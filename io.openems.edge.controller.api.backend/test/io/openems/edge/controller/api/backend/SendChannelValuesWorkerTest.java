@@ -7,13 +7,14 @@ import java.time.LocalDateTime;
 
 import org.junit.Test;
 
-import com.google.common.collect.Lists;
-
 import io.openems.common.function.ThrowingFunction;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.types.OptionsEnum;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.value.PastValues;
+import io.openems.edge.common.channel.value.RingBufferPastValues;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.controller.api.backend.SendChannelValuesWorkerTest.DummyComponent.DummyEnum;
@@ -22,46 +23,54 @@ public class SendChannelValuesWorkerTest {
 
 	@Test
 	public void testAggregateNaturalCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.LONG, //
-				Lists.newArrayList(2, 4));
+		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.LONG, longs(2, 4), 0, 2);
 		assertEquals(4, value.getAsLong());
 	}
 
 	@Test
 	public void testAggregateNaturalNotCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.LONG, //
-				Lists.newArrayList(2, 7));
+		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.LONG, longs(2, 7), 0, 2);
 		assertEquals(5, value.getAsLong());
 	}
 
 	@Test
 	public void testAggregateFloatingCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.DOUBLE, //
-				Lists.newArrayList(2.23, 4.75));
+		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.DOUBLE, doubles(2.23, 4.75), 0, 2);
 		assertEquals(4.75, value.getAsDouble(), 0);
 	}
 
 	@Test
 	public void testAggregateFloatingNotCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.DOUBLE, //
-				Lists.newArrayList(2.9, 7.1));
+		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.DOUBLE, doubles(2.9, 7.1), 0, 2);
 		assertEquals(5, value.getAsDouble(), 0);
 	}
 
 	@Test
 	public void testAggregateStringCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.STRING, //
-				Lists.newArrayList("a", "b", "c", "d", "e"));
+		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.STRING,
+				strings("a", "b", "c", "d", "e"), 0, 5);
 		assertEquals("a", value.getAsString());
 	}
 
 	@Test
 	public void testAggregateStringNotCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.STRING, //
-				Lists.newArrayList("a", "b", "c", "d", "e"));
+		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.STRING,
+				strings("a", "b", "c", "d", "e"), 0, 5);
 		assertEquals("a", value.getAsString());
 	}
 
+	@Test
+	public void testAggregateRange() {
+		var pastValues = longs(100, 2, 7, 100);
+		assertEquals(5, SendChannelValuesWorker.aggregate(false, OpenemsType.LONG, pastValues, 1, 3).getAsLong());
+		assertTrue(SendChannelValuesWorker.aggregate(false, OpenemsType.LONG, pastValues, 2, 2).isJsonNull());
+
+		// Undefined values are ignored
+		pastValues.append(new Value<>(null, null, 10));
+		assertEquals(100, SendChannelValuesWorker.aggregate(false, OpenemsType.LONG, pastValues, 3, 5).getAsLong());
+		assertTrue(SendChannelValuesWorker.aggregate(false, OpenemsType.LONG, pastValues, 4, 5).isJsonNull());
+	}
+
 	@Test
 	public void testAggregateEnumDocExactValueInsteadOfRounded() throws Exception {
 		testAggregateEnumChannel(4, channel -> {
@@ -129,12 +138,39 @@ public class SendChannelValuesWorkerTest {
 
 		assertEquals(numberOfValues, channel.getPastValues().size());
 
-		final var aggregatedValue = SendChannelValuesWorker.aggregateEnumChannel(channel, start, end);
+		final var pastValues = channel.pastValues();
+		final var aggregatedValue = SendChannelValuesWorker.aggregateEnumChannel(pastValues, //
+				pastValues.rangeStart(PastValues.toMillis(start)), //
+				pastValues.rangeEnd(PastValues.toMillis(end)));
 		assertTrue(aggregatedValue.isJsonPrimitive());
 		assertTrue(aggregatedValue.getAsJsonPrimitive().isNumber());
 		assertEquals(expectedValue.getValue(), aggregatedValue.getAsInt());
 	}
 
+	private static PastValues<Long> longs(long... values) {
+		var result = new RingBufferPastValues<Long>(null, OpenemsType.LONG);
+		for (var i = 0; i < values.length; i++) {
+			result.appendLong(i, values[i]);
+		}
+		return result;
+	}
+
+	private static PastValues<Double> doubles(double... values) {
+		var result = new RingBufferPastValues<Double>(null, OpenemsType.DOUBLE);
+		for (var i = 0; i < values.length; i++) {
+			result.appendDouble(i, values[i]);
+		}
+		return result;
+	}
+
+	private static PastValues<String> strings(String... values) {
+		var result = new RingBufferPastValues<String>(null, OpenemsType.STRING);
+		for (var i = 0; i < values.length; i++) {
+			result.append(new Value<>(null, values[i], i));
+		}
+		return result;
+	}
+
 	private static void writeValue(Channel<?> channel, Object value) throws InterruptedException {
 		// Needs sleep to not overwrite the latest value
 		Thread.sleep(1);
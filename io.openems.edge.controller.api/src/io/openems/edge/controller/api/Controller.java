@@ -1,12 +1,17 @@
 package io.openems.edge.controller.api;
 
+import java.util.Set;
+
 import org.osgi.annotation.versioning.ProviderType;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.Level;
 import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -23,10 +28,47 @@ public interface Controller extends OpenemsComponent {
 	 */
 	public void run() throws OpenemsNamedException;
 
+	/**
+	 * Gets the conflict groups of this Controller for parallel execution in the
+	 * Core.Cycle.
+	 *
+	 * <p>
+	 * A conflict group is e.g. the Component-ID of a Meter or IO this Controller
+	 * reads or writes, or the name of a Nature like {@code ManagedSymmetricEss}.
+	 * Note that all ESS share one Power solver, so Controllers that set ESS power
+	 * constraints should use the Nature name. Controllers that share at least one
+	 * conflict group are executed one after the other in Scheduler order. An empty
+	 * Set means that the Controller only reads the process image.
+	 *
+	 * <p>
+	 * By default this returns null, i.e. the Controller is executed exclusively:
+	 * after all Controllers before it and before all Controllers after it. This
+	 * is the safe choice for Controllers that write Channels of Components that
+	 * are only known at runtime or that depend on the results of other
+	 * Controllers in the same Cycle.
+	 *
+	 * @return the conflict groups; null for exclusive execution
+	 */
+	public default Set<String> getConflictGroups() {
+		return null;
+	}
+
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		RUN_FAILED(Doc.of(Level.FAULT) //
 				.persistencePriority(PersistencePriority.HIGH) //
-				.text("Running the Controller failed"));
+				.text("Running the Controller failed")),
+		/**
+		 * Duration of the last execution of {@link Controller#run()}.
+		 *
+		 * <ul>
+		 * <li>Interface: Controller
+		 * <li>Type: Long
+		 * <li>Unit: ms
+		 * </ul>
+		 */
+		RUN_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Duration of the last run"));
 
 		private final Doc doc;
 
@@ -68,6 +110,34 @@ public interface Controller extends OpenemsComponent {
 		this.getRunFailedChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#RUN_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRunDurationChannel() {
+		return this.channel(ChannelId.RUN_DURATION);
+	}
+
+	/**
+	 * Gets the Run-Duration in [ms]. See {@link ChannelId#RUN_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRunDuration() {
+		return this.getRunDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#RUN_DURATION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRunDuration(long value) {
+		this.getRunDurationChannel().setNextValueLong(value);
+	}
+
 	/**
 	 * Used for Modbus/TCP Api Controller. Provides a Modbus table for the Channels
 	 * of this Component.
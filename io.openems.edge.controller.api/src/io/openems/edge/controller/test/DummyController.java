@@ -1,5 +1,7 @@
 package io.openems.edge.controller.test;
 
+import java.util.Set;
+
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
 import io.openems.edge.controller.api.Controller;
@@ -12,6 +14,7 @@ public class DummyController extends AbstractDummyOpenemsComponent<DummyControll
 		implements Controller, OpenemsComponent {
 
 	private Runnable runCallback = null;
+	private Set<String> conflictGroups = null;
 
 	public DummyController(String id) {
 		this(id, "");
@@ -39,6 +42,22 @@ public class DummyController extends AbstractDummyOpenemsComponent<DummyControll
 		return this;
 	}
 
+	/**
+	 * Set the conflict groups for {@link #getConflictGroups()}.
+	 *
+	 * @param conflictGroups the conflict groups; null for exclusive execution
+	 * @return myself
+	 */
+	public DummyController setConflictGroups(Set<String> conflictGroups) {
+		this.conflictGroups = conflictGroups;
+		return this;
+	}
+
+	@Override
+	public Set<String> getConflictGroups() {
+		return this.conflictGroups;
+	}
+
 	@Override
 	public void run() {
 		if (this.runCallback != null) {
@@ -72,6 +72,12 @@ public class ControllerDebugDetailedLogImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getConflictGroups() {
+		// only reads the process image
+		return Set.of();
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		for (String componentId : this.config.component_ids()) {
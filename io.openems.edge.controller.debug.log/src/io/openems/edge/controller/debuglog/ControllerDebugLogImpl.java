@@ -30,6 +30,7 @@ import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.StringUtils;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.controller.api.Controller;
 
 @Designate(ocd = Config.class, factory = true)
@@ -53,6 +54,11 @@ public class ControllerDebugLogImpl extends AbstractOpenemsComponent
 			target = "(&(enabled=true)(!(service.factoryPid=Controller.Debug.Log)))")
 	private volatile List<OpenemsComponent> components = new CopyOnWriteArrayList<>();
 
+	@Reference(policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.OPTIONAL)
+	private volatile Cycle cycle;
+
 	private Config config;
 
 	public ControllerDebugLogImpl() {
@@ -106,9 +112,20 @@ public class ControllerDebugLogImpl extends AbstractOpenemsComponent
 
 	@Override
 	public void run() throws OpenemsNamedException {
+		// Debug logging is low-priority work; skip it if the Cycle deadline is at risk
+		var cycle = this.cycle;
+		if (cycle != null && !cycle.allowLowPriorityWork()) {
+			return;
+		}
 		this.logInfo(this.log, this.getLogMessage());
 	}
 
+	@Override
+	public Set<String> getConflictGroups() {
+		// only reads the process image
+		return Set.of();
+	}
+
 	protected String getLogMessage() {
 		final List<String> result = new ArrayList<>();
 		/*
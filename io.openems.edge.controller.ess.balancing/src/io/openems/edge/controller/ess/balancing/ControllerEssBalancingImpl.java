@@ -1,5 +1,7 @@
 package io.openems.edge.controller.ess.balancing;
 
+import java.util.Set;
+
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -26,6 +28,8 @@ import io.openems.edge.meter.api.ElectricityMeter;
 )
 public class ControllerEssBalancingImpl extends AbstractOpenemsComponent implements Controller, OpenemsComponent {
 
+	private static final Set<String> CONFLICT_GROUPS = Set.of(ManagedSymmetricEss.class.getName());
+
 	private final Logger log = LoggerFactory.getLogger(ControllerEssBalancingImpl.class);
 
 	@Reference
@@ -65,6 +69,12 @@ public class ControllerEssBalancingImpl extends AbstractOpenemsComponent impleme
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getConflictGroups() {
+		// All ESS share the Power solver
+		return CONFLICT_GROUPS;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		/*
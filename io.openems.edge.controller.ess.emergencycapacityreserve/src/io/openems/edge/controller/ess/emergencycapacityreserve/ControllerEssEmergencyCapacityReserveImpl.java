@@ -1,6 +1,7 @@
 package io.openems.edge.controller.ess.emergencycapacityreserve;
 
 import java.util.OptionalInt;
+import java.util.Set;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -15,7 +16,6 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.edge.common.channel.IntegerReadChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -36,6 +36,8 @@ import io.openems.edge.ess.api.ManagedSymmetricEss;
 public class ControllerEssEmergencyCapacityReserveImpl extends AbstractOpenemsComponent
 		implements ControllerEssEmergencyCapacityReserve, Controller, OpenemsComponent {
 
+	private static final Set<String> CONFLICT_GROUPS = Set.of(ManagedSymmetricEss.class.getName());
+
 	/** Minimum reserve SoC value in [%]. */
 	private static final int reservSocMinValue = 5;
 	/** Maximum reserve SoC value in [%]. */
@@ -85,6 +87,12 @@ public class ControllerEssEmergencyCapacityReserveImpl extends AbstractOpenemsCo
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getConflictGroups() {
+		// All ESS share the Power solver
+		return CONFLICT_GROUPS;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		var context = this.handleStateMachine();
@@ -185,10 +193,12 @@ public class ControllerEssEmergencyCapacityReserveImpl extends AbstractOpenemsCo
 	 */
 	private OptionalInt getLastValidSoc(IntegerReadChannel channel) {
 		// get first defined value
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.findFirst();
+		var pastValues = channel.pastValues();
+		for (var i = 0; i < pastValues.size(); i++) {
+			if (pastValues.isDefined(i)) {
+				return OptionalInt.of((int) pastValues.getAsLong(i));
+			}
+		}
+		return OptionalInt.empty();
 	}
 }
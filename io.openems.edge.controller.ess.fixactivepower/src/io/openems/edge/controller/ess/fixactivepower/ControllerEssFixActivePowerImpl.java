@@ -1,5 +1,7 @@
 package io.openems.edge.controller.ess.fixactivepower;
 
+import java.util.Set;
+
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -34,6 +36,8 @@ import io.openems.edge.timedata.api.utils.CalculateActiveTime;
 public class ControllerEssFixActivePowerImpl extends AbstractOpenemsComponent
 		implements ControllerEssFixActivePower, Controller, OpenemsComponent, TimedataProvider {
 
+	private static final Set<String> CONFLICT_GROUPS = Set.of(ManagedSymmetricEss.class.getName());
+
 	private final CalculateActiveTime calculateCumulatedActiveTime = new CalculateActiveTime(this,
 			ControllerEssFixActivePower.ChannelId.CUMULATED_ACTIVE_TIME);
 
@@ -83,6 +87,12 @@ public class ControllerEssFixActivePowerImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getConflictGroups() {
+		// All ESS share the Power solver
+		return CONFLICT_GROUPS;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		var isActive = false;
@@ -26,7 +26,6 @@ import io.openems.common.utils.DateUtils;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -463,11 +462,13 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 */
 	public static OptionalInt getLastValidValue(IntegerReadChannel channel) {
 		// Possibly shift "getLastValidValue" to AbstractReadChannels
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.findFirst();
+		var pastValues = channel.pastValues();
+		for (var i = 0; i < pastValues.size(); i++) {
+			if (pastValues.isDefined(i)) {
+				return OptionalInt.of((int) pastValues.getAsLong(i));
+			}
+		}
+		return OptionalInt.empty();
 	}
 
 	/**
@@ -477,10 +478,13 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 * @return Last defined value
 	 */
 	private static Optional<Boolean> getLastValidValue(StateChannel channel) {
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.map(Value::get).findFirst();
+		var pastValues = channel.pastValues();
+		for (var i = 0; i < pastValues.size(); i++) {
+			if (pastValues.isDefined(i)) {
+				return Optional.of(pastValues.getAsLong(i) != 0);
+			}
+		}
+		return Optional.empty();
 	}
 
 	/**
@@ -491,11 +495,13 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 * @return Last defined value from given {@link LongReadChannel}
 	 */
 	public static OptionalLong getLastValidValue(LongReadChannel channel) {
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.mapToLong(Value::get) //
-				.findFirst();
+		var pastValues = channel.pastValues();
+		for (var i = 0; i < pastValues.size(); i++) {
+			if (pastValues.isDefined(i)) {
+				return OptionalLong.of(pastValues.getAsLong(i));
+			}
+		}
+		return OptionalLong.empty();
 	}
 
 	/**
@@ -4,7 +4,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoField;
-import java.util.ArrayList;
 import java.util.OptionalDouble;
 
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -25,7 +24,7 @@ import org.slf4j.LoggerFactory;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.common.channel.IntegerReadChannel;
-import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.ComponentManagerProvider;
@@ -363,19 +362,25 @@ public class ControllerEssGridOptimizedChargeImpl extends AbstractOpenemsCompone
 	private OptionalDouble getChannelAverageOfPastSeconds(int consideredSeconds, IntegerReadChannel channel) {
 
 		// Get the past channel values
-		var pastValues = channel.getPastValues()
-				.tailMap(LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds), true)
-				.values();
+		var pastValues = channel.pastValues();
+		var from = pastValues.ceilingIndex(PastValues
+				.toMillis(LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds)));
 
 		// Make sure we have at least one value
-		if (pastValues.isEmpty()) {
-			pastValues = new ArrayList<>();
-			pastValues.add(channel.value());
+		if (from == pastValues.size()) {
+			var value = channel.value();
+			return value.isDefined() ? OptionalDouble.of(value.get()) : OptionalDouble.empty();
 		}
 
-		return pastValues.stream().filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.average();
+		var sum = 0L;
+		var count = 0;
+		for (var i = from; i < pastValues.size(); i++) {
+			if (pastValues.isDefined(i)) {
+				sum += pastValues.getAsLong(i);
+				count++;
+			}
+		}
+		return count == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum / count);
 	}
 
 	/**
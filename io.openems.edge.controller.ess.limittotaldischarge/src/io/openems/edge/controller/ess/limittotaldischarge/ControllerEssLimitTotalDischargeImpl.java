@@ -3,6 +3,7 @@ package io.openems.edge.controller.ess.limittotaldischarge;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -32,6 +33,8 @@ import io.openems.edge.ess.power.api.Pwr;
 public class ControllerEssLimitTotalDischargeImpl extends AbstractOpenemsComponent
 		implements ControllerEssLimitTotalDischarge, Controller, OpenemsComponent {
 
+	private static final Set<String> CONFLICT_GROUPS = Set.of(ManagedSymmetricEss.class.getName());
+
 	private final Logger log = LoggerFactory.getLogger(ControllerEssLimitTotalDischargeImpl.class);
 
 	@Reference
@@ -98,6 +101,12 @@ public class ControllerEssLimitTotalDischargeImpl extends AbstractOpenemsCompone
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getConflictGroups() {
+		// All ESS share the Power solver
+		return CONFLICT_GROUPS;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		ManagedSymmetricEss ess = this.componentManager.getComponent(this.essId);
@@ -3,6 +3,8 @@ package io.openems.edge.controller.ess.timeofusetariff;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.SolverStrategy;
+
 @ObjectClassDefinition(//
 		name = "Controller Ess Time-Of-Use Tariff", //
 		description = "Optimize behaviour of an ESS in combination with a Time-Of-Use (ToU) Tariff.")
@@ -40,6 +42,15 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Limit Charge Power for §14a EnWG", description = "Always apply §14a EnWG limitation of 4.2 kW")
 	boolean limitChargePowerFor14aEnWG() default false;
 
+	@AttributeDefinition(name = "Solver Strategy", description = "Genetic algorithm, Dynamic Programming or Genetic algorithm seeded by Dynamic Programming")
+	SolverStrategy solverStrategy() default SolverStrategy.HYBRID;
+
+	@AttributeDefinition(name = "Optimizer Threads", description = "Number of low priority threads that evaluate Schedules in parallel")
+	int optimizerThreads() default 1;
+
+	@AttributeDefinition(name = "Optimizer CPU Share [%]", description = "Share of time the Optimizer is allowed to be busy; it sleeps the rest of the time")
+	int optimizerCpuShare() default 100;
+
 	@AttributeDefinition(name = "Ess target filter", description = "This is auto-generated by 'Ess-ID'.")
 	String ess_target() default "(enabled=true)";
 
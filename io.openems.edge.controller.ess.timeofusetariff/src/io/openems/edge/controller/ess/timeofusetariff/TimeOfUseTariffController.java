@@ -38,7 +38,27 @@ public interface TimeOfUseTariffController extends Controller, OpenemsComponent
 		 */
 		DELAYED_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.CUMULATED_SECONDS) //
-				.persistencePriority(PersistencePriority.HIGH)); //
+				.persistencePriority(PersistencePriority.HIGH)), //
+
+		/**
+		 * Number of generations evaluated by the last run of the Optimizer.
+		 */
+		OPTIMIZER_GENERATIONS(Doc.of(OpenemsType.LONG) //
+				.text("Number of generations of the last Optimizer run")), //
+
+		/**
+		 * Generation in which the last run of the Optimizer found its best Schedule.
+		 */
+		OPTIMIZER_LAST_IMPROVEMENT_GENERATION(Doc.of(OpenemsType.LONG) //
+				.text("Generation in which the best Schedule was found")), //
+
+		/**
+		 * Improvement of the cost of the best Schedule from the first to the last
+		 * generation of the last run of the Optimizer.
+		 */
+		OPTIMIZER_COST_IMPROVEMENT(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.PERCENT) //
+				.text("Cost improvement of the best Schedule during the last Optimizer run")); //
 
 		private final Doc doc;
 
@@ -98,4 +118,61 @@ public interface TimeOfUseTariffController extends Controller, OpenemsComponent
 	public default void _setStateMachine(StateMachine value) {
 		this.getStateMachineChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPTIMIZER_GENERATIONS}.
+	 *
+	 * @return the Channel
+	 */
+	public default Channel<Long> getOptimizerGenerationsChannel() {
+		return this.channel(ChannelId.OPTIMIZER_GENERATIONS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#OPTIMIZER_GENERATIONS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOptimizerGenerations(Long value) {
+		this.getOptimizerGenerationsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPTIMIZER_LAST_IMPROVEMENT_GENERATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default Channel<Long> getOptimizerLastImprovementGenerationChannel() {
+		return this.channel(ChannelId.OPTIMIZER_LAST_IMPROVEMENT_GENERATION);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#OPTIMIZER_LAST_IMPROVEMENT_GENERATION} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOptimizerLastImprovementGeneration(Long value) {
+		this.getOptimizerLastImprovementGenerationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPTIMIZER_COST_IMPROVEMENT}.
+	 *
+	 * @return the Channel
+	 */
+	public default Channel<Integer> getOptimizerCostImprovementChannel() {
+		return this.channel(ChannelId.OPTIMIZER_COST_IMPROVEMENT);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#OPTIMIZER_COST_IMPROVEMENT} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOptimizerCostImprovement(Integer value) {
+		this.getOptimizerCostImprovementChannel().setNextValue(value);
+	}
 }
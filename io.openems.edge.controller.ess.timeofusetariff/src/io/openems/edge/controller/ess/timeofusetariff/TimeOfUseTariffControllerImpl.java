@@ -10,6 +10,7 @@ import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.pos
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -62,6 +63,8 @@ import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
 public class TimeOfUseTariffControllerImpl extends AbstractOpenemsComponent
 		implements TimeOfUseTariffController, Controller, OpenemsComponent, TimedataProvider, JsonApi {
 
+	private static final Set<String> CONFLICT_GROUPS = Set.of(ManagedSymmetricEss.class.getName());
+
 	/** The hard working Worker. */
 	private final Optimizer optimizer;
 
@@ -122,6 +125,9 @@ public class TimeOfUseTariffControllerImpl extends AbstractOpenemsComponent
 				.setControlMode(this.config.controlMode()) //
 				.setMaxChargePowerFromGrid(this.config.maxChargePowerFromGrid()) //
 				.setLimitChargePowerFor14aEnWG(this.config.limitChargePowerFor14aEnWG()) //
+				.setSolverStrategy(this.config.solverStrategy()) //
+				.setOptimizerThreads(this.config.optimizerThreads()) //
+				.setOptimizerCpuShare(this.config.optimizerCpuShare()) //
 				.build());
 	}
 
@@ -164,6 +170,12 @@ public class TimeOfUseTariffControllerImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getConflictGroups() {
+		// All ESS share the Power solver
+		return CONFLICT_GROUPS;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		// Mode given from the configuration.
@@ -254,6 +266,13 @@ public class TimeOfUseTariffControllerImpl extends AbstractOpenemsComponent
 
 		// Set the channels
 		this._setQuarterlyPrices(quarterlyPrice);
+
+		var statistics = this.optimizer.getStatistics();
+		if (statistics != null) {
+			this._setOptimizerGenerations(statistics.getGenerations());
+			this._setOptimizerLastImprovementGeneration(statistics.getLastImprovementGeneration());
+			this._setOptimizerCostImprovement(statistics.getCostImprovement());
+		}
 	}
 
 	@Override
@@ -0,0 +1,188 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.EFFICIENCY_FACTOR;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.Params.OptimizePeriod;
+
+/**
+ * {@link Params} compiled to primitive arrays, one entry per
+ * {@link OptimizePeriod}.
+ *
+ * <p>
+ * Calculates the cost of a Schedule like
+ * {@link Simulator#calculateCost(Params, StateMachine[])}, but in one loop
+ * without creating {@link EnergyFlow}s or any other objects. This is the
+ * fitness function of the Optimizer.
+ */
+public final class CompiledParams {
+
+	private final int essTotalEnergy;
+	private final int essMinSocEnergy;
+	private final int essMaxSocEnergy;
+	private final int essInitialEnergy;
+	private final StateMachine[] states;
+	private final int[] essMaxChargeEnergy;
+	private final int[] essMaxDischargeEnergy;
+	private final int[] essChargeInChargeGrid;
+	private final int[] maxBuyFromGrid;
+	private final int[] production;
+	private final int[] consumption;
+	private final double[] price;
+
+	private CompiledParams(Params p) {
+		this.essTotalEnergy = p.essTotalEnergy();
+		this.essMinSocEnergy = p.essMinSocEnergy();
+		this.essMaxSocEnergy = p.essMaxSocEnergy();
+		this.essInitialEnergy = p.essInitialEnergy();
+		this.states = p.states().clone();
+
+		var size = p.optimizePeriods().size();
+		this.essMaxChargeEnergy = new int[size];
+		this.essMaxDischargeEnergy = new int[size];
+		this.essChargeInChargeGrid = new int[size];
+		this.maxBuyFromGrid = new int[size];
+		this.production = new int[size];
+		this.consumption = new int[size];
+		this.price = new double[size];
+		for (var i = 0; i < size; i++) {
+			var op = p.optimizePeriods().get(i);
+			this.essMaxChargeEnergy[i] = op.essMaxChargeEnergy();
+			this.essMaxDischargeEnergy[i] = op.essMaxDischargeEnergy();
+			this.essChargeInChargeGrid[i] = op.essChargeInChargeGrid();
+			this.maxBuyFromGrid[i] = op.maxBuyFromGrid();
+			this.production[i] = op.production();
+			this.consumption[i] = op.consumption();
+			this.price[i] = op.price();
+		}
+	}
+
+	/**
+	 * Compiles the given {@link Params}.
+	 *
+	 * @param p the {@link Params}
+	 * @return the {@link CompiledParams}
+	 */
+	public static CompiledParams from(Params p) {
+		return new CompiledParams(p);
+	}
+
+	/**
+	 * Gets the number of periods.
+	 *
+	 * @return the number of periods
+	 */
+	public int size() {
+		return this.price.length;
+	}
+
+	/**
+	 * Simulates a Schedule and calculates the cost.
+	 *
+	 * @param schedule the {@link StateMachine} states of the Schedule
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(StateMachine[] schedule) {
+		var essInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.price.length; i++) {
+			essInitial = max(0, essInitial); // always at least '0'
+			var ess = this.calculateEss(i, schedule[i], essInitial);
+			sum += this.calculateCost(i, ess);
+			essInitial -= ess;
+		}
+		return sum;
+	}
+
+	/**
+	 * Simulates a Schedule and calculates the cost.
+	 *
+	 * @param gt the {@link Genotype}; one Chromosome per period with the index of
+	 *           the {@link StateMachine} in {@link Params#states()}
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(Genotype<IntegerGene> gt) {
+		var essInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.price.length; i++) {
+			essInitial = max(0, essInitial); // always at least '0'
+			var ess = this.calculateEss(i, this.states[gt.get(i).get(0).intValue()], essInitial);
+			sum += this.calculateCost(i, ess);
+			essInitial -= ess;
+		}
+		return sum;
+	}
+
+	/**
+	 * Calculates the ESS Energy of one period; see
+	 * {@link EnergyFlow#create(Params, OptimizePeriod, int, int, int)}.
+	 *
+	 * @param i          the index of the period
+	 * @param state      the {@link StateMachine} of the period
+	 * @param essInitial ESS Initially Available Energy (SoC in [Wh])
+	 * @return the ESS Energy; charge negative, discharge positive
+	 */
+	protected int calculateEss(int i, StateMachine state, int essInitial) {
+		final var consumptionMinusProduction = this.consumption[i] - this.production[i];
+		final int essMaxSocEnergy;
+		final int essTarget;
+		switch (state) {
+		case BALANCING -> {
+			essMaxSocEnergy = this.essTotalEnergy;
+			essTarget = consumptionMinusProduction;
+		}
+		case DELAY_DISCHARGE -> {
+			essMaxSocEnergy = this.essTotalEnergy;
+			essTarget = min(0, consumptionMinusProduction);
+		}
+		case CHARGE_GRID -> {
+			essMaxSocEnergy = this.essMaxSocEnergy;
+			essTarget = min(0, consumptionMinusProduction) - this.essChargeInChargeGrid[i];
+		}
+		default -> throw new IllegalArgumentException("Unknown State " + state);
+		}
+
+		var essMaxDischarge = max(0, essInitial - this.essMinSocEnergy);
+		var essMaxCharge = max(0, essMaxSocEnergy - essInitial);
+
+		var ess = essTarget;
+		// Apply Max Buy-From-Grid Energy
+		ess = max(consumptionMinusProduction - this.maxBuyFromGrid[i], ess);
+		// Apply Minimum-SoC / Maximum-SoC
+		ess = max(-essMaxCharge, min(essMaxDischarge, ess));
+		// Apply ESS Max Charge/Discharge Energy
+		ess = max(-this.essMaxChargeEnergy[i], min(this.essMaxDischargeEnergy[i], ess));
+		return ess;
+	}
+
+	/**
+	 * Calculates the cost of one period; see Simulator#simulatePeriod().
+	 *
+	 * @param i   the index of the period
+	 * @param ess the ESS Energy of the period
+	 * @return the cost, lower is better; always positive
+	 */
+	protected double calculateCost(int i, int ess) {
+		final var production = this.production[i];
+		final var consumption = this.consumption[i];
+		var grid = consumption - production - ess;
+		if (grid <= 0) {
+			// Sell-to-Grid
+			return 0.;
+		}
+		var productionToConsumption = min(production, consumption);
+		var productionToEss = max(0, min(-ess, production - productionToConsumption));
+		var productionToGrid = max(0, production - productionToConsumption - productionToEss);
+		var essToConsumption = max(0, min(consumption - productionToConsumption, ess - productionToGrid));
+		var gridToConsumption = max(0, consumption - essToConsumption - productionToConsumption);
+		var gridToEss = grid - gridToConsumption + productionToGrid;
+		return // Cost for direct Consumption
+				gridToConsumption * this.price[i]
+						// Cost for future Consumption after storage
+						+ gridToEss * this.price[i] * EFFICIENCY_FACTOR;
+	}
+}
@@ -21,7 +21,10 @@ public record Context(//
 		List<ControllerEssLimitTotalDischarge> ctrlLimitTotalDischarges, //
 		ControlMode controlMode, //
 		int maxChargePowerFromGrid, //
-		boolean limitChargePowerFor14aEnWG) {
+		boolean limitChargePowerFor14aEnWG, //
+		SolverStrategy solverStrategy, //
+		int optimizerThreads, //
+		int optimizerCpuShare) {
 
 	public static class Builder {
 		private Clock clock;
@@ -34,6 +37,9 @@ public record Context(//
 		private ControlMode controlMode;
 		private int maxChargePowerFromGrid;
 		private boolean limitChargePowerFor14aEnWG;
+		private SolverStrategy solverStrategy = SolverStrategy.HYBRID;
+		private int optimizerThreads = 1;
+		private int optimizerCpuShare = 100;
 
 		/**
 		 * The {@link Clock}.
@@ -148,6 +154,39 @@ public record Context(//
 			return this;
 		}
 
+		/**
+		 * The {@link SolverStrategy}.
+		 * 
+		 * @param solverStrategy the {@link SolverStrategy}
+		 * @return myself
+		 */
+		public Builder setSolverStrategy(SolverStrategy solverStrategy) {
+			this.solverStrategy = solverStrategy;
+			return this;
+		}
+
+		/**
+		 * Number of threads that evaluate Schedules in parallel.
+		 * 
+		 * @param optimizerThreads the number of threads
+		 * @return myself
+		 */
+		public Builder setOptimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
+		/**
+		 * Share of time the Optimizer is allowed to be busy in [%].
+		 * 
+		 * @param optimizerCpuShare the CPU share
+		 * @return myself
+		 */
+		public Builder setOptimizerCpuShare(int optimizerCpuShare) {
+			this.optimizerCpuShare = optimizerCpuShare;
+			return this;
+		}
+
 		/**
 		 * Builds the {@link Context}.
 		 * 
@@ -156,7 +195,8 @@ public record Context(//
 		public Context build() {
 			return new Context(this.clock, this.sum, this.predictorManager, this.timeOfUseTariff, this.ess,
 					this.ctrlEmergencyCapacityReserves, this.ctrlLimitTotalDischarges, this.controlMode,
-					this.maxChargePowerFromGrid, this.limitChargePowerFor14aEnWG);
+					this.maxChargePowerFromGrid, this.limitChargePowerFor14aEnWG, this.solverStrategy,
+					this.optimizerThreads, this.optimizerCpuShare);
 		}
 	}
 
@@ -0,0 +1,150 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.Arrays;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Finds an approximately best Schedule by Dynamic Programming over the ESS
+ * Energy.
+ *
+ * <p>
+ * The ESS Energy at the beginning of a period is the only state that is carried
+ * from one period to the next. The solver walks forward through the periods and
+ * keeps, per bucket of ESS Energy, only the cheapest Schedule that reaches it;
+ * on same cost the one with more ESS Energy. Costs are calculated exactly like
+ * {@link Simulator#calculateCost(Params, StateMachine[])} using
+ * {@link CompiledParams}.
+ *
+ * <p>
+ * Every bucket holds exactly one [Wh] value and the result is the optimum, as
+ * long as the decisions for backtracking - periods times ESS Energy range - fit
+ * in {@link #MAX_STATES}; e.g. up to 52 kWh for 192 periods. Otherwise ESS
+ * Energies are grouped in {@link #getMaxBuckets(Params)} buckets; see
+ * {@link #getResolution(Params, int)}. Schedules that reach nearly the same ESS
+ * Energy are then merged and the result is approximate: Schedules that are
+ * dropped in a merge differ by less than one bucket in ESS Energy from the kept
+ * one.
+ */
+public class DynamicProgrammingSolver {
+
+	/**
+	 * Maximum number of states over all periods, i.e. periods times buckets. Every
+	 * state takes 5 bytes for backtracking.
+	 */
+	public static final int MAX_STATES = 10_000_000;
+
+	private DynamicProgrammingSolver() {
+	}
+
+	/**
+	 * Finds the best Schedule.
+	 *
+	 * @param p the {@link Params}
+	 * @return the best schedule
+	 */
+	public static StateMachine[] getBestSchedule(Params p) {
+		return getBestSchedule(p, getMaxBuckets(p));
+	}
+
+	protected static StateMachine[] getBestSchedule(Params p, int maxBuckets) {
+		final var cp = CompiledParams.from(p);
+		final var states = p.states();
+		final var periods = cp.size();
+		final var essInitial = max(0, p.essInitialEnergy());
+		final var range = getRange(p);
+		final var resolution = getResolution(p, maxBuckets);
+		final var buckets = range / resolution + 1;
+
+		// State of the current and the next period per bucket
+		var cost = new double[buckets];
+		var energy = new int[buckets];
+		var nextCost = new double[buckets];
+		var nextEnergy = new int[buckets];
+		Arrays.fill(cost, Double.POSITIVE_INFINITY);
+		cost[essInitial / resolution] = 0.;
+		energy[essInitial / resolution] = essInitial;
+
+		// Decisions for backtracking: index of the state and previous bucket
+		var decisions = new byte[periods][buckets];
+		var predecessors = new int[periods][buckets];
+
+		for (var i = 0; i < periods; i++) {
+			Arrays.fill(nextCost, Double.POSITIVE_INFINITY);
+			for (var b = 0; b < buckets; b++) {
+				if (cost[b] == Double.POSITIVE_INFINITY) {
+					continue; // not reachable
+				}
+				for (var s = 0; s < states.length; s++) {
+					var ess = cp.calculateEss(i, states[s], energy[b]);
+					var c = cost[b] + cp.calculateCost(i, ess);
+					var e = max(0, energy[b] - ess);
+					var nb = min(buckets - 1, e / resolution);
+					if (c < nextCost[nb] || c == nextCost[nb] && e > nextEnergy[nb]) {
+						nextCost[nb] = c;
+						nextEnergy[nb] = e;
+						decisions[i][nb] = (byte) s;
+						predecessors[i][nb] = b;
+					}
+				}
+			}
+			var tmpCost = cost;
+			cost = nextCost;
+			nextCost = tmpCost;
+			var tmpEnergy = energy;
+			energy = nextEnergy;
+			nextEnergy = tmpEnergy;
+		}
+
+		// Find cheapest final bucket and backtrack
+		var best = 0;
+		for (var b = 1; b < buckets; b++) {
+			if (cost[b] < cost[best]) {
+				best = b;
+			}
+		}
+		var result = new StateMachine[periods];
+		for (var i = periods - 1; i >= 0; i--) {
+			result[i] = states[decisions[i][best]];
+			best = predecessors[i][best];
+		}
+
+		// Prefer all BALANCING in case of same cost; like InitialPopulationUtils
+		var balancing = new StateMachine[periods];
+		Arrays.fill(balancing, BALANCING);
+		if (cp.calculateCost(balancing) <= cp.calculateCost(result)) {
+			return balancing;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the maximum number of ESS Energy buckets per period, so that all
+	 * periods fit in {@link #MAX_STATES}.
+	 *
+	 * @param p the {@link Params}
+	 * @return the maximum number of buckets
+	 */
+	protected static int getMaxBuckets(Params p) {
+		return max(1, MAX_STATES / max(1, p.optimizePeriods().size()));
+	}
+
+	/**
+	 * Gets the width of one ESS Energy bucket.
+	 *
+	 * @param p          the {@link Params}
+	 * @param maxBuckets the maximum number of buckets
+	 * @return the resolution in [Wh]; 1 if every bucket holds exactly one value
+	 */
+	protected static int getResolution(Params p, int maxBuckets) {
+		return max(1, (getRange(p) + maxBuckets) / maxBuckets);
+	}
+
+	private static int getRange(Params p) {
+		return max(max(0, p.essInitialEnergy()), max(p.essTotalEnergy(), p.essMaxSocEnergy()));
+	}
+}
@@ -0,0 +1,116 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.Params.QuarterPeriod;
+
+/**
+ * Fingerprint of the inputs of an Optimizer run, i.e. the {@link Params}
+ * without the ESS Initial Energy and the existing Schedule.
+ *
+ * <p>
+ * Compared per {@link QuarterPeriod}, so that a moved horizon - e.g. first
+ * period dropped, new period appended, QUARTER periods merged to HOUR periods -
+ * is not a material change.
+ *
+ * @param essTotalEnergy  ESS Total Energy (Capacity) [Wh]
+ * @param essMinSocEnergy ESS Energy below a configured Minimum-SoC [Wh]
+ * @param essMaxSocEnergy ESS Energy below a configured Maximium-SoC [Wh]
+ * @param states          Allowed Modes
+ * @param quarterPeriods  the {@link QuarterPeriod}s by time
+ */
+public record Fingerprint(//
+		int essTotalEnergy, //
+		int essMinSocEnergy, //
+		int essMaxSocEnergy, //
+		StateMachine[] states, //
+		ImmutableSortedMap<ZonedDateTime, QuarterPeriod> quarterPeriods //
+) {
+
+	/** Minimum tolerance for predicted energies [Wh]. */
+	public static final int ENERGY_TOLERANCE_MINIMUM = 50;
+
+	/** Relative tolerance for predicted energies [%]. */
+	public static final int ENERGY_TOLERANCE_PERCENT = 10;
+
+	public static enum Change {
+		/** Nothing material changed; the existing Schedule is still valid. */
+		NONE,
+		/** Only new periods were appended at the end of the horizon. */
+		HORIZON,
+		/** Any other change. */
+		MATERIAL
+	}
+
+	/**
+	 * Creates a {@link Fingerprint} from {@link Params}.
+	 *
+	 * @param p the {@link Params}
+	 * @return the {@link Fingerprint}
+	 */
+	public static Fingerprint from(Params p) {
+		var quarterPeriods = ImmutableSortedMap.<ZonedDateTime, QuarterPeriod>naturalOrder();
+		p.optimizePeriods().stream() //
+				.flatMap(op -> op.quarterPeriods().stream()) //
+				.forEach(qp -> quarterPeriods.put(qp.time(), qp));
+		return new Fingerprint(p.essTotalEnergy(), p.essMinSocEnergy(), p.essMaxSocEnergy(), p.states().clone(),
+				quarterPeriods.build());
+	}
+
+	/**
+	 * Gets the {@link Change} from a previous {@link Fingerprint}.
+	 *
+	 * @param previous the previous {@link Fingerprint}; possibly null
+	 * @return the {@link Change}
+	 */
+	public Change getChange(Fingerprint previous) {
+		if (previous == null //
+				|| this.essTotalEnergy != previous.essTotalEnergy //
+				|| this.essMinSocEnergy != previous.essMinSocEnergy //
+				|| this.essMaxSocEnergy != previous.essMaxSocEnergy //
+				|| !Arrays.equals(this.states, previous.states) //
+				|| this.quarterPeriods.isEmpty() || previous.quarterPeriods.isEmpty()) {
+			return Change.MATERIAL;
+		}
+		if (this.quarterPeriods.lastKey().isBefore(previous.quarterPeriods.lastKey())) {
+			return Change.MATERIAL; // horizon got shorter
+		}
+
+		var result = Change.NONE;
+		for (var qp : this.quarterPeriods.values()) {
+			var previousQp = previous.quarterPeriods.get(qp.time());
+			if (previousQp == null) {
+				if (qp.time().isBefore(previous.quarterPeriods.lastKey())) {
+					return Change.MATERIAL;
+				}
+				result = Change.HORIZON;
+
+			} else if (!isSimilar(qp, previousQp)) {
+				return Change.MATERIAL;
+			}
+		}
+		return result;
+	}
+
+	private static boolean isSimilar(QuarterPeriod qp1, QuarterPeriod qp2) {
+		return qp1.price() == qp2.price() //
+				&& isSimilar(qp1.essMaxChargeEnergy(), qp2.essMaxChargeEnergy()) //
+				&& isSimilar(qp1.essMaxDischargeEnergy(), qp2.essMaxDischargeEnergy()) //
+				&& isSimilar(qp1.essChargeInChargeGrid(), qp2.essChargeInChargeGrid()) //
+				&& isSimilar(qp1.maxBuyFromGrid(), qp2.maxBuyFromGrid()) //
+				&& isSimilar(qp1.production(), qp2.production()) //
+				&& isSimilar(qp1.consumption(), qp2.consumption());
+	}
+
+	private static boolean isSimilar(int energy1, int energy2) {
+		var tolerance = max(ENERGY_TOLERANCE_MINIMUM, max(abs(energy1), abs(energy2)) * ENERGY_TOLERANCE_PERCENT / 100);
+		return abs(energy1 - energy2) <= tolerance;
+	}
+}
@@ -33,6 +33,8 @@ public class InitialPopulationUtils {
 	 * <li>Schedule with all periods BALANCING
 	 * <li>Schedule from currently existing Schedule, i.e. the bestGenotype of last
 	 * optimization run
+	 * <li>Schedule from seed if available, e.g. the result of the
+	 * {@link DynamicProgrammingSolver}
 	 * </ol>
 	 * 
 	 * <p>
@@ -40,10 +42,11 @@ public class InitialPopulationUtils {
 	 * sure, that this one wins in case there are other results with same cost, e.g.
 	 * when battery never gets empty anyway.
 	 * 
-	 * @param p the {@link Params}
+	 * @param p    the {@link Params}
+	 * @param seed an additional Schedule or null
 	 * @return the {@link Genotype}
 	 */
-	public static ImmutableList<Genotype<IntegerGene>> buildInitialPopulation(Params p) {
+	public static ImmutableList<Genotype<IntegerGene>> buildInitialPopulation(Params p, StateMachine[] seed) {
 		var states = List.of(p.states());
 		if (!states.contains(BALANCING)) {
 			throw new IllegalArgumentException("State option BALANCING is always required!");
@@ -69,6 +72,15 @@ public class InitialPopulationUtils {
 							.toList()));
 		}
 
+		if (seed != null) {
+			// Seed if available
+			b.add(Genotype.of(//
+					Arrays.stream(seed) //
+							.map(state -> IntegerChromosome.of(IntegerGene.of(//
+									toIndex(states, state), 0, p.states().length))) //
+							.toList()));
+		}
+
 		// Suggest different combinations of CHARGE_GRID and DELAY_CHARGE
 		{
 			var prices = p.optimizePeriods().stream() //
@@ -90,6 +102,17 @@ public class InitialPopulationUtils {
 		return b.build();
 	}
 
+	/**
+	 * Builds an initial population without seed; see
+	 * {@link #buildInitialPopulation(Params, StateMachine[])}.
+	 * 
+	 * @param p the {@link Params}
+	 * @return the {@link Genotype}
+	 */
+	public static ImmutableList<Genotype<IntegerGene>> buildInitialPopulation(Params p) {
+		return buildInitialPopulation(p, null);
+	}
+
 	private static int toIndex(List<StateMachine> states, StateMachine state) {
 		var result = states.indexOf(state);
 		if (result != -1) {
@@ -15,17 +15,26 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.EvolutionResult;
 import io.openems.common.exceptions.InvalidValueException;
 import io.openems.common.test.TimeLeapClock;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.Fingerprint.Change;
 import io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.Period;
 
 /**
@@ -34,12 +43,32 @@ import io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.Period
  */
 public class Optimizer extends AbstractImmediateWorker {
 
+	/** Stop a warm started optimization after generations without improvement. */
+	private static final int WARM_START_STEADY_FITNESS = 1_000;
+
+	/** Interval for checking the actual ESS Energy against the Schedule [s]. */
+	private static final long DRIFT_CHECK_SECONDS = 60;
+
 	private final Logger log = LoggerFactory.getLogger(Optimizer.class);
 
 	private final Supplier<Context> context;
 	private final TreeMap<ZonedDateTime, Period> schedule = new TreeMap<>();
 
+	/**
+	 * The latest simulated Schedule. Unlike {@link #schedule} it is not kept
+	 * stable for the current quarter; the ESS Energy drift check refers to it.
+	 */
+	private ImmutableSortedMap<ZonedDateTime, Period> trajectory = ImmutableSortedMap.of();
+	/** Drift re-plans are suppressed before this time; possibly null. */
+	private ZonedDateTime suppressDriftUntil = null;
+
 	private Params params = null;
+	private Fingerprint fingerprint = null;
+	private volatile OptimizerStatistics statistics = null;
+
+	/** Evaluates Schedules in parallel; null if Optimizer Threads is '1'. */
+	private ExecutorService executor = null;
+	private int executorThreads = 1;
 
 	public Optimizer(Supplier<Context> context) {
 		this.context = context;
@@ -63,8 +92,54 @@ public class Optimizer extends AbstractImmediateWorker {
 		// Calculate max execution time till next quarter (with buffer)
 		executionLimitSeconds = calculateExecutionLimitSeconds(context.clock());
 
+		// Compare inputs to last optimization
+		final var fingerprint = Fingerprint.from(this.params);
+		final var change = this.getChange(ZonedDateTime.now(context.clock()), fingerprint, this.params);
+
+		switch (change) {
+		case NONE -> this.log.info("# Skip run of Optimizer. Inputs did not change");
+		case HORIZON, MATERIAL -> {
+			if (change == Change.HORIZON) {
+				this.log.info("# Warm start Optimizer. Horizon moved");
+			}
+			var newSchedule = this.optimize(context, executionLimitSeconds,
+					change == Change.HORIZON ? WARM_START_STEADY_FITNESS : null);
+			this.applySchedule(ZonedDateTime.now(context.clock()), fingerprint, newSchedule);
+		}
+		}
+
+		// Sleep remaining time; re-plan right away if actual ESS Energy drifts
+		if (!(context.clock() instanceof TimeLeapClock)) {
+			var end = start.plusSeconds(executionLimitSeconds);
+			var remainingExecutionLimit = Duration.between(Instant.now(context.clock()), end).getSeconds();
+			if (remainingExecutionLimit > 0) {
+				this.log.info("Sleep [" + remainingExecutionLimit + "s] till next run of Optimizer");
+			}
+			while (remainingExecutionLimit > 0) {
+				sleep(Math.min(remainingExecutionLimit, DRIFT_CHECK_SECONDS) * 1000);
+				var ess = context.ess();
+				var soc = ess.getSoc().get();
+				var capacity = ess.getCapacity().get();
+				if (soc != null && capacity != null && this.isEssEnergyDrifted(ZonedDateTime.now(context.clock()),
+						capacity / 100 * soc, this.params.essTotalEnergy())) {
+					this.log.info("# ESS Energy drifted from Schedule. Re-plan now");
+					return;
+				}
+				remainingExecutionLimit = Duration.between(Instant.now(context.clock()), end).getSeconds();
+			}
+		}
+	}
+
+	private ImmutableSortedMap<ZonedDateTime, Period> optimize(Context context, long executionLimitSeconds,
+			Integer steadyFitness) {
 		// Find best Schedule
-		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds);
+		final var statistics = new OptimizerStatistics();
+		final var cpuShare = context.optimizerCpuShare();
+		var schedule = Simulator.getBestSchedule(this.params, context.solverStrategy(), executionLimitSeconds, //
+				null, null, steadyFitness, //
+				this.getExecutor(context.optimizerThreads()), //
+				statistics.andThen(result -> throttle(result, cpuShare)));
+		this.statistics = statistics;
 
 		// Re-Simulate and keep best Schedule
 		var newSchedule = simulate(this.params, schedule);
@@ -72,19 +147,127 @@ public class Optimizer extends AbstractImmediateWorker {
 		// Debug Log best Schedule
 		logSchedule(this.params, newSchedule);
 
-		// Update Schedule from newly simulated Schedule
+		return newSchedule;
+	}
+
+	/**
+	 * Compares the inputs of a run to the last optimization.
+	 * 
+	 * @param now         the current time
+	 * @param fingerprint the {@link Fingerprint} of the {@link Params}
+	 * @param params      the {@link Params}
+	 * @return the {@link Change}; {@link Change#MATERIAL} if the ESS Energy drifted
+	 */
+	protected Change getChange(ZonedDateTime now, Fingerprint fingerprint, Params params) {
+		if (this.isEssEnergyDrifted(now, params.essInitialEnergy(), params.essTotalEnergy())) {
+			return Change.MATERIAL;
+		}
+		return fingerprint.getChange(this.fingerprint);
+	}
+
+	/**
+	 * Updates the Schedule and the trajectory from a newly simulated Schedule.
+	 * 
+	 * @param now         the current time
+	 * @param fingerprint the {@link Fingerprint} of the optimized {@link Params}
+	 * @param newSchedule the newly simulated Schedule
+	 */
+	protected void applySchedule(ZonedDateTime now, Fingerprint fingerprint,
+			ImmutableSortedMap<ZonedDateTime, Period> newSchedule) {
 		synchronized (this.schedule) {
-			updateSchedule(ZonedDateTime.now(context.clock()), this.schedule, newSchedule);
+			updateSchedule(now, this.schedule, newSchedule);
+			this.trajectory = newSchedule;
 		}
+		this.fingerprint = fingerprint;
+	}
 
-		// Sleep remaining time
-		if (!(context.clock() instanceof TimeLeapClock)) {
-			var remainingExecutionLimit = Duration
-					.between(Instant.now(context.clock()), start.plusSeconds(executionLimitSeconds)).getSeconds();
-			if (remainingExecutionLimit > 0) {
-				this.log.info("Sleep [" + remainingExecutionLimit + "s] till next run of Optimizer");
-				sleep(remainingExecutionLimit * 1000);
+	/**
+	 * Checks if the actual ESS Energy drifted from the latest simulated Schedule.
+	 * 
+	 * <p>
+	 * On drift the next run is a full re-plan. Its Schedule starts from the ESS
+	 * Energy at the time of the re-plan, not at the start of the quarter, so
+	 * further drift re-plans are suppressed till the next quarter.
+	 * 
+	 * @param now            the current time
+	 * @param essSocEnergy   the actual ESS Energy [Wh]
+	 * @param essTotalEnergy the ESS Total Energy (Capacity) [Wh]
+	 * @return true if the ESS Energy drifted
+	 */
+	protected boolean isEssEnergyDrifted(ZonedDateTime now, int essSocEnergy, int essTotalEnergy) {
+		synchronized (this.schedule) {
+			if (this.suppressDriftUntil != null && now.isBefore(this.suppressDriftUntil)) {
+				return false;
 			}
+			var thisQuarter = roundDownToQuarter(now);
+			if (!Utils.isEssEnergyDrifted(this.trajectory.get(thisQuarter), now, essSocEnergy, essTotalEnergy)) {
+				return false;
+			}
+			this.suppressDriftUntil = thisQuarter.plusMinutes(15);
+		}
+		this.fingerprint = null;
+		return true;
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		this.shutdownExecutor();
+	}
+
+	/**
+	 * Gets the {@link Executor} that evaluates Schedules. Uses a pool of low
+	 * priority threads if more than one thread is configured; one core is always
+	 * left for the Core.Cycle.
+	 * 
+	 * @param threads the configured number of threads
+	 * @return the {@link Executor}
+	 */
+	private synchronized Executor getExecutor(int threads) {
+		var poolSize = Math.min(threads, Runtime.getRuntime().availableProcessors() - 1);
+		if (poolSize <= 1) {
+			this.shutdownExecutor();
+			return Runnable::run; // current thread
+		}
+		if (this.executor == null || this.executorThreads != poolSize) {
+			this.shutdownExecutor();
+			this.executor = Executors.newFixedThreadPool(poolSize, new ThreadFactoryBuilder() //
+					.setNameFormat("TimeOfUseTariff-Optimizer-%d") //
+					.setPriority(Thread.MIN_PRIORITY) //
+					.setDaemon(true) //
+					.build());
+			this.executorThreads = poolSize;
+		}
+		return this.executor;
+	}
+
+	private synchronized void shutdownExecutor() {
+		if (this.executor != null) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 1);
+			this.executor = null;
+		}
+		this.executorThreads = 1;
+	}
+
+	/**
+	 * Pauses after a generation, so that the Optimizer is busy only for the given
+	 * share of time.
+	 * 
+	 * @param result   the {@link EvolutionResult} of the generation
+	 * @param cpuShare the CPU share in [%]
+	 */
+	private static void throttle(EvolutionResult<IntegerGene, Double> result, int cpuShare) {
+		if (cpuShare <= 0 || cpuShare >= 100) {
+			return;
+		}
+		var pause = result.durations().evolveDuration() //
+				.multipliedBy(100 - cpuShare) //
+				.dividedBy(cpuShare);
+		try {
+			TimeUnit.NANOSECONDS.sleep(pause.toNanos());
+		} catch (InterruptedException e) {
+			// Preserve interrupt status
+			Thread.currentThread().interrupt();
 		}
 	}
 
@@ -110,6 +293,7 @@ public class Optimizer extends AbstractImmediateWorker {
 				this.params = null;
 				synchronized (this.schedule) {
 					this.schedule.clear();
+					this.trajectory = ImmutableSortedMap.of();
 				}
 				sleep(30_000);
 			}
@@ -125,6 +309,15 @@ public class Optimizer extends AbstractImmediateWorker {
 		return this.params;
 	}
 
+	/**
+	 * Gets the {@link OptimizerStatistics} of the last run or null.
+	 * 
+	 * @return the {@link OptimizerStatistics} or null
+	 */
+	public OptimizerStatistics getStatistics() {
+		return this.statistics;
+	}
+
 	/**
 	 * Gets the current {@link StateMachine} or null.
 	 * 
@@ -0,0 +1,71 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import java.util.function.Consumer;
+
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * Collects statistics of one run of the {@link Optimizer}: the number of
+ * generations and the convergence of the cost of the best Schedule.
+ */
+public class OptimizerStatistics implements Consumer<EvolutionResult<IntegerGene, Double>> {
+
+	private long generations = 0;
+	private long lastImprovementGeneration = 0;
+	private Double initialCost = null;
+	private Double bestCost = null;
+
+	@Override
+	public synchronized void accept(EvolutionResult<IntegerGene, Double> result) {
+		this.generations = result.generation();
+		var cost = result.bestFitness();
+		if (this.initialCost == null) {
+			this.initialCost = cost;
+		}
+		if (this.bestCost == null || cost < this.bestCost) {
+			this.bestCost = cost;
+			this.lastImprovementGeneration = this.generations;
+		}
+	}
+
+	/**
+	 * Gets the number of evaluated generations.
+	 * 
+	 * @return the number of generations
+	 */
+	public synchronized long getGenerations() {
+		return this.generations;
+	}
+
+	/**
+	 * Gets the generation in which the best Schedule was found.
+	 * 
+	 * @return the generation
+	 */
+	public synchronized long getLastImprovementGeneration() {
+		return this.lastImprovementGeneration;
+	}
+
+	/**
+	 * Gets the cost of the best Schedule or null.
+	 * 
+	 * @return the cost or null
+	 */
+	public synchronized Double getBestCost() {
+		return this.bestCost;
+	}
+
+	/**
+	 * Gets the improvement of the cost of the best Schedule from the first to the
+	 * last generation in [%].
+	 * 
+	 * @return the improvement or null
+	 */
+	public synchronized Integer getCostImprovement() {
+		if (this.initialCost == null || this.initialCost == 0.) {
+			return null;
+		}
+		return (int) Math.round((this.initialCost - this.bestCost) / this.initialCost * 100);
+	}
+}
@@ -2,6 +2,7 @@ package io.openems.edge.controller.ess.timeofusetariff.optimizer;
 
 import static io.jenetics.engine.EvolutionResult.toBestGenotype;
 import static io.jenetics.engine.Limits.byExecutionTime;
+import static io.jenetics.engine.Limits.bySteadyFitness;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.InitialPopulationUtils.buildInitialPopulation;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.paramsAreValid;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.postprocessSimulatorState;
@@ -9,6 +10,7 @@ import static java.lang.Math.max;
 import static java.time.Duration.ofSeconds;
 
 import java.time.ZonedDateTime;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -134,6 +136,31 @@ public class Simulator {
 
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
 			Integer limit) {
+		return getBestSchedule(p, SolverStrategy.GENETIC, executionLimitSeconds, populationSize, limit, null,
+				Runnable::run, null);
+	}
+
+	/**
+	 * Runs the optimization.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param solverStrategy        the {@link SolverStrategy}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param populationSize        the optional population size
+	 * @param limit                 the optional maximum number of generations
+	 * @param steadyFitness         the optional number of generations without
+	 *                              improvement after which the optimization
+	 *                              stops, e.g. after a warm start
+	 * @param executor              the {@link Executor} that evaluates the
+	 *                              population; {@link Runnable}::run for the
+	 *                              current thread
+	 * @param onGeneration          an optional {@link Consumer} that is called
+	 *                              after every generation
+	 * @return the best schedule
+	 */
+	protected static StateMachine[] getBestSchedule(Params p, SolverStrategy solverStrategy,
+			long executionLimitSeconds, Integer populationSize, Integer limit, Integer steadyFitness,
+			Executor executor, Consumer<EvolutionResult<IntegerGene, Double>> onGeneration) {
 		// Return pure BALANCING Schedule if no predictions are available
 		if (!paramsAreValid(p)) {
 			return p.optimizePeriods().stream() //
@@ -141,27 +168,37 @@ public class Simulator {
 					.toArray(StateMachine[]::new);
 		}
 
+		// Dynamic Programming: final result or seed for the genetic algorithm
+		final var seed = solverStrategy == SolverStrategy.GENETIC //
+				? null //
+				: DynamicProgrammingSolver.getBestSchedule(p);
+		if (solverStrategy == SolverStrategy.DYNAMIC_PROGRAMMING) {
+			return seed;
+		}
+
 		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size()); //
-		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
-			var modes = new StateMachine[p.optimizePeriods().size()];
-			for (var i = 0; i < modes.length; i++) {
-				modes[i] = p.states()[gt.get(i).get(0).intValue()];
-			}
-			return calculateCost(p, modes);
-		};
+		var cp = CompiledParams.from(p);
+		var eval = (Function<Genotype<IntegerGene>, Double>) cp::calculateCost;
 		var engine = Engine //
 				.builder(eval, gtf) //
-				.executor(Runnable::run) // current thread
+				.executor(executor) //
 				.minimizing();
 		if (populationSize != null) {
 			engine.populationSize(populationSize); //
 		}
-		Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
-				.stream(buildInitialPopulation(p)) //
+		var evolutionStream = engine.build() //
+				.stream(buildInitialPopulation(p, seed)) //
 				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
+		if (steadyFitness != null) {
+			evolutionStream = evolutionStream.limit(bySteadyFitness(steadyFitness)); // apply optional limit
+		}
+		Stream<EvolutionResult<IntegerGene, Double>> stream = evolutionStream;
 		if (limit != null) {
 			stream = stream.limit(limit); // apply optional limit
 		}
+		if (onGeneration != null) {
+			stream = stream.peek(onGeneration);
+		}
 		var bestGt = stream //
 				.collect(toBestGenotype());
 		return IntStream.range(0, p.optimizePeriods().size()) //
@@ -0,0 +1,18 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+public enum SolverStrategy {
+	/**
+	 * Genetic algorithm (Jenetics) within the execution limit.
+	 */
+	GENETIC,
+	/**
+	 * Dynamic Programming over the ESS Energy; see
+	 * {@link DynamicProgrammingSolver}.
+	 */
+	DYNAMIC_PROGRAMMING,
+	/**
+	 * Genetic algorithm; the initial population is seeded with the result of
+	 * {@link #DYNAMIC_PROGRAMMING}.
+	 */
+	HYBRID;
+}
@@ -86,6 +86,9 @@ public final class Utils {
 	protected static final long EXECUTION_LIMIT_SECONDS_BUFFER = 30;
 	protected static final long EXECUTION_LIMIT_SECONDS_MINIMUM = 60;
 
+	/** Re-plan if actual ESS Energy deviates more from the Schedule [%]. */
+	public static final int ESS_ENERGY_DRIFT_TOLERANCE_PERCENT = 5;
+
 	private static final Logger LOG = LoggerFactory.getLogger(Utils.class);
 
 	/**
@@ -109,6 +112,10 @@ public final class Utils {
 	 * Default RandomGenerator "L64X256MixRandom" might not be available. Choose
 	 * best available.
 	 * 
+	 * <p>
+	 * In production every thread gets its own RandomGenerator, as Schedules might
+	 * be evaluated in parallel.
+	 * 
 	 * @param isUnitTest true for JUnit tests; false in production
 	 */
 	private static void initializeRandomRegistry(boolean isUnitTest) {
@@ -120,7 +127,7 @@ public final class Utils {
 		if (isUnitTest) {
 			RandomRegistry.random(rgf.create(315));
 		} else {
-			RandomRegistry.random(rgf.create());
+			RandomRegistry.random(rgf);
 		}
 	}
 
@@ -420,6 +427,28 @@ public final class Utils {
 		return new GetScheduleResponse(requestId, fromDate, new ScheduleDatas(params.essTotalEnergy(), b.build()));
 	}
 
+	/**
+	 * Checks if the actual ESS Energy drifted from the simulated Schedule by more
+	 * than {@link #ESS_ENERGY_DRIFT_TOLERANCE_PERCENT} of the ESS Total Energy.
+	 * Within a period the simulated ESS Energy is interpolated linearly.
+	 * 
+	 * @param period         the simulated {@link Period} at 'now'; possibly null
+	 * @param now            the current time
+	 * @param essSocEnergy   the actual ESS Energy [Wh]
+	 * @param essTotalEnergy the ESS Total Energy (Capacity) [Wh]
+	 * @return true if the ESS Energy drifted
+	 */
+	public static boolean isEssEnergyDrifted(Period period, ZonedDateTime now, int essSocEnergy,
+			int essTotalEnergy) {
+		if (period == null) {
+			return false;
+		}
+		var periodSeconds = Duration.ofMinutes(15).toSeconds();
+		var elapsedSeconds = max(0, min(periodSeconds, Duration.between(period.op().time(), now).toSeconds()));
+		var expectedEnergy = period.essInitial() - period.ef().ess() * elapsedSeconds / periodSeconds;
+		return Math.abs(essSocEnergy - expectedEnergy) > essTotalEnergy * ESS_ENERGY_DRIFT_TOLERANCE_PERCENT / 100;
+	}
+
 	/**
 	 * Calculates the ExecutionLimitSeconds for the {@link Optimizer}.
 	 * 
@@ -2,6 +2,7 @@ package io.openems.edge.controller.ess.timeofusetariff;
 
 import io.openems.common.test.AbstractComponentConfig;
 import io.openems.common.utils.ConfigUtils;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.SolverStrategy;
 
 @SuppressWarnings("all")
 public class MyConfig extends AbstractComponentConfig implements Config {
@@ -16,6 +17,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int maxChargePowerFromGrid;
 		private boolean limitChargePowerFor14aEnWG;
 		private RiskLevel riskLevel;
+		private SolverStrategy solverStrategy = SolverStrategy.HYBRID;
+		private int optimizerThreads = 1;
+		private int optimizerCpuShare = 100;
 
 		private Builder() {
 		}
@@ -65,6 +69,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setSolverStrategy(SolverStrategy solverStrategy) {
+			this.solverStrategy = solverStrategy;
+			return this;
+		}
+
+		public Builder setOptimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
+		public Builder setOptimizerCpuShare(int optimizerCpuShare) {
+			this.optimizerCpuShare = optimizerCpuShare;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -121,6 +140,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.riskLevel;
 	}
 
+	@Override
+	public SolverStrategy solverStrategy() {
+		return this.builder.solverStrategy;
+	}
+
+	@Override
+	public int optimizerThreads() {
+		return this.builder.optimizerThreads;
+	}
+
+	@Override
+	public int optimizerCpuShare() {
+		return this.builder.optimizerCpuShare;
+	}
+
 	@Override
 	public String ess_target() {
 		return ConfigUtils.generateReferenceTargetFilter(this.id(), this.ess_id());
@@ -0,0 +1,79 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.CompiledParamsTest.createRandomParams;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * This little application measures the evaluations per second of the fitness
+ * function of the Optimizer, before and after compiling the {@link Params} to
+ * {@link CompiledParams}.
+ */
+public class CalculateCostBenchmarkApp {
+
+	private static final int GENOTYPES = 1_000;
+	private static final int WARMUP_ROUNDS = 200;
+	private static final int ROUNDS = 1_000;
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = //
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 */
+	public static void main(String[] args) {
+		var p = createRandomParams(new Random(1));
+		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size());
+		@SuppressWarnings("unchecked")
+		Genotype<IntegerGene>[] genotypes = new Genotype[GENOTYPES];
+		for (var i = 0; i < GENOTYPES; i++) {
+			genotypes[i] = gtf.newInstance();
+		}
+
+		// Fitness function before: Genotype to StateMachine[] to EnergyFlows
+		ToDoubleFunction<Genotype<IntegerGene>> before = gt -> {
+			var modes = new StateMachine[p.optimizePeriods().size()];
+			for (var i = 0; i < modes.length; i++) {
+				modes[i] = p.states()[gt.get(i).get(0).intValue()];
+			}
+			return Simulator.calculateCost(p, modes);
+		};
+
+		// Fitness function after
+		var cp = CompiledParams.from(p);
+		ToDoubleFunction<Genotype<IntegerGene>> after = cp::calculateCost;
+
+		run("before", before, genotypes, WARMUP_ROUNDS);
+		run("after", after, genotypes, WARMUP_ROUNDS);
+		System.out.println("Periods: " + p.optimizePeriods().size());
+		System.out.println(run("before", before, genotypes, ROUNDS));
+		System.out.println(run("after", after, genotypes, ROUNDS));
+	}
+
+	private static String run(String name, ToDoubleFunction<Genotype<IntegerGene>> eval,
+			Genotype<IntegerGene>[] genotypes, int rounds) {
+		var blackhole = 0.;
+		var allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+		var start = System.nanoTime();
+		for (var round = 0; round < rounds; round++) {
+			for (var gt : genotypes) {
+				blackhole += eval.applyAsDouble(gt);
+			}
+		}
+		var nanos = System.nanoTime() - start;
+		allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocated;
+
+		var evaluations = (double) rounds * genotypes.length;
+		return String.format("%-6s %,12.0f evaluations/s %,8.1f bytes/evaluation [%s]", name,
+				evaluations / nanos * 1_000_000_000, allocated / evaluations, blackhole);
+	}
+}
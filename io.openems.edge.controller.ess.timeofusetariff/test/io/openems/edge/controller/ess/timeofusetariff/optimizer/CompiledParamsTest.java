@@ -0,0 +1,76 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.calculateCost;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.SimulatorTest.hourlyToQuarterly;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.SimulatorTest.TIME;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+public class CompiledParamsTest {
+
+	@Test
+	public void testCalculateCost() {
+		var random = new Random(1);
+		for (var i = 0; i < 200; i++) {
+			var p = createRandomParams(random);
+			var cp = CompiledParams.from(p);
+			assertEquals(p.optimizePeriods().size(), cp.size());
+
+			for (var j = 0; j < 20; j++) {
+				var indexes = IntStream.range(0, cp.size()) //
+						.map(period -> random.nextInt(p.states().length)) //
+						.toArray();
+				var schedule = IntStream.of(indexes) //
+						.mapToObj(index -> p.states()[index]) //
+						.toArray(StateMachine[]::new);
+				var gt = Genotype.of(IntStream.of(indexes) //
+						.mapToObj(index -> IntegerChromosome.of(IntegerGene.of(index, 0, p.states().length))) //
+						.toList());
+
+				var expected = calculateCost(p, schedule);
+				assertEquals("#" + i + "/" + j, expected, cp.calculateCost(schedule), 0);
+				assertEquals("#" + i + "/" + j, expected, cp.calculateCost(gt), 0);
+			}
+		}
+	}
+
+	/**
+	 * Creates random {@link Params} for 24 hours.
+	 * 
+	 * @param random the {@link Random}
+	 * @return {@link Params}
+	 */
+	public static Params createRandomParams(Random random) {
+		var essTotalEnergy = 1000 + random.nextInt(30000);
+		var essMinSocEnergy = random.nextInt(essTotalEnergy / 2);
+		var essMaxSocEnergy = essTotalEnergy - random.nextInt(essTotalEnergy / 2);
+		var controlModes = ControlMode.values();
+		return Params.create() //
+				.setTime(TIME) //
+				.setEssTotalEnergy(essTotalEnergy) //
+				.setEssMinSocEnergy(essMinSocEnergy) //
+				.setEssMaxSocEnergy(essMaxSocEnergy) //
+				.setEssInitialEnergy(random.nextInt(essTotalEnergy + 1)) //
+				.setEssMaxChargeEnergy(random.nextInt(5000)) //
+				.setEssMaxDischargeEnergy(random.nextInt(5000)) //
+				.seMaxBuyFromGrid(random.nextInt(10000)) //
+				.setProductions(random.ints(96, 0, 4000).toArray()) //
+				.setConsumptions(random.ints(96, 0, 4000).toArray()) //
+				.setPrices(hourlyToQuarterly(random.doubles(24, -50, 500).toArray())) //
+				.setStates(controlModes[random.nextInt(controlModes.length)].states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+}
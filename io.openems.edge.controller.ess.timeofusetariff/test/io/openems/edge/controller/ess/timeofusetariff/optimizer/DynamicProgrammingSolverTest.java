@@ -0,0 +1,114 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.SimulatorTest.TIME;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.initializeRandomRegistryForUnitTest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.Params.OptimizePeriod;
+
+public class DynamicProgrammingSolverTest {
+
+	@Before
+	public void before() {
+		initializeRandomRegistryForUnitTest();
+	}
+
+	@Test
+	public void testExactOptimum() {
+		var random = new Random(1);
+		for (var i = 0; i < 100; i++) {
+			var p = createRandomParams(random, 8);
+			var cp = CompiledParams.from(p);
+			assertEquals(1, DynamicProgrammingSolver.getResolution(p, DynamicProgrammingSolver.getMaxBuckets(p)));
+			var schedule = DynamicProgrammingSolver.getBestSchedule(p);
+			assertEquals("#" + i, bruteForce(p, cp, new StateMachine[cp.size()], 0), cp.calculateCost(schedule), 0);
+		}
+	}
+
+	@Test
+	public void testBuckets() {
+		var random = new Random(2);
+		for (var i = 0; i < 1000; i++) {
+			var p = createRandomParams(random, 8);
+			var cp = CompiledParams.from(p);
+			var exact = cp.calculateCost(DynamicProgrammingSolver.getBestSchedule(p));
+			var bucketed = cp.calculateCost(DynamicProgrammingSolver.getBestSchedule(p, 50));
+
+			// Per period a merge drops less than one bucket of ESS Energy; its value is
+			// at most the ESS Energy times the highest price
+			var resolution = DynamicProgrammingSolver.getResolution(p, 50);
+			var maxPrice = p.optimizePeriods().stream().mapToDouble(OptimizePeriod::price).max().getAsDouble();
+			assertTrue("#" + i, bucketed >= exact);
+			assertTrue("#" + i, bucketed - exact <= cp.size() * resolution * maxPrice);
+		}
+	}
+
+	@Test
+	public void testTypicalInstallationIsExact() {
+		var random = new Random(3);
+		var p = createRandomParams(random, 192, 22_000);
+		var cp = CompiledParams.from(p);
+		assertEquals(1, DynamicProgrammingSolver.getResolution(p, DynamicProgrammingSolver.getMaxBuckets(p)));
+		var exact = cp.calculateCost(DynamicProgrammingSolver.getBestSchedule(p));
+		var bucketed = cp.calculateCost(DynamicProgrammingSolver.getBestSchedule(p, 500));
+		assertTrue(exact <= bucketed);
+	}
+
+	@Test
+	public void testNotWorseThanGenetic() {
+		var p = SimulatorTest.createParams888d20231106(ControlMode.CHARGE_CONSUMPTION.states);
+		var cp = CompiledParams.from(p);
+		var dynamicProgramming = cp.calculateCost(Simulator.getBestSchedule(p, SolverStrategy.DYNAMIC_PROGRAMMING, //
+				30, null, 30, null, Runnable::run, null));
+		var genetic = cp.calculateCost(Simulator.getBestSchedule(p, SolverStrategy.GENETIC, //
+				30, null, 30, null, Runnable::run, null));
+		var hybrid = cp.calculateCost(Simulator.getBestSchedule(p, SolverStrategy.HYBRID, //
+				30, null, 30, null, Runnable::run, null));
+		assertTrue(dynamicProgramming <= genetic);
+		assertEquals(dynamicProgramming, hybrid, 0);
+	}
+
+	private static double bruteForce(Params p, CompiledParams cp, StateMachine[] schedule, int period) {
+		if (period == schedule.length) {
+			return cp.calculateCost(schedule);
+		}
+		var result = Double.POSITIVE_INFINITY;
+		for (var state : p.states()) {
+			schedule[period] = state;
+			result = Math.min(result, bruteForce(p, cp, schedule, period + 1));
+		}
+		return result;
+	}
+
+	private static Params createRandomParams(Random random, int quarters) {
+		return createRandomParams(random, quarters, 1000 + random.nextInt(3000));
+	}
+
+	private static Params createRandomParams(Random random, int quarters, int essTotalEnergy) {
+		return Params.create() //
+				.setTime(TIME) //
+				.setEssTotalEnergy(essTotalEnergy) //
+				.setEssMinSocEnergy(random.nextInt(essTotalEnergy / 4)) //
+				.setEssMaxSocEnergy(essTotalEnergy - random.nextInt(essTotalEnergy / 4)) //
+				.setEssInitialEnergy(random.nextInt(essTotalEnergy + 1)) //
+				.setEssMaxChargeEnergy(random.nextInt(1500)) //
+				.setEssMaxDischargeEnergy(random.nextInt(1500)) //
+				.seMaxBuyFromGrid(random.nextInt(3000)) //
+				.setProductions(random.ints(quarters, 0, 1500).toArray()) //
+				.setConsumptions(random.ints(quarters, 0, 1500).toArray()) //
+				.setPrices(random.doubles(quarters, 0, 500).toArray()) //
+				.setStates(ControlMode.CHARGE_CONSUMPTION.states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+}
@@ -0,0 +1,79 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.SimulatorTest.TIME;
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.Fingerprint.Change;
+
+public class FingerprintTest {
+
+	private static final int[] PRODUCTIONS = IntStream.range(0, 100).map(i -> i * 10).toArray();
+	private static final int[] CONSUMPTIONS = IntStream.range(0, 100).map(i -> 1000 - i * 5).toArray();
+	private static final double[] PRICES = IntStream.range(0, 100).mapToDouble(i -> 100 + i % 24).toArray();
+
+	@Test
+	public void test() {
+		var previous = Fingerprint.from(createParams(TIME, 0, 96, PRODUCTIONS, PRICES));
+		assertEquals(Change.MATERIAL, previous.getChange(null));
+
+		// Same inputs; other ESS Initial Energy
+		assertEquals(Change.NONE, Fingerprint.from(createParams(TIME, 0, 96, PRODUCTIONS, PRICES)) //
+				.getChange(previous));
+
+		// First period dropped
+		assertEquals(Change.NONE, Fingerprint.from(createParams(TIME.plusMinutes(15), 1, 96, PRODUCTIONS, PRICES)) //
+				.getChange(previous));
+
+		// Horizon moved
+		assertEquals(Change.HORIZON, Fingerprint.from(createParams(TIME.plusMinutes(15), 1, 97, PRODUCTIONS, PRICES)) //
+				.getChange(previous));
+
+		// Horizon got shorter
+		assertEquals(Change.MATERIAL, Fingerprint.from(createParams(TIME, 0, 95, PRODUCTIONS, PRICES)) //
+				.getChange(previous));
+
+		// Prediction changed within tolerance
+		var productions = PRODUCTIONS.clone();
+		productions[50] += 40;
+		assertEquals(Change.NONE, Fingerprint.from(createParams(TIME, 0, 96, productions, PRICES)) //
+				.getChange(previous));
+
+		// Prediction changed
+		productions[50] += 100;
+		assertEquals(Change.MATERIAL, Fingerprint.from(createParams(TIME, 0, 96, productions, PRICES)) //
+				.getChange(previous));
+
+		// Price changed
+		var prices = PRICES.clone();
+		prices[90] += 0.1;
+		assertEquals(Change.MATERIAL, Fingerprint.from(createParams(TIME, 0, 96, PRODUCTIONS, prices)) //
+				.getChange(previous));
+	}
+
+	private static Params createParams(ZonedDateTime time, int from, int to, int[] productions, double[] prices) {
+		return Params.create() //
+				.setTime(time) //
+				.setEssTotalEnergy(22000) //
+				.setEssMinSocEnergy(0) //
+				.setEssMaxSocEnergy(20000) //
+				.setEssInitialEnergy(from * 100) //
+				.setEssMaxChargeEnergy(2500) //
+				.setEssMaxDischargeEnergy(2500) //
+				.seMaxBuyFromGrid(6000) //
+				.setProductions(Arrays.copyOfRange(productions, from, to)) //
+				.setConsumptions(Arrays.copyOfRange(CONSUMPTIONS, from, to)) //
+				.setPrices(Arrays.copyOfRange(prices, from, to)) //
+				.setStates(ControlMode.CHARGE_CONSUMPTION.states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+}
@@ -0,0 +1,252 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.ESS_MAX_SOC;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.initializeRandomRegistryForProduction;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.toEnergy;
+import static java.lang.Math.round;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.math.Quantiles;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * This little application runs the Optimizer headless on a fleet of historic
+ * days and prints the distribution of the daily cost per configuration, i.e.
+ * per {@link ControlMode} and {@link SolverStrategy}.
+ *
+ * <p>
+ * Input are CSV files, or directories containing CSV files, with one line per
+ * quarter of an hour and a header line with the columns
+ * <code>time;price;production;consumption</code> - in any order, separated by
+ * ';' or ','. 'time' is an ISO-8601 timestamp with offset, 'price' is in
+ * [€/MWh], 'production' and 'consumption' are average power values in [W].
+ * Lines are grouped into days by the local date of 'time'; every day is
+ * simulated independently starting with the configured initial SoC.
+ *
+ * <p>
+ * Options are given as '--key=value' before the files:
+ *
+ * <ul>
+ * <li>capacity: ESS Total Energy (Capacity) [Wh]; default 22000
+ * <li>power: ESS Max Charge/Discharge Power [W]; default 10000
+ * <li>maxBuyFromGrid: Max Buy-From-Grid Power [W]; default 24000
+ * <li>soc: ESS initial SoC [%]; default 50
+ * <li>strategies: comma separated {@link SolverStrategy}s; default
+ * DYNAMIC_PROGRAMMING
+ * <li>executionLimit: execution limit of the genetic algorithm [s]; default 5
+ * <li>threads: number of threads; default all available processors
+ * </ul>
+ */
+public class FleetScenarioRunnerApp {
+
+	protected static record Day(LocalDate date, ZonedDateTime time, int[] productions, int[] consumptions,
+			double[] prices) {
+	}
+
+	private static record Configuration(ControlMode controlMode, SolverStrategy solverStrategy) {
+
+		@Override
+		public String toString() {
+			return this.controlMode + "/" + this.solverStrategy;
+		}
+	}
+
+	private static record Result(double cost, double balancingCost) {
+	}
+
+	private static int capacity = 22_000;
+	private static int power = 10_000;
+	private static int maxBuyFromGrid = 24_000;
+	private static int soc = 50;
+	private static SolverStrategy[] strategies = { SolverStrategy.DYNAMIC_PROGRAMMING };
+	private static long executionLimit = 5;
+	private static int threads = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		var days = new ArrayList<Day>();
+		for (var arg : args) {
+			if (arg.startsWith("--")) {
+				parseOption(arg.substring(2));
+			} else {
+				try (var paths = Files.walk(Path.of(arg))) {
+					for (var path : paths.filter(p -> p.toString().endsWith(".csv")).sorted().toList()) {
+						days.addAll(readDays(path));
+					}
+				}
+			}
+		}
+		if (days.isEmpty()) {
+			System.out.println("Usage: FleetScenarioRunnerApp [--key=value...] <CSV file or directory>...");
+			return;
+		}
+
+		initializeRandomRegistryForProduction();
+		var configurations = Stream.of(ControlMode.values()) //
+				.flatMap(cm -> Stream.of(strategies).map(ss -> new Configuration(cm, ss))) //
+				.toList();
+		System.out.println(String.format("Days: %d, Configurations: %d, Threads: %d", //
+				days.size(), configurations.size(), threads));
+
+		var start = System.nanoTime();
+		var executor = Executors.newFixedThreadPool(threads);
+		try {
+			var tasks = new ArrayList<List<Callable<Result>>>();
+			for (var configuration : configurations) {
+				tasks.add(days.stream() //
+						.<Callable<Result>>map(day -> () -> run(day, configuration)) //
+						.toList());
+			}
+			var futures = executor.invokeAll(tasks.stream().flatMap(List::stream).toList());
+
+			System.out.println(String.format("%-40s %10s %10s %10s %10s %10s %10s %10s %8s", //
+					"Configuration", "Mean [EUR]", "Min", "P10", "P50", "P90", "Max", "Saving [EUR]", "Saving"));
+			for (var i = 0; i < configurations.size(); i++) {
+				var results = new Result[days.size()];
+				for (var j = 0; j < days.size(); j++) {
+					results[j] = futures.get(i * days.size() + j).get();
+				}
+				System.out.println(summarize(configurations.get(i).toString(), results));
+			}
+		} catch (ExecutionException e) {
+			e.printStackTrace();
+		} finally {
+			executor.shutdown();
+		}
+		System.out.println(String.format("Finished in %,d ms", (System.nanoTime() - start) / 1_000_000));
+	}
+
+	private static void parseOption(String option) {
+		var kv = option.split("=", 2);
+		var value = kv.length > 1 ? kv[1] : "";
+		switch (kv[0]) {
+		case "capacity" -> capacity = Integer.parseInt(value);
+		case "power" -> power = Integer.parseInt(value);
+		case "maxBuyFromGrid" -> maxBuyFromGrid = Integer.parseInt(value);
+		case "soc" -> soc = Integer.parseInt(value);
+		case "strategies" -> strategies = Stream.of(value.split(",")) //
+				.map(String::trim) //
+				.map(SolverStrategy::valueOf) //
+				.toArray(SolverStrategy[]::new);
+		case "executionLimit" -> executionLimit = Long.parseLong(value);
+		case "threads" -> threads = Integer.parseInt(value);
+		default -> throw new IllegalArgumentException("Unknown option [" + kv[0] + "]");
+		}
+	}
+
+	/**
+	 * Reads a CSV file and groups the lines into {@link Day}s.
+	 *
+	 * @param path the path of the CSV file
+	 * @return a list of {@link Day}s, ordered by date
+	 * @throws IOException on error
+	 */
+	protected static List<Day> readDays(Path path) throws IOException {
+		var lines = Files.readAllLines(path).stream() //
+				.filter(l -> !l.isBlank()) //
+				.toList();
+		if (lines.isEmpty()) {
+			return List.of();
+		}
+		var separator = lines.get(0).contains(";") ? ";" : ",";
+		var header = Arrays.asList(lines.get(0).trim().toLowerCase().split(separator));
+		var time = indexOf(path, header, "time");
+		var price = indexOf(path, header, "price");
+		var production = indexOf(path, header, "production");
+		var consumption = indexOf(path, header, "consumption");
+
+		var linesPerDay = new TreeMap<LocalDate, List<String[]>>();
+		for (var line : lines.subList(1, lines.size())) {
+			var values = line.trim().split(separator);
+			linesPerDay.computeIfAbsent(ZonedDateTime.parse(values[time]).toLocalDate(), d -> new ArrayList<>()) //
+					.add(values);
+		}
+
+		var result = new ArrayList<Day>();
+		for (var entry : linesPerDay.entrySet()) {
+			var values = entry.getValue();
+			result.add(new Day(entry.getKey(), ZonedDateTime.parse(values.get(0)[time]), //
+					values.stream().mapToInt(v -> toEnergy(Integer.parseInt(v[production]))).toArray(), //
+					values.stream().mapToInt(v -> toEnergy(Integer.parseInt(v[consumption]))).toArray(), //
+					values.stream().mapToDouble(v -> Double.parseDouble(v[price])).toArray()));
+		}
+		return result;
+	}
+
+	private static int indexOf(Path path, List<String> header, String column) throws IOException {
+		var index = header.indexOf(column);
+		if (index == -1) {
+			throw new IOException("Column [" + column + "] is missing in [" + path + "]");
+		}
+		return index;
+	}
+
+	/**
+	 * Creates the {@link Params} for a {@link Day}.
+	 *
+	 * @param day    the {@link Day}
+	 * @param states the allowed {@link StateMachine} states
+	 * @return the {@link Params}
+	 */
+	protected static Params createParams(Day day, StateMachine[] states) {
+		return Params.create() //
+				.setTime(day.time) //
+				.setEssTotalEnergy(capacity) //
+				.setEssMinSocEnergy(0) //
+				.setEssMaxSocEnergy(round(ESS_MAX_SOC / 100F * capacity)) //
+				.setEssInitialEnergy(capacity * soc / 100) //
+				.setEssMaxChargeEnergy(toEnergy(power)) //
+				.setEssMaxDischargeEnergy(toEnergy(power)) //
+				.seMaxBuyFromGrid(toEnergy(maxBuyFromGrid)) //
+				.setProductions(day.productions) //
+				.setConsumptions(day.consumptions) //
+				.setPrices(day.prices) //
+				.setStates(states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+
+	private static Result run(Day day, Configuration configuration) {
+		var p = createParams(day, configuration.controlMode.states);
+		var cp = CompiledParams.from(p);
+		var schedule = Simulator.getBestSchedule(p, configuration.solverStrategy, executionLimit, null, null, null,
+				Runnable::run, null);
+		var balancing = new StateMachine[cp.size()];
+		Arrays.fill(balancing, StateMachine.BALANCING);
+		return new Result(cp.calculateCost(schedule), cp.calculateCost(balancing));
+	}
+
+	private static String summarize(String name, Result[] results) {
+		// Cost is in [Wh * €/MWh]; convert to [€]
+		var costs = Stream.of(results).mapToDouble(r -> r.cost / 1_000_000).toArray();
+		var savings = Stream.of(results).mapToDouble(r -> (r.balancingCost - r.cost) / 1_000_000).toArray();
+		var balancingSum = Stream.of(results).mapToDouble(r -> r.balancingCost / 1_000_000).sum();
+		var savingsSum = Arrays.stream(savings).sum();
+		var percentiles = Quantiles.percentiles().indexes(10, 50, 90).compute(costs);
+		return String.format("%-40s %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f %7.2f%%", //
+				name, Arrays.stream(costs).average().orElse(0), Arrays.stream(costs).min().orElse(0),
+				percentiles.get(10), percentiles.get(50), percentiles.get(90), Arrays.stream(costs).max().orElse(0),
+				savingsSum / costs.length, balancingSum == 0 ? 0 : savingsSum / balancingSum * 100);
+	}
+}
@@ -0,0 +1,48 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+
+public class FleetScenarioRunnerAppTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReadDays() throws IOException {
+		var lines = new ArrayList<String>();
+		lines.add("consumption;time;production;price");
+		var time = LocalDate.of(2024, 3, 30).atStartOfDay(SimulatorTest.TIME.getZone());
+		for (var i = 0; i < 96 + 4; i++) {
+			lines.add(String.join(";", String.valueOf(4000), time.plusMinutes(i * 15).toString(),
+					String.valueOf(i * 100), String.valueOf(100. + i)));
+		}
+		var path = this.folder.newFile("fleet.csv").toPath();
+		Files.write(path, lines);
+
+		var days = FleetScenarioRunnerApp.readDays(path);
+		assertEquals(2, days.size());
+		assertEquals(LocalDate.of(2024, 3, 30), days.get(0).date());
+		assertEquals(time, days.get(0).time());
+		assertEquals(96, days.get(0).prices().length);
+		assertEquals(4, days.get(1).prices().length);
+		assertArrayEquals(new int[] { 1000, 1000, 1000, 1000 }, days.get(1).consumptions());
+		assertArrayEquals(new int[] { 2400, 2425, 2450, 2475 }, days.get(1).productions());
+		assertArrayEquals(new double[] { 196., 197., 198., 199. }, days.get(1).prices(), 0.001);
+
+		var p = FleetScenarioRunnerApp.createParams(days.get(0), ControlMode.CHARGE_CONSUMPTION.states);
+		assertEquals(96, p.optimizePeriods().stream().mapToInt(op -> op.quarterPeriods().size()).sum());
+		assertEquals(11000, p.essInitialEnergy());
+	}
+}
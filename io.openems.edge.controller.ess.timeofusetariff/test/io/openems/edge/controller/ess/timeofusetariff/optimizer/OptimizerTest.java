@@ -2,12 +2,27 @@ package io.openems.edge.controller.ess.timeofusetariff.optimizer;
 
 import static io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImplTest.CLOCK;
 import static io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImplTest.getOptimizer;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.simulate;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.SimulatorTest.TIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
 import org.junit.Test;
 
+import com.google.common.collect.ImmutableSortedMap;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffControllerImplTest;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.Fingerprint.Change;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.Period;
 
 public class OptimizerTest {
 
@@ -19,4 +34,83 @@ public class OptimizerTest {
 		assertTrue(sut.getSchedule().isEmpty());
 	}
 
+	@Test
+	public void testGetChange() {
+		var sut = new Optimizer(() -> null);
+		var params = createParams(TIME, 5000);
+		var fingerprint = Fingerprint.from(params);
+
+		// First run
+		assertEquals(Change.MATERIAL, sut.getChange(TIME, fingerprint, params));
+		sut.applySchedule(TIME, fingerprint, simulateBalancing(params));
+
+		// Inputs did not change -> skip
+		assertEquals(Change.NONE, sut.getChange(TIME, fingerprint, params));
+
+		// Horizon moved -> warm start
+		var next = createParams(TIME.plusMinutes(15), params.optimizePeriods().size() + 1, 5000);
+		assertEquals(Change.HORIZON, sut.getChange(TIME.plusMinutes(15), Fingerprint.from(next), next));
+	}
+
+	@Test
+	public void testEssEnergyDrift() {
+		var sut = new Optimizer(() -> null);
+		var params = createParams(TIME, 5000);
+		var fingerprint = Fingerprint.from(params);
+		var schedule = simulateBalancing(params);
+		sut.applySchedule(TIME, fingerprint, schedule);
+
+		// Within tolerance
+		var now = TIME.plusMinutes(5);
+		assertFalse(sut.isEssEnergyDrifted(now, 5000, 22000));
+
+		// Drifted -> full re-plan
+		assertTrue(sut.isEssEnergyDrifted(now, 10000, 22000));
+		assertEquals(Change.MATERIAL, sut.getChange(now, fingerprint, params));
+
+		// Re-planned from the actual ESS Energy; the Schedule of the current quarter
+		// is kept
+		var replan = createParams(TIME, 10000);
+		var newSchedule = simulateBalancing(replan);
+		sut.applySchedule(now, Fingerprint.from(replan), newSchedule);
+		assertEquals(schedule.get(TIME), sut.getSchedule().get(TIME));
+
+		// Suppressed till the next quarter
+		assertFalse(sut.isEssEnergyDrifted(now.plusMinutes(1), 5000, 22000));
+		assertEquals(Change.NONE, sut.getChange(now.plusMinutes(1), Fingerprint.from(replan), replan));
+
+		// Next quarter is compared with the re-planned trajectory
+		var nextQuarter = TIME.plusMinutes(15);
+		var expected = newSchedule.get(nextQuarter).essInitial();
+		assertFalse(sut.isEssEnergyDrifted(nextQuarter, expected, 22000));
+		assertTrue(sut.isEssEnergyDrifted(nextQuarter, schedule.get(nextQuarter).essInitial(), 22000));
+	}
+
+	private static ImmutableSortedMap<ZonedDateTime, Period> simulateBalancing(Params params) {
+		var states = new StateMachine[params.optimizePeriods().size()];
+		Arrays.fill(states, StateMachine.BALANCING);
+		return simulate(params, states);
+	}
+
+	private static Params createParams(ZonedDateTime time, int essInitialEnergy) {
+		return createParams(time, 16, essInitialEnergy);
+	}
+
+	private static Params createParams(ZonedDateTime time, int quarters, int essInitialEnergy) {
+		return Params.create() //
+				.setTime(time) //
+				.setEssTotalEnergy(22000) //
+				.setEssMinSocEnergy(0) //
+				.setEssMaxSocEnergy(22000) //
+				.setEssInitialEnergy(essInitialEnergy) //
+				.setEssMaxChargeEnergy(2500) //
+				.setEssMaxDischargeEnergy(2500) //
+				.seMaxBuyFromGrid(6000) //
+				.setProductions(new int[quarters]) //
+				.setConsumptions(IntStream.generate(() -> 1000).limit(quarters).toArray()) //
+				.setPrices(DoubleStream.generate(() -> 100).limit(quarters).toArray()) //
+				.setStates(ControlMode.CHARGE_CONSUMPTION.states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
 }
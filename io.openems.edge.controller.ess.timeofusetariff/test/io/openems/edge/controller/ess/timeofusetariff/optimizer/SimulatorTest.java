@@ -13,11 +13,13 @@ import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.toE
 import static java.util.Arrays.stream;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.DoubleStream;
@@ -166,6 +168,45 @@ public class SimulatorTest {
 		assertArrayEquals(existingSchedule, Arrays.copyOfRange(s, 0, existingSchedule.length));
 	}
 
+	@Test
+	public void testGetBestScheduleParallel() {
+		var p = Params.create() //
+				.setTime(TIME) //
+				.setEssTotalEnergy(22000) //
+				.setEssMinSocEnergy(0) //
+				.setEssMaxSocEnergy(22000) //
+				.setEssInitialEnergy((int) (22000 * 0.1)) //
+				.setEssMaxChargeEnergy(toEnergy(10000)) //
+				.setEssMaxDischargeEnergy(toEnergy(10000)) //
+				.seMaxBuyFromGrid(toEnergy(24_000)) //
+				.setProductions(stream(interpolateArray(PRODUCTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
+				.setConsumptions(stream(interpolateArray(CONSUMPTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
+				.setPrices(hourlyToQuarterly(interpolateArray(PRICES_888_20231106))) //
+				.setStates(ControlMode.CHARGE_CONSUMPTION.states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+		// A shared RandomGenerator is not thread-safe; every thread gets its own
+		RandomRegistry.random(() -> new Random(123));
+		var executor = Executors.newFixedThreadPool(2);
+		var statistics = new OptimizerStatistics();
+		try {
+			var s = getBestSchedule(p, SolverStrategy.GENETIC, //
+					/* executionLimitSeconds */ 30, //
+					/* populationSize */ null, //
+					/* limit */ 20, //
+					/* steadyFitness */ null, //
+					executor, statistics);
+			assertEquals(p.optimizePeriods().size(), s.length);
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(20, statistics.getGenerations());
+		assertTrue(statistics.getLastImprovementGeneration() <= 20);
+		assertTrue(statistics.getCostImprovement() >= 0);
+		assertTrue(statistics.getBestCost() > 0);
+	}
+
 	/**
 	 * Creates dummy {@link Params}.
 	 * 
@@ -185,6 +226,7 @@ public class SimulatorTest {
 				.setConsumptions(stream(interpolateArray(CONSUMPTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
 				.setPrices(hourlyToQuarterly(interpolateArray(PRICES_888_20231106))) //
 				.setStates(states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
 				.build();
 	}
 
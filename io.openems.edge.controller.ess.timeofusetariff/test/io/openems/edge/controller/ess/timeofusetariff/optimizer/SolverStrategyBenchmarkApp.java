@@ -0,0 +1,88 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.TestData.CONSUMPTION_888_20231106;
+import static io.openems.edge.controller.ess.timeofusetariff.TestData.CONSUMPTION_PREDICTION_QUARTERLY;
+import static io.openems.edge.controller.ess.timeofusetariff.TestData.HOURLY_PRICES_SUMMER;
+import static io.openems.edge.controller.ess.timeofusetariff.TestData.PRICES_888_20231106;
+import static io.openems.edge.controller.ess.timeofusetariff.TestData.PRODUCTION_888_20231106;
+import static io.openems.edge.controller.ess.timeofusetariff.TestData.PRODUCTION_PREDICTION_QUARTERLY;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.SimulatorTest.TIME;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.SimulatorTest.hourlyToQuarterly;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.initializeRandomRegistryForUnitTest;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.interpolateArray;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.toEnergy;
+import static java.util.Arrays.stream;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+
+/**
+ * This little application compares the {@link SolverStrategy}s on recorded
+ * price and forecast days: execution time and cost of the best Schedule.
+ */
+public class SolverStrategyBenchmarkApp {
+
+	private static final long EXECUTION_LIMIT_SECONDS = 30;
+
+	private static record Day(String name, Integer[] productions, Integer[] consumptions, Double[] hourlyPrices) {
+	}
+
+	private static final Day[] DAYS = { //
+			new Day("888_20231106", PRODUCTION_888_20231106, CONSUMPTION_888_20231106, PRICES_888_20231106), //
+			new Day("SUMMER", PRODUCTION_PREDICTION_QUARTERLY, CONSUMPTION_PREDICTION_QUARTERLY,
+					HOURLY_PRICES_SUMMER) };
+
+	private static final int[] INITIAL_SOCS = { 10, 50, 90 };
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 */
+	public static void main(String[] args) {
+		initializeRandomRegistryForUnitTest();
+		System.out.println(String.format("%-14s %-18s %4s %-20s %10s %16s %8s", //
+				"Day", "ControlMode", "SoC", "SolverStrategy", "Time [ms]", "Cost", "Delta"));
+		for (var day : DAYS) {
+			for (var controlMode : ControlMode.values()) {
+				for (var soc : INITIAL_SOCS) {
+					var p = createParams(day, controlMode, soc);
+					var cp = CompiledParams.from(p);
+					Double reference = null;
+					for (var solverStrategy : SolverStrategy.values()) {
+						var start = System.nanoTime();
+						var schedule = Simulator.getBestSchedule(p, solverStrategy, EXECUTION_LIMIT_SECONDS, null,
+								null, null, Runnable::run, null);
+						var millis = (System.nanoTime() - start) / 1_000_000;
+						var cost = cp.calculateCost(schedule);
+						if (reference == null) {
+							reference = cost;
+						}
+						System.out.println(String.format("%-14s %-18s %3d%% %-20s %,10d %,16.0f %+7.2f%%", //
+								day.name, controlMode, soc, solverStrategy, millis, cost,
+								reference == 0 ? 0 : (cost - reference) / reference * 100));
+					}
+				}
+			}
+		}
+	}
+
+	private static Params createParams(Day day, ControlMode controlMode, int soc) {
+		return Params.create() //
+				.setTime(TIME) //
+				.setEssTotalEnergy(22000) //
+				.setEssMinSocEnergy(0) //
+				.setEssMaxSocEnergy(22000) //
+				.setEssInitialEnergy(22000 * soc / 100) //
+				.setEssMaxChargeEnergy(toEnergy(10000)) //
+				.setEssMaxDischargeEnergy(toEnergy(10000)) //
+				.seMaxBuyFromGrid(toEnergy(24_000)) //
+				.setProductions(stream(interpolateArray(day.productions)).map(v -> toEnergy(v)).toArray()) //
+				.setConsumptions(stream(interpolateArray(day.consumptions)).map(v -> toEnergy(v)).toArray()) //
+				.setPrices(hourlyToQuarterly(interpolateArray(day.hourlyPrices))) //
+				.setStates(controlMode.states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+}
@@ -41,6 +41,7 @@ import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.gen
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.getEssMinSocEnergy;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.handleGetScheduleRequest;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.interpolateArray;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.isEssEnergyDrifted;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.joinConsumptionPredictions;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.paramsAreValid;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.postprocessRunState;
@@ -380,7 +381,7 @@ public class UtilsTest {
 		assertEquals(5000, getEssMinSocEnergy(new Context(//
 				null, null, null, null, null, //
 				List.of(t3), List.of(t1, t2), //
-				null, 0, false), //
+				null, 0, false, null, 1, 100), //
 				10000));
 	}
 
@@ -496,6 +497,28 @@ public class UtilsTest {
 		assertEquals(Duration.ofMinutes(15).plusSeconds(59).toSeconds(), calculateExecutionLimitSeconds(clock));
 	}
 
+	@Test
+	public void testIsEssEnergyDrifted() {
+		final var params = createParams888d20231106(ControlMode.CHARGE_CONSUMPTION.states);
+		final var op = params.optimizePeriods().get(0);
+		final var period = new Period(op, StateMachine.BALANCING, 10000,
+				new EnergyFlow(0, 2000, 2000, 0, 0, 0, 0, 0, 2000, 0));
+		final var time = op.time();
+
+		assertFalse(isEssEnergyDrifted(null, time, 0, 22000));
+
+		// Start of Period
+		assertFalse(isEssEnergyDrifted(period, time, 10000, 22000));
+		assertFalse(isEssEnergyDrifted(period, time, 11100, 22000));
+		assertTrue(isEssEnergyDrifted(period, time, 11101, 22000));
+
+		// Middle and end of Period
+		assertFalse(isEssEnergyDrifted(period, time.plusMinutes(7).plusSeconds(30), 9000, 22000));
+		assertTrue(isEssEnergyDrifted(period, time.plusMinutes(7).plusSeconds(30), 10101, 22000));
+		assertFalse(isEssEnergyDrifted(period, time.plusMinutes(15), 8000, 22000));
+		assertTrue(isEssEnergyDrifted(period, time.plusMinutes(15), 6899, 22000));
+	}
+
 	@Test
 	public void testCalculateMaxChargeGridPowerFromParams() {
 		final var params = createParams888d20231106(ControlMode.CHARGE_CONSUMPTION.states);
@@ -5,7 +5,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.OptionalDouble;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -26,7 +28,7 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.WriteChannel;
-import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -56,6 +58,7 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 	private LocalDateTime lastStateChange = LocalDateTime.MIN;
 	/** The current state in the State Machine. */
 	private State state = State.UNDEFINED;
+	private volatile Set<String> conflictGroups = Set.of();
 
 	@Reference(policy = ReferencePolicy.DYNAMIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.OPTIONAL)
 	private volatile Timedata timedata = null;
@@ -97,6 +100,15 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 			}
 			this.outputChannelAdresses.add(ChannelAddress.fromString(channel));
 		}
+		this.conflictGroups = this.outputChannelAdresses.stream() //
+				.map(ChannelAddress::getComponentId) //
+				.collect(Collectors.toUnmodifiableSet());
+	}
+
+	@Override
+	public Set<String> getConflictGroups() {
+		// the input Channel is only read from the process image
+		return this.conflictGroups;
 	}
 
 	@Override
@@ -156,19 +168,26 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 
 		// Get average input value of the last 'minimumSwitchingTime' seconds
 		IntegerReadChannel inputChannel = this.componentManager.getChannel(inputChannelAddress);
-		var values = inputChannel.getPastValues().tailMap(
-				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime()),
-				true).values();
-
-		// make sure we have at least one value
-		if (values.isEmpty()) {
-			values = new ArrayList<>();
-			values.add(inputChannel.value());
+		var pastValues = inputChannel.pastValues();
+		var from = pastValues.ceilingIndex(PastValues.toMillis(
+				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime())));
+
+		final OptionalDouble inputValueOpt;
+		if (from == pastValues.size()) {
+			// make sure we have at least one value
+			var value = inputChannel.value();
+			inputValueOpt = value.isDefined() ? OptionalDouble.of(value.get()) : OptionalDouble.empty();
+		} else {
+			var sum = 0L;
+			var count = 0;
+			for (var i = from; i < pastValues.size(); i++) {
+				if (pastValues.isDefined(i)) {
+					sum += pastValues.getAsLong(i);
+					count++;
+				}
+			}
+			inputValueOpt = count == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum / count);
 		}
-
-		var inputValueOpt = values.stream().filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.average();
 		int inputValue;
 		if (inputValueOpt.isPresent()) {
 			inputValue = (int) Math.round(inputValueOpt.getAsDouble());
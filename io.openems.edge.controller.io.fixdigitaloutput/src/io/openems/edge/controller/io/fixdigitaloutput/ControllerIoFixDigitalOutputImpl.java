@@ -1,6 +1,7 @@
 package io.openems.edge.controller.io.fixdigitaloutput;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -46,6 +47,9 @@ public class ControllerIoFixDigitalOutputImpl extends AbstractOpenemsComponent
 	/** Stores the ChannelAddress of the WriteChannel. */
 	private ChannelAddress outputChannelAddress = null;
 
+	/** The Component-ID of the output as conflict group. */
+	private Set<String> conflictGroups = null;
+
 	/** Takes the configured "isOn" setting. */
 	private boolean isOn = false;
 
@@ -65,6 +69,7 @@ public class ControllerIoFixDigitalOutputImpl extends AbstractOpenemsComponent
 		// parse config
 		this.isOn = config.isOn();
 		this.outputChannelAddress = ChannelAddress.fromString(config.outputChannelAddress());
+		this.conflictGroups = Set.of(this.outputChannelAddress.getComponentId());
 
 		super.activate(context, config.id(), config.alias(), config.enabled());
 	}
@@ -75,6 +80,11 @@ public class ControllerIoFixDigitalOutputImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getConflictGroups() {
+		return this.conflictGroups;
+	}
+
 	@Override
 	public void run() throws IllegalArgumentException, OpenemsNamedException {
 
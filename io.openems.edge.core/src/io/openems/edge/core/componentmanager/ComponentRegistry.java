@@ -0,0 +1,372 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Holds an indexed, immutable {@link Snapshot} of all OpenEMS Components that
+ * are registered as OSGi services.
+ *
+ * <p>
+ * The {@link Snapshot} is invalidated on every {@link ServiceEvent} for an
+ * {@link OpenemsComponent} and on every ConfigurationEvent; it is rebuilt
+ * lazily on the next read. Lookups on a valid {@link Snapshot} are simple map
+ * reads without OSGi filter evaluation.
+ */
+public class ComponentRegistry implements ServiceListener {
+
+	/**
+	 * Matches all services that are relevant for {@link ComponentManager} lookups.
+	 */
+	private static final String SERVICE_FILTER = "(|(" + Constants.OBJECTCLASS + "="
+			+ OpenemsComponent.class.getName() + ")(id=*))";
+
+	private final Logger log = LoggerFactory.getLogger(ComponentRegistry.class);
+
+	private final BundleContext bundleContext;
+
+	/**
+	 * Services that are currently being unregistered. They are excluded from new
+	 * Snapshots because no further {@link ServiceEvent} will be received for them.
+	 */
+	private final Set<ServiceReference<?>> unregistering = ConcurrentHashMap.newKeySet();
+
+	/** Guards {@link #generation} and {@link #snapshot}. */
+	private final Object lock = new Object();
+
+	private long generation = 0;
+	private volatile Snapshot snapshot = null;
+
+	/**
+	 * Builds a {@link ComponentRegistry}.
+	 *
+	 * @param bundleContext the {@link BundleContext}; might be null in JUnit tests
+	 */
+	public ComponentRegistry(BundleContext bundleContext) {
+		this.bundleContext = bundleContext;
+	}
+
+	/**
+	 * Starts listening for {@link ServiceEvent}s.
+	 */
+	public void activate() {
+		if (this.bundleContext == null) {
+			return;
+		}
+		try {
+			this.bundleContext.addServiceListener(this, SERVICE_FILTER);
+		} catch (InvalidSyntaxException e) {
+			// filter is a constant
+			e.printStackTrace();
+		}
+		this.invalidate();
+	}
+
+	/**
+	 * Stops listening for {@link ServiceEvent}s.
+	 */
+	public void deactivate() {
+		if (this.bundleContext == null) {
+			return;
+		}
+		this.bundleContext.removeServiceListener(this);
+		this.invalidate();
+	}
+
+	@Override
+	public void serviceChanged(ServiceEvent event) {
+		if (event.getType() == ServiceEvent.UNREGISTERING) {
+			this.unregistering.add(event.getServiceReference());
+		}
+		this.invalidate();
+	}
+
+	/**
+	 * Invalidates the current {@link Snapshot}, e.g. after a configuration change.
+	 */
+	public void invalidate() {
+		synchronized (this.lock) {
+			this.generation++;
+			this.snapshot = null;
+		}
+	}
+
+	/**
+	 * Gets the generation counter. It is incremented whenever the set of
+	 * Components or their properties might have changed.
+	 *
+	 * @return the generation
+	 */
+	public long getGeneration() {
+		synchronized (this.lock) {
+			return this.generation;
+		}
+	}
+
+	/**
+	 * Gets the current {@link Snapshot}; rebuilds it if required.
+	 *
+	 * @return the {@link Snapshot}
+	 */
+	public Snapshot getSnapshot() {
+		var snapshot = this.snapshot;
+		if (snapshot != null) {
+			return snapshot;
+		}
+
+		final long generation;
+		synchronized (this.lock) {
+			snapshot = this.snapshot;
+			if (snapshot != null) {
+				return snapshot;
+			}
+			generation = this.generation;
+		}
+
+		// Query OSGi outside of the lock
+		snapshot = new Snapshot(generation, this.readEntries());
+
+		synchronized (this.lock) {
+			if (this.generation == generation) {
+				// No event was received in the meantime -> Snapshot is valid
+				this.snapshot = snapshot;
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Reads all {@link OpenemsComponent} services from the
+	 * {@link BundleContext}.
+	 *
+	 * @return a list of {@link Entry}s
+	 */
+	private List<Entry> readEntries() {
+		if (this.bundleContext == null) {
+			// Can be null in JUnit tests
+			return Collections.emptyList();
+		}
+
+		// Cleanup references that are completely unregistered
+		this.unregistering.removeIf(reference -> reference.getBundle() == null);
+
+		try {
+			var references = this.bundleContext.getServiceReferences((String) null, SERVICE_FILTER);
+			if (references == null) {
+				return Collections.emptyList();
+			}
+			var result = new ArrayList<Entry>(references.length);
+			for (var reference : references) {
+				if (this.unregistering.contains(reference)) {
+					continue;
+				}
+				var service = this.bundleContext.getService(reference);
+				if (service == null) {
+					continue;
+				}
+				if (service instanceof OpenemsComponent) {
+					var id = reference.getProperty("id");
+					var factoryPid = reference.getProperty("service.factoryPid");
+					result.add(new Entry((OpenemsComponent) service, //
+							id instanceof String ? (String) id : null, //
+							isEnabled(reference.getProperty("enabled")), //
+							ComponentManager.SINGLETON_SERVICE_PID.equals(factoryPid), //
+							toStringArray(reference.getProperty(Constants.OBJECTCLASS))));
+				}
+				this.bundleContext.ungetService(reference);
+			}
+			return result;
+
+		} catch (InvalidSyntaxException e) {
+			// filter is a constant
+			this.log.error("Unable to read OpenEMS Components: " + e.getMessage());
+			return Collections.emptyList();
+		}
+	}
+
+	private static boolean isEnabled(Object value) {
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		}
+		return value != null && "true".equalsIgnoreCase(value.toString());
+	}
+
+	private static String[] toStringArray(Object value) {
+		if (value instanceof String[]) {
+			return (String[]) value;
+		}
+		if (value instanceof String) {
+			return new String[] { (String) value };
+		}
+		return new String[0];
+	}
+
+	/**
+	 * One registered {@link OpenemsComponent} service.
+	 *
+	 * @param component        the {@link OpenemsComponent}
+	 * @param id               the value of the 'id' service property
+	 * @param enabled          the value of the 'enabled' service property
+	 * @param componentManager true if this is the {@link ComponentManager}
+	 * @param objectClasses    the names of the registered service interfaces
+	 */
+	public static record Entry(OpenemsComponent component, String id, boolean enabled, boolean componentManager,
+			String[] objectClasses) {
+
+		/**
+		 * Was this service registered under the given interface?.
+		 *
+		 * @param clazz the interface
+		 * @return true if registered
+		 */
+		public boolean isRegisteredAs(Class<?> clazz) {
+			if (!clazz.isInstance(this.component)) {
+				return false;
+			}
+			var name = clazz.getName();
+			for (var objectClass : this.objectClasses) {
+				if (name.equals(objectClass)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * An immutable, indexed view on all registered {@link OpenemsComponent}s.
+	 */
+	public static final class Snapshot {
+
+		private final long generation;
+		private final List<OpenemsComponent> enabledComponents;
+		private final List<OpenemsComponent> allComponents;
+		private final Map<String, OpenemsComponent> enabledById;
+		private final Map<String, OpenemsComponent> allById;
+		private final List<Entry> entries;
+
+		/**
+		 * Lazily filled index from nature interface to enabled Components.
+		 */
+		private final Map<Class<?>, List<?>> enabledByType = new ConcurrentHashMap<>();
+
+		Snapshot(long generation, List<Entry> entries) {
+			this.generation = generation;
+			this.entries = entries;
+			var enabledComponents = new ArrayList<OpenemsComponent>();
+			var allComponents = new ArrayList<OpenemsComponent>();
+			var enabledById = new HashMap<String, OpenemsComponent>();
+			var allById = new HashMap<String, OpenemsComponent>();
+			for (var entry : entries) {
+				var component = entry.component();
+				var id = entry.id();
+				if (!entry.isRegisteredAs(OpenemsComponent.class)) {
+					// Only reachable via getEnabledComponentsOfType()
+					continue;
+				}
+				if (!entry.componentManager()) {
+					allComponents.add(component);
+					if (entry.enabled()) {
+						enabledComponents.add(component);
+					}
+				}
+				if (id == null) {
+					continue;
+				}
+				allById.putIfAbsent(id, component);
+				if (entry.enabled()) {
+					enabledById.putIfAbsent(id, component);
+				}
+			}
+			this.enabledComponents = Collections.unmodifiableList(enabledComponents);
+			this.allComponents = Collections.unmodifiableList(allComponents);
+			this.enabledById = enabledById;
+			this.allById = allById;
+		}
+
+		/**
+		 * Gets the generation this Snapshot was built for.
+		 *
+		 * @return the generation
+		 */
+		public long getGeneration() {
+			return this.generation;
+		}
+
+		/**
+		 * Gets all enabled Components, excluding the {@link ComponentManager}.
+		 *
+		 * @return an unmodifiable list
+		 */
+		public List<OpenemsComponent> getEnabledComponents() {
+			return this.enabledComponents;
+		}
+
+		/**
+		 * Gets all Components, excluding the {@link ComponentManager}.
+		 *
+		 * @return an unmodifiable list
+		 */
+		public List<OpenemsComponent> getAllComponents() {
+			return this.allComponents;
+		}
+
+		/**
+		 * Gets all enabled Components that are registered as the given Type.
+		 *
+		 * @param <T>   the Type
+		 * @param clazz the Type
+		 * @return an unmodifiable list
+		 */
+		@SuppressWarnings("unchecked")
+		public <T> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+			return (List<T>) this.enabledByType.computeIfAbsent(clazz, c -> {
+				var result = new ArrayList<T>();
+				for (var entry : this.entries) {
+					if (entry.enabled() && entry.isRegisteredAs(c)) {
+						result.add((T) entry.component());
+					}
+				}
+				return Collections.unmodifiableList(result);
+			});
+		}
+
+		/**
+		 * Gets an enabled Component by its ID.
+		 *
+		 * @param componentId the Component-ID
+		 * @return the Component or null
+		 */
+		public OpenemsComponent getEnabledComponent(String componentId) {
+			return this.enabledById.get(componentId);
+		}
+
+		/**
+		 * Gets a possibly disabled Component by its ID.
+		 *
+		 * @param componentId the Component-ID
+		 * @return the Component or null
+		 */
+		public OpenemsComponent getPossiblyDisabledComponent(String componentId) {
+			return this.allById.get(componentId);
+		}
+	}
+
+}
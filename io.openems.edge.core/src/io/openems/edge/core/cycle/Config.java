@@ -13,6 +13,25 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Parallel Controllers", description = "Execute independent Controllers concurrently. "
+			+ "Controllers with common conflict groups keep the Scheduler order.")
+	boolean parallelControllers() default false;
+
+	@AttributeDefinition(name = "Controller Threads", description = "Number of threads for parallel Controllers")
+	int controllerThreads() default 4;
+
+	@AttributeDefinition(name = "EventAdmin Bridge", description = "Send Cycle events also via OSGi EventAdmin. "
+			+ "Required for all EventHandlers that do not implement CycleEventListener.")
+	boolean eventAdminBridge() default true;
+
+	@AttributeDefinition(name = "Deadline Mode", description = "Start Cycles on a fixed grid of Cycle-Time slots; "
+			+ "after an overrun missed slots are skipped. Low-priority work is deferred if the budget is used up.")
+	boolean deadlineMode() default false;
+
+	@AttributeDefinition(name = "Deadline Budget", description = "Share of the Cycle-Time in [%] after which "
+			+ "low-priority work is deferred to a later Cycle (Deadline Mode only)")
+	int deadlineBudget() default 80;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
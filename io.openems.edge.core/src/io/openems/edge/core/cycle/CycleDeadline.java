@@ -0,0 +1,127 @@
+package io.openems.edge.core.cycle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedules the Core.Cycle on a fixed grid of Cycle-Time slots and keeps track
+ * of its deadlines.
+ *
+ * <p>
+ * Every Cycle has a scheduled start. Its deadline is the scheduled start plus
+ * Cycle-Time; low-priority work is only allowed until the configured budget
+ * (in [%] of Cycle-Time) is used up. If a Cycle overruns its deadline, the
+ * missed slots are skipped and the next Cycle starts at the next slot of the
+ * grid, i.e. overruns do not accumulate drift.
+ *
+ * <p>
+ * All times are {@link System#nanoTime()} values. {@link #start(long, int)},
+ * {@link #finish(long)} and {@link #getWaitTime(long)} are called by the Cycle
+ * thread; {@link #allowLowPriorityWork(long)} may be called by any thread.
+ */
+public class CycleDeadline {
+
+	private final int budget;
+	private final AtomicLong overruns = new AtomicLong();
+	private final AtomicLong skippedWork = new AtomicLong();
+
+	private volatile long budgetDeadline;
+	private long scheduledStart;
+	private long cycleTimeNanos;
+	private boolean isScheduled = false;
+
+	/**
+	 * Creates a {@link CycleDeadline}.
+	 *
+	 * @param budget the share of Cycle-Time in [%] that may be used before
+	 *               low-priority work is deferred
+	 */
+	public CycleDeadline(int budget) {
+		this.budget = Math.max(0, Math.min(100, budget));
+	}
+
+	/**
+	 * Starts a Cycle.
+	 *
+	 * @param nowNanos  the current {@link System#nanoTime()}
+	 * @param cycleTime the Cycle-Time in [ms]
+	 * @return the jitter, i.e. the delay of the actual start compared to the
+	 *         scheduled start, in [ns]
+	 */
+	public long start(long nowNanos, int cycleTime) {
+		if (!this.isScheduled) {
+			this.scheduledStart = nowNanos;
+			this.isScheduled = true;
+		}
+		this.cycleTimeNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, cycleTime));
+		this.budgetDeadline = this.scheduledStart + this.cycleTimeNanos * this.budget / 100;
+		return Math.max(0, nowNanos - this.scheduledStart);
+	}
+
+	/**
+	 * Asks whether low-priority work may be executed now. If the budget is used
+	 * up, the skipped work is counted.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return true if the work may be executed
+	 */
+	public boolean allowLowPriorityWork(long nowNanos) {
+		if (nowNanos - this.budgetDeadline < 0) {
+			return true;
+		}
+		this.skippedWork.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Finishes a Cycle and schedules the start of the next one.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return true if the Cycle overran its deadline
+	 */
+	public boolean finish(long nowNanos) {
+		var elapsedSlots = Math.max(0, (nowNanos - this.scheduledStart) / this.cycleTimeNanos);
+		this.scheduledStart += (elapsedSlots + 1) * this.cycleTimeNanos;
+		if (elapsedSlots > 0) {
+			this.overruns.incrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the time to wait until the scheduled start of the next Cycle.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return the time to wait in [ms], rounded up
+	 */
+	public long getWaitTime(long nowNanos) {
+		if (!this.isScheduled) {
+			return 0;
+		}
+		var wait = this.scheduledStart - nowNanos;
+		if (wait <= 0) {
+			return 0;
+		}
+		return (wait + 999_999) / 1_000_000;
+	}
+
+	/**
+	 * Gets the number of Cycles that overran their deadline.
+	 *
+	 * @return the number of overruns
+	 */
+	public long getOverruns() {
+		return this.overruns.get();
+	}
+
+	/**
+	 * Gets the number of times low-priority work was skipped.
+	 *
+	 * @return the number of skipped work items
+	 */
+	public long getSkippedWork() {
+		return this.skippedWork.get();
+	}
+
+}
@@ -2,6 +2,9 @@ package io.openems.edge.core.cycle;
 
 import java.util.Comparator;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -18,13 +21,26 @@ import org.osgi.service.event.EventAdmin;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.event.CycleEventBus;
+import io.openems.edge.common.event.CycleEventListener;
+import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.user.User;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfileRequest;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,9 +51,11 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, JsonApi {
 
+	private final CycleProfiler profiler = new CycleProfiler(CycleProfiler.DEFAULT_WINDOW, System.nanoTime());
 	private final CycleWorker worker = new CycleWorker(this);
+	private final CycleEventBus cycleEventBus = new CycleEventBus();
 
 	@Reference
 	private ConfigurationAdmin cm;
@@ -59,6 +77,19 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 
 	private Config config = null;
 
+	/**
+	 * Executes Controllers concurrently; null if 'parallelControllers' is
+	 * disabled.
+	 */
+	private volatile ParallelControllers parallelControllers = null;
+	private ExecutorService controllerExecutor = null;
+
+	/**
+	 * Schedules the Cycles and their deadlines; null if 'deadlineMode' is
+	 * disabled.
+	 */
+	private volatile CycleDeadline deadline = null;
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
@@ -76,10 +107,23 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		}
 	}
 
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE)
+	protected void addCycleEventListener(CycleEventListener listener) {
+		this.cycleEventBus.addListener(listener);
+	}
+
+	protected void removeCycleEventListener(CycleEventListener listener) {
+		this.cycleEventBus.removeListener(listener);
+	}
+
 	public CycleImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
-				Cycle.ChannelId.values() //
+				Cycle.ChannelId.values(), //
+				CycleProfiler.ChannelId.values() //
 		);
 	}
 
@@ -87,6 +131,8 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.applyParallelControllers(config);
+		this.applyDeadline(config);
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +144,8 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.applyParallelControllers(config);
+		this.applyDeadline(config);
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +158,106 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.applyParallelControllers(null);
+	}
+
+	private synchronized void applyParallelControllers(Config config) {
+		var oldExecutor = this.controllerExecutor;
+		if (config != null && config.parallelControllers()) {
+			this.controllerExecutor = Executors.newFixedThreadPool(Math.max(1, config.controllerThreads()),
+					new ThreadFactoryBuilder().setNameFormat("Cycle-Controller-%d").build());
+			this.parallelControllers = new ParallelControllers(this.controllerExecutor);
+		} else {
+			this.controllerExecutor = null;
+			this.parallelControllers = null;
+		}
+		// The CycleWorker might still hold the old instance
+		ParallelControllers.retire(oldExecutor);
+	}
+
+	private void applyDeadline(Config config) {
+		if (config.deadlineMode()) {
+			this.deadline = new CycleDeadline(config.deadlineBudget());
+		} else {
+			this.deadline = null;
+		}
+	}
+
+	/**
+	 * Gets the {@link CycleDeadline}.
+	 *
+	 * @return the {@link CycleDeadline}; null if 'deadlineMode' is disabled
+	 */
+	protected CycleDeadline getDeadline() {
+		return this.deadline;
+	}
+
+	@Override
+	public boolean allowLowPriorityWork() {
+		var deadline = this.deadline;
+		if (deadline == null) {
+			return true;
+		}
+		return deadline.allowLowPriorityWork(System.nanoTime());
+	}
+
+	/**
+	 * Gets the {@link CycleEventBus}.
+	 *
+	 * @return the {@link CycleEventBus}
+	 */
+	protected CycleEventBus getCycleEventBus() {
+		return this.cycleEventBus;
+	}
+
+	/**
+	 * Should Cycle events also be sent via EventAdmin?.
+	 *
+	 * @return true for EventHandlers that are not {@link CycleEventListener}s
+	 */
+	protected boolean isEventAdminBridgeEnabled() {
+		var config = this.config;
+		return config == null || config.eventAdminBridge();
+	}
+
+	/**
+	 * Gets the {@link CycleProfiler}.
+	 *
+	 * @return the {@link CycleProfiler}
+	 */
+	protected CycleProfiler getProfiler() {
+		return this.profiler;
+	}
+
+	/**
+	 * Applies the latest {@link CycleProfiler.Profile} to the Channels.
+	 */
+	protected void updateProfilerChannels() {
+		var profile = this.profiler.getProfile();
+		for (var channelId : CycleProfiler.ChannelId.values()) {
+			this.<LongReadChannel>channel(channelId).setNextValueLong(channelId.getValue(profile));
+		}
+	}
+
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("handleJsonrpcRequest", Role.GUEST);
+		return switch (request.getMethod()) {
+		case GetCycleProfileRequest.METHOD -> CompletableFuture.completedFuture(
+				new GenericJsonrpcResponseSuccess(request.getId(), this.profiler.getProfile().toJson()));
+		default -> throw OpenemsError.JSONRPC_UNHANDLED_METHOD.exception(request.getMethod());
+		};
+	}
+
+	/**
+	 * Gets the {@link ParallelControllers}.
+	 *
+	 * @return the {@link ParallelControllers}; null if Controllers are executed
+	 *         sequentially
+	 */
+	protected ParallelControllers getParallelControllers() {
+		return this.parallelControllers;
 	}
 
 	@Override
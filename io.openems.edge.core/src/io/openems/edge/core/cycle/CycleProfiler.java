@@ -0,0 +1,241 @@
+package io.openems.edge.core.cycle;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.core.cycle.LatencyHistogram.Snapshot;
+
+/**
+ * Records {@link LatencyHistogram}s for each {@link Phase} of the Core.Cycle,
+ * for each Controller and for each EventHandler.
+ *
+ * <p>
+ * Durations are recorded in [us]. Statistics are evaluated per window (see
+ * {@link #publish(long)}); the latest {@link Profile} is available via
+ * {@link #getProfile()} and as Channels (see {@link ChannelId}).
+ */
+public class CycleProfiler {
+
+	public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+
+	public enum Phase {
+		BEFORE_PROCESS_IMAGE, //
+		AFTER_PROCESS_IMAGE, //
+		BEFORE_CONTROLLERS, //
+		CONTROLLERS, //
+		AFTER_CONTROLLERS, //
+		BEFORE_WRITE, //
+		EXECUTE_WRITE, //
+		AFTER_WRITE;
+	}
+
+	public enum Statistic {
+		P50, P99, MAX;
+	}
+
+	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		BEFORE_PROCESS_IMAGE_P50(Phase.BEFORE_PROCESS_IMAGE, Statistic.P50), //
+		BEFORE_PROCESS_IMAGE_P99(Phase.BEFORE_PROCESS_IMAGE, Statistic.P99), //
+		BEFORE_PROCESS_IMAGE_MAX(Phase.BEFORE_PROCESS_IMAGE, Statistic.MAX), //
+		AFTER_PROCESS_IMAGE_P50(Phase.AFTER_PROCESS_IMAGE, Statistic.P50), //
+		AFTER_PROCESS_IMAGE_P99(Phase.AFTER_PROCESS_IMAGE, Statistic.P99), //
+		AFTER_PROCESS_IMAGE_MAX(Phase.AFTER_PROCESS_IMAGE, Statistic.MAX), //
+		BEFORE_CONTROLLERS_P50(Phase.BEFORE_CONTROLLERS, Statistic.P50), //
+		BEFORE_CONTROLLERS_P99(Phase.BEFORE_CONTROLLERS, Statistic.P99), //
+		BEFORE_CONTROLLERS_MAX(Phase.BEFORE_CONTROLLERS, Statistic.MAX), //
+		CONTROLLERS_P50(Phase.CONTROLLERS, Statistic.P50), //
+		CONTROLLERS_P99(Phase.CONTROLLERS, Statistic.P99), //
+		CONTROLLERS_MAX(Phase.CONTROLLERS, Statistic.MAX), //
+		AFTER_CONTROLLERS_P50(Phase.AFTER_CONTROLLERS, Statistic.P50), //
+		AFTER_CONTROLLERS_P99(Phase.AFTER_CONTROLLERS, Statistic.P99), //
+		AFTER_CONTROLLERS_MAX(Phase.AFTER_CONTROLLERS, Statistic.MAX), //
+		BEFORE_WRITE_P50(Phase.BEFORE_WRITE, Statistic.P50), //
+		BEFORE_WRITE_P99(Phase.BEFORE_WRITE, Statistic.P99), //
+		BEFORE_WRITE_MAX(Phase.BEFORE_WRITE, Statistic.MAX), //
+		EXECUTE_WRITE_P50(Phase.EXECUTE_WRITE, Statistic.P50), //
+		EXECUTE_WRITE_P99(Phase.EXECUTE_WRITE, Statistic.P99), //
+		EXECUTE_WRITE_MAX(Phase.EXECUTE_WRITE, Statistic.MAX), //
+		AFTER_WRITE_P50(Phase.AFTER_WRITE, Statistic.P50), //
+		AFTER_WRITE_P99(Phase.AFTER_WRITE, Statistic.P99), //
+		AFTER_WRITE_MAX(Phase.AFTER_WRITE, Statistic.MAX);
+
+		private final Phase phase;
+		private final Statistic statistic;
+		private final Doc doc;
+
+		private ChannelId(Phase phase, Statistic statistic) {
+			this.phase = phase;
+			this.statistic = statistic;
+			this.doc = Doc.of(OpenemsType.LONG) //
+					.unit(Unit.MICROSECONDS) //
+					.text(statistic.name() + " duration of Cycle phase " + phase.name());
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+
+		/**
+		 * Gets the value of this Channel from a {@link Profile}.
+		 *
+		 * @param profile the {@link Profile}
+		 * @return the value in [us]
+		 */
+		public long getValue(Profile profile) {
+			var snapshot = profile.phases().get(this.phase);
+			return switch (this.statistic) {
+			case P50 -> snapshot.p50();
+			case P99 -> snapshot.p99();
+			case MAX -> snapshot.max();
+			};
+		}
+	}
+
+	/**
+	 * The statistics of one window.
+	 *
+	 * @param phases        the statistics per {@link Phase}
+	 * @param controllers   the statistics per Controller-ID
+	 * @param eventHandlers the statistics per EventHandler
+	 */
+	public record Profile(Map<Phase, Snapshot> phases, Map<String, Snapshot> controllers,
+			Map<String, Snapshot> eventHandlers) {
+
+		/**
+		 * Serializes the {@link Profile} to JSON.
+		 *
+		 * @return a {@link JsonObject}
+		 */
+		public JsonObject toJson() {
+			var phases = new JsonObject();
+			this.phases.forEach((phase, snapshot) -> phases.add(phase.name(), snapshot.toJson()));
+			return JsonUtils.buildJsonObject() //
+					.addProperty("unit", Unit.MICROSECONDS.symbol) //
+					.add("phases", phases) //
+					.add("controllers", toJson(this.controllers)) //
+					.add("eventHandlers", toJson(this.eventHandlers)) //
+					.build();
+		}
+
+		private static JsonObject toJson(Map<String, Snapshot> snapshots) {
+			var result = new JsonObject();
+			snapshots.forEach((key, snapshot) -> result.add(key, snapshot.toJson()));
+			return result;
+		}
+	}
+
+	private final long windowNanos;
+	private final EnumMap<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+	private final Map<String, LatencyHistogram> controllers = new ConcurrentHashMap<>();
+	private final Map<String, LatencyHistogram> eventHandlers = new ConcurrentHashMap<>();
+
+	private long windowStart;
+	private volatile Profile profile;
+
+	public CycleProfiler(Duration window, long nowNanos) {
+		this.windowNanos = window.toNanos();
+		this.windowStart = nowNanos;
+		var phases = new EnumMap<Phase, Snapshot>(Phase.class);
+		for (var phase : Phase.values()) {
+			this.phases.put(phase, new LatencyHistogram());
+			phases.put(phase, Snapshot.EMPTY);
+		}
+		this.profile = new Profile(phases, Collections.emptyMap(), Collections.emptyMap());
+	}
+
+	/**
+	 * Records the duration of a {@link Phase}.
+	 *
+	 * @param phase the {@link Phase}
+	 * @param nanos the duration in [ns]
+	 */
+	public void recordPhase(Phase phase, long nanos) {
+		this.phases.get(phase).record(nanos / 1000);
+	}
+
+	/**
+	 * Records the duration of a Controller run.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @param nanos        the duration in [ns]
+	 */
+	public void recordController(String controllerId, long nanos) {
+		record(this.controllers, controllerId, nanos);
+	}
+
+	/**
+	 * Records the duration of an EventHandler call.
+	 *
+	 * @param eventHandler the name of the EventHandler
+	 * @param nanos        the duration in [ns]
+	 */
+	public void recordEventHandler(String eventHandler, long nanos) {
+		record(this.eventHandlers, eventHandler, nanos);
+	}
+
+	private static void record(Map<String, LatencyHistogram> histograms, String key, long nanos) {
+		var histogram = histograms.get(key);
+		if (histogram == null) {
+			histogram = histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+		}
+		histogram.record(nanos / 1000);
+	}
+
+	/**
+	 * Evaluates the statistics if the window is over. Called by the Cycle thread
+	 * at the end of each Cycle.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return true if a new {@link Profile} is available
+	 */
+	public boolean publish(long nowNanos) {
+		if (nowNanos - this.windowStart < this.windowNanos) {
+			return false;
+		}
+		this.windowStart = nowNanos;
+
+		var phases = new EnumMap<Phase, Snapshot>(Phase.class);
+		this.phases.forEach((phase, histogram) -> phases.put(phase, histogram.snapshotAndReset()));
+		this.profile = new Profile(Collections.unmodifiableMap(phases), //
+				snapshotAndReset(this.controllers), //
+				snapshotAndReset(this.eventHandlers));
+		return true;
+	}
+
+	private static Map<String, Snapshot> snapshotAndReset(Map<String, LatencyHistogram> histograms) {
+		var result = new TreeMap<String, Snapshot>();
+		var iterator = histograms.entrySet().iterator();
+		while (iterator.hasNext()) {
+			var entry = iterator.next();
+			var snapshot = entry.getValue().snapshotAndReset();
+			if (snapshot.count() == 0) {
+				// e.g. Controller was removed
+				iterator.remove();
+			} else {
+				result.put(entry.getKey(), snapshot);
+			}
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Gets the {@link Profile} of the latest completed window.
+	 *
+	 * @return the {@link Profile}
+	 */
+	public Profile getProfile() {
+		return this.profile;
+	}
+
+}
@@ -1,6 +1,8 @@
 package io.openems.edge.core.cycle;
 
+import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ObjLongConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,15 +13,19 @@ import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
-import io.openems.edge.common.event.EdgeEventConstants;
-import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.CycleEvent;
+import io.openems.edge.common.event.CycleEventListener;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
 import io.openems.edge.scheduler.api.Scheduler;
 
 public class CycleWorker extends AbstractWorker {
 
 	private final Logger log = LoggerFactory.getLogger(CycleWorker.class);
 	private final CycleImpl parent;
+	private final ProcessImageChannels processImageChannels = new ProcessImageChannels();
+	private final ObjLongConsumer<CycleEventListener> onListenerDuration = this::recordListenerDuration;
 
 	public CycleWorker(CycleImpl parent) {
 		this.parent = parent;
@@ -30,11 +36,28 @@ public class CycleWorker extends AbstractWorker {
 		return this.parent.getCycleTime();
 	}
 
+	@Override
+	protected long getWaitTime(int cycleTime, long cycleStart) {
+		var deadline = this.parent.getDeadline();
+		if (deadline == null) {
+			return super.getWaitTime(cycleTime, cycleStart);
+		}
+		// Deadline Mode: wait for the next slot
+		return deadline.getWaitTime(System.nanoTime());
+	}
+
 	@Override
 	protected void forever() {
 		// Prepare Cycle-Time measurement
 		var stopwatch = Stopwatch.createStarted();
 
+		// Start Cycle deadline
+		final var deadline = this.parent.getDeadline();
+		if (deadline != null) {
+			var jitter = deadline.start(System.nanoTime(), this.parent.getCycleTime());
+			this.parent._setCycleJitter(TimeUnit.NANOSECONDS.toMicros(jitter));
+		}
+
 		// Kick Operating System Watchdog
 		var socketName = System.getenv().get("NOTIFY_SOCKET");
 		if (socketName != null && socketName.length() != 0) {
@@ -47,21 +70,15 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.sendEvent(CycleEvent.BEFORE_PROCESS_IMAGE, Phase.BEFORE_PROCESS_IMAGE);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
-			this.parent.channels().forEach(channel -> {
-				channel.nextProcessImage();
-			});
+			var processImageStopwatch = Stopwatch.createStarted();
+			this.processImageChannels.update(this.parent.componentManager, this.parent);
+			this.processImageChannels.nextProcessImage();
+			this.parent._setProcessImageSwitchDuration(processImageStopwatch.elapsed(TimeUnit.MICROSECONDS));
 
 			/*
 			 * Update the Channels in the Sum-Component.
@@ -74,12 +91,12 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(CycleEvent.AFTER_PROCESS_IMAGE, Phase.AFTER_PROCESS_IMAGE);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(CycleEvent.BEFORE_CONTROLLERS, Phase.BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
 
@@ -89,6 +106,7 @@ public class CycleWorker extends AbstractWorker {
 			if (this.parent.schedulers.isEmpty()) {
 				this.parent.logWarn(this.log, "There are no Schedulers configured!");
 			} else {
+				final var controllers = new ArrayList<Controller>();
 				for (Scheduler scheduler : this.parent.schedulers) {
 					var schedulerControllerIsMissing = false;
 
@@ -109,35 +127,23 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
-						try {
-							// Execute Controller logic
-							controller.run();
-
-							// announce running was ok
-							controller._setRunFailed(false);
-
-						} catch (OpenemsNamedException e) {
-							this.parent.logWarn(this.log,
-									"Error in Controller [" + controller.id() + "]: " + e.getMessage());
-
-							// announce running failed
-							controller._setRunFailed(true);
-
-						} catch (Exception e) {
-							this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
-									+ e.getClass().getSimpleName() + ": " + e.getMessage());
-							if (e instanceof ClassCastException || e instanceof NullPointerException
-									|| e instanceof IllegalArgumentException) {
-								e.printStackTrace();
-							}
-							// announce running failed
-							controller._setRunFailed(true);
-						}
+						controllers.add(controller);
 					}
 
 					// announce Scheduler Controller is missing
 					scheduler._setControllerIsMissing(schedulerControllerIsMissing);
 				}
+
+				var controllersStart = System.nanoTime();
+				var parallelControllers = this.parent.getParallelControllers();
+				if (parallelControllers != null) {
+					parallelControllers.execute(controllers, this::runController);
+				} else {
+					for (var controller : controllers) {
+						this.runController(controller);
+					}
+				}
+				this.parent.getProfiler().recordPhase(Phase.CONTROLLERS, System.nanoTime() - controllersStart);
 			}
 
 			// announce ignoring disabled Controllers.
@@ -146,22 +152,22 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(CycleEvent.AFTER_CONTROLLERS, Phase.AFTER_CONTROLLERS);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(CycleEvent.BEFORE_WRITE, Phase.BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(CycleEvent.EXECUTE_WRITE, Phase.EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(CycleEvent.AFTER_WRITE, Phase.AFTER_WRITE);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -173,6 +179,77 @@ public class CycleWorker extends AbstractWorker {
 
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+		// Finish Cycle deadline and schedule the next Cycle
+		if (deadline != null) {
+			deadline.finish(System.nanoTime());
+			this.parent._setCycleOverruns(deadline.getOverruns());
+			this.parent._setSkippedLowPriorityWork(deadline.getSkippedWork());
+		}
+
+		// Publish profiler statistics once per window
+		if (this.parent.getProfiler().publish(System.nanoTime())) {
+			this.parent.updateProfilerChannels();
+		}
+	}
+
+	/**
+	 * Sends a {@link CycleEvent} to the {@link CycleEventListener}s and - via
+	 * EventAdmin - to the EventHandlers, and records its duration in the
+	 * {@link CycleProfiler}.
+	 *
+	 * @param event the {@link CycleEvent}
+	 * @param phase the {@link Phase}
+	 */
+	private void sendEvent(CycleEvent event, Phase phase) {
+		var start = System.nanoTime();
+		this.parent.getCycleEventBus().dispatch(event, this.onListenerDuration);
+		if (this.parent.isEventAdminBridgeEnabled()) {
+			EventBuilder.send(this.parent.eventAdmin, event.getTopic());
+		}
+		this.parent.getProfiler().recordPhase(phase, System.nanoTime() - start);
+	}
+
+	private void recordListenerDuration(CycleEventListener listener, long nanos) {
+		var name = listener instanceof OpenemsComponent component //
+				? component.id() //
+				: listener.getClass().getName();
+		this.parent.getProfiler().recordEventHandler(name, nanos);
+	}
+
+	/**
+	 * Executes a Controller and announces its result and run duration.
+	 *
+	 * @param controller the {@link Controller}
+	 */
+	private void runController(Controller controller) {
+		var stopwatch = Stopwatch.createStarted();
+		try {
+			// Execute Controller logic
+			controller.run();
+
+			// announce running was ok
+			controller._setRunFailed(false);
+
+		} catch (OpenemsNamedException e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]: " + e.getMessage());
+
+			// announce running failed
+			controller._setRunFailed(true);
+
+		} catch (Exception e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
+					+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			if (e instanceof ClassCastException || e instanceof NullPointerException
+					|| e instanceof IllegalArgumentException) {
+				e.printStackTrace();
+			}
+			// announce running failed
+			controller._setRunFailed(true);
+		}
+		var duration = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+		controller._setRunDuration(TimeUnit.NANOSECONDS.toMillis(duration));
+		this.parent.getProfiler().recordController(controller.id(), duration);
 	}
 
 }
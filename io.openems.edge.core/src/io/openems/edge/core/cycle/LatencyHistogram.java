@@ -0,0 +1,121 @@
+package io.openems.edge.core.cycle;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, similar to an
+ * HdrHistogram with one significant digit.
+ *
+ * <p>
+ * Values below 16 are counted exactly; above that every power of two is split
+ * into 16 linear sub-buckets, i.e. the relative error of a reported percentile
+ * is below 6.25 %. Recording a value is one atomic increment plus an atomic
+ * maximum and never allocates, so it is cheap enough to stay active in
+ * production.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a value.
+	 *
+	 * @param value the value; negative values are recorded as 0
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		this.counts.incrementAndGet(indexOf(value));
+		this.max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Takes a {@link Snapshot} of the recorded values and resets the histogram.
+	 *
+	 * @return the {@link Snapshot}
+	 */
+	public Snapshot snapshotAndReset() {
+		var counts = new long[BUCKETS];
+		var count = 0L;
+		for (var i = 0; i < BUCKETS; i++) {
+			counts[i] = this.counts.getAndSet(i, 0);
+			count += counts[i];
+		}
+		var max = this.max.getAndSet(0);
+		return new Snapshot(count, //
+				percentile(counts, count, max, 0.50), //
+				percentile(counts, count, max, 0.99), //
+				max);
+	}
+
+	/**
+	 * Statistics of a {@link LatencyHistogram}.
+	 *
+	 * @param count the number of recorded values
+	 * @param p50   the 50th percentile (median)
+	 * @param p99   the 99th percentile
+	 * @param max   the maximum value
+	 */
+	public record Snapshot(long count, long p50, long p99, long max) {
+
+		public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0);
+
+		/**
+		 * Serializes the {@link Snapshot} to JSON.
+		 *
+		 * @return a {@link JsonObject}
+		 */
+		public JsonObject toJson() {
+			return JsonUtils.buildJsonObject() //
+					.addProperty("count", this.count) //
+					.addProperty("p50", this.p50) //
+					.addProperty("p99", this.p99) //
+					.addProperty("max", this.max) //
+					.build();
+		}
+	}
+
+	protected static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		var shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+	}
+
+	protected static long highestValueOf(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		var shift = index / SUB_BUCKETS - 1;
+		var lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	private static long percentile(long[] counts, long count, long max, double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		var target = (long) Math.ceil(count * percentile);
+		var sum = 0L;
+		for (var i = 0; i < counts.length; i++) {
+			sum += counts[i];
+			if (sum >= target) {
+				return Math.min(highestValueOf(i), max);
+			}
+		}
+		return max;
+	}
+
+}
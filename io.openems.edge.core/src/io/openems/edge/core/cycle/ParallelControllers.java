@@ -0,0 +1,126 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import io.openems.edge.controller.api.Controller;
+
+/**
+ * Executes Controllers concurrently on an {@link Executor}, respecting their
+ * {@link Controller#getConflictGroups()}.
+ *
+ * <p>
+ * The given order of Controllers (i.e. the order of the Schedulers) is kept for
+ * all Controllers that conflict with each other:
+ * <ul>
+ * <li>Controllers that share a conflict group (or are the same Controller) are
+ * executed one after the other
+ * <li>Controllers without conflict groups (null) are executed exclusively
+ * </ul>
+ * All other Controllers run concurrently.
+ *
+ * <p>
+ * If the {@link Executor} rejects a task - e.g. because it is being shut down
+ * after a configuration change - the Controller is executed inline instead.
+ */
+public class ParallelControllers {
+
+	private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+	private final Executor executor;
+
+	public ParallelControllers(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Executes the Controllers and waits until all of them finished.
+	 *
+	 * @param controllers the Controllers in Scheduler order
+	 * @param runner      runs one Controller; expected to handle its Exceptions
+	 */
+	public void execute(List<Controller> controllers, Consumer<Controller> runner) {
+		final var all = new ArrayList<CompletableFuture<Void>>(controllers.size());
+		// latest task per Controller-ID and per conflict group
+		final var latestByController = new HashMap<String, CompletableFuture<Void>>();
+		final var latestByGroup = new HashMap<String, CompletableFuture<Void>>();
+		// all tasks since the latest exclusive task
+		final var sinceExclusive = new ArrayList<CompletableFuture<Void>>();
+		var latestExclusive = DONE;
+
+		for (var controller : controllers) {
+			var groups = controller.getConflictGroups();
+			var dependencies = new ArrayList<CompletableFuture<Void>>();
+			dependencies.add(latestExclusive);
+			if (groups == null) {
+				dependencies.addAll(sinceExclusive);
+			} else {
+				addIfPresent(dependencies, latestByController.get(controller.id()));
+				for (var group : groups) {
+					addIfPresent(dependencies, latestByGroup.get(group));
+				}
+			}
+
+			var task = CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new)) //
+					// run even if a previous Controller failed
+					.handle((result, e) -> null) //
+					.thenRunAsync(() -> runner.accept(controller), this::submit);
+			all.add(task);
+
+			if (groups == null) {
+				latestExclusive = task;
+				sinceExclusive.clear();
+				latestByController.clear();
+				latestByGroup.clear();
+			} else {
+				sinceExclusive.add(task);
+				latestByController.put(controller.id(), task);
+				for (var group : groups) {
+					latestByGroup.put(group, task);
+				}
+			}
+		}
+
+		CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).join();
+	}
+
+	/**
+	 * Retires the {@link ExecutorService} of a previous instance, e.g. after a
+	 * configuration change.
+	 *
+	 * <p>
+	 * A CycleWorker might still execute Controllers on it. Already queued
+	 * Controllers are still executed and later ones are executed inline. The
+	 * {@link ExecutorService} must not be terminated forcefully: dropped tasks
+	 * would never complete and {@link #execute(List, Consumer)} would block
+	 * forever.
+	 *
+	 * @param executor the {@link ExecutorService}; possibly null
+	 */
+	public static void retire(ExecutorService executor) {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private void submit(Runnable command) {
+		try {
+			this.executor.execute(command);
+		} catch (RejectedExecutionException e) {
+			command.run();
+		}
+	}
+
+	private static void addIfPresent(List<CompletableFuture<Void>> dependencies, CompletableFuture<Void> task) {
+		if (task != null) {
+			dependencies.add(task);
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.Sum;
+
+/**
+ * Holds a flat array of all Channels whose process image is switched by the
+ * Core.Cycle in BEFORE_PROCESS_IMAGE.
+ *
+ * <p>
+ * The array is rebuilt only if the set of enabled Components changed (see
+ * {@link ComponentManager#getComponentsGeneration()}) or if the number of
+ * Channels of one of the Components changed. Channels of the {@link Sum}
+ * Component are excluded, because they are switched after
+ * {@link Sum#updateChannelsBeforeProcessImage()}.
+ */
+public class ProcessImageChannels {
+
+	private static final Channel<?>[] EMPTY = new Channel<?>[0];
+
+	private Channel<?>[] channels = EMPTY;
+	private OpenemsComponent[] components = new OpenemsComponent[0];
+	private int[] channelCounts = new int[0];
+	private long generation = -1;
+
+	/**
+	 * Rebuilds the Channel array if required.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 * @param cycle            the Cycle Component itself
+	 */
+	public void update(ComponentManager componentManager, OpenemsComponent cycle) {
+		var generation = componentManager.getComponentsGeneration();
+		if (generation == this.generation && !this.haveChannelsChanged()) {
+			return;
+		}
+
+		var components = new ArrayList<OpenemsComponent>();
+		for (var component : componentManager.getEnabledComponents()) {
+			if (component.isEnabled() && !(component instanceof Sum) && component != cycle) {
+				components.add(component);
+			}
+		}
+		components.add(cycle);
+		this.build(generation, components);
+	}
+
+	/**
+	 * Switches the process image of all Channels.
+	 */
+	public void nextProcessImage() {
+		final var channels = this.channels;
+		for (var i = 0; i < channels.length; i++) {
+			channels[i].nextProcessImage();
+		}
+	}
+
+	/**
+	 * Gets the number of Channels.
+	 *
+	 * @return the number of Channels
+	 */
+	public int size() {
+		return this.channels.length;
+	}
+
+	private void build(long generation, List<OpenemsComponent> components) {
+		var channels = new ArrayList<Channel<?>>();
+		var channelCounts = new int[components.size()];
+		for (var i = 0; i < components.size(); i++) {
+			var componentChannels = components.get(i).channels();
+			channelCounts[i] = componentChannels.size();
+			channels.addAll(componentChannels);
+		}
+		this.channels = channels.toArray(EMPTY);
+		this.components = components.toArray(new OpenemsComponent[components.size()]);
+		this.channelCounts = channelCounts;
+		this.generation = generation;
+	}
+
+	/**
+	 * Components may add Channels at runtime; this is detected by comparing the
+	 * number of Channels per Component.
+	 *
+	 * @return true if the array needs to be rebuilt
+	 */
+	private boolean haveChannelsChanged() {
+		final var components = this.components;
+		for (var i = 0; i < components.length; i++) {
+			if (components[i].channels().size() != this.channelCounts[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
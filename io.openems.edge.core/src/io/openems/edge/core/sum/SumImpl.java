@@ -21,8 +21,6 @@ import org.osgi.service.metatype.annotations.Designate;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.Level;
-import io.openems.edge.common.channel.calculate.CalculateIntegerSum;
-import io.openems.edge.common.channel.calculate.CalculateLongSum;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -30,17 +28,6 @@ import io.openems.edge.common.modbusslave.ModbusSlave;
 import io.openems.edge.common.modbusslave.ModbusSlaveTable;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.common.type.TypeUtils;
-import io.openems.edge.ess.api.AsymmetricEss;
-import io.openems.edge.ess.api.CalculateGridMode;
-import io.openems.edge.ess.api.CalculateSoc;
-import io.openems.edge.ess.api.HybridEss;
-import io.openems.edge.ess.api.MetaEss;
-import io.openems.edge.ess.api.SymmetricEss;
-import io.openems.edge.ess.dccharger.api.EssDcCharger;
-import io.openems.edge.evcs.api.Evcs;
-import io.openems.edge.evcs.api.MetaEvcs;
-import io.openems.edge.meter.api.ElectricityMeter;
-import io.openems.edge.meter.api.VirtualMeter;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = false)
@@ -62,6 +49,8 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 	private ComponentManager componentManager;
 
 	private final EnergyValuesHandler energyValuesHandler;
+	private final SumSources sources = new SumSources();
+	private long sourcesGeneration = -1;
 	private final Set<String> ignoreStateComponents = new HashSet<>();
 
 	private final ExtremeEverValues extremeEverValues = ExtremeEverValues.create(SINGLETON_SERVICE_PID) //
@@ -134,6 +123,7 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 	@Deactivate
 	protected void deactivate() {
 		this.energyValuesHandler.deactivate();
+		this.sources.clear();
 		super.deactivate();
 	}
 
@@ -145,234 +135,89 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 
 	/**
 	 * Calculates the sum-value for each Channel.
+	 *
+	 * <p>
+	 * The source Channels are only subscribed if the set of Components changed;
+	 * the sums are kept up-to-date incrementally by {@link SumSources}.
 	 */
 	private void calculateChannelValues() {
-		// Ess
-		final var essSoc = new CalculateSoc();
-		final var essActivePower = new CalculateIntegerSum();
-		final var essActivePowerL1 = new CalculateIntegerSum();
-		final var essActivePowerL2 = new CalculateIntegerSum();
-		final var essActivePowerL3 = new CalculateIntegerSum();
-
-		final var essReactivePower = new CalculateIntegerSum();
-
-		final var essMaxApparentPower = new CalculateIntegerSum();
-		final var essGridMode = new CalculateGridMode();
-		final var essActiveChargeEnergy = new CalculateLongSum();
-		final var essActiveDischargeEnergy = new CalculateLongSum();
-		final var essDcChargeEnergy = new CalculateLongSum();
-		final var essDcDischargeEnergy = new CalculateLongSum();
-		final var essCapacity = new CalculateIntegerSum();
-		final var essDcDischargePower = new CalculateIntegerSum();
-
-		// Grid
-		final var gridActivePower = new CalculateIntegerSum();
-		final var gridActivePowerL1 = new CalculateIntegerSum();
-		final var gridActivePowerL2 = new CalculateIntegerSum();
-		final var gridActivePowerL3 = new CalculateIntegerSum();
-		final var gridBuyActiveEnergy = new CalculateLongSum();
-		final var gridSellActiveEnergy = new CalculateLongSum();
-
-		// Production
-		final var productionAcActivePower = new CalculateIntegerSum();
-		final var productionAcActivePowerL1 = new CalculateIntegerSum();
-		final var productionAcActivePowerL2 = new CalculateIntegerSum();
-		final var productionAcActivePowerL3 = new CalculateIntegerSum();
-		final var productionDcActualPower = new CalculateIntegerSum();
-		final var productionAcActiveEnergy = new CalculateLongSum();
-		final var productionDcActiveEnergy = new CalculateLongSum();
-
-		// handling the corner-case of wrongly measured negative production, due to
-		// cabling errors, etc.
-		final var productionAcActiveEnergyNegative = new CalculateLongSum();
-
-		// Consumption
-		final var managedConsumptionActivePower = new CalculateIntegerSum();
-
-		for (OpenemsComponent component : this.componentManager.getEnabledComponents()) {
-			if (component instanceof SymmetricEss) {
-				/*
-				 * Ess
-				 */
-				var ess = (SymmetricEss) component;
-
-				if (ess instanceof MetaEss) {
-					// ignore this Ess
-					continue;
-				}
-				essSoc.add(ess);
-				essActivePower.addValue(ess.getActivePowerChannel());
-				essReactivePower.addValue(ess.getReactivePowerChannel());
-				essMaxApparentPower.addValue(ess.getMaxApparentPowerChannel());
-				essGridMode.addValue(ess.getGridModeChannel());
-				essActiveChargeEnergy.addValue(ess.getActiveChargeEnergyChannel());
-				essActiveDischargeEnergy.addValue(ess.getActiveDischargeEnergyChannel());
-				essCapacity.addValue(ess.getCapacityChannel());
-
-				if (ess instanceof AsymmetricEss) {
-					var e = (AsymmetricEss) ess;
-					essActivePowerL1.addValue(e.getActivePowerL1Channel());
-					essActivePowerL2.addValue(e.getActivePowerL2Channel());
-					essActivePowerL3.addValue(e.getActivePowerL3Channel());
-				} else {
-					essActivePowerL1.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-					essActivePowerL2.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-					essActivePowerL3.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-				}
-
-				if (ess instanceof HybridEss) {
-					var e = (HybridEss) ess;
-					essDcChargeEnergy.addValue(e.getDcChargeEnergyChannel());
-					essDcDischargeEnergy.addValue(e.getDcDischargeEnergyChannel());
-					essDcDischargePower.addValue(e.getDcDischargePowerChannel());
-				} else {
-					essDcChargeEnergy.addValue(ess.getActiveChargeEnergyChannel());
-					essDcDischargeEnergy.addValue(ess.getActiveDischargeEnergyChannel());
-					essDcDischargePower.addValue(ess.getActivePowerChannel());
-				}
-
-			} else if (component instanceof ElectricityMeter meter) {
-				if (component instanceof VirtualMeter) {
-					if (!((VirtualMeter) component).addToSum()) {
-						// Ignore VirtualMeter if "addToSum" is not activated (default)
-						continue;
-					}
-				}
-
-				/*
-				 * Meter
-				 */
-				switch (meter.getMeterType()) {
-				case PRODUCTION_AND_CONSUMPTION:
-					// TODO PRODUCTION_AND_CONSUMPTION
-					// Production Power is positive, Consumption is negative
-					break;
-
-				case CONSUMPTION_METERED:
-					// TODO CONSUMPTION_METERED
-					// Consumption is positive
-					break;
-
-				case CONSUMPTION_NOT_METERED:
-					// TODO CONSUMPTION_NOT_METERED
-					// Consumption is positive
-					break;
-
-				case GRID:
-					/*
-					 * Grid-Meter
-					 */
-					gridActivePower.addValue(meter.getActivePowerChannel());
-					gridBuyActiveEnergy.addValue(meter.getActiveProductionEnergyChannel());
-					gridSellActiveEnergy.addValue(meter.getActiveConsumptionEnergyChannel());
-					gridActivePowerL1.addValue(meter.getActivePowerL1Channel());
-					gridActivePowerL2.addValue(meter.getActivePowerL2Channel());
-					gridActivePowerL3.addValue(meter.getActivePowerL3Channel());
-					break;
-
-				case PRODUCTION:
-					/*
-					 * Production-Meter
-					 */
-					productionAcActivePower.addValue(meter.getActivePowerChannel());
-					productionAcActiveEnergy.addValue(meter.getActiveProductionEnergyChannel());
-					productionAcActiveEnergyNegative.addValue(meter.getActiveConsumptionEnergyChannel());
-					productionAcActivePowerL1.addValue(meter.getActivePowerL1Channel());
-					productionAcActivePowerL2.addValue(meter.getActivePowerL2Channel());
-					productionAcActivePowerL3.addValue(meter.getActivePowerL3Channel());
-					break;
-
-				}
-
-			} else if (component instanceof EssDcCharger) {
-				/*
-				 * Ess DC-Charger
-				 */
-				var charger = (EssDcCharger) component;
-				productionDcActualPower.addValue(charger.getActualPowerChannel());
-				productionDcActiveEnergy.addValue(charger.getActualEnergyChannel());
-
-			} else if (component instanceof Evcs evcs) {
-				/*
-				 * Electric Vehicle Charging Station
-				 */
-				if (evcs instanceof MetaEvcs) {
-					// ignore this Evcs
-					continue;
-				}
-
-				managedConsumptionActivePower.addValue(evcs.getChargePowerChannel());
-			}
+		var generation = this.componentManager.getComponentsGeneration();
+		if (generation != this.sourcesGeneration) {
+			this.sources.subscribe(this.componentManager.getEnabledComponents());
+			this.sourcesGeneration = generation;
 		}
+		final var s = this.sources;
 
 		/*
 		 * Set values
 		 */
 		// Ess
-		this.getEssSocChannel().setNextValue(essSoc.calculate());
-		var essActivePowerSum = essActivePower.calculate();
+		this.getEssSocChannel().setNextValue(s.calculateEssSoc());
+		var essActivePowerSum = s.essActivePower.calculateInteger();
 		this._setEssActivePower(essActivePowerSum);
-		var essActivePowerL1Sum = essActivePowerL1.calculate();
+		var essActivePowerL1Sum = s.essActivePowerL1.calculateInteger();
 		this._setEssActivePowerL1(essActivePowerL1Sum);
-		var essActivePowerL2Sum = essActivePowerL2.calculate();
+		var essActivePowerL2Sum = s.essActivePowerL2.calculateInteger();
 		this._setEssActivePowerL2(essActivePowerL2Sum);
-		var essActivePowerL3Sum = essActivePowerL3.calculate();
+		var essActivePowerL3Sum = s.essActivePowerL3.calculateInteger();
 		this._setEssActivePowerL3(essActivePowerL3Sum);
 
-		var essReactivePowerSum = essReactivePower.calculate();
+		var essReactivePowerSum = s.essReactivePower.calculateInteger();
 		this._setEssReactivePower(essReactivePowerSum);
 
-		var essMaxApparentPowerSum = essMaxApparentPower.calculate();
+		var essMaxApparentPowerSum = s.essMaxApparentPower.calculateInteger();
 		this._setEssMaxApparentPower(essMaxApparentPowerSum);
-		this._setGridMode(essGridMode.calculate());
+		this._setGridMode(s.calculateGridMode().calculate());
 
-		var essActiveChargeEnergySum = essActiveChargeEnergy.calculate();
+		var essActiveChargeEnergySum = s.essActiveChargeEnergy.calculateLong();
 		essActiveChargeEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.ESS_ACTIVE_CHARGE_ENERGY,
 				essActiveChargeEnergySum);
-		var essActiveDischargeEnergySum = essActiveDischargeEnergy.calculate();
+		var essActiveDischargeEnergySum = s.essActiveDischargeEnergy.calculateLong();
 		essActiveDischargeEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.ESS_ACTIVE_DISCHARGE_ENERGY,
 				essActiveDischargeEnergySum);
 
-		this.energyValuesHandler.setValue(Sum.ChannelId.ESS_DC_CHARGE_ENERGY, essDcChargeEnergy.calculate());
-		this.energyValuesHandler.setValue(Sum.ChannelId.ESS_DC_DISCHARGE_ENERGY, essDcDischargeEnergy.calculate());
+		this.energyValuesHandler.setValue(Sum.ChannelId.ESS_DC_CHARGE_ENERGY, //
+				s.essDcChargeEnergy.calculateLong());
+		this.energyValuesHandler.setValue(Sum.ChannelId.ESS_DC_DISCHARGE_ENERGY, //
+				s.essDcDischargeEnergy.calculateLong());
 
-		var essCapacitySum = essCapacity.calculate();
+		var essCapacitySum = s.essCapacity.calculateInteger();
 		this._setEssCapacity(essCapacitySum);
 
 		// Grid
-		var gridActivePowerSum = gridActivePower.calculate();
+		var gridActivePowerSum = s.gridActivePower.calculateInteger();
 		this._setGridActivePower(gridActivePowerSum);
-		var gridActivePowerL1Sum = gridActivePowerL1.calculate();
+		var gridActivePowerL1Sum = s.gridActivePowerL1.calculateInteger();
 		this._setGridActivePowerL1(gridActivePowerL1Sum);
-		var gridActivePowerL2Sum = gridActivePowerL2.calculate();
+		var gridActivePowerL2Sum = s.gridActivePowerL2.calculateInteger();
 		this._setGridActivePowerL2(gridActivePowerL2Sum);
-		var gridActivePowerL3Sum = gridActivePowerL3.calculate();
+		var gridActivePowerL3Sum = s.gridActivePowerL3.calculateInteger();
 		this._setGridActivePowerL3(gridActivePowerL3Sum);
 
-		var gridBuyActiveEnergySum = gridBuyActiveEnergy.calculate();
+		var gridBuyActiveEnergySum = s.gridBuyActiveEnergy.calculateLong();
 		gridBuyActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.GRID_BUY_ACTIVE_ENERGY,
 				gridBuyActiveEnergySum);
-		var gridSellActiveEnergySum = gridSellActiveEnergy.calculate();
+		var gridSellActiveEnergySum = s.gridSellActiveEnergy.calculateLong();
 		gridSellActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.GRID_SELL_ACTIVE_ENERGY,
 				gridSellActiveEnergySum);
 
 		// Production
-		var productionAcActivePowerSum = productionAcActivePower.calculate();
+		var productionAcActivePowerSum = s.productionAcActivePower.calculateInteger();
 		this._setProductionAcActivePower(productionAcActivePowerSum);
-		var productionAcActivePowerL1Sum = productionAcActivePowerL1.calculate();
+		var productionAcActivePowerL1Sum = s.productionAcActivePowerL1.calculateInteger();
 		this._setProductionAcActivePowerL1(productionAcActivePowerL1Sum);
-		var productionAcActivePowerL2Sum = productionAcActivePowerL2.calculate();
+		var productionAcActivePowerL2Sum = s.productionAcActivePowerL2.calculateInteger();
 		this._setProductionAcActivePowerL2(productionAcActivePowerL2Sum);
-		var productionAcActivePowerL3Sum = productionAcActivePowerL3.calculate();
+		var productionAcActivePowerL3Sum = s.productionAcActivePowerL3.calculateInteger();
 		this._setProductionAcActivePowerL3(productionAcActivePowerL3Sum);
-		var productionDcActualPowerSum = productionDcActualPower.calculate();
+		var productionDcActualPowerSum = s.productionDcActualPower.calculateInteger();
 		this._setProductionDcActualPower(productionDcActualPowerSum);
 		this._setProductionActivePower(TypeUtils.sum(productionAcActivePowerSum, productionDcActualPowerSum));
 
-		var productionAcActiveEnergySum = productionAcActiveEnergy.calculate();
+		var productionAcActiveEnergySum = s.productionAcActiveEnergy.calculateLong();
 		productionAcActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.PRODUCTION_AC_ACTIVE_ENERGY,
 				productionAcActiveEnergySum);
-		var productionDcActiveEnergySum = productionDcActiveEnergy.calculate();
+		var productionDcActiveEnergySum = s.productionDcActiveEnergy.calculateLong();
 		productionDcActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.PRODUCTION_DC_ACTIVE_ENERGY,
 				productionDcActiveEnergySum);
 		var productionActiveEnergySum = TypeUtils.sum(productionAcActiveEnergySum, productionDcActiveEnergySum);
@@ -390,17 +235,17 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 		this._setConsumptionActivePowerL3(TypeUtils.sum(//
 				essActivePowerL3Sum, gridActivePowerL3Sum, productionAcActivePowerL3Sum));
 		this._setUnmanagedConsumptionActivePower(
-				TypeUtils.subtract(consumptionActivePower, managedConsumptionActivePower.calculate()));
+				TypeUtils.subtract(consumptionActivePower, s.managedConsumptionActivePower.calculateInteger()));
 
 		var enterTheSystem = TypeUtils.sum(essActiveDischargeEnergySum, gridBuyActiveEnergySum,
 				productionAcActiveEnergySum);
 		var leaveTheSystem = TypeUtils.sum(essActiveChargeEnergySum, gridSellActiveEnergySum,
-				/* handling corner-case */ productionAcActiveEnergyNegative.calculate());
+				/* handling corner-case */ s.productionAcActiveEnergyNegative.calculateLong());
 		this.energyValuesHandler.setValue(Sum.ChannelId.CONSUMPTION_ACTIVE_ENERGY,
 				Optional.ofNullable(enterTheSystem).orElse(0L) - Optional.ofNullable(leaveTheSystem).orElse(0L));
 
 		// Further calculated Channels
-		var essDischargePowerSum = essDcDischargePower.calculate();
+		var essDischargePowerSum = s.essDcDischargePower.calculateInteger();
 		this.getEssDischargePowerChannel().setNextValue(essDischargePowerSum);
 
 		this.updateExtremeEverValues();
@@ -0,0 +1,225 @@
+package io.openems.edge.core.sum;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.openems.edge.common.channel.calculate.IncrementalSum;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.ess.api.AsymmetricEss;
+import io.openems.edge.ess.api.CalculateGridMode;
+import io.openems.edge.ess.api.CalculateSoc;
+import io.openems.edge.ess.api.HybridEss;
+import io.openems.edge.ess.api.MetaEss;
+import io.openems.edge.ess.api.SymmetricEss;
+import io.openems.edge.ess.dccharger.api.EssDcCharger;
+import io.openems.edge.evcs.api.Evcs;
+import io.openems.edge.evcs.api.MetaEvcs;
+import io.openems.edge.meter.api.ElectricityMeter;
+import io.openems.edge.meter.api.VirtualMeter;
+
+/**
+ * Holds the {@link IncrementalSum}s of the source Channels of the
+ * {@link SumImpl}.
+ *
+ * <p>
+ * The sources are subscribed once via {@link #subscribe(List)} - i.e. whenever
+ * the set of Components changed - and keep their running totals up-to-date on
+ * every change of a source value. Only the State-of-Charge and the Grid-Mode
+ * are not additive; they are evaluated per Cycle from the list of
+ * {@link SymmetricEss}s.
+ */
+public class SumSources {
+
+	// Ess
+	protected final IncrementalSum essActivePower = new IncrementalSum();
+	protected final IncrementalSum essActivePowerL1 = new IncrementalSum();
+	protected final IncrementalSum essActivePowerL2 = new IncrementalSum();
+	protected final IncrementalSum essActivePowerL3 = new IncrementalSum();
+	protected final IncrementalSum essReactivePower = new IncrementalSum();
+	protected final IncrementalSum essMaxApparentPower = new IncrementalSum();
+	protected final IncrementalSum essActiveChargeEnergy = new IncrementalSum();
+	protected final IncrementalSum essActiveDischargeEnergy = new IncrementalSum();
+	protected final IncrementalSum essDcChargeEnergy = new IncrementalSum();
+	protected final IncrementalSum essDcDischargeEnergy = new IncrementalSum();
+	protected final IncrementalSum essCapacity = new IncrementalSum();
+	protected final IncrementalSum essDcDischargePower = new IncrementalSum();
+
+	// Grid
+	protected final IncrementalSum gridActivePower = new IncrementalSum();
+	protected final IncrementalSum gridActivePowerL1 = new IncrementalSum();
+	protected final IncrementalSum gridActivePowerL2 = new IncrementalSum();
+	protected final IncrementalSum gridActivePowerL3 = new IncrementalSum();
+	protected final IncrementalSum gridBuyActiveEnergy = new IncrementalSum();
+	protected final IncrementalSum gridSellActiveEnergy = new IncrementalSum();
+
+	// Production
+	protected final IncrementalSum productionAcActivePower = new IncrementalSum();
+	protected final IncrementalSum productionAcActivePowerL1 = new IncrementalSum();
+	protected final IncrementalSum productionAcActivePowerL2 = new IncrementalSum();
+	protected final IncrementalSum productionAcActivePowerL3 = new IncrementalSum();
+	protected final IncrementalSum productionDcActualPower = new IncrementalSum();
+	protected final IncrementalSum productionAcActiveEnergy = new IncrementalSum();
+	protected final IncrementalSum productionDcActiveEnergy = new IncrementalSum();
+
+	// handling the corner-case of wrongly measured negative production, due to
+	// cabling errors, etc.
+	protected final IncrementalSum productionAcActiveEnergyNegative = new IncrementalSum();
+
+	// Consumption
+	protected final IncrementalSum managedConsumptionActivePower = new IncrementalSum();
+
+	private final IncrementalSum[] all = { //
+			this.essActivePower, this.essActivePowerL1, this.essActivePowerL2, this.essActivePowerL3,
+			this.essReactivePower, this.essMaxApparentPower, this.essActiveChargeEnergy,
+			this.essActiveDischargeEnergy, this.essDcChargeEnergy, this.essDcDischargeEnergy, this.essCapacity,
+			this.essDcDischargePower, //
+			this.gridActivePower, this.gridActivePowerL1, this.gridActivePowerL2, this.gridActivePowerL3,
+			this.gridBuyActiveEnergy, this.gridSellActiveEnergy, //
+			this.productionAcActivePower, this.productionAcActivePowerL1, this.productionAcActivePowerL2,
+			this.productionAcActivePowerL3, this.productionDcActualPower, this.productionAcActiveEnergy,
+			this.productionDcActiveEnergy, this.productionAcActiveEnergyNegative, //
+			this.managedConsumptionActivePower //
+	};
+
+	private final List<SymmetricEss> esss = new ArrayList<>();
+
+	/**
+	 * Unsubscribes from all source Channels and subscribes to the Channels of the
+	 * given Components.
+	 *
+	 * @param components the enabled Components
+	 */
+	public synchronized void subscribe(List<OpenemsComponent> components) {
+		this.clear();
+		for (var component : components) {
+			if (component instanceof SymmetricEss ess) {
+				this.subscribe(ess);
+
+			} else if (component instanceof ElectricityMeter meter) {
+				this.subscribe(meter);
+
+			} else if (component instanceof EssDcCharger charger) {
+				/*
+				 * Ess DC-Charger
+				 */
+				this.productionDcActualPower.addChannel(charger.getActualPowerChannel());
+				this.productionDcActiveEnergy.addChannel(charger.getActualEnergyChannel());
+
+			} else if (component instanceof Evcs evcs) {
+				/*
+				 * Electric Vehicle Charging Station
+				 */
+				if (evcs instanceof MetaEvcs) {
+					// ignore this Evcs
+					continue;
+				}
+
+				this.managedConsumptionActivePower.addChannel(evcs.getChargePowerChannel());
+			}
+		}
+	}
+
+	private void subscribe(SymmetricEss ess) {
+		if (ess instanceof MetaEss) {
+			// ignore this Ess
+			return;
+		}
+		this.esss.add(ess);
+		this.essActivePower.addChannel(ess.getActivePowerChannel());
+		this.essReactivePower.addChannel(ess.getReactivePowerChannel());
+		this.essMaxApparentPower.addChannel(ess.getMaxApparentPowerChannel());
+		this.essActiveChargeEnergy.addChannel(ess.getActiveChargeEnergyChannel());
+		this.essActiveDischargeEnergy.addChannel(ess.getActiveDischargeEnergyChannel());
+		this.essCapacity.addChannel(ess.getCapacityChannel());
+
+		if (ess instanceof AsymmetricEss e) {
+			this.essActivePowerL1.addChannel(e.getActivePowerL1Channel());
+			this.essActivePowerL2.addChannel(e.getActivePowerL2Channel());
+			this.essActivePowerL3.addChannel(e.getActivePowerL3Channel());
+		} else {
+			this.essActivePowerL1.addChannel(ess.getActivePowerChannel(), IncrementalSum.DIVIDE_BY_THREE);
+			this.essActivePowerL2.addChannel(ess.getActivePowerChannel(), IncrementalSum.DIVIDE_BY_THREE);
+			this.essActivePowerL3.addChannel(ess.getActivePowerChannel(), IncrementalSum.DIVIDE_BY_THREE);
+		}
+
+		if (ess instanceof HybridEss e) {
+			this.essDcChargeEnergy.addChannel(e.getDcChargeEnergyChannel());
+			this.essDcDischargeEnergy.addChannel(e.getDcDischargeEnergyChannel());
+			this.essDcDischargePower.addChannel(e.getDcDischargePowerChannel());
+		} else {
+			this.essDcChargeEnergy.addChannel(ess.getActiveChargeEnergyChannel());
+			this.essDcDischargeEnergy.addChannel(ess.getActiveDischargeEnergyChannel());
+			this.essDcDischargePower.addChannel(ess.getActivePowerChannel());
+		}
+	}
+
+	private void subscribe(ElectricityMeter meter) {
+		if (meter instanceof VirtualMeter virtualMeter && !virtualMeter.addToSum()) {
+			// Ignore VirtualMeter if "addToSum" is not activated (default)
+			return;
+		}
+
+		switch (meter.getMeterType()) {
+		case PRODUCTION_AND_CONSUMPTION, CONSUMPTION_METERED, CONSUMPTION_NOT_METERED -> {
+			// TODO not yet handled
+		}
+
+		case GRID -> {
+			/*
+			 * Grid-Meter
+			 */
+			this.gridActivePower.addChannel(meter.getActivePowerChannel());
+			this.gridBuyActiveEnergy.addChannel(meter.getActiveProductionEnergyChannel());
+			this.gridSellActiveEnergy.addChannel(meter.getActiveConsumptionEnergyChannel());
+			this.gridActivePowerL1.addChannel(meter.getActivePowerL1Channel());
+			this.gridActivePowerL2.addChannel(meter.getActivePowerL2Channel());
+			this.gridActivePowerL3.addChannel(meter.getActivePowerL3Channel());
+		}
+
+		case PRODUCTION -> {
+			/*
+			 * Production-Meter
+			 */
+			this.productionAcActivePower.addChannel(meter.getActivePowerChannel());
+			this.productionAcActiveEnergy.addChannel(meter.getActiveProductionEnergyChannel());
+			this.productionAcActiveEnergyNegative.addChannel(meter.getActiveConsumptionEnergyChannel());
+			this.productionAcActivePowerL1.addChannel(meter.getActivePowerL1Channel());
+			this.productionAcActivePowerL2.addChannel(meter.getActivePowerL2Channel());
+			this.productionAcActivePowerL3.addChannel(meter.getActivePowerL3Channel());
+		}
+		}
+	}
+
+	/**
+	 * Unsubscribes from all source Channels.
+	 */
+	public synchronized void clear() {
+		for (var sum : this.all) {
+			sum.clear();
+		}
+		this.esss.clear();
+	}
+
+	/**
+	 * Calculates the overall State-of-Charge of all {@link SymmetricEss}s.
+	 *
+	 * @return the SoC or null
+	 */
+	public synchronized Integer calculateEssSoc() {
+		return new CalculateSoc().add(this.esss).calculate();
+	}
+
+	/**
+	 * Calculates the Grid-Mode of all {@link SymmetricEss}s.
+	 *
+	 * @return the {@link CalculateGridMode}
+	 */
+	public synchronized CalculateGridMode calculateGridMode() {
+		var result = new CalculateGridMode();
+		for (var ess : this.esss) {
+			result.addValue(ess.getGridModeChannel());
+		}
+		return result;
+	}
+
+}
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Vector;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -51,6 +52,7 @@ public class DummyPseudoComponentManager implements ComponentManager {
 	private final Clock clock;
 	private ConfigurationAdmin configurationAdmin;
 	private final List<OpenemsComponent> components = new Vector<>();
+	private final AtomicLong componentsGeneration = new AtomicLong();
 
 	public DummyPseudoComponentManager() {
 		this(Clock.systemDefaultZone());
@@ -189,6 +191,7 @@ public class DummyPseudoComponentManager implements ComponentManager {
 		);
 
 		this.components.add(component);
+		this.componentsGeneration.incrementAndGet();
 
 		return CompletableFuture.completedFuture(new GenericJsonrpcResponseSuccess(request.getId()));
 	}
@@ -207,6 +210,7 @@ public class DummyPseudoComponentManager implements ComponentManager {
 			);
 			this.components.removeIf(t -> t.id().equals(request.getComponentId()));
 			this.components.add(component);
+			this.componentsGeneration.incrementAndGet();
 			return CompletableFuture.completedFuture(new GenericJsonrpcResponseSuccess(request.getId()));
 		}
 		if (this.configurationAdmin == null) {
@@ -238,6 +242,7 @@ public class DummyPseudoComponentManager implements ComponentManager {
 			final DeleteComponentConfigRequest request //
 	) throws OpenemsNamedException {
 		this.components.removeIf(t -> t.id().equals(request.getComponentId()));
+		this.componentsGeneration.incrementAndGet();
 		return CompletableFuture.completedFuture(new GenericJsonrpcResponseSuccess(request.getId()));
 	}
 
@@ -248,6 +253,7 @@ public class DummyPseudoComponentManager implements ComponentManager {
 	 */
 	public void addComponent(EdgeConfig.Component component) {
 		this.components.add(new DummyOpenemsComponent(component));
+		this.componentsGeneration.incrementAndGet();
 	}
 
 	/**
@@ -257,6 +263,12 @@ public class DummyPseudoComponentManager implements ComponentManager {
 	 */
 	public void addComponent(OpenemsComponent component) {
 		this.components.add(component);
+		this.componentsGeneration.incrementAndGet();
+	}
+
+	@Override
+	public long getComponentsGeneration() {
+		return this.componentsGeneration.get();
 	}
 
 	private static OpenemsComponent componentOf(//
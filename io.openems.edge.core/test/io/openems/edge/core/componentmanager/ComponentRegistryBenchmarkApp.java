@@ -0,0 +1,211 @@
+package io.openems.edge.core.componentmanager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceReference;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.controller.api.Controller;
+
+/**
+ * This little application compares the lookups of the
+ * {@link ComponentManagerImpl} via {@link ComponentRegistry} with the previous
+ * lookups via LDAP-filtered {@link BundleContext#getServiceReferences(Class,
+ * String)}.
+ *
+ * <p>
+ * The OSGi framework is replaced by an in-memory {@link BundleContext} that -
+ * like the framework - parses the filter on every call and matches it against
+ * every registered {@link ServiceReference}.
+ */
+public class ComponentRegistryBenchmarkApp {
+
+	private static final int COMPONENTS = 200;
+	private static final int CONTROLLERS = 20;
+	private static final int WARMUP_ROUNDS = 20_000;
+	private static final int ROUNDS = 100_000;
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = //
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private static record Service(ServiceReference<?> reference, Object component) {
+	}
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		var services = new ArrayList<Service>();
+		services.add(
+				createService("_componentManager", ComponentManager.SINGLETON_SERVICE_PID, ComponentManager.class));
+		for (var i = 0; i < COMPONENTS; i++) {
+			if (i < CONTROLLERS) {
+				services.add(createService("ctrl" + i, "Controller.Dummy", Controller.class));
+			} else {
+				services.add(createService("component" + i, "Component.Dummy"));
+			}
+		}
+		var bundleContext = createBundleContext(services);
+		var registry = new ComponentRegistry(bundleContext);
+		registry.activate();
+
+		var componentId = "component" + (COMPONENTS - 1);
+		var benchmarks = List.of(//
+				new Benchmark("getEnabledComponents", //
+						() -> getComponentsViaService(bundleContext, OpenemsComponent.class,
+								"(&(enabled=true)(!(service.factoryPid=Core.ComponentManager)))"), //
+						() -> registry.getSnapshot().getEnabledComponents()), //
+				new Benchmark("getEnabledComponentsOfType", //
+						() -> getComponentsViaService(bundleContext, Controller.class, "(enabled=true)"), //
+						() -> registry.getSnapshot().getEnabledComponentsOfType(Controller.class)), //
+				new Benchmark("getComponent", //
+						() -> getComponentsViaService(bundleContext, OpenemsComponent.class,
+								"(&(enabled=true)(id=" + componentId + "))").get(0), //
+						() -> registry.getSnapshot().getEnabledComponent(componentId)));
+
+		for (var benchmark : benchmarks) {
+			run(benchmark.filter, WARMUP_ROUNDS);
+			run(benchmark.registry, WARMUP_ROUNDS);
+		}
+		System.out.println("Components: " + services.size());
+		for (var benchmark : benchmarks) {
+			System.out.println(String.format("%-28s filter   %s", benchmark.name, run(benchmark.filter, ROUNDS)));
+			System.out.println(String.format("%-28s registry %s", benchmark.name, run(benchmark.registry, ROUNDS)));
+		}
+		registry.deactivate();
+	}
+
+	private static record Benchmark(String name, Supplier<Object> filter, Supplier<Object> registry) {
+	}
+
+	private static String run(Supplier<Object> lookup, int rounds) {
+		var blackhole = 0;
+		var allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+		var start = System.nanoTime();
+		for (var round = 0; round < rounds; round++) {
+			blackhole += System.identityHashCode(lookup.get());
+		}
+		var nanos = System.nanoTime() - start;
+		allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocated;
+		return String.format("%,12.0f lookups/s %,10.1f bytes/lookup [%d]", (double) rounds / nanos * 1_000_000_000,
+				(double) allocated / rounds, blackhole);
+	}
+
+	/**
+	 * Previous implementation of ComponentManagerImpl#getComponentsViaService().
+	 *
+	 * @param <T>           the class type
+	 * @param bundleContext the {@link BundleContext}
+	 * @param clazz         the class under whose name the service was registered
+	 * @param filter        the filter for the components
+	 * @return the components matching the filter
+	 */
+	private static <T> List<T> getComponentsViaService(BundleContext bundleContext, Class<T> clazz, String filter) {
+		try {
+			var serviceReferences = bundleContext.getServiceReferences(clazz, filter);
+			var allComponents = new ArrayList<T>(serviceReferences.size());
+			for (var reference : serviceReferences) {
+				var component = bundleContext.getService(reference);
+				if (component == null) {
+					continue;
+				}
+				allComponents.add(component);
+				bundleContext.ungetService(reference);
+			}
+			return allComponents;
+
+		} catch (InvalidSyntaxException e) {
+			e.printStackTrace();
+			return Collections.emptyList();
+		}
+	}
+
+	private static Service createService(String id, String factoryPid, Class<?>... natures) {
+		var interfaces = new Class<?>[natures.length + 1];
+		interfaces[0] = OpenemsComponent.class;
+		System.arraycopy(natures, 0, interfaces, 1, natures.length);
+		var objectClasses = new String[interfaces.length];
+		for (var i = 0; i < interfaces.length; i++) {
+			objectClasses[i] = interfaces[i].getName();
+		}
+		var component = Proxy.newProxyInstance(ComponentRegistryBenchmarkApp.class.getClassLoader(), interfaces,
+				(proxy, method, args) -> switch (method.getName()) {
+				case "id" -> id;
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				case "toString" -> id;
+				default -> null;
+				});
+
+		var properties = new Hashtable<String, Object>();
+		properties.put("id", id);
+		properties.put("enabled", true);
+		properties.put("service.factoryPid", factoryPid);
+		properties.put(Constants.OBJECTCLASS, objectClasses);
+		var reference = (ServiceReference<?>) Proxy.newProxyInstance(
+				ComponentRegistryBenchmarkApp.class.getClassLoader(), new Class<?>[] { ServiceReference.class },
+				(proxy, method, args) -> switch (method.getName()) {
+				case "getProperty" -> properties.get(args[0]);
+				case "getPropertyKeys" -> properties.keySet().toArray(new String[0]);
+				case "getProperties" -> properties;
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				case "toString" -> id;
+				default -> null;
+				});
+		return new Service(reference, component);
+	}
+
+	private static BundleContext createBundleContext(List<Service> services) {
+		var components = new IdentityHashMap<ServiceReference<?>, Object>();
+		services.forEach(s -> components.put(s.reference, s.component));
+		return (BundleContext) Proxy.newProxyInstance(ComponentRegistryBenchmarkApp.class.getClassLoader(),
+				new Class<?>[] { BundleContext.class }, (proxy, method, args) -> switch (method.getName()) {
+				case "getServiceReferences" -> {
+					var filter = args[1] == null ? "" : (String) args[1];
+					if (args[0] != null) {
+						var clazz = args[0] instanceof Class<?> c ? c.getName() : (String) args[0];
+						filter = "(&(" + Constants.OBJECTCLASS + "=" + clazz + ")" + filter + ")";
+					}
+					var result = getServiceReferences(services, filter);
+					if (method.getReturnType().isArray()) {
+						yield result.isEmpty() ? null : result.toArray(new ServiceReference<?>[result.size()]);
+					}
+					yield result;
+				}
+				case "getService" -> components.get(args[0]);
+				case "ungetService" -> true;
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> null;
+				});
+	}
+
+	private static List<ServiceReference<?>> getServiceReferences(List<Service> services, String filter)
+			throws InvalidSyntaxException {
+		// The framework parses the filter on every call
+		var f = FrameworkUtil.createFilter(filter);
+		var result = new ArrayList<ServiceReference<?>>();
+		for (var service : services) {
+			if (f.match(service.reference)) {
+				result.add(service.reference);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,79 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.core.componentmanager.ComponentRegistry.Entry;
+import io.openems.edge.core.componentmanager.ComponentRegistry.Snapshot;
+
+public class ComponentRegistryTest {
+
+	private static final String[] SUM_CLASSES = { Sum.class.getName(), OpenemsComponent.class.getName() };
+	private static final String[] CYCLE_CLASSES = { Cycle.class.getName(), OpenemsComponent.class.getName() };
+	private static final String[] CM_CLASSES = { ComponentManager.class.getName(),
+			OpenemsComponent.class.getName() };
+
+	@Test
+	public void testSnapshot() {
+		var sum = new DummySum();
+		var cycle = new DummyCycle(1000);
+		var cm = new DummyComponentManager();
+		var snapshot = new Snapshot(7, List.of(//
+				new Entry(sum, sum.id(), true, false, SUM_CLASSES), //
+				new Entry(cycle, cycle.id(), false, false, CYCLE_CLASSES), //
+				new Entry(cm, cm.id(), true, true, CM_CLASSES)));
+
+		assertEquals(7, snapshot.getGeneration());
+		assertEquals(List.of(sum), snapshot.getEnabledComponents());
+		assertEquals(List.of(sum, cycle), snapshot.getAllComponents());
+
+		assertSame(sum, snapshot.getEnabledComponent(sum.id()));
+		assertNull(snapshot.getEnabledComponent(cycle.id()));
+		assertSame(cycle, snapshot.getPossiblyDisabledComponent(cycle.id()));
+		assertSame(cm, snapshot.getEnabledComponent(cm.id()));
+
+		assertEquals(List.of(sum), snapshot.getEnabledComponentsOfType(Sum.class));
+		assertTrue(snapshot.getEnabledComponentsOfType(Cycle.class).isEmpty());
+		assertEquals(List.of(cm), snapshot.getEnabledComponentsOfType(ComponentManager.class));
+
+		// Index is cached
+		assertSame(snapshot.getEnabledComponentsOfType(Sum.class), snapshot.getEnabledComponentsOfType(Sum.class));
+	}
+
+	@Test
+	public void testNotRegisteredAsType() {
+		var sum = new DummySum();
+		var snapshot = new Snapshot(0, List.of(//
+				new Entry(sum, sum.id(), true, false, new String[] { OpenemsComponent.class.getName() })));
+
+		assertEquals(List.of(sum), snapshot.getEnabledComponents());
+		assertTrue(snapshot.getEnabledComponentsOfType(Sum.class).isEmpty());
+	}
+
+	@Test
+	public void testGeneration() {
+		var registry = new ComponentRegistry(null);
+		var generation = registry.getGeneration();
+		var snapshot = registry.getSnapshot();
+		assertSame(snapshot, registry.getSnapshot());
+
+		registry.invalidate();
+		assertEquals(generation + 1, registry.getGeneration());
+		assertEquals(generation + 1, registry.getSnapshot().getGeneration());
+		assertTrue(registry.getSnapshot().getEnabledComponents().isEmpty());
+	}
+
+}
@@ -0,0 +1,44 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class CycleDeadlineTest {
+
+	private static final long MS = 1_000_000L;
+
+	@Test
+	public void test() {
+		var sut = new CycleDeadline(80);
+		assertEquals(0, sut.getWaitTime(0));
+
+		// First Cycle starts on time
+		assertEquals(0, sut.start(0, 1000));
+		assertTrue(sut.allowLowPriorityWork(500 * MS));
+		assertFalse(sut.allowLowPriorityWork(850 * MS));
+		assertEquals(1, sut.getSkippedWork());
+		assertFalse(sut.finish(900 * MS));
+		assertEquals(100, sut.getWaitTime(900 * MS));
+
+		// Second Cycle starts late, but finishes within its deadline
+		assertEquals(2 * MS, sut.start(1002 * MS, 1000));
+		assertFalse(sut.finish(1999 * MS));
+		assertEquals(1, sut.getWaitTime(1999 * MS));
+		assertEquals(0, sut.getOverruns());
+
+		// Third Cycle starts on time and overruns
+		assertEquals(0, sut.start(2000 * MS, 1000));
+		assertTrue(sut.finish(3500 * MS));
+		assertEquals(1, sut.getOverruns());
+
+		// Missed slot is skipped: next Cycle is scheduled on the grid
+		assertEquals(500, sut.getWaitTime(3500 * MS));
+		assertEquals(0, sut.start(4000 * MS, 1000));
+		assertTrue(sut.allowLowPriorityWork(4100 * MS));
+		assertEquals(1, sut.getSkippedWork());
+	}
+
+}
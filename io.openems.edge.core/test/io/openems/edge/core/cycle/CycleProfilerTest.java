@@ -0,0 +1,65 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
+
+public class CycleProfilerTest {
+
+	@Test
+	public void testHistogram() {
+		var sut = new LatencyHistogram();
+		for (var i = 1; i <= 1000; i++) {
+			sut.record(i);
+		}
+		var snapshot = sut.snapshotAndReset();
+		assertEquals(1000, snapshot.count());
+		assertEquals(1000, snapshot.max());
+		// relative error below 6.25 %
+		assertEquals(500, snapshot.p50(), 500 * 0.0625);
+		assertEquals(990, snapshot.p99(), 990 * 0.0625);
+
+		// reset
+		assertEquals(LatencyHistogram.Snapshot.EMPTY, sut.snapshotAndReset());
+	}
+
+	@Test
+	public void testBuckets() {
+		for (var value : new long[] { 0, 1, 15, 16, 17, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE }) {
+			var index = LatencyHistogram.indexOf(value);
+			assertTrue(LatencyHistogram.highestValueOf(index) >= value);
+			if (index > 0) {
+				assertTrue(LatencyHistogram.highestValueOf(index - 1) < value);
+			}
+		}
+	}
+
+	@Test
+	public void testProfiler() {
+		var sut = new CycleProfiler(Duration.ofSeconds(1), 0);
+		sut.recordPhase(Phase.CONTROLLERS, 2_000_000); // 2 ms
+		sut.recordController("ctrl0", 1_500_000);
+		sut.recordEventHandler("meter0", 300_000);
+
+		assertFalse(sut.publish(500_000_000));
+		assertEquals(0, sut.getProfile().phases().get(Phase.CONTROLLERS).count());
+
+		assertTrue(sut.publish(1_000_000_000));
+		var profile = sut.getProfile();
+		assertEquals(2000, profile.phases().get(Phase.CONTROLLERS).max());
+		assertEquals(1500, profile.controllers().get("ctrl0").max());
+		assertEquals(300, profile.eventHandlers().get("meter0").max());
+		assertEquals(2000, CycleProfiler.ChannelId.CONTROLLERS_MAX.getValue(profile));
+
+		// Unused histograms are removed in the next window
+		assertTrue(sut.publish(2_000_000_000));
+		assertTrue(sut.getProfile().controllers().isEmpty());
+	}
+
+}
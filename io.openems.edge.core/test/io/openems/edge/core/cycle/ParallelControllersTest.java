@@ -0,0 +1,133 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.openems.edge.controller.api.Controller;
+import io.openems.edge.controller.test.DummyController;
+
+public class ParallelControllersTest {
+
+	@Test
+	public void test() throws Exception {
+		final var executor = Executors.newFixedThreadPool(4);
+		try {
+			final var sut = new ParallelControllers(executor);
+			final var order = Collections.synchronizedList(new ArrayList<String>());
+			final var latch = new CountDownLatch(1);
+			final var ranConcurrently = new AtomicBoolean(false);
+
+			var ctrl0 = new DummyController("ctrl0") //
+					.setConflictGroups(Set.of("ess0")) //
+					.setRunCallback(() -> {
+						// waits for ctrl1, which is independent
+						try {
+							ranConcurrently.set(latch.await(5, TimeUnit.SECONDS));
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					});
+			var ctrl1 = new DummyController("ctrl1") //
+					.setConflictGroups(Set.of("meter0")) //
+					.setRunCallback(latch::countDown);
+			var ctrl2 = new DummyController("ctrl2") //
+					.setConflictGroups(Set.of("ess0"));
+			var ctrl3 = new DummyController("ctrl3"); // exclusive
+			var ctrl4 = new DummyController("ctrl4") //
+					.setConflictGroups(Set.of());
+
+			List<Controller> controllers = List.of(ctrl0, ctrl1, ctrl2, ctrl3, ctrl4);
+			sut.execute(controllers, controller -> {
+				try {
+					controller.run();
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+				order.add(controller.id());
+			});
+
+			assertTrue(ranConcurrently.get());
+			assertEquals(5, order.size());
+			// same conflict group -> Scheduler order
+			assertTrue(order.indexOf("ctrl0") < order.indexOf("ctrl2"));
+			// exclusive -> after all previous, before all following
+			assertEquals("ctrl3", order.get(3));
+			assertEquals("ctrl4", order.get(4));
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testShutdownExecutor() throws Exception {
+		final var executor = Executors.newFixedThreadPool(2);
+		executor.shutdown();
+		final var sut = new ParallelControllers(executor);
+		final var order = Collections.synchronizedList(new ArrayList<String>());
+
+		List<Controller> controllers = List.of(//
+				new DummyController("ctrl0").setConflictGroups(Set.of("ess0")), //
+				new DummyController("ctrl1"), //
+				new DummyController("ctrl2").setConflictGroups(Set.of("ess0")));
+		// rejected tasks are executed inline
+		sut.execute(controllers, controller -> order.add(controller.id()));
+
+		assertEquals(List.of("ctrl0", "ctrl1", "ctrl2"), order);
+	}
+
+	@Test
+	public void testRetireExecutorWhileControllerIsRunning() throws Exception {
+		final var executor = Executors.newFixedThreadPool(1);
+		final var sut = new ParallelControllers(executor);
+		final var order = Collections.synchronizedList(new ArrayList<String>());
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+
+		List<Controller> controllers = List.of(//
+				new DummyController("ctrl0").setConflictGroups(Set.of("ess0")) //
+						.setRunCallback(() -> {
+							started.countDown();
+							try {
+								release.await(5, TimeUnit.SECONDS);
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+						}), //
+				// queued in the pool
+				new DummyController("ctrl1").setConflictGroups(Set.of("meter0")), //
+				// submitted after ctrl0 finished
+				new DummyController("ctrl2").setConflictGroups(Set.of("ess0")));
+		var cycle = CompletableFuture.runAsync(() -> sut.execute(controllers, controller -> {
+			try {
+				controller.run();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+			order.add(controller.id());
+		}));
+
+		// Configuration changes while the slow Controller is running
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		ParallelControllers.retire(executor);
+		release.countDown();
+
+		cycle.get(5, TimeUnit.SECONDS);
+		assertEquals(3, order.size());
+		assertTrue(order.indexOf("ctrl0") < order.indexOf("ctrl2"));
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+	}
+
+}
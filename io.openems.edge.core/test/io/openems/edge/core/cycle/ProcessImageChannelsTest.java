@@ -0,0 +1,53 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.meta.Meta;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.common.test.DummyMeta;
+
+public class ProcessImageChannelsTest {
+
+	@Test
+	public void test() {
+		var cycle = new DummyCycle(1000);
+		var meta = new DummyMeta("_meta");
+		var sum = new DummySum();
+		var cm = new DummyComponentManager() //
+				.addComponent(meta) //
+				.addComponent(sum) //
+				.addComponent(cycle);
+		var sut = new ProcessImageChannels();
+
+		sut.update(cm, cycle);
+		assertEquals(meta.channels().size() + cycle.channels().size(), sut.size());
+
+		cycle.channel(Cycle.ChannelId.MEASURED_CYCLE_TIME).setNextValue(123L);
+		sum.channel(Sum.ChannelId.GRID_ACTIVE_POWER).setNextValue(456);
+		sut.nextProcessImage();
+		assertEquals(123L, cycle.getMeasuredCycleTime().get().longValue());
+		assertNull(sum.getGridActivePower().get()); // Sum is switched separately
+
+		// Unchanged generation -> array is reused
+		sut.update(cm, cycle);
+		assertEquals(meta.channels().size() + cycle.channels().size(), sut.size());
+
+		// New Component -> array is rebuilt
+		var meta2 = new DummyMeta("_meta2");
+		cm.addComponent(meta2);
+		sut.update(cm, cycle);
+		assertEquals(meta.channels().size() + meta2.channels().size() + cycle.channels().size(), sut.size());
+
+		meta2.channel(Meta.ChannelId.CURRENCY).setNextValue(1);
+		sut.nextProcessImage();
+		assertEquals(1, meta2.channel(Meta.ChannelId.CURRENCY).value().get());
+	}
+
+}
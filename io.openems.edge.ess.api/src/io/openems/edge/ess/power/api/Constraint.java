@@ -27,6 +27,7 @@ public class Constraint {
 	private final Relationship relationship;
 
 	private Optional<Double> value;
+	private volatile int version = 0;
 
 	public Constraint(String description, LinearCoefficient[] coefficients, Relationship relationship, double value) {
 		this(description, coefficients, relationship, Optional.of(value));
@@ -95,6 +96,7 @@ public class Constraint {
 
 	public void setValue(double value) {
 		this.value = Optional.ofNullable(value);
+		this.version++;
 	}
 
 	/**
@@ -102,6 +104,17 @@ public class Constraint {
 	 */
 	public void disable() {
 		this.value = Optional.empty();
+		this.version++;
+	}
+
+	/**
+	 * Gets the version of this {@link Constraint}; it is incremented on every
+	 * change of the value, e.g. to detect outdated cached results.
+	 *
+	 * @return the version
+	 */
+	public int getVersion() {
+		return this.version;
 	}
 
 }
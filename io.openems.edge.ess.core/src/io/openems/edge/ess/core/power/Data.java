@@ -10,12 +10,16 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
 import com.google.common.collect.Streams;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.WeightsUtil;
+import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.core.power.solver.PowerExtremaCache;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
@@ -39,6 +43,7 @@ public class Data {
 
 	private final List<Constraint> constraints = new CopyOnWriteArrayList<>();
 	private final Coefficients coefficients = new Coefficients();
+	private final PowerExtremaCache powerExtremaCache = new PowerExtremaCache();
 
 	private boolean symmetricMode = EssPower.DEFAULT_SYMMETRIC_MODE;
 	private Consumer<Boolean> onStaticConstraintsFailed = null;
@@ -104,11 +109,14 @@ public class Data {
 		// Initially sort Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.sortByWeights(this.inverters);
+
+		this.powerExtremaCache.invalidate();
 	}
 
 	protected synchronized void initializeCycle() {
 		// Remove Constraints of last Cycle
 		this.constraints.clear();
+		this.powerExtremaCache.invalidate();
 		// Update sorting of Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.adjustSortingByWeights(this.inverters);
@@ -124,10 +132,12 @@ public class Data {
 
 	protected void addConstraint(Constraint constraint) {
 		this.constraints.add(constraint);
+		this.powerExtremaCache.invalidate();
 	}
 
 	protected void removeConstraint(Constraint constraint) {
 		this.constraints.remove(constraint);
+		this.powerExtremaCache.invalidate();
 	}
 
 	/**
@@ -150,6 +160,7 @@ public class Data {
 		}
 		this.constraints.add(ConstraintUtil.createSimpleConstraint(this.coefficients, //
 				description, essId, phase, pwr, relationship, value));
+		this.powerExtremaCache.invalidate();
 	}
 
 	/**
@@ -173,6 +184,50 @@ public class Data {
 		return this.coefficients.of(essId, phase, pwr);
 	}
 
+	/**
+	 * Calculates the extrema under the current Constraints for the given
+	 * parameters.
+	 *
+	 * <p>
+	 * Results are cached in a {@link PowerExtremaCache} until a Constraint is
+	 * added, changed or removed, the ESS change or
+	 * {@link #invalidatePowerExtrema()} is called.
+	 *
+	 * @param essId the Component-ID of a {@link ManagedSymmetricEss}
+	 * @param phase the {@link Phase}
+	 * @param pwr   the {@link Pwr}
+	 * @param goal  the {@link GoalType}
+	 * @return the extrema value; or 0 if the Constraints are not solvable
+	 * @throws OpenemsException if the ESS is unknown
+	 */
+	public double getPowerExtrema(String essId, Phase phase, Pwr pwr, GoalType goal) throws OpenemsException {
+		var index = this.coefficients.of(essId, phase, pwr).getIndex();
+		// Versions only increase, so the sum changes whenever a Constraint changed
+		var stamp = 0L;
+		for (var constraint : this.constraints) {
+			stamp += constraint.getVersion();
+		}
+		return this.powerExtremaCache.get(stamp, index, goal, () -> CalculatePowerExtrema.from(this.coefficients,
+				this.getConstraintsForAllInverters(), essId, phase, pwr, goal));
+	}
+
+	/**
+	 * Invalidates the cached extrema of {@link #getPowerExtrema(String, Phase, Pwr,
+	 * GoalType)}, e.g. because the Channel values of the ESS changed.
+	 */
+	public void invalidatePowerExtrema() {
+		this.powerExtremaCache.invalidate();
+	}
+
+	/**
+	 * Gets the {@link PowerExtremaCache}.
+	 *
+	 * @return the {@link PowerExtremaCache}
+	 */
+	public PowerExtremaCache getPowerExtremaCache() {
+		return this.powerExtremaCache;
+	}
+
 	/**
 	 * Gets Constraints for all Inverters.
 	 *
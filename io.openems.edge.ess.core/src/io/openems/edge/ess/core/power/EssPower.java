@@ -8,6 +8,7 @@ import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.EnumReadChannel;
 import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.ess.power.api.Power;
@@ -46,6 +47,15 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		 * </ul>
 		 */
 		SOLVE_STRATEGY(Doc.of(SolverStrategy.values())),
+		/**
+		 * Whether the Power was solved via the linear program or analytically.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: {@link SolvePath}
+		 * </ul>
+		 */
+		SOLVE_PATH(Doc.of(SolvePath.values())),
 		/**
 		 * Whether the Power problem could be solved.
 		 *
@@ -63,7 +73,51 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		 * <li>Type: Boolean
 		 * </ul>
 		 */
-		STATIC_CONSTRAINTS_FAILED(Doc.of(Level.FAULT));
+		STATIC_CONSTRAINTS_FAILED(Doc.of(Level.FAULT)),
+		/**
+		 * Number of getMaxPower()/getMinPower() calls in the last Cycle that were
+		 * answered from the cache.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Long
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		POWER_EXTREMA_CACHE_HITS(Doc.of(OpenemsType.LONG)),
+		/**
+		 * Number of getMaxPower()/getMinPower() calls in the last Cycle that required
+		 * solving.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Long
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		POWER_EXTREMA_CACHE_MISSES(Doc.of(OpenemsType.LONG)),
+		/**
+		 * Number of linear programs in the last Cycle whose solution was taken from
+		 * the cache.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Long
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		LINEAR_PROGRAM_CACHE_HITS(Doc.of(OpenemsType.LONG)),
+		/**
+		 * Number of linear programs in the last Cycle that were solved by the
+		 * SimplexSolver.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Long
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		LINEAR_PROGRAM_CACHE_MISSES(Doc.of(OpenemsType.LONG));
 
 		private final Doc doc;
 
@@ -134,6 +188,25 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		this.getSolveStrategyChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVE_PATH}.
+	 *
+	 * @return the Channel
+	 */
+	public default EnumReadChannel getSolvePathChannel() {
+		return this.channel(ChannelId.SOLVE_PATH);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SOLVE_PATH}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolvePath(SolvePath value) {
+		this.getSolvePathChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#STATIC_CONSTRAINTS_FAILED}.
 	 *
@@ -153,4 +226,80 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		this.getStaticConstraintsFailedChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#POWER_EXTREMA_CACHE_HITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPowerExtremaCacheHitsChannel() {
+		return this.channel(ChannelId.POWER_EXTREMA_CACHE_HITS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#POWER_EXTREMA_CACHE_HITS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPowerExtremaCacheHits(long value) {
+		this.getPowerExtremaCacheHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#POWER_EXTREMA_CACHE_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPowerExtremaCacheMissesChannel() {
+		return this.channel(ChannelId.POWER_EXTREMA_CACHE_MISSES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#POWER_EXTREMA_CACHE_MISSES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPowerExtremaCacheMisses(long value) {
+		this.getPowerExtremaCacheMissesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#LINEAR_PROGRAM_CACHE_HITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getLinearProgramCacheHitsChannel() {
+		return this.channel(ChannelId.LINEAR_PROGRAM_CACHE_HITS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#LINEAR_PROGRAM_CACHE_HITS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setLinearProgramCacheHits(long value) {
+		this.getLinearProgramCacheHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#LINEAR_PROGRAM_CACHE_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getLinearProgramCacheMissesChannel() {
+		return this.channel(ChannelId.LINEAR_PROGRAM_CACHE_MISSES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#LINEAR_PROGRAM_CACHE_MISSES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setLinearProgramCacheMisses(long value) {
+		this.getLinearProgramCacheMissesChannel().setNextValue(value);
+	}
+
 }
@@ -0,0 +1,32 @@
+package io.openems.edge.ess.core.power;
+
+import io.openems.common.types.OptionsEnum;
+
+public enum SolvePath implements OptionsEnum {
+	UNDEFINED(-1, "Undefined"), //
+	LINEAR_PROGRAM(0, "Linear Program"), //
+	SINGLE_INVERTER(1, "Single Inverter (Closed Form)"); //
+
+	private final int value;
+	private final String name;
+
+	private SolvePath(int value, String name) {
+		this.value = value;
+		this.name = name;
+	}
+
+	@Override
+	public int getValue() {
+		return this.value;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public OptionsEnum getUndefined() {
+		return UNDEFINED;
+	}
+}
@@ -28,7 +28,9 @@ import io.openems.edge.ess.core.power.optimizers.KeepTargetDirectionAndMaximizeI
 import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
 import io.openems.edge.ess.core.power.optimizers.Optimizers;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.LinearProgramCache;
 import io.openems.edge.ess.core.power.solver.PowerTuple;
+import io.openems.edge.ess.core.power.solver.SingleInverterSolver;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
 import io.openems.edge.ess.power.api.OnSolved;
@@ -40,11 +42,17 @@ import io.openems.edge.ess.power.api.SolverStrategy;
 
 public class Solver {
 
+	private static final int LINEAR_PROGRAM_CACHE_SIZE = 32;
+
 	private final Logger log = LoggerFactory.getLogger(Solver.class);
 	private final Data data;
 	private final Optimizers optimizers = new Optimizers();
+	private final LinearProgramCache linearProgramCache = new LinearProgramCache(LINEAR_PROGRAM_CACHE_SIZE);
 
 	private boolean debugMode = EssPower.DEFAULT_DEBUG_MODE;
+	private boolean isSingleInverterSolverEnabled = true;
+	private boolean isLinearProgramCacheEnabled = true;
+	private SolvePath solvePath = SolvePath.UNDEFINED;
 	private OnSolved onSolvedCallback = (isSolved, duration, strategy) -> {
 	};
 
@@ -64,7 +72,7 @@ public class Solver {
 		 */
 		this.solveWithDisabledInverters = disabledInverters -> {
 			var constraints = this.data.getConstraintsWithoutDisabledInverters(disabledInverters);
-			return ConstraintSolver.solve(this.data.getCoefficients(), constraints);
+			return ConstraintSolver.solve(this.data.getCoefficients(), this.getCache(), constraints);
 		};
 	}
 
@@ -84,7 +92,8 @@ public class Solver {
 	 */
 	public void isSolvableOrError() throws OpenemsException {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.solve(this.data.getCoefficients(), this.getCache(),
+					this.data.getConstraintsForAllInverters());
 		} catch (NoFeasibleSolutionException e) {
 			throw new PowerException(Type.NO_FEASIBLE_SOLUTION);
 		} catch (UnboundedSolutionException e) {
@@ -99,7 +108,8 @@ public class Solver {
 	 */
 	public boolean isSolvable() {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.solve(this.data.getCoefficients(), this.getCache(),
+					this.data.getConstraintsForAllInverters());
 			return true;
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException | OpenemsException e) {
 			return false;
@@ -130,61 +140,74 @@ public class Solver {
 
 		List<Constraint> allConstraints = new ArrayList<>();
 		TargetDirection targetDirection = null;
+		var solvePath = SolvePath.LINEAR_PROGRAM;
 		try {
 			// Check if the Problem is solvable at all.
 			allConstraints = this.data.getConstraintsForAllInverters();
 
-			// Add Strict constraints if required
-			AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
-					allConstraints);
+			// Solve simple problems analytically
+			var singleInverterSolution = this.isSingleInverterSolverEnabled //
+					? SingleInverterSolver.solve(this.data.getCoefficients(), allInverters, allConstraints) //
+					: null;
+			if (singleInverterSolution != null) {
+				solvePath = SolvePath.SINGLE_INVERTER;
+				targetDirection = singleInverterSolution.targetDirection();
+				solution = new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, singleInverterSolution.points());
 
-			// Print log with currently active EQUALS != 0 Constraints
-			if (this.debugMode) {
-				this.log.info("Currently active EQUALS constraints");
-				for (Constraint c : allConstraints) {
-					if (c.getRelationship() == Relationship.EQUALS && c.getValue().orElse(0d) != 0d) {
-						this.log.info("- " + c.toString());
+			} else {
+				// Add Strict constraints if required
+				AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
+						this.getCache(), allConstraints);
+
+				// Print log with currently active EQUALS != 0 Constraints
+				if (this.debugMode) {
+					this.log.info("Currently active EQUALS constraints");
+					for (Constraint c : allConstraints) {
+						if (c.getRelationship() == Relationship.EQUALS && c.getValue().orElse(0d) != 0d) {
+							this.log.info("- " + c.toString());
+						}
 					}
 				}
-			}
-
-			// Evaluates whether it is a CHARGE or DISCHARGE problem.
-			targetDirection = TargetDirection.from(//
-					this.data.getInverters(), //
-					this.data.getCoefficients(), //
-					this.data.getConstraintsForAllInverters() //
-			);
-
-			// Gets the target-Inverters, i.e. the Inverters that are minimally required to
-			// solve the Problem.
-			var targetInverters = this.optimizers.reduceNumberOfUsedInverters.apply(allInverters, targetDirection,
-					this.solveWithDisabledInverters);
-
-			switch (strategy) {
-			case UNDEFINED:
-			case ALL_CONSTRAINTS:
-			case NONE:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints);
-				break;
-
-			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
-				break;
 
-			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
-				break;
-
-			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
-				break;
+				// Evaluates whether it is a CHARGE or DISCHARGE problem.
+				targetDirection = TargetDirection.from(//
+						this.data.getInverters(), //
+						this.data.getCoefficients(), //
+						this.getCache(), //
+						this.data.getConstraintsForAllInverters() //
+				);
+
+				// Gets the target-Inverters, i.e. the Inverters that are minimally required to
+				// solve the Problem.
+				var targetInverters = this.optimizers.reduceNumberOfUsedInverters.apply(allInverters, targetDirection,
+						this.solveWithDisabledInverters);
+
+				switch (strategy) {
+				case UNDEFINED:
+				case ALL_CONSTRAINTS:
+				case NONE:
+					solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints);
+					break;
+
+				case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
+					solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
+					break;
+
+				case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
+					solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+					break;
+
+				case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
+					solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+					break;
+				}
 			}
 
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
@@ -203,6 +226,7 @@ public class Solver {
 
 		// announce success/failure
 		var isSolved = solution.getPoints() != null;
+		this.solvePath = isSolved ? solvePath : SolvePath.UNDEFINED;
 		this.onSolvedCallback.accept(isSolved, duration, solution.getSolvedBy());
 
 		// Apply final Solution to Inverters
@@ -244,18 +268,19 @@ public class Solver {
 			case NONE:
 				break;
 			case ALL_CONSTRAINTS:
-				solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+				solution = ConstraintSolver.solve(this.data.getCoefficients(), this.getCache(), allConstraints);
 				break;
 			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
-				solution = MoveTowardsTarget.apply(this.data.getCoefficients(), targetDirection, allInverters,
-						targetInverters, allConstraints);
+				solution = MoveTowardsTarget.apply(this.data.getCoefficients(), this.getCache(), targetDirection,
+						allInverters, targetInverters, allConstraints);
 				break;
 			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
-				solution = KeepTargetDirectionAndMaximizeInOrder.apply(this.data.getCoefficients(), allInverters,
-						targetInverters, allConstraints, targetDirection);
+				solution = KeepTargetDirectionAndMaximizeInOrder.apply(this.data.getCoefficients(), this.getCache(),
+						allInverters, targetInverters, allConstraints, targetDirection);
 				break;
 			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = KeepAllEqual.apply(this.data.getCoefficients(), allInverters, allConstraints);
+				solution = KeepAllEqual.apply(this.data.getCoefficients(), this.getCache(), allInverters,
+						allConstraints);
 				break;
 			}
 
@@ -264,7 +289,7 @@ public class Solver {
 			}
 		}
 		// no strategy was successful -> try allConstraints
-		solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+		solution = ConstraintSolver.solve(this.data.getCoefficients(), this.getCache(), allConstraints);
 		if (solution != null) {
 			return new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, solution);
 		}
@@ -400,4 +425,47 @@ public class Solver {
 	protected void setDebugMode(boolean debugMode) {
 		this.debugMode = debugMode;
 	}
+
+	/**
+	 * Enables or disables the {@link SingleInverterSolver}. If disabled, every
+	 * problem is solved via the linear program.
+	 *
+	 * @param isEnabled true to enable
+	 */
+	protected void setSingleInverterSolverEnabled(boolean isEnabled) {
+		this.isSingleInverterSolverEnabled = isEnabled;
+	}
+
+	/**
+	 * Enables or disables the {@link LinearProgramCache}. If disabled, every
+	 * linear program is solved by the SimplexSolver.
+	 *
+	 * @param isEnabled true to enable
+	 */
+	protected void setLinearProgramCacheEnabled(boolean isEnabled) {
+		this.isLinearProgramCacheEnabled = isEnabled;
+	}
+
+	/**
+	 * Gets the {@link LinearProgramCache} of this Solver.
+	 *
+	 * @return the {@link LinearProgramCache}
+	 */
+	public LinearProgramCache getLinearProgramCache() {
+		return this.linearProgramCache;
+	}
+
+	private LinearProgramCache getCache() {
+		return this.isLinearProgramCacheEnabled ? this.linearProgramCache : null;
+	}
+
+	/**
+	 * Gets the {@link SolvePath} of the last call to
+	 * {@link #solve(SolverStrategy)}.
+	 *
+	 * @return the {@link SolvePath}; UNDEFINED if the problem was not solved
+	 */
+	public SolvePath getSolvePath() {
+		return this.solvePath;
+	}
 }
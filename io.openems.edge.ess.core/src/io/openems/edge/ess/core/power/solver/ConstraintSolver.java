@@ -27,4 +27,28 @@ public class ConstraintSolver {
 		return LinearConstraintsSolver.solve(coefficients, linearConstraints);
 	}
 
+	/**
+	 * Solves the problem with the given list of Constraints.
+	 *
+	 * <p>
+	 * Solutions are cached in the given {@link LinearProgramCache}, so solving the
+	 * same Constraints again does not run the SimplexSolver - unless the cache is
+	 * bypassed because it had no hits recently; see
+	 * {@link LinearProgramCache#bypass()}.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param cache        the {@link LinearProgramCache}; null for no caching
+	 * @param constraints  a list of Constraints
+	 * @return a solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public static PointValuePair solve(Coefficients coefficients, LinearProgramCache cache,
+			List<Constraint> constraints) throws NoFeasibleSolutionException, UnboundedSolutionException {
+		if (cache == null || cache.bypass()) {
+			return solve(coefficients, constraints);
+		}
+		return cache.solve(coefficients, LinearProgram.from(coefficients, constraints));
+	}
+
 }
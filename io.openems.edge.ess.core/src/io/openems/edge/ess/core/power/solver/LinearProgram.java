@@ -0,0 +1,178 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.Relationship;
+
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.LinearCoefficient;
+
+/**
+ * A linear program in dense primitive form: the constraint matrix in row-major
+ * order, the relationships and the right-hand-side values of all Constraints
+ * that have a value.
+ *
+ * <p>
+ * Two {@link LinearProgram}s are equal if they result in exactly the same
+ * {@link LinearConstraint}s, i.e. if the SimplexSolver would produce the same
+ * solution.
+ */
+public final class LinearProgram {
+
+	private static final Relationship[] RELATIONSHIPS = Relationship.values();
+
+	private final int noOfCoefficients;
+	private final double[] matrix;
+	private final byte[] relationships;
+	private final double[] values;
+	private final int hashCode;
+
+	private LinearProgram(int noOfCoefficients, double[] matrix, byte[] relationships, double[] values) {
+		this.noOfCoefficients = noOfCoefficients;
+		this.matrix = matrix;
+		this.relationships = relationships;
+		this.values = values;
+
+		var hashCode = noOfCoefficients;
+		hashCode = 31 * hashCode + Arrays.hashCode(matrix);
+		hashCode = 31 * hashCode + Arrays.hashCode(relationships);
+		hashCode = 31 * hashCode + Arrays.hashCode(values);
+		this.hashCode = hashCode;
+	}
+
+	/**
+	 * Builds a {@link LinearProgram} from a list of Constraints. Constraints
+	 * without value are ignored.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of Constraints
+	 * @return the {@link LinearProgram}
+	 */
+	public static LinearProgram from(Coefficients coefficients, List<Constraint> constraints) {
+		var noOfCoefficients = coefficients.getNoOfCoefficients();
+		var rows = 0;
+		for (Constraint c : constraints) {
+			if (c.getValue().isPresent()) {
+				rows++;
+			}
+		}
+
+		var matrix = new double[rows * noOfCoefficients];
+		var relationships = new byte[rows];
+		var values = new double[rows];
+		var row = 0;
+		for (Constraint c : constraints) {
+			var value = c.getValue();
+			if (value.isEmpty()) {
+				continue;
+			}
+			var offset = row * noOfCoefficients;
+			for (LinearCoefficient co : c.getCoefficients()) {
+				matrix[offset + co.getCoefficient().getIndex()] = co.getValue();
+			}
+			relationships[row] = (byte) toRelationship(c.getRelationship()).ordinal();
+			values[row] = value.get();
+			row++;
+		}
+		return new LinearProgram(noOfCoefficients, matrix, relationships, values);
+	}
+
+	/**
+	 * Gets the number of coefficients, i.e. the number of columns.
+	 *
+	 * @return the number of coefficients
+	 */
+	public int getNoOfCoefficients() {
+		return this.noOfCoefficients;
+	}
+
+	/**
+	 * Gets the number of constraints, i.e. the number of rows.
+	 *
+	 * @return the number of constraints
+	 */
+	public int getNoOfConstraints() {
+		return this.values.length;
+	}
+
+	/**
+	 * Gets a coefficient of the constraint matrix.
+	 *
+	 * @param row    the index of the constraint
+	 * @param column the index of the coefficient
+	 * @return the coefficient
+	 */
+	public double getCoefficient(int row, int column) {
+		return this.matrix[row * this.noOfCoefficients + column];
+	}
+
+	/**
+	 * Gets the relationship of a constraint.
+	 *
+	 * @param row the index of the constraint
+	 * @return the {@link Relationship}
+	 */
+	public Relationship getRelationship(int row) {
+		return RELATIONSHIPS[this.relationships[row]];
+	}
+
+	/**
+	 * Gets the right-hand-side value of a constraint.
+	 *
+	 * @param row the index of the constraint
+	 * @return the value
+	 */
+	public double getValue(int row) {
+		return this.values[row];
+	}
+
+	/**
+	 * Converts this {@link LinearProgram} to a list of LinearConstraints.
+	 *
+	 * @return a list of LinearConstraints
+	 */
+	public List<LinearConstraint> toLinearConstraints() {
+		var result = new ArrayList<LinearConstraint>(this.values.length);
+		for (var row = 0; row < this.values.length; row++) {
+			var offset = row * this.noOfCoefficients;
+			result.add(new LinearConstraint(//
+					Arrays.copyOfRange(this.matrix, offset, offset + this.noOfCoefficients), //
+					RELATIONSHIPS[this.relationships[row]], //
+					this.values[row]));
+		}
+		return result;
+	}
+
+	private static Relationship toRelationship(io.openems.edge.ess.power.api.Relationship relationship) {
+		return switch (relationship) {
+		case EQUALS -> Relationship.EQ;
+		case GREATER_OR_EQUALS -> Relationship.GEQ;
+		case LESS_OR_EQUALS -> Relationship.LEQ;
+		};
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof LinearProgram)) {
+			return false;
+		}
+		var other = (LinearProgram) obj;
+		return this.hashCode == other.hashCode //
+				&& this.noOfCoefficients == other.noOfCoefficients //
+				&& Arrays.equals(this.values, other.values) //
+				&& Arrays.equals(this.relationships, other.relationships) //
+				&& Arrays.equals(this.matrix, other.matrix);
+	}
+}
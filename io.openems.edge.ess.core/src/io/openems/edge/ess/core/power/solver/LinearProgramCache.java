@@ -0,0 +1,188 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+
+import io.openems.edge.ess.power.api.Coefficients;
+
+/**
+ * Caches the solutions of the most recently solved {@link LinearProgram}s.
+ *
+ * <p>
+ * The Power Solver solves the same linear programs many times: within one Cycle
+ * the different strategies and optimizers re-check identical constraint sets;
+ * between Cycles the constraints often stay the same as long as setpoints and
+ * limits are steady. The SimplexSolver is deterministic, so a cached solution is
+ * exactly the solution that would have been calculated. Not solvable linear
+ * programs are cached as well and rethrow their exception.
+ *
+ * <p>
+ * If the constraints change every Cycle, e.g. a setpoint that follows the grid
+ * power, no solution is ever reused and building and storing the keys only
+ * costs time. After {@link #WINDOW} lookups without a hit the cache is
+ * therefore bypassed for the next {@link #BYPASS} solve-calls; afterwards it is
+ * probed again. The bypass doubles for every further window without hits, up to
+ * {@link #MAX_BYPASS}.
+ */
+public class LinearProgramCache {
+
+	/** Number of lookups after which the hits are evaluated. */
+	protected static final int WINDOW = 32;
+
+	/** Number of solve-calls that bypass the cache after a window without hits. */
+	protected static final int BYPASS = 4 * WINDOW;
+
+	/** Maximum number of solve-calls that bypass the cache at once. */
+	protected static final int MAX_BYPASS = 8 * BYPASS;
+
+	private static final PointValuePair NO_FEASIBLE_SOLUTION = new PointValuePair(new double[0], 0);
+	private static final PointValuePair UNBOUNDED_SOLUTION = new PointValuePair(new double[0], 0);
+
+	private final Map<LinearProgram, PointValuePair> cache;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	private int windowLookups = 0;
+	private int windowHits = 0;
+	private int remainingBypasses = 0;
+	private int nextBypass = BYPASS;
+
+	/**
+	 * Builds a {@link LinearProgramCache}.
+	 *
+	 * @param maxSize the max number of cached solutions
+	 */
+	public LinearProgramCache(int maxSize) {
+		this.cache = new LinkedHashMap<>(16, 0.75f, true /* access-order */) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<LinearProgram, PointValuePair> eldest) {
+				return this.size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Checks whether the next solve-call should bypass the cache, i.e. run the
+	 * SimplexSolver without building a {@link LinearProgram}. A bypassed call
+	 * counts as a miss.
+	 *
+	 * @return true if the cache should be bypassed
+	 */
+	public synchronized boolean bypass() {
+		if (this.remainingBypasses == 0) {
+			return false;
+		}
+		this.remainingBypasses--;
+		this.misses++;
+		return true;
+	}
+
+	/**
+	 * Solves the {@link LinearProgram} or gets its cached solution.
+	 *
+	 * @param coefficients  the {@link Coefficients}
+	 * @param linearProgram the {@link LinearProgram}
+	 * @return a solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public PointValuePair solve(Coefficients coefficients, LinearProgram linearProgram)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		PointValuePair result;
+		synchronized (this) {
+			result = this.cache.get(linearProgram);
+			if (result != null) {
+				this.hits++;
+				this.windowHits++;
+			} else {
+				this.misses++;
+			}
+			if (++this.windowLookups == WINDOW) {
+				if (this.windowHits == 0) {
+					this.remainingBypasses = this.nextBypass;
+					this.nextBypass = Math.min(MAX_BYPASS, 2 * this.nextBypass);
+				} else {
+					this.nextBypass = BYPASS;
+				}
+				this.windowLookups = 0;
+				this.windowHits = 0;
+			}
+		}
+
+		if (result == null) {
+			try {
+				result = LinearConstraintsSolver.solve(coefficients, linearProgram.toLinearConstraints());
+			} catch (NoFeasibleSolutionException e) {
+				result = NO_FEASIBLE_SOLUTION;
+			} catch (UnboundedSolutionException e) {
+				result = UNBOUNDED_SOLUTION;
+			}
+			synchronized (this) {
+				this.cache.put(linearProgram, result);
+			}
+		}
+
+		if (result == NO_FEASIBLE_SOLUTION) {
+			throw new NoFeasibleSolutionException();
+		}
+		if (result == UNBOUNDED_SOLUTION) {
+			throw new UnboundedSolutionException();
+		}
+		return result;
+	}
+
+	/**
+	 * Clears the cache and resets the hit and miss counters.
+	 */
+	public synchronized void clear() {
+		this.cache.clear();
+		this.hits = 0;
+		this.misses = 0;
+		this.windowLookups = 0;
+		this.windowHits = 0;
+		this.remainingBypasses = 0;
+		this.nextBypass = BYPASS;
+	}
+
+	/**
+	 * Resets the hit and miss counters.
+	 */
+	public synchronized void resetCounters() {
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	/**
+	 * Gets the number of cached solutions.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Gets the number of solve-calls that were answered from the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Gets the number of solve-calls that required the SimplexSolver.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+}
@@ -0,0 +1,104 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+import io.openems.common.function.ThrowingSupplier;
+
+/**
+ * Caches the extrema calculated by {@link CalculatePowerExtrema} as long as the
+ * Constraints do not change.
+ *
+ * <p>
+ * Values are cached per Coefficient - i.e. per ESS, Phase and Pwr - and
+ * {@link GoalType}. The owner of the Constraints calls {@link #invalidate()}
+ * whenever a Constraint is added or removed or the values the Constraints are
+ * built from change. Changes of already added Constraints are detected via
+ * the stamp given to {@link #get(long, int, GoalType, ThrowingSupplier)}.
+ */
+public class PowerExtremaCache {
+
+	private final Map<Integer, Double> values = new HashMap<>();
+
+	/** Incremented on {@link #invalidate()}. */
+	private long version = 0;
+	private long stamp = 0;
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * Gets the cached extrema or calculates it.
+	 *
+	 * @param <E>       the type of the Exception
+	 * @param stamp     the stamp of the current Constraints, e.g. the sum of their
+	 *                  versions; cached values are invalidated if it changed
+	 * @param index     the index of the Coefficient
+	 * @param goal      the {@link GoalType}
+	 * @param calculate calculates the extrema on cache miss
+	 * @return the extrema value
+	 * @throws E on error
+	 */
+	public <E extends Exception> double get(long stamp, int index, GoalType goal,
+			ThrowingSupplier<Double, E> calculate) throws E {
+		var key = index * 2 + (goal == GoalType.MAXIMIZE ? 1 : 0);
+		final long version;
+		synchronized (this) {
+			if (stamp != this.stamp) {
+				this.invalidate();
+				this.stamp = stamp;
+			}
+			var value = this.values.get(key);
+			if (value != null) {
+				this.hits++;
+				return value;
+			}
+			this.misses++;
+			version = this.version;
+		}
+
+		// Calculate without holding the lock
+		var value = calculate.get();
+		synchronized (this) {
+			if (version == this.version) {
+				this.values.put(key, value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Invalidates all cached values.
+	 */
+	public synchronized void invalidate() {
+		this.values.clear();
+		this.version++;
+	}
+
+	/**
+	 * Resets the hit and miss counters.
+	 */
+	public synchronized void resetCounters() {
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	/**
+	 * Gets the number of requests that were answered from the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Gets the number of requests that required the SimplexSolver.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+}
@@ -0,0 +1,157 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.List;
+
+import org.apache.commons.math3.optim.PointValuePair;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.TargetDirection;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Inverter;
+import io.openems.edge.ess.power.api.Pwr;
+
+/**
+ * Solves the Power problem of exactly one symmetric {@link Inverter}
+ * analytically, without the SimplexSolver.
+ *
+ * <p>
+ * With one Inverter in Symmetric-Mode the problem has only two variables,
+ * ActivePower and ReactivePower; all Constraints - including the Apparent-Power
+ * circle - describe a convex polygon. Its extrema are found by intersecting the
+ * Constraint lines pairwise. Like
+ * AddConstraintsForNotStrictlyDefinedCoefficients, ActivePower and ReactivePower
+ * are then each set to the value closest to zero within their range. As this
+ * defines the only feasible point, every solving strategy would result in the
+ * same solution.
+ *
+ * <p>
+ * If the problem is not of that form, is unbounded or not solvable, null is
+ * returned and the caller has to fall back to the SimplexSolver.
+ */
+public class SingleInverterSolver {
+
+	/** Tolerance for feasibility checks, like the SimplexSolver default. */
+	private static final double EPSILON = 1e-6;
+
+	/** Artificial bound to detect unbounded problems. */
+	private static final double BOUND = 1e12;
+
+	/**
+	 * A solution of the {@link SingleInverterSolver}.
+	 *
+	 * @param points          the solution as {@link PointValuePair}
+	 * @param targetDirection the {@link TargetDirection}
+	 */
+	public static record Solution(PointValuePair points, TargetDirection targetDirection) {
+	}
+
+	private SingleInverterSolver() {
+	}
+
+	/**
+	 * Solves the problem analytically.
+	 *
+	 * @param coefficients   the {@link Coefficients}
+	 * @param allInverters   all {@link Inverter}s
+	 * @param allConstraints all active {@link Constraint}s
+	 * @return the {@link Solution}; or null if the problem cannot be solved
+	 *         analytically
+	 * @throws OpenemsException on error
+	 */
+	public static Solution solve(Coefficients coefficients, List<Inverter> allInverters,
+			List<Constraint> allConstraints) throws OpenemsException {
+		if (allInverters.size() != 1 || coefficients.getNoOfCoefficients() != 2) {
+			return null;
+		}
+		var inv = allInverters.get(0);
+		var p = coefficients.of(inv.getEssId(), inv.getPhase(), Pwr.ACTIVE).getIndex();
+		var q = coefficients.of(inv.getEssId(), inv.getPhase(), Pwr.REACTIVE).getIndex();
+		var lp = LinearProgram.from(coefficients, allConstraints);
+
+		// Find the bounding box of the polygon
+		var min = new double[] { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY };
+		var max = new double[] { Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY };
+		var rows = lp.getNoOfConstraints();
+		for (var i = 0; i < rows + 4; i++) {
+			for (var j = i + 1; j < rows + 4; j++) {
+				var a1 = getCoefficient(lp, i, 0);
+				var b1 = getCoefficient(lp, i, 1);
+				var a2 = getCoefficient(lp, j, 0);
+				var b2 = getCoefficient(lp, j, 1);
+				var det = a1 * b2 - a2 * b1;
+				if (det == 0) {
+					continue; // parallel
+				}
+				var v1 = getValue(lp, i);
+				var v2 = getValue(lp, j);
+				var x = (v1 * b2 - v2 * b1) / det;
+				var y = (a1 * v2 - a2 * v1) / det;
+				if (!isFeasible(lp, x, y)) {
+					continue;
+				}
+				min[0] = Math.min(min[0], x);
+				max[0] = Math.max(max[0], x);
+				min[1] = Math.min(min[1], y);
+				max[1] = Math.max(max[1], y);
+			}
+		}
+		for (var i = 0; i < 2; i++) {
+			if (min[i] > max[i] || min[i] <= -BOUND || max[i] >= BOUND) {
+				return null; // not solvable or unbounded
+			}
+		}
+
+		// Set each variable to the value closest to zero
+		var point = new double[2];
+		point[0] = Math.max(min[0], Math.min(max[0], 0));
+		point[1] = Math.max(min[1], Math.min(max[1], 0));
+		if (!isFeasible(lp, point[0], point[1])) {
+			return null;
+		}
+
+		final TargetDirection targetDirection;
+		if (min[p] <= 0 && max[p] >= 0) {
+			targetDirection = TargetDirection.KEEP_ZERO;
+		} else if (min[p] > 0) {
+			targetDirection = TargetDirection.DISCHARGE;
+		} else {
+			targetDirection = TargetDirection.CHARGE;
+		}
+		return new Solution(new PointValuePair(point, point[p] + point[q]), targetDirection);
+	}
+
+	// Rows after the last Constraint are the artificial bounds
+	private static double getCoefficient(LinearProgram lp, int row, int column) {
+		var bound = row - lp.getNoOfConstraints();
+		if (bound < 0) {
+			return lp.getCoefficient(row, column);
+		}
+		return bound / 2 == column ? 1 : 0;
+	}
+
+	private static double getValue(LinearProgram lp, int row) {
+		var bound = row - lp.getNoOfConstraints();
+		if (bound < 0) {
+			return lp.getValue(row);
+		}
+		return bound % 2 == 0 ? BOUND : -BOUND;
+	}
+
+	private static boolean isFeasible(LinearProgram lp, double x, double y) {
+		for (var row = 0; row < lp.getNoOfConstraints(); row++) {
+			var lhs = lp.getCoefficient(row, 0) * x + lp.getCoefficient(row, 1) * y;
+			var value = lp.getValue(row);
+			var tolerance = EPSILON * Math.max(1, Math.abs(value));
+			var isFeasible = switch (lp.getRelationship(row)) {
+			case EQ -> Math.abs(lhs - value) <= tolerance;
+			case LEQ -> lhs <= value + tolerance;
+			case GEQ -> lhs >= value - tolerance;
+			};
+			if (!isFeasible) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -4,12 +4,17 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.List;
 
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
 
 import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.core.power.data.ConstraintUtil;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
 import io.openems.edge.ess.test.DummyManagedSymmetricEss;
 import io.openems.edge.ess.test.DummyMetaEss;
 
@@ -55,4 +60,43 @@ public class DataTest {
 		data.setSymmetricMode(false);
 		assertEquals(esss.size() * 4 /* phases + all */ * 2 /* pwr */, data.getCoefficients().getNoOfCoefficients());
 	}
+
+	@Test
+	public void testGetPowerExtrema() throws Exception {
+		var cache = data.getPowerExtremaCache();
+		cache.resetCounters();
+		assertEquals(24000, data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 1);
+		assertEquals(24000, data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 1);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+
+		// Added Constraint
+		data.addSimpleConstraint("", "ess1", Phase.ALL, Pwr.ACTIVE, Relationship.LESS_OR_EQUALS, 3000);
+		assertEquals(15000, data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 1);
+		assertEquals(2, cache.getMisses());
+
+		// e.g. new Channel values of the ESS
+		data.invalidatePowerExtrema();
+		assertEquals(15000, data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 1);
+		assertEquals(3, cache.getMisses());
+
+		// Changed Constraint
+		var constraint = ConstraintUtil.createSimpleConstraint(data.getCoefficients(), "", "ess2", Phase.ALL,
+				Pwr.ACTIVE, Relationship.LESS_OR_EQUALS, 5000);
+		data.addConstraint(constraint);
+		assertEquals(8000, data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 1);
+		assertEquals(4, cache.getMisses());
+		constraint.setValue(2000);
+		assertEquals(5000, data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 1);
+		assertEquals(5, cache.getMisses());
+		constraint.disable();
+		assertEquals(15000, data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 1);
+		assertEquals(6, cache.getMisses());
+
+		// Next Cycle
+		data.initializeCycle();
+		assertEquals(24000, data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 1);
+		assertEquals(1, cache.getHits());
+		assertEquals(7, cache.getMisses());
+	}
 }
@@ -0,0 +1,113 @@
+package io.openems.edge.ess.core.power;
+
+import java.util.Random;
+
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+import io.openems.edge.ess.core.power.solver.LinearProgramCache;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.power.api.SolverStrategy;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyMetaEss;
+
+/**
+ * This little application replays a sequence of Cycles on a cluster of three
+ * ESS and prints the duration of {@link Solver#solve(SolverStrategy)} - i.e.
+ * the 'SolveDuration' - with and without the {@link LinearProgramCache}.
+ *
+ * <p>
+ * Every Cycle a balancing-like Controller asks for the min/max power of the
+ * cluster and sets it to a setpoint; a second Controller blocks discharging of
+ * an ESS with low SoC. The replay contains steady phases (e.g. a fixed
+ * setpoint) and fluctuating phases (e.g. following the grid power).
+ */
+public class SolverBenchmarkApp {
+
+	private static final int CYCLES = 20_000;
+	private static final int WARMUP_CYCLES = 5_000;
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		for (var strategy : new SolverStrategy[] { SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
+				SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+				SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL }) {
+			for (var isCacheEnabled : new boolean[] { false, true }) {
+				run(strategy, isCacheEnabled, WARMUP_CYCLES);
+				System.out.println(String.format("%-62s cache=%-5s %s", strategy, isCacheEnabled,
+						run(strategy, isCacheEnabled, CYCLES)));
+			}
+		}
+	}
+
+	private static String run(SolverStrategy strategy, boolean isCacheEnabled, int cycles) throws Exception {
+		var ess1 = new DummyManagedSymmetricEss("ess1") //
+				.withAllowedChargePower(-12000) //
+				.withAllowedDischargePower(12000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(30);
+		var ess2 = new DummyManagedSymmetricEss("ess2") //
+				.withAllowedChargePower(-12000) //
+				.withAllowedDischargePower(12000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(60);
+		var ess3 = new DummyManagedSymmetricEss("ess3") //
+				.withAllowedChargePower(-8000) //
+				.withAllowedDischargePower(8000) //
+				.withMaxApparentPower(8000) //
+				.withSoc(5);
+		var ess0 = new DummyMetaEss("ess0", ess1, ess2, ess3);
+
+		var data = new Data();
+		data.addEss(ess0);
+		data.addEss(ess1);
+		data.addEss(ess2);
+		data.addEss(ess3);
+		var solver = new Solver(data);
+		solver.setLinearProgramCacheEnabled(isCacheEnabled);
+
+		var random = new Random(1);
+		var gridPower = 0;
+		var steadyNanos = 0L;
+		var fluctuatingNanos = 0L;
+		for (var cycle = 0; cycle < cycles; cycle++) {
+			data.initializeCycle();
+
+			// Steady for 200 Cycles, then fluctuating for 200 Cycles
+			var isSteady = cycle / 200 % 2 == 0;
+			if (isSteady) {
+				gridPower = cycle / 400 % 2 == 0 ? 5000 : -7000;
+			} else {
+				gridPower = Math.max(-30000, Math.min(30000, gridPower + random.nextInt(801) - 400));
+			}
+
+			// Limit Total Discharge on ess3
+			data.addSimpleConstraint("ess3: Limit Total Discharge", "ess3", Phase.ALL, Pwr.ACTIVE,
+					Relationship.GREATER_OR_EQUALS, 0);
+			// Balancing on the cluster
+			var max = data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE);
+			var min = data.getPowerExtrema("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MINIMIZE);
+			data.addSimpleConstraint("ess0: Balancing", "ess0", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS,
+					Math.max(min, Math.min(max, gridPower)));
+
+			var start = System.nanoTime();
+			solver.solve(strategy);
+			var nanos = System.nanoTime() - start;
+			if (isSteady) {
+				steadyNanos += nanos;
+			} else {
+				fluctuatingNanos += nanos;
+			}
+		}
+		return String.format("steady %8.1f us/Cycle, fluctuating %8.1f us/Cycle, total %8.1f us/Cycle",
+				steadyNanos / 1000. / (cycles / 2), fluctuatingNanos / 1000. / (cycles / 2),
+				(steadyNanos + fluctuatingNanos) / 1000. / cycles);
+	}
+
+}
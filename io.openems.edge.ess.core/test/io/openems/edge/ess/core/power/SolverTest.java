@@ -0,0 +1,68 @@
+package io.openems.edge.ess.core.power;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.power.api.SolverStrategy;
+import io.openems.edge.ess.test.AbstractDummyManagedSymmetricEss.SymmetricApplyPowerRecord;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+public class SolverTest {
+
+	private static final Relationship[] RELATIONSHIPS = Relationship.values();
+
+	@Test
+	public void testSingleInverterSolver() throws OpenemsException {
+		var random = new Random(1);
+		var singleInverterPaths = 0;
+		var nonZeroResults = 0;
+		for (var i = 0; i < 500; i++) {
+			var maxApparentPower = random.nextInt(10) == 0 ? 0 : 1000 + random.nextInt(20000);
+			var ess = new DummyManagedSymmetricEss("ess0") //
+					.withAllowedChargePower(random.nextInt(25000) - 20000) //
+					.withAllowedDischargePower(random.nextInt(25000) - 5000) //
+					.withMaxApparentPower(maxApparentPower) //
+					.withSoc(random.nextInt(101));
+			var data = new Data();
+			data.addEss(ess);
+			data.initializeCycle();
+			for (var j = random.nextInt(3); j > 0; j--) {
+				data.addSimpleConstraint("#" + i, ess.id(), Phase.ALL, random.nextBoolean() ? Pwr.ACTIVE : Pwr.REACTIVE,
+						RELATIONSHIPS[random.nextInt(RELATIONSHIPS.length)],
+						random.nextInt(2 * maxApparentPower + 1) - maxApparentPower);
+			}
+			var strategy = SolverStrategy.values()[random.nextInt(SolverStrategy.values().length)];
+
+			var solver = new Solver(data);
+			var result = new AtomicReference<SymmetricApplyPowerRecord>();
+			ess.withSymmetricApplyPowerCallback(result::set);
+
+			solver.setSingleInverterSolverEnabled(false);
+			solver.solve(strategy);
+			var expected = result.get();
+
+			solver.setSingleInverterSolverEnabled(true);
+			solver.solve(strategy);
+			var actual = result.get();
+
+			assertEquals("#" + i, expected, actual);
+			if (solver.getSolvePath() == SolvePath.SINGLE_INVERTER) {
+				singleInverterPaths++;
+			}
+			if (actual.activePower() != 0 || actual.reactivePower() != 0) {
+				nonZeroResults++;
+			}
+		}
+		assertTrue(singleInverterPaths > 250);
+		assertTrue(nonZeroResults > 100);
+	}
+}
@@ -0,0 +1,61 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.ConstraintUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+
+public class CalculatePowerExtremaTest {
+
+	private Coefficients coefficients;
+	private List<Constraint> constraints;
+	private Constraint maxP;
+
+	@Before
+	public void before() throws OpenemsException {
+		this.coefficients = new Coefficients();
+		this.coefficients.initialize(true, new LinkedHashSet<>(List.of("ess0", "ess1")));
+		this.constraints = new ArrayList<>();
+		for (var essId : List.of("ess0", "ess1")) {
+			this.constraints.add(ConstraintUtil.createSimpleConstraint(this.coefficients, essId + ": Max P", essId,
+					Phase.ALL, Pwr.ACTIVE, Relationship.LESS_OR_EQUALS, 5000));
+			this.constraints.add(ConstraintUtil.createSimpleConstraint(this.coefficients, essId + ": Min P", essId,
+					Phase.ALL, Pwr.ACTIVE, Relationship.GREATER_OR_EQUALS, -5000));
+		}
+		this.maxP = this.constraints.get(0);
+	}
+
+	@Test
+	public void test() throws OpenemsException {
+		assertEquals(5000, this.from("ess0", GoalType.MAXIMIZE), 0);
+		assertEquals(-5000, this.from("ess0", GoalType.MINIMIZE), 0);
+		assertEquals(5000, this.from("ess1", GoalType.MAXIMIZE), 0);
+
+		// Changed Constraint
+		this.maxP.setValue(3000);
+		assertEquals(3000, this.from("ess0", GoalType.MAXIMIZE), 0);
+		assertEquals(5000, this.from("ess1", GoalType.MAXIMIZE), 0);
+
+		// Infeasible Constraint
+		this.constraints.add(ConstraintUtil.createSimpleConstraint(this.coefficients, "ess1: Set P", "ess1",
+				Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 6000));
+		assertEquals(0, this.from("ess1", GoalType.MAXIMIZE), 0);
+	}
+
+	private double from(String essId, GoalType goal) {
+		return CalculatePowerExtrema.from(this.coefficients, this.constraints, essId, Phase.ALL, Pwr.ACTIVE, goal);
+	}
+}
@@ -0,0 +1,156 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.LinearCoefficient;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+
+public class ConstraintSolverTest {
+
+	private static final String[] ESS_IDS = { "ess0", "ess1", "ess2" };
+
+	private Coefficients coefficients;
+	private LinearProgramCache cache;
+
+	@Before
+	public void before() {
+		this.coefficients = new Coefficients();
+		this.coefficients.initialize(true, new LinkedHashSet<>(List.of(ESS_IDS)));
+		this.cache = new LinearProgramCache(32);
+	}
+
+	@Test
+	public void testReplay() throws OpenemsException {
+		// Replay a sequence of Cycles: steady setpoints, changing setpoints and
+		// limits, infeasible setpoints
+		var setpoints = new int[] { 0, 5000, 5000, 5000, 12000, -3000, 5000, 40000, 40000, 0 };
+		var maxApparentPowers = new int[] { 10000, 10000, 10000, 8000, 8000, 8000, 10000, 10000, 10000, 10000 };
+		for (var cycle = 0; cycle < setpoints.length; cycle++) {
+			var constraints = this.buildConstraints(maxApparentPowers[cycle], setpoints[cycle]);
+			this.assertSameResult(constraints);
+			this.assertSameResult(constraints); // cache hit
+		}
+		assertEquals(6, this.cache.getMisses());
+		assertEquals(14, this.cache.getHits());
+
+		this.cache.resetCounters();
+		assertEquals(0, this.cache.getMisses());
+		assertEquals(0, this.cache.getHits());
+		assertEquals(6, this.cache.size());
+	}
+
+	@Test
+	public void testBypass() throws OpenemsException {
+		// Setpoint changes every Cycle: no hits within a window
+		var setpoint = 0;
+		for (var i = 0; i < LinearProgramCache.WINDOW; i++) {
+			this.assertSameResult(this.buildConstraints(10000, setpoint++));
+		}
+		assertEquals(LinearProgramCache.WINDOW, this.cache.size());
+
+		// Cache is bypassed, even for steady Constraints
+		var constraints = this.buildConstraints(10000, 5000);
+		for (var i = 0; i < LinearProgramCache.BYPASS; i++) {
+			this.assertSameResult(constraints);
+		}
+		assertEquals(LinearProgramCache.WINDOW, this.cache.size());
+		assertEquals(0, this.cache.getHits());
+		assertEquals(LinearProgramCache.WINDOW + LinearProgramCache.BYPASS, this.cache.getMisses());
+
+		// Cache is probed again
+		this.assertSameResult(constraints);
+		this.assertSameResult(constraints);
+		assertEquals(1, this.cache.getHits());
+
+		// A window with hits resets the bypass
+		for (var i = 2; i < LinearProgramCache.WINDOW; i++) {
+			this.assertSameResult(this.buildConstraints(10000, setpoint++));
+		}
+		for (var i = 0; i < LinearProgramCache.WINDOW; i++) {
+			this.assertSameResult(this.buildConstraints(10000, setpoint++));
+		}
+		this.cache.resetCounters();
+		for (var i = 0; i < LinearProgramCache.BYPASS; i++) {
+			this.assertSameResult(constraints);
+		}
+		assertEquals(0, this.cache.getHits());
+		this.assertSameResult(constraints);
+		this.assertSameResult(constraints);
+		assertEquals(1, this.cache.getHits());
+	}
+
+	@Test
+	public void testLinearProgram() throws OpenemsException {
+		var constraints = this.buildConstraints(10000, 5000);
+		var lp = LinearProgram.from(this.coefficients, constraints);
+		assertEquals(this.coefficients.getNoOfCoefficients(), lp.getNoOfCoefficients());
+		assertEquals(constraints.size(), lp.getNoOfConstraints());
+		assertEquals(lp, LinearProgram.from(this.coefficients, this.buildConstraints(10000, 5000)));
+		assertNotEquals(lp, LinearProgram.from(this.coefficients, this.buildConstraints(10000, 6000)));
+
+		// Constraints without value are ignored
+		constraints.get(constraints.size() - 1).disable();
+		assertEquals(constraints.size() - 1,
+				LinearProgram.from(this.coefficients, constraints).getNoOfConstraints());
+	}
+
+	@Test
+	public void testNoFeasibleSolution() throws OpenemsException {
+		var constraints = this.buildConstraints(1000, 5000);
+		assertThrows(NoFeasibleSolutionException.class,
+				() -> ConstraintSolver.solve(this.coefficients, this.cache, constraints));
+		assertThrows(NoFeasibleSolutionException.class,
+				() -> ConstraintSolver.solve(this.coefficients, this.cache, constraints));
+		assertEquals(1, this.cache.size());
+		assertEquals(1, this.cache.getHits());
+	}
+
+	private void assertSameResult(List<Constraint> constraints) {
+		// Expected result of the SimplexSolver without cache
+		double[] expected;
+		try {
+			expected = LinearConstraintsSolver.solve(this.coefficients,
+					LinearSolverUtil.convertToLinearConstraints(this.coefficients, constraints)).getPoint();
+		} catch (MathIllegalStateException e) {
+			assertThrows(e.getClass(), () -> ConstraintSolver.solve(this.coefficients, this.cache, constraints));
+			return;
+		}
+		assertArrayEquals(expected, ConstraintSolver.solve(this.coefficients, this.cache, constraints).getPoint(), 0);
+	}
+
+	private List<Constraint> buildConstraints(int maxApparentPower, int setActivePower) throws OpenemsException {
+		var result = new ArrayList<Constraint>();
+		var sumP = new ArrayList<LinearCoefficient>();
+		for (var essId : ESS_IDS) {
+			var p = this.coefficients.of(essId, Phase.ALL, Pwr.ACTIVE);
+			var q = this.coefficients.of(essId, Phase.ALL, Pwr.REACTIVE);
+			result.add(new Constraint(essId + ": Max P", new LinearCoefficient[] { new LinearCoefficient(p, 1) },
+					Relationship.LESS_OR_EQUALS, maxApparentPower));
+			result.add(new Constraint(essId + ": Min P", new LinearCoefficient[] { new LinearCoefficient(p, 1) },
+					Relationship.GREATER_OR_EQUALS, -maxApparentPower));
+			result.add(new Constraint(essId + ": Q", new LinearCoefficient[] { new LinearCoefficient(q, 1) },
+					Relationship.EQUALS, 0));
+			sumP.add(new LinearCoefficient(p, 1));
+		}
+		result.add(new Constraint("Set P", sumP, Relationship.EQUALS, setActivePower));
+		return result;
+	}
+}
@@ -1,21 +1,15 @@
 package io.openems.edge.timedata.rrd4j;
 
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
-
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Map.Entry;
+import java.util.HashMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.ToDoubleFunction;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -36,9 +30,8 @@ import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.worker.AbstractImmediateWorker;
-import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
-import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.component.ComponentManager;
 
 @Component(//
@@ -127,6 +120,8 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 		final var to = now.truncatedTo(DurationUnit.ofSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS));
 		final var from = to.minusSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
+		final var toMillis = PastValues.toMillis(to);
+		final var fromMillis = PastValues.toMillis(from);
 
 		// RRD4j requires us to write one value per DEFAULT_HEARTBEAT_SECONDS
 		if (this.lastTimestamp.equals(timestamp)) {
@@ -144,36 +139,27 @@ public class RecordWorker extends AbstractImmediateWorker {
 									&& doc.getAccessMode() != AccessMode.WRITE_ONLY) //
 							.orElse(false);
 				}).map(channel -> {
-					final var channelMapFunction = getChannelMapFunction(channel.channelDoc().getType());
-					final var channelAggregateFunction = channel.channelDoc().getUnit().getChannelAggregateFunction();
+					final var isCumulated = channel.channelDoc().getUnit().isCumulated();
 
 					final long writeSeconds;
-					if (channel.channelDoc().getUnit().isCumulated()) {
+					if (isCumulated) {
 						// Write every 1h
 						writeSeconds = timestamp.truncatedTo(ChronoUnit.HOURS).getEpochSecond();
 					} else {
 						writeSeconds = timestamp.getEpochSecond();
 					}
 
-					// This is the highest timestamp before `startTime`. If existing it is used for
-					// the tailMap to make sure we get a Value even for Channels where the value has
-					// not changed within the last 5 minutes.
-					var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(from)) //
-							.orElse(from);
-
-					var value = channelAggregateFunction.apply(//
-							channel.getPastValues() //
-									.tailMap(channelStartTime, true) //
-									.entrySet().stream() //
-									.filter(e -> e.getKey().isBefore(to)) //
-									.map(Entry::getValue) //
-									.map(Value::get) //
-									.filter(Objects::nonNull) //
-									.mapToDouble(channelMapFunction) // convert to double
-					);
+					// Starts at the highest timestamp before `from`. If existing it is used to make
+					// sure we get a Value even for Channels where the value has not changed within
+					// the last 5 minutes.
+					final var pastValues = channel.pastValues();
+					final var fromIndex = pastValues.rangeStart(fromMillis);
+					final var toIndex = pastValues.rangeEnd(toMillis);
+
+					var value = aggregate(pastValues, fromIndex, toIndex, isCumulated, channel.getType());
 
 					if (channel.channelDoc() instanceof EnumDoc) {
-						final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, to);
+						final var enumChannelValue = aggregateEnumChannel(pastValues, fromIndex, toIndex);
 						if (!enumChannelValue.isJsonNull()) {
 							value = OptionalDouble.of(enumChannelValue.getAsDouble());
 						}
@@ -233,80 +219,70 @@ public class RecordWorker extends AbstractImmediateWorker {
 		}
 	}
 
-	private static final ToDoubleFunction<? super Object> MAP_BOOLEAN_TO_DOUBLE //
-			= value -> ((Boolean) value ? 1d : 0d);
-	private static final ToDoubleFunction<? super Object> MAP_SHORT_TO_DOUBLE //
-			= value -> ((Short) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_INTEGER_TO_DOUBLE //
-			= value -> ((Integer) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_LONG_TO_DOUBLE //
-			= value -> ((Long) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_FLOAT_TO_DOUBLE //
-			= value -> ((Float) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_DOUBLE_TO_DOUBLE //
-			= value -> ((Double) value);
-	private static final ToDoubleFunction<? super Object> MAP_TO_DOUBLE_NOT_SUPPORTED //
-			= value -> 0d;
-
-	private static ToDoubleFunction<? super Object> getChannelMapFunction(OpenemsType openemsType) {
-		return switch (openemsType) {
-		case BOOLEAN -> MAP_BOOLEAN_TO_DOUBLE;
-		case SHORT -> MAP_SHORT_TO_DOUBLE;
-		case INTEGER -> MAP_INTEGER_TO_DOUBLE;
-		case LONG -> MAP_LONG_TO_DOUBLE;
-		case FLOAT -> MAP_FLOAT_TO_DOUBLE;
-		case DOUBLE -> MAP_DOUBLE_TO_DOUBLE;
-		case STRING -> MAP_TO_DOUBLE_NOT_SUPPORTED; // Strings are not supported by RRD4J
-		};
+	/**
+	 * Aggregates the values within the given range of {@link PastValues} without
+	 * creating intermediate objects. Strings are not supported by RRD4J and are
+	 * mapped to zero.
+	 *
+	 * @param pastValues  the {@link PastValues}
+	 * @param from        the first index (inclusive)
+	 * @param to          the last index (exclusive)
+	 * @param isCumulated true for cumulated Channels; the maximum is used then
+	 * @param type        the {@link OpenemsType}
+	 * @return the aggregated value; empty if no value is defined
+	 */
+	protected static OptionalDouble aggregate(PastValues<?> pastValues, int from, int to, boolean isCumulated,
+			OpenemsType type) {
+		var count = 0;
+		var sum = 0d;
+		var max = Double.NEGATIVE_INFINITY;
+		for (var i = from; i < to; i++) {
+			if (!pastValues.isDefined(i)) {
+				continue;
+			}
+			final var value = type == OpenemsType.STRING ? 0d : pastValues.getAsDouble(i);
+			sum += value;
+			max = Math.max(max, value);
+			count++;
+		}
+		if (count == 0) {
+			return OptionalDouble.empty();
+		}
+		return OptionalDouble.of(isCumulated ? max : sum / count);
 	}
 
-	protected static JsonElement aggregateEnumChannel(//
-			Channel<?> channel, //
-			LocalDateTime channelStartTime, //
-			LocalDateTime endTime //
-	) {
-		final var doc = channel.channelDoc();
-		if (!(doc instanceof EnumDoc)) {
-			return JsonNull.INSTANCE;
-		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
-				.collect(groupingBy(Function.identity(), counting()));
-
-		final var values = numberOfValuesPerOption.entrySet().stream() //
-				.sorted((o1, o2) -> Long.compare(o2.getValue(), o1.getValue())) //
-				.toList();
-
-		final var maxValues = new ArrayList<Integer>();
-		var maxCount = -1L;
-		for (var entry : values) {
-			if (entry.getValue() < maxCount) {
-				break;
-			}
-			if (entry.getValue() == maxCount) {
-				maxValues.add(entry.getKey());
+	/**
+	 * Aggregates the values of an {@link EnumDoc} Channel: the value with the most
+	 * appearances within the range wins; on a tie the latest value is used.
+	 *
+	 * @param pastValues the {@link PastValues}
+	 * @param from       the first index (inclusive)
+	 * @param to         the last index (exclusive)
+	 * @return the aggregated value or {@link JsonNull}
+	 */
+	protected static JsonElement aggregateEnumChannel(PastValues<?> pastValues, int from, int to) {
+		final var numberOfValuesPerOption = new HashMap<Long, Integer>();
+		var maxCount = 0;
+		for (var i = from; i < to; i++) {
+			if (!pastValues.isDefined(i)) {
 				continue;
 			}
-			maxCount = entry.getValue();
-			maxValues.clear();
-			maxValues.add(entry.getKey());
+			var count = numberOfValuesPerOption.merge(pastValues.getAsLong(i), 1, Integer::sum);
+			maxCount = Math.max(maxCount, count);
+		}
+		if (maxCount == 0) {
+			return JsonNull.INSTANCE;
 		}
 
-		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
-			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
-					return new JsonPrimitive(optionValue);
-				}
+		// pick latest value with most appearances
+		for (var i = to - 1; i >= from; i--) {
+			if (!pastValues.isDefined(i)) {
+				continue;
+			}
+			final var entryValue = pastValues.getAsLong(i);
+			final var count = numberOfValuesPerOption.get(entryValue);
+			if (count != null && count == maxCount) {
+				return new JsonPrimitive((int) entryValue);
 			}
 		}
 		return JsonNull.INSTANCE;
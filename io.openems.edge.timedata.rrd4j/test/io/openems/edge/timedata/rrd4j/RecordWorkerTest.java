@@ -0,0 +1,96 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.value.PastValues;
+import io.openems.edge.common.channel.value.RingBufferPastValues;
+import io.openems.edge.common.channel.value.Value;
+
+public class RecordWorkerTest {
+
+	@Test
+	public void testAggregate() {
+		var pastValues = new RingBufferPastValues<Integer>(null, OpenemsType.INTEGER);
+		pastValues.appendLong(1_000, 100);
+		pastValues.appendLong(2_000, 2);
+		pastValues.append(new Value<>(null, null, 3_000));
+		pastValues.appendLong(4_000, 7);
+		pastValues.appendLong(5_000, 100);
+
+		// Average; undefined values are ignored
+		assertEquals(4.5, RecordWorker.aggregate(pastValues, 1, 4, false, OpenemsType.INTEGER).getAsDouble(), 0.001);
+		// Maximum for cumulated Channels
+		assertEquals(7, RecordWorker.aggregate(pastValues, 1, 4, true, OpenemsType.INTEGER).getAsDouble(), 0.001);
+		// Only undefined values or empty range
+		assertFalse(RecordWorker.aggregate(pastValues, 2, 3, false, OpenemsType.INTEGER).isPresent());
+		assertFalse(RecordWorker.aggregate(pastValues, 1, 1, false, OpenemsType.INTEGER).isPresent());
+	}
+
+	@Test
+	public void testAggregateRange() {
+		var pastValues = new RingBufferPastValues<Double>(null, OpenemsType.DOUBLE);
+		pastValues.appendDouble(1_000, 1.5);
+		pastValues.appendDouble(2_000, 2.5);
+		pastValues.appendDouble(3_000, 10.);
+
+		// Value has not changed within the period -> latest value before 'from'
+		var from = pastValues.rangeStart(2_500);
+		var to = pastValues.rangeEnd(3_000);
+		assertEquals(1, from);
+		assertEquals(2, to);
+		assertEquals(2.5, RecordWorker.aggregate(pastValues, from, to, false, OpenemsType.DOUBLE).getAsDouble(),
+				0.001);
+
+		from = pastValues.rangeStart(1_000);
+		to = pastValues.rangeEnd(3_001);
+		assertEquals(14. / 3, RecordWorker.aggregate(pastValues, from, to, false, OpenemsType.DOUBLE).getAsDouble(),
+				0.001);
+	}
+
+	@Test
+	public void testAggregateString() {
+		var pastValues = new RingBufferPastValues<String>(null, OpenemsType.STRING);
+		pastValues.append(new Value<>(null, "a", 1_000));
+
+		// Strings are mapped to zero
+		assertEquals(0, RecordWorker.aggregate(pastValues, 0, 1, false, OpenemsType.STRING).getAsDouble(), 0.001);
+	}
+
+	@Test
+	public void testAggregateEnumChannel() {
+		var pastValues = new RingBufferPastValues<Integer>(null, OpenemsType.INTEGER);
+		pastValues.appendLong(1_000, 3);
+		pastValues.appendLong(2_000, 1);
+		pastValues.append(new Value<>(null, null, 3_000));
+		pastValues.appendLong(4_000, 2);
+		pastValues.appendLong(5_000, 1);
+		pastValues.appendLong(6_000, 2);
+		pastValues.appendLong(7_000, 3);
+
+		// Most appearances
+		assertEquals(1, RecordWorker.aggregateEnumChannel(pastValues, 0, 5).getAsInt());
+		// Same amount -> latest value within the range
+		assertEquals(2, RecordWorker.aggregateEnumChannel(pastValues, 1, 6).getAsInt());
+		assertEquals(3, RecordWorker.aggregateEnumChannel(pastValues, 0, 7).getAsInt());
+		// Only undefined values
+		assertTrue(RecordWorker.aggregateEnumChannel(pastValues, 2, 3).isJsonNull());
+	}
+
+	@Test
+	public void testAggregateEvicted() {
+		PastValues<Long> pastValues = new RingBufferPastValues<>(null, OpenemsType.LONG);
+		pastValues.appendLong(0, 5);
+		pastValues.appendLong(1_000_000, 7);
+
+		// Old value was evicted
+		assertEquals(1, pastValues.size());
+		var from = pastValues.rangeStart(0);
+		var to = pastValues.rangeEnd(2_000_000);
+		assertEquals(7, RecordWorker.aggregate(pastValues, from, to, false, OpenemsType.LONG).getAsDouble(), 0.001);
+	}
+}